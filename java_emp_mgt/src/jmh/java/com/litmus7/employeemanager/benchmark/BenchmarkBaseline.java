@@ -0,0 +1,146 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.util.CsvFileReader;
+import com.litmus7.employeemanager.util.CsvTokenizer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares a JMH result file against a baseline recorded earlier on the same machine, both
+ * written with {@code -rf csv}. Prints one line per result and exits with status 1 if any result
+ * got worse by more than the tolerance and by more than the two runs' error margins together:
+ * {@code java BenchmarkBaseline <baseline.csv> <results.csv> [tolerancePercent]}.
+ * Either file may start with {@code #} comment lines.
+ * <p>
+ * Primary scores, {@code gc.alloc.rate.norm} and the row and byte counters are compared; other
+ * profiler output is not. Throughput units (ending in {@code /s}) are better when higher, all
+ * other units when lower.
+ */
+public final class BenchmarkBaseline {
+
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10;
+
+    private BenchmarkBaseline() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkBaseline <baseline.csv> <results.csv> [tolerancePercent]");
+            System.exit(2);
+        }
+        double tolerance = (args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_TOLERANCE_PERCENT) / 100;
+        Map<String, Result> baseline = read(args[0]);
+        Map<String, Result> current = read(args[1]);
+
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("new         %s: %.3f %s%n", entry.getKey(), now.score, now.unit);
+                continue;
+            }
+            // Positive when the result got worse, as a fraction of the baseline.
+            double change = (now.score - before.score) / before.score;
+            double noise = (now.error + before.error) / before.score;
+            if (now.higherIsBetter()) {
+                change = -change;
+            }
+            String verdict;
+            if (change > tolerance && change > noise) {
+                verdict = "REGRESSION";
+                regressions++;
+            } else if (-change > tolerance && -change > noise) {
+                verdict = "improved";
+            } else {
+                verdict = "ok";
+            }
+            System.out.printf("%-11s %s: %.3f -> %.3f %s (%+.1f%%)%n", verdict, entry.getKey(),
+                    before.score, now.score, now.unit, (now.score - before.score) / before.score * 100);
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println("missing     " + key);
+            }
+        }
+        System.out.println(regressions + " regression(s) beyond " + Math.round(tolerance * 100) + "%.");
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    // Keyed by benchmark, mode and parameter values.
+    private static Map<String, Result> read(String filePath) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        CsvTokenizer fields = new CsvTokenizer();
+        try (CsvFileReader reader = new CsvFileReader(filePath)) {
+            String record = reader.readRecord();
+            // Lines starting with '#' before the column names describe the machine and JDK of the run.
+            while (record != null && record.startsWith("#")) {
+                record = reader.readRecord();
+            }
+            if (record == null || !fields.tokenize(record)) {
+                return results;
+            }
+            String[] parameterNames = new String[Math.max(0, fields.getFieldCount() - 7)];
+            for (int i = 0; i < parameterNames.length; i++) {
+                parameterNames[i] = fields.getString(i + 7).replace("Param: ", "");
+            }
+            while ((record = reader.readRecord()) != null) {
+                if (!fields.tokenize(record) || fields.getFieldCount() < 7) {
+                    continue;
+                }
+                String benchmark = fields.getString(0);
+                if (!isCompared(benchmark)) {
+                    continue;
+                }
+                StringBuilder key = new StringBuilder(benchmark).append(" [").append(fields.getString(1));
+                for (int i = 0; i < parameterNames.length && i + 7 < fields.getFieldCount(); i++) {
+                    if (!fields.isEmpty(i + 7)) {
+                        key.append(", ").append(parameterNames[i]).append('=').append(fields.getString(i + 7));
+                    }
+                }
+                key.append(']');
+                double score = parse(fields.getString(4));
+                if (score > 0) {
+                    results.put(key.toString(), new Result(score, parse(fields.getString(5)), fields.getString(6)));
+                }
+            }
+        }
+        return results;
+    }
+
+    // Secondary results are named "benchmark:metric" (older JMH versions use a middle dot).
+    private static boolean isCompared(String benchmark) {
+        int separator = Math.max(benchmark.lastIndexOf(':'), benchmark.lastIndexOf('\u00b7'));
+        if (separator < 0) {
+            return true;
+        }
+        String metric = benchmark.substring(separator + 1);
+        return metric.equals("gc.alloc.rate.norm") || metric.equals("rows") || metric.equals("bytes");
+    }
+
+    // JMH writes NaN for a missing error and may use a decimal comma under some locales.
+    private static double parse(String value) {
+        try {
+            return Double.parseDouble(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class Result {
+        final double score;
+        final double error;
+        final String unit;
+
+        Result(double score, double error, String unit) {
+            this.score = score;
+            this.error = Double.isNaN(error) ? 0 : error;
+            this.unit = unit;
+        }
+
+        boolean higherIsBetter() {
+            return unit.endsWith("/s");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.util.CsvFileReader;
+import com.litmus7.employeemanager.util.CsvTokenizer;
+import com.litmus7.employeemanager.util.EmployeeRecordParser;
+import com.litmus7.employeemanager.util.EmployeeValidationEngine;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads a whole generated CSV file per operation, the way an import does before anything is
+ * written. The score is files per second; the {@code rows} and {@code bytes} counters give the
+ * rows/s and bytes/s behind it, which are the numbers to compare across file sizes.
+ * <p>
+ * {@link #tokenize} measures the reader and {@link CsvTokenizer} alone, {@link #tokenizeAndValidate}
+ * adds {@link EmployeeValidationEngine} as the import runs it, and {@link #splitAndParse} is the
+ * older path that splits each record into a String[] and checks it with
+ * {@link EmployeeRecordParser#parse(String[], int)}. Other reader and validation modes are
+ * selected with {@code -p readerMode=MAPPED -p validationMode=STRICT}; the String[] path ignores
+ * {@code validationMode} and uses the configured {@code validation.mode}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dlog4j2.configurationFile=log4j2-benchmark.xml"})
+public class CsvImportBenchmark {
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int rows;
+
+    @Param({"1"})
+    public int invalidPercent;
+
+    @Param({"STREAM"})
+    public CsvFileReader.Mode readerMode;
+
+    @Param({"FAST"})
+    public EmployeeValidationEngine.Mode validationMode;
+
+    private String filePath;
+    private long fileSize;
+
+    @Setup(Level.Trial)
+    public void generateFile() throws IOException {
+        Path file = EmployeeCsvGenerator.cachedFile(rows, invalidPercent);
+        filePath = file.toString();
+        fileSize = Files.size(file);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long rows;
+        public long bytes;
+        public long invalidRows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+            bytes = 0;
+            invalidRows = 0;
+        }
+    }
+
+    @Benchmark
+    public void tokenize(Counters counters, Blackhole blackhole) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer();
+        int fields = 0;
+        try (CsvFileReader reader = new CsvFileReader(filePath, readerMode)) {
+            reader.skipHeader();
+            String record;
+            while ((record = reader.readRecord()) != null) {
+                tokenizer.tokenize(record);
+                fields += tokenizer.getFieldCount();
+                counters.rows++;
+            }
+        }
+        counters.bytes += fileSize;
+        blackhole.consume(fields);
+    }
+
+    @Benchmark
+    public void tokenizeAndValidate(Counters counters, Blackhole blackhole) throws IOException {
+        CsvTokenizer tokenizer = new CsvTokenizer();
+        EmployeeValidationEngine engine = new EmployeeValidationEngine(validationMode);
+        try (CsvFileReader reader = new CsvFileReader(filePath, readerMode)) {
+            reader.skipHeader();
+            String record;
+            while ((record = reader.readRecord()) != null) {
+                counters.rows++;
+                if (!tokenizer.tokenize(record) || engine.validate(tokenizer) != 0) {
+                    counters.invalidRows++;
+                    continue;
+                }
+                blackhole.consume(engine.toEmployee());
+            }
+        }
+        counters.bytes += fileSize;
+    }
+
+    @Benchmark
+    public void splitAndParse(Counters counters, Blackhole blackhole) throws IOException {
+        try (CsvFileReader reader = new CsvFileReader(filePath, readerMode)) {
+            reader.skipHeader();
+            String record;
+            int lineNumber = 1;
+            while ((record = reader.readRecord()) != null) {
+                counters.rows++;
+                RecordProcessResult result = EmployeeRecordParser.parse(record.split(",", -1), ++lineNumber);
+                if (!result.success) {
+                    counters.invalidRows++;
+                }
+                blackhole.consume(result);
+            }
+        }
+        counters.bytes += fileSize;
+    }
+}
@@ -0,0 +1,67 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.ResponseDTO;
+import com.litmus7.employeemanager.util.ErrorCodesManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the objects every controller call creates. Run with {@code -prof gc}: the
+ * {@code gc.alloc.rate.norm} line is bytes allocated per call and is the number to track, since
+ * it does not depend on the machine the way the time score does.
+ * <p>
+ * Inputs come from non-final fields so the JIT cannot fold them into constants.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class DtoAllocationBenchmark {
+
+    private int employeeId = 1_000_001;
+    private String firstName = "Priya";
+    private String lastName = "Nair";
+    private String email = "priya.nair1000001@example.com";
+    private String phone = "9876543210";
+    private String department = "Engineering";
+    private double salary = 75_000;
+    private LocalDate joinDate = LocalDate.of(2021, 6, 15);
+    private EmployeeDTO employee = newEmployee();
+
+    // Includes boxing the salary into the DTO's Double.
+    @Benchmark
+    public EmployeeDTO newEmployee() {
+        return new EmployeeDTO(employeeId, firstName, lastName, email, phone, department, salary, joinDate);
+    }
+
+    @Benchmark
+    public ResponseDTO<EmployeeDTO> successResponse() {
+        return ResponseDTO.success("Employee found successfully.", 1, employee);
+    }
+
+    // A lookup as the controller answers it: the employee and the response wrapping it.
+    @Benchmark
+    public ResponseDTO<EmployeeDTO> employeeResponse() {
+        return ResponseDTO.success("Employee found successfully.", 1, newEmployee());
+    }
+
+    // Failures also format their message from errorcodes.properties.
+    @Benchmark
+    public ResponseDTO<EmployeeDTO> failureResponse() {
+        return ResponseDTO.failure(104, ErrorCodesManager.getErrorMessage(104), 0, null);
+    }
+}
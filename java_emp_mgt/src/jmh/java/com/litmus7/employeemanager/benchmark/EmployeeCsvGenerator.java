@@ -0,0 +1,159 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Writes synthetic employee CSV files in the import format for the benchmarks. The same row count,
+ * invalid percentage and seed always produce the same file, so runs on different machines or
+ * commits read identical input.
+ * <p>
+ * Can also be run on its own:
+ * {@code java EmployeeCsvGenerator <file> <rows> [invalidPercent] [seed]}.
+ */
+public final class EmployeeCsvGenerator {
+
+    public static final String HEADER = "emp_id,first_name,last_name,email,phone,department,salary,join_date";
+    public static final long DEFAULT_SEED = 7L;
+    // IDs start here so generated rows do not collide with hand-entered ones.
+    public static final int FIRST_EMPLOYEE_ID = 1_000_000;
+
+    private static final String[] FIRST_NAMES = {
+        "John", "Jane", "Robert", "Alice", "Michael", "Priya", "Arjun", "Meera", "David", "Sara",
+        "Rahul", "Anita", "Thomas", "Fatima", "Kevin", "Laura", "Vikram", "Nisha", "George", "Emma"
+    };
+    private static final String[] LAST_NAMES = {
+        "Doe", "Smith", "Brown", "Johnson", "Nair", "Menon", "Williams", "Jones", "Garcia", "Miller",
+        "Pillai", "Kumar", "Davis", "Wilson", "Thomas", "Moore", "Taylor", "Anderson", "Joseph", "Varghese"
+    };
+    private static final String[] DEPARTMENTS = {
+        "Engineering", "Marketing", "Sales", "HR", "Finance", "Operations", "Support", "Legal"
+    };
+    private static final long FIRST_JOIN_DAY = LocalDate.of(2000, 1, 1).toEpochDay();
+    private static final int JOIN_DAY_RANGE = 9000;
+
+    private EmployeeCsvGenerator() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: EmployeeCsvGenerator <file> <rows> [invalidPercent] [seed]");
+            System.exit(1);
+        }
+        int invalidPercent = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        Path file = Paths.get(args[0]);
+        generate(file, Integer.parseInt(args[1]), invalidPercent, seed);
+        System.out.println("Wrote " + args[1] + " rows (" + Files.size(file) + " bytes) to " + file);
+    }
+
+    /**
+     * Returns a generated file under {@code java.io.tmpdir}, writing it only if an earlier run has
+     * not already done so. Large files take a while to write, so every fork and trial shares one.
+     */
+    public static Path cachedFile(int rows, int invalidPercent) throws IOException {
+        Path file = Paths.get(System.getProperty("java.io.tmpdir"),
+                "employee-bench-" + rows + "-" + invalidPercent + "-" + DEFAULT_SEED + ".csv");
+        if (!Files.isRegularFile(file) || Files.size(file) == 0) {
+            // Written aside and moved, so a run killed halfway never leaves a truncated file behind.
+            Path partial = Files.createTempFile(file.getParent(), "employee-bench-", ".partial");
+            generate(partial, rows, invalidPercent, DEFAULT_SEED);
+            Files.move(partial, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return file;
+    }
+
+    // invalidPercent of the rows get one field that fails validation.
+    public static void generate(Path file, int rows, int invalidPercent, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder line = new StringBuilder(128);
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8), 1 << 16)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            for (int i = 0; i < rows; i++) {
+                line.setLength(0);
+                appendRow(line, FIRST_EMPLOYEE_ID + i, random, random.nextInt(100) < invalidPercent);
+                line.append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    // Valid employees with consecutive IDs from firstEmployeeId, for the write and lookup benchmarks.
+    public static List<EmployeeDTO> employees(int firstEmployeeId, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<EmployeeDTO> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = pick(FIRST_NAMES, random);
+            String lastName = pick(LAST_NAMES, random);
+            int employeeId = firstEmployeeId + i;
+            employees.add(new EmployeeDTO(employeeId, firstName, lastName, email(firstName, lastName, employeeId),
+                    phone(random), pick(DEPARTMENTS, random), salary(random), joinDate(random)));
+        }
+        return employees;
+    }
+
+    private static void appendRow(StringBuilder line, int employeeId, SplittableRandom random, boolean invalid) {
+        String firstName = pick(FIRST_NAMES, random);
+        String lastName = pick(LAST_NAMES, random);
+        String email = email(firstName, lastName, employeeId);
+        String phone = phone(random);
+        String salary = String.valueOf(salary(random).longValue());
+        String joinDate = joinDate(random).toString();
+        if (invalid) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    email = email.replace('@', '.');
+                    break;
+                case 1:
+                    phone = phone.substring(0, 5) + "x" + phone.substring(6);
+                    break;
+                case 2:
+                    salary = salary + "k";
+                    break;
+                default:
+                    joinDate = joinDate.substring(0, 5) + "13" + joinDate.substring(7);
+                    break;
+            }
+        }
+        line.append(employeeId).append(',')
+            .append(firstName).append(',')
+            .append(lastName).append(',')
+            .append(email).append(',')
+            .append(phone).append(',')
+            .append(pick(DEPARTMENTS, random)).append(',')
+            .append(salary).append(',')
+            .append(joinDate);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String email(String firstName, String lastName, int employeeId) {
+        return firstName.toLowerCase() + "." + lastName.toLowerCase() + employeeId + "@example.com";
+    }
+
+    private static String phone(SplittableRandom random) {
+        return String.valueOf(9_000_000_000L + random.nextLong(1_000_000_000L));
+    }
+
+    private static Double salary(SplittableRandom random) {
+        return (double) (30_000 + random.nextInt(170) * 1_000);
+    }
+
+    private static LocalDate joinDate(SplittableRandom random) {
+        return LocalDate.ofEpochDay(FIRST_JOIN_DAY + random.nextInt(JOIN_DAY_RANGE));
+    }
+}
@@ -0,0 +1,108 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.dao.EmployeeDao;
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dao.InMemoryEmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.DatabaseConnectionManager;
+import com.litmus7.employeemanager.util.IntHashSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of one {@link EmployeeRepository#findEmployeesByIds(List)} call for lists of
+ * {@link #listSize} distinct, existing employee IDs. The lists are drawn at random once per trial
+ * and cycled, so consecutive calls do not repeat the same IDs.
+ * <p>
+ * The default {@code MEMORY} repository is filled with {@link #TABLE_SIZE} generated employees.
+ * {@code -p repository=JDBC} reads the database configured in database.properties instead,
+ * drawing from the IDs already in its table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class EmployeeLookupBenchmark {
+
+    static final int TABLE_SIZE = 100_000;
+    private static final int ID_LISTS = 64;
+
+    @Param({"1", "10", "100", "1000", "10000"})
+    public int listSize;
+
+    @Param({"MEMORY"})
+    public String repository;
+
+    private EmployeeRepository employeeRepository;
+    private List<List<Integer>> idLists;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void fillRepository() throws DAOException {
+        List<Integer> existingIds = new ArrayList<>();
+        if ("JDBC".equalsIgnoreCase(repository)) {
+            employeeRepository = new EmployeeDao();
+            employeeRepository.forEachEmployee(employee -> existingIds.add(employee.getEmployeeId()));
+            if (existingIds.isEmpty()) {
+                throw new IllegalStateException("The employee table is empty; import a generated file first.");
+            }
+        } else {
+            InMemoryEmployeeRepository memory = new InMemoryEmployeeRepository();
+            for (EmployeeDTO employee : EmployeeCsvGenerator.employees(EmployeeCsvGenerator.FIRST_EMPLOYEE_ID,
+                    TABLE_SIZE, EmployeeCsvGenerator.DEFAULT_SEED)) {
+                memory.saveEmployee(employee);
+                existingIds.add(employee.getEmployeeId());
+            }
+            employeeRepository = memory;
+        }
+
+        SplittableRandom random = new SplittableRandom(EmployeeCsvGenerator.DEFAULT_SEED);
+        idLists = new ArrayList<>(ID_LISTS);
+        for (int i = 0; i < ID_LISTS; i++) {
+            int size = Math.min(listSize, existingIds.size());
+            IntHashSet drawn = new IntHashSet(size);
+            List<Integer> ids = new ArrayList<>(size);
+            while (ids.size() < size) {
+                int employeeId = existingIds.get(random.nextInt(existingIds.size()));
+                if (drawn.add(employeeId)) {
+                    ids.add(employeeId);
+                }
+            }
+            idLists.add(ids);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        if (employeeRepository instanceof EmployeeDao) {
+            DatabaseConnectionManager.shutdown();
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> findEmployeesByIds() throws DAOException {
+        List<Integer> ids = idLists.get(next);
+        next = (next + 1) % ID_LISTS;
+        return employeeRepository.findEmployeesByIds(ids);
+    }
+}
@@ -0,0 +1,88 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.dao.EmployeeBatchWriter;
+import com.litmus7.employeemanager.dao.EmployeeWriteSession;
+import com.litmus7.employeemanager.dao.InMemoryEmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.exception.DAOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts {@link #ROWS} employees into an empty {@link InMemoryEmployeeRepository} per operation,
+ * once row by row through {@link InMemoryEmployeeRepository#saveEmployee(EmployeeDTO)} and once
+ * through a write session's batch writer, as an import does. Scores are rows per second.
+ * <p>
+ * This measures the service-side cost of the two write paths without a database; the same
+ * comparison against MySQL is {@link JdbcInsertBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class EmployeeWriteBenchmark {
+
+    static final int ROWS = 10_000;
+
+    private List<EmployeeDTO> employees;
+    private InMemoryEmployeeRepository repository;
+
+    @State(Scope.Thread)
+    public static class Batching {
+        @Param({"1", "100", "1000"})
+        public int batchSize;
+    }
+
+    @Setup(Level.Trial)
+    public void createEmployees() {
+        employees = EmployeeCsvGenerator.employees(EmployeeCsvGenerator.FIRST_EMPLOYEE_ID, ROWS,
+                EmployeeCsvGenerator.DEFAULT_SEED);
+    }
+
+    // Every operation inserts into an empty table, so no run sees the previous run's rows.
+    @Setup(Level.Invocation)
+    public void emptyRepository() {
+        repository = new InMemoryEmployeeRepository();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void perRowInserts(Blackhole blackhole) throws DAOException {
+        for (EmployeeDTO employee : employees) {
+            blackhole.consume(repository.saveEmployee(employee));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchedInserts(Batching batching, Blackhole blackhole) throws DAOException {
+        try (EmployeeWriteSession session = repository.openWriteSession();
+             EmployeeBatchWriter writer = session.openBatchWriter(batching.batchSize, WriteMode.INSERT)) {
+            int lineNumber = 1;
+            for (EmployeeDTO employee : employees) {
+                blackhole.consume(writer.add(employee, ++lineNumber));
+            }
+            blackhole.consume(writer.flush());
+            session.commit();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.litmus7.employeemanager.benchmark;
+
+import com.litmus7.employeemanager.dao.EmployeeBatchWriter;
+import com.litmus7.employeemanager.dao.EmployeeDao;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.DatabaseConnectionManager;
+import com.litmus7.employeemanager.util.IntHashSet;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts {@link #ROWS} employees per operation into the database configured in
+ * database.properties, row by row through {@link EmployeeDao#processEmployeeRecord} and through
+ * {@link EmployeeDao#openBatchWriter(Connection, int)}. Scores are rows per second.
+ * <p>
+ * Needs a reachable MySQL with the employee table; leave it out with {@code -e Jdbc} where there
+ * is none. Every operation is rolled back and the IDs used sit far above real ones, so the table
+ * is unchanged afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class JdbcInsertBenchmark {
+
+    static final int ROWS = 1_000;
+    private static final int FIRST_EMPLOYEE_ID = 2_000_000_000;
+
+    private final EmployeeDao employeeDao = new EmployeeDao();
+    private List<EmployeeDTO> employees;
+    private String[][] records;
+    private Connection connection;
+
+    @State(Scope.Thread)
+    public static class Batching {
+        @Param({"1", "100", "1000"})
+        public int batchSize;
+    }
+
+    @Setup(Level.Trial)
+    public void openConnection() throws SQLException {
+        employees = EmployeeCsvGenerator.employees(FIRST_EMPLOYEE_ID, ROWS, EmployeeCsvGenerator.DEFAULT_SEED);
+        records = new String[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            EmployeeDTO employee = employees.get(i);
+            records[i] = new String[] {
+                String.valueOf(employee.getEmployeeId()), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhone(), employee.getDepartment(),
+                String.valueOf(employee.getSalary().longValue()), employee.getJoinDate().toString()
+            };
+        }
+        connection = DatabaseConnectionManager.getConnection();
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() throws SQLException {
+        connection.rollback();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeConnection() throws SQLException {
+        connection.rollback();
+        connection.close();
+        DatabaseConnectionManager.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void perRowProcessEmployeeRecord(Blackhole blackhole) throws DAOException {
+        IntHashSet knownEmployeeIds = new IntHashSet(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(employeeDao.processEmployeeRecord(connection, records[i], i + 2, knownEmployeeIds));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchedInserts(Batching batching, Blackhole blackhole) throws DAOException {
+        try (EmployeeBatchWriter writer = employeeDao.openBatchWriter(connection, batching.batchSize)) {
+            int lineNumber = 1;
+            for (EmployeeDTO employee : employees) {
+                blackhole.consume(writer.add(employee, ++lineNumber));
+            }
+            blackhole.consume(writer.flush());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.litmus7.employeemanager.constant;
+
+/** How employee statistics are grouped. Join-date groups leave out employees without a join date. */
+public enum AnalyticsGroupBy {
+    DEPARTMENT,
+    JOIN_YEAR,
+    JOIN_QUARTER,
+    JOIN_MONTH
+}
@@ -10,6 +10,15 @@ public final class AppConstants {
     public static final int STATUS_CODE_PARTIAL_SUCCESS = 206;
     public static final int STATUS_CODE_FAILURE = 400;
 
+    // Keyset Pagination
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Name Search
+    public static final int DEFAULT_SEARCH_LIMIT = 10;
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final int MAX_SEARCH_EDITS = 2;
+
     // Private constructor to prevent instantiation
     private AppConstants() {}
 }
\ No newline at end of file
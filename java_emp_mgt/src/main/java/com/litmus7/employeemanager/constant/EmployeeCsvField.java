@@ -0,0 +1,49 @@
+package com.litmus7.employeemanager.constant;
+
+/** Columns of the employee CSV file, plus {@link #RECORD} for errors that concern the whole record. */
+public enum EmployeeCsvField {
+    EMPLOYEE_ID(0),
+    FIRST_NAME(1),
+    LAST_NAME(2),
+    EMAIL(3),
+    PHONE(4),
+    DEPARTMENT(5),
+    SALARY(6),
+    JOIN_DATE(7),
+    RECORD(-1);
+
+    private final int columnIndex;
+
+    EmployeeCsvField(int columnIndex) {
+        this.columnIndex = columnIndex;
+    }
+
+    // Zero-based CSV column, or -1 for RECORD.
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    public static EmployeeCsvField forErrorCode(int errorCode) {
+        switch (errorCode) {
+            case ImportErrorCodes.INVALID_EMPLOYEE_ID:
+            case ImportErrorCodes.DUPLICATE_EMPLOYEE_ID:
+                return EMPLOYEE_ID;
+            case ImportErrorCodes.INVALID_FIRST_NAME:
+                return FIRST_NAME;
+            case ImportErrorCodes.INVALID_LAST_NAME:
+                return LAST_NAME;
+            case ImportErrorCodes.INVALID_EMAIL:
+                return EMAIL;
+            case ImportErrorCodes.INVALID_PHONE:
+                return PHONE;
+            case ImportErrorCodes.INVALID_DEPARTMENT:
+                return DEPARTMENT;
+            case ImportErrorCodes.INVALID_SALARY:
+                return SALARY;
+            case ImportErrorCodes.INVALID_JOIN_DATE:
+                return JOIN_DATE;
+            default:
+                return RECORD;
+        }
+    }
+}
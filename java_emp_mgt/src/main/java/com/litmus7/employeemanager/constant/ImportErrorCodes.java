@@ -0,0 +1,28 @@
+package com.litmus7.employeemanager.constant;
+
+/**
+ * Error codes for rejected CSV import records. Messages live in errorcodes.properties and take
+ * the line number as {0}; codes that need more detail take it as {1}.
+ */
+public final class ImportErrorCodes {
+
+    public static final int EMPTY_LINE = 113;
+    public static final int INCOMPLETE_RECORD = 114;
+    public static final int UNTERMINATED_QUOTE = 115;
+    public static final int INVALID_EMPLOYEE_ID = 116;
+    public static final int INVALID_FIRST_NAME = 117;
+    public static final int INVALID_LAST_NAME = 118;
+    public static final int INVALID_EMAIL = 119;
+    public static final int INVALID_PHONE = 120;
+    public static final int INVALID_DEPARTMENT = 121;
+    public static final int INVALID_SALARY = 122;
+    public static final int INVALID_JOIN_DATE = 123;
+    public static final int DUPLICATE_EMPLOYEE_ID = 124;
+    public static final int INSERT_FAILED = 125;
+    public static final int NO_ROWS_AFFECTED = 126;
+    // Summary line for rejected records beyond the report's limit: {0} = count, {1} = limit.
+    public static final int ERRORS_NOT_RECORDED = 127;
+
+    // Private constructor to prevent instantiation
+    private ImportErrorCodes() {}
+}
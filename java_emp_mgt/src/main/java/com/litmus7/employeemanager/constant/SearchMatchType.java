@@ -0,0 +1,8 @@
+package com.litmus7.employeemanager.constant;
+
+/** How a name search matched, from best to worst. */
+public enum SearchMatchType {
+    EXACT,
+    PREFIX,
+    FUZZY
+}
@@ -5,8 +5,23 @@ public final class SqlConstants {
     public static final String INSERT_EMPLOYEE =
             "INSERT INTO employee (employee_id,first_name,last_name,email,phone,department,salary,join_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 
+    public static final String INSERT_IGNORE_EMPLOYEE =
+            "INSERT IGNORE INTO employee (employee_id,first_name,last_name,email,phone,department,salary,join_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Affected rows per row: 1 inserted, 2 updated, 0 unchanged (1 with the driver's default found-rows reporting)
+    public static final String UPSERT_EMPLOYEE =
+            "INSERT INTO employee (employee_id,first_name,last_name,email,phone,department,salary,join_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE first_name = VALUES(first_name), last_name = VALUES(last_name), email = VALUES(email),"
+            + " phone = VALUES(phone), department = VALUES(department), salary = VALUES(salary), join_date = VALUES(join_date)";
+
+    public static final String FIND_EXISTING_EMPLOYEE_IDS =
+            "SELECT employee_id FROM employee WHERE employee_id IN (?)";
+
     public static final String CHECK_DUPLICATE_EMPLOYEE =
             "SELECT COUNT(*) FROM employee WHERE employee_id = ?";
+
+    public static final String FIND_ALL_EMPLOYEE_IDS =
+            "SELECT employee_id FROM employee";
     
     public static final String FIND_EMPLOYEES_BY_IDS =
             "SELECT employee_id, first_name, last_name, email, phone, department, salary, join_date FROM employee WHERE employee_id IN (?)";
@@ -17,15 +32,68 @@ public final class SqlConstants {
     public static final String FIND_ALL_EMPLOYEES =
             "SELECT employee_id, first_name, last_name, email, phone, department, salary, join_date FROM employee";
 
+    // Primary-key range scan; one per partition of a parallel export
+    public static final String FIND_EMPLOYEES_IN_ID_RANGE =
+            "SELECT employee_id, first_name, last_name, email, phone, department, salary, join_date FROM employee WHERE employee_id BETWEEN ? AND ?";
+
+    public static final String FIND_EMPLOYEE_ID_BOUNDS =
+            "SELECT MIN(employee_id), MAX(employee_id) FROM employee";
+
+    // Keyset pagination: FIND_EMPLOYEES_PAGE + any filter conditions + PAGE_ORDER_AND_LIMIT
+    public static final String FIND_EMPLOYEES_PAGE =
+            "SELECT employee_id, first_name, last_name, email, phone, department, salary, join_date FROM employee WHERE employee_id > ?";
+
+    public static final String FILTER_BY_DEPARTMENT = " AND department = ?";
+
+    public static final String FILTER_JOIN_DATE_FROM = " AND join_date >= ?";
+
+    public static final String FILTER_JOIN_DATE_TO = " AND join_date <= ?";
+
+    public static final String PAGE_ORDER_AND_LIMIT = " ORDER BY employee_id LIMIT ?";
+
     public static final String UPDATE_EMPLOYEE =
             "UPDATE employee SET first_name = ?, last_name = ?, email = ?, phone = ?, department = ?, salary = ?, join_date = ? WHERE employee_id = ?";
 
     public static final String UPDATE_EMPLOYEE_DEPARTMENT =
             "UPDATE employee SET department = ? WHERE employee_id = ?";
     
+    // Set-based transfer: lock the matching rows, then update them with one statement per chunk
+    public static final String LOCK_EMPLOYEES_BY_IDS =
+            "SELECT employee_id FROM employee WHERE employee_id IN (?) FOR UPDATE";
+
+    public static final String UPDATE_DEPARTMENT_BY_IDS =
+            "UPDATE employee SET department = ? WHERE employee_id IN (?)";
+
+    public static final String CREATE_TRANSFER_ID_TABLE =
+            "CREATE TEMPORARY TABLE IF NOT EXISTS transfer_employee_ids (employee_id INT PRIMARY KEY)";
+
+    public static final String CLEAR_TRANSFER_ID_TABLE =
+            "DELETE FROM transfer_employee_ids";
+
+    public static final String INSERT_TRANSFER_ID =
+            "INSERT INTO transfer_employee_ids (employee_id) VALUES (?)";
+
+    public static final String LOCK_EMPLOYEES_IN_TRANSFER_TABLE =
+            "SELECT e.employee_id FROM employee e JOIN transfer_employee_ids t ON t.employee_id = e.employee_id FOR UPDATE";
+
+    public static final String UPDATE_DEPARTMENT_FROM_TRANSFER_TABLE =
+            "UPDATE employee e JOIN transfer_employee_ids t ON t.employee_id = e.employee_id SET e.department = ?";
+
+    public static final String DROP_TRANSFER_ID_TABLE =
+            "DROP TEMPORARY TABLE IF EXISTS transfer_employee_ids";
+
     public static final String DELETE_EMPLOYEE =
             "DELETE FROM employee WHERE employee_id = ?";
 
+    public static final String DELETE_EMPLOYEES_BY_IDS =
+            "DELETE FROM employee WHERE employee_id IN (?)";
+
+    // Predicate delete: DELETE_EMPLOYEES_MATCHING + filter conditions [+ DELETE_CHUNK_LIMIT for chunked commits]
+    public static final String DELETE_EMPLOYEES_MATCHING =
+            "DELETE FROM employee WHERE 1 = 1";
+
+    public static final String DELETE_CHUNK_LIMIT = " ORDER BY employee_id LIMIT ?";
+
     // Private constructor to prevent instantiation
     private SqlConstants() {}
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.litmus7.employeemanager.constant;
+
+/** How an employee write treats an employee ID that is already in the table. */
+public enum WriteMode {
+    // Plain INSERT; an existing ID fails the row.
+    INSERT,
+    // INSERT IGNORE; an existing row is left as it is and the write is reported as SKIPPED.
+    INSERT_IGNORE,
+    // INSERT ... ON DUPLICATE KEY UPDATE; an existing row is overwritten with the new values.
+    UPSERT
+}
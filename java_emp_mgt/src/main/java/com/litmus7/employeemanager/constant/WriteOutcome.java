@@ -0,0 +1,12 @@
+package com.litmus7.employeemanager.constant;
+
+/** What a single employee write did to the table. */
+public enum WriteOutcome {
+    INSERTED,
+    UPDATED,
+    // UPSERT of an existing row that already held the same values.
+    UNCHANGED,
+    // INSERT_IGNORE of an ID that already exists.
+    SKIPPED,
+    FAILED
+}
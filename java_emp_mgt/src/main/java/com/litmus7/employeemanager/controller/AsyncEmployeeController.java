@@ -0,0 +1,356 @@
+package com.litmus7.employeemanager.controller;
+
+import com.litmus7.employeemanager.constant.AnalyticsGroupBy;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.BulkOperationResult;
+import com.litmus7.employeemanager.dto.CacheStats;
+import com.litmus7.employeemanager.dto.DeltaSyncReport;
+import com.litmus7.employeemanager.dto.DepartmentTransferResult;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeePage;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.dto.EmployeeSearchHit;
+import com.litmus7.employeemanager.dto.ExportResult;
+import com.litmus7.employeemanager.dto.GroupStats;
+import com.litmus7.employeemanager.dto.ImportErrorReport;
+import com.litmus7.employeemanager.dto.ImportOptions;
+import com.litmus7.employeemanager.dto.ResponseDTO;
+import com.litmus7.employeemanager.dto.SalaryPercentiles;
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import com.litmus7.employeemanager.util.AsyncExecutors;
+import com.litmus7.employeemanager.util.ErrorCodesManager;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking facade over {@link EmployeeController}: every operation runs on the async executor
+ * and returns a future of the same {@link ResponseDTO} the blocking call would return.
+ * <p>
+ * A call that does not finish within the timeout completes with error 128 and its worker is
+ * interrupted; one that cannot be queued completes with error 129. Cancelling a returned future
+ * also interrupts its worker. A statement already sent to the database still runs to completion
+ * there, and its result is discarded.
+ * <p>
+ * Concurrent {@link #getEmployeeById(int)} calls for the same ID share one query. Each caller
+ * keeps its own timeout, and cancelling one caller's future does not stop the shared query. A
+ * write drops the shared lookups for the IDs it touches when it is queued and again before its
+ * future completes, so a caller that has seen its write finish never joins a lookup that may
+ * have read the row before that write.
+ */
+public class AsyncEmployeeController {
+
+    // Passed to submitWrite by writes that may touch any row.
+    private static final int[] ALL_IDS = null;
+    private static final int[] NO_IDS = new int[0];
+
+    private final EmployeeController controller;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final ConcurrentMap<Integer, CompletableFuture<ResponseDTO<EmployeeDTO>>> inFlightLookups;
+
+    public AsyncEmployeeController() {
+        this(new EmployeeController(), AsyncExecutors.shared(), ApplicationProperties.getAsyncTimeoutMillis());
+    }
+
+    // timeoutMillis 0 means no time limit.
+    public AsyncEmployeeController(EmployeeController controller, ExecutorService executor, long timeoutMillis) {
+        this(controller, executor, timeoutMillis, new ConcurrentHashMap<Integer, CompletableFuture<ResponseDTO<EmployeeDTO>>>());
+    }
+
+    private AsyncEmployeeController(EmployeeController controller, ExecutorService executor, long timeoutMillis,
+                                    ConcurrentMap<Integer, CompletableFuture<ResponseDTO<EmployeeDTO>>> inFlightLookups) {
+        this.controller = controller;
+        this.executor = executor;
+        this.timeoutMillis = Math.max(0, timeoutMillis);
+        this.inFlightLookups = inFlightLookups;
+    }
+
+    /**
+     * Returns a view of this controller whose calls use {@code timeout} instead of the default,
+     * e.g. {@code async.withTimeout(200, TimeUnit.MILLISECONDS).getEmployeeById(id)}. The view
+     * shares the executor and in-flight lookups with this one.
+     */
+    public AsyncEmployeeController withTimeout(long timeout, TimeUnit unit) {
+        return new AsyncEmployeeController(controller, executor, unit.toMillis(timeout), inFlightLookups);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public CompletableFuture<ResponseDTO<Integer>> addEmployee(EmployeeDTO employee) {
+        return submitWrite("addEmployee", idOf(employee), () -> controller.addEmployee(employee));
+    }
+
+    public CompletableFuture<ResponseDTO<int[]>> addEmployeesInBatch(List<EmployeeDTO> employeeList) {
+        return submitWrite("addEmployeesInBatch", idsOf(employeeList), () -> controller.addEmployeesInBatch(employeeList));
+    }
+
+    public CompletableFuture<ResponseDTO<WriteOutcome>> writeEmployee(EmployeeDTO employee, WriteMode mode) {
+        return submitWrite("writeEmployee", idOf(employee), () -> controller.writeEmployee(employee, mode));
+    }
+
+    public CompletableFuture<ResponseDTO<List<WriteOutcome>>> writeEmployeesInBatch(List<EmployeeDTO> employeeList, WriteMode mode) {
+        return submitWrite("writeEmployeesInBatch", idsOf(employeeList), () -> controller.writeEmployeesInBatch(employeeList, mode));
+    }
+
+    public CompletableFuture<ResponseDTO<int[]>> transferEmployeesToDepartment(List<Integer> employeeIds, String newDepartment) {
+        return submitWrite("transferEmployeesToDepartment", toArray(employeeIds), () -> controller.transferEmployeesToDepartment(employeeIds, newDepartment));
+    }
+
+    public CompletableFuture<ResponseDTO<DepartmentTransferResult>> transferEmployees(List<Integer> employeeIds, String newDepartment) {
+        return submitWrite("transferEmployees", toArray(employeeIds), () -> controller.transferEmployees(employeeIds, newDepartment));
+    }
+
+    public CompletableFuture<ResponseDTO<List<String>>> importEmployees(String filePath) {
+        return submitWrite("importEmployees", ALL_IDS, () -> controller.importEmployees(filePath));
+    }
+
+    public CompletableFuture<ResponseDTO<List<String>>> importEmployees(String filePath, ImportOptions options) {
+        return submitWrite("importEmployees", ALL_IDS, () -> controller.importEmployees(filePath, options));
+    }
+
+    public CompletableFuture<ResponseDTO<ImportErrorReport>> importEmployeesReport(String filePath, ImportOptions options) {
+        return submitWrite("importEmployeesReport", ALL_IDS, () -> controller.importEmployeesReport(filePath, options));
+    }
+
+    public CompletableFuture<ResponseDTO<DeltaSyncReport>> syncEmployees(String filePath, boolean deleteMissing, boolean dryRun) {
+        return submitWrite("syncEmployees", dryRun ? NO_IDS : ALL_IDS, () -> controller.syncEmployees(filePath, deleteMissing, dryRun));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeDTO>>> getEmployeesByIds(List<Integer> employeeIds) {
+        return submit("getEmployeesByIds", () -> controller.getEmployeesByIds(employeeIds));
+    }
+
+    // Joins a lookup for the same ID that is already running instead of starting another one.
+    public CompletableFuture<ResponseDTO<EmployeeDTO>> getEmployeeById(int employeeId) {
+        CompletableFuture<ResponseDTO<EmployeeDTO>> shared = inFlightLookups.get(employeeId);
+        if (shared == null) {
+            CompletableFuture<ResponseDTO<EmployeeDTO>> created = new CompletableFuture<>();
+            shared = inFlightLookups.putIfAbsent(employeeId, created);
+            if (shared == null) {
+                shared = created;
+                start("getEmployeeById", created, () -> controller.getEmployeeById(employeeId));
+                created.whenComplete((response, failure) -> inFlightLookups.remove(employeeId, created));
+            }
+        }
+
+        CompletableFuture<ResponseDTO<EmployeeDTO>> caller = new CompletableFuture<>();
+        shared.whenComplete((response, failure) -> {
+            if (failure != null) {
+                caller.completeExceptionally(failure);
+            } else {
+                caller.complete(response);
+            }
+        });
+        applyTimeout("getEmployeeById", caller, null);
+        return caller;
+    }
+
+    public CompletableFuture<ResponseDTO<Integer>> updateEmployee(EmployeeDTO employee) {
+        return submitWrite("updateEmployee", idOf(employee), () -> controller.updateEmployee(employee));
+    }
+
+    public CompletableFuture<ResponseDTO<Integer>> deleteEmployee(int employeeId) {
+        return submitWrite("deleteEmployee", new int[] {employeeId}, () -> controller.deleteEmployee(employeeId));
+    }
+
+    public CompletableFuture<ResponseDTO<BulkOperationResult>> updateEmployees(List<EmployeeDTO> employeeList) {
+        return submitWrite("updateEmployees", idsOf(employeeList), () -> controller.updateEmployees(employeeList));
+    }
+
+    public CompletableFuture<ResponseDTO<BulkOperationResult>> deleteEmployees(List<Integer> employeeIds) {
+        return submitWrite("deleteEmployees", toArray(employeeIds), () -> controller.deleteEmployees(employeeIds));
+    }
+
+    public CompletableFuture<ResponseDTO<Integer>> deleteEmployees(EmployeeFilter filter) {
+        return submitWrite("deleteEmployees", ALL_IDS, () -> controller.deleteEmployees(filter));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeDTO>>> findAllEmployees() {
+        return submit("findAllEmployees", () -> controller.findAllEmployees());
+    }
+
+    public CompletableFuture<ResponseDTO<EmployeeRecordStore>> findAllEmployeeRecords() {
+        return submit("findAllEmployeeRecords", () -> controller.findAllEmployeeRecords());
+    }
+
+    // The consumer is called on the executor's thread.
+    public CompletableFuture<ResponseDTO<Integer>> streamAllEmployees(Consumer<? super EmployeeDTO> consumer) {
+        return submit("streamAllEmployees", () -> controller.streamAllEmployees(consumer));
+    }
+
+    public CompletableFuture<ResponseDTO<ExportResult>> exportEmployees(String filePath) {
+        return submit("exportEmployees", () -> controller.exportEmployees(filePath));
+    }
+
+    public CompletableFuture<ResponseDTO<ExportResult>> exportEmployees(String filePath, int partitions) {
+        return submit("exportEmployees", () -> controller.exportEmployees(filePath, partitions));
+    }
+
+    public CompletableFuture<ResponseDTO<EmployeePage>> getEmployeesPage(String pageToken, int pageSize) {
+        return submit("getEmployeesPage", () -> controller.getEmployeesPage(pageToken, pageSize));
+    }
+
+    public CompletableFuture<ResponseDTO<EmployeePage>> getEmployeesPage(String pageToken, int pageSize, EmployeeFilter filter) {
+        return submit("getEmployeesPage", () -> controller.getEmployeesPage(pageToken, pageSize, filter));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeDTO>>> getEmployeesByEmail(String email) {
+        return submit("getEmployeesByEmail", () -> controller.getEmployeesByEmail(email));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeDTO>>> getEmployeesByDepartment(String department) {
+        return submit("getEmployeesByDepartment", () -> controller.getEmployeesByDepartment(department));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeDTO>>> getEmployeesByJoinDate(LocalDate from, LocalDate to) {
+        return submit("getEmployeesByJoinDate", () -> controller.getEmployeesByJoinDate(from, to));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeSearchHit>>> searchEmployees(String query) {
+        return submit("searchEmployees", () -> controller.searchEmployees(query));
+    }
+
+    public CompletableFuture<ResponseDTO<List<EmployeeSearchHit>>> searchEmployees(String query, int maxEdits, int limit) {
+        return submit("searchEmployees", () -> controller.searchEmployees(query, maxEdits, limit));
+    }
+
+    // Submitted like any other call: the first one loads the table into memory.
+    public CompletableFuture<ResponseDTO<List<GroupStats>>> getEmployeeStats(EmployeeFilter filter, AnalyticsGroupBy groupBy) {
+        return submit("getEmployeeStats", () -> controller.getEmployeeStats(filter, groupBy));
+    }
+
+    public CompletableFuture<ResponseDTO<List<GroupStats>>> getSalaryBandStats(EmployeeFilter filter, double bandWidth) {
+        return submit("getSalaryBandStats", () -> controller.getSalaryBandStats(filter, bandWidth));
+    }
+
+    public CompletableFuture<ResponseDTO<SalaryPercentiles>> getSalaryPercentiles(EmployeeFilter filter, double... percentiles) {
+        double[] requested = percentiles == null ? null : percentiles.clone();
+        return submit("getSalaryPercentiles", () -> controller.getSalaryPercentiles(filter, requested));
+    }
+
+    public CompletableFuture<ResponseDTO<Integer>> countEmployees(EmployeeFilter filter) {
+        return submit("countEmployees", () -> controller.countEmployees(filter));
+    }
+
+    // Reads in-memory counters only, so it completes on the calling thread.
+    public CompletableFuture<ResponseDTO<CacheStats>> getCacheStats() {
+        return CompletableFuture.completedFuture(controller.getCacheStats());
+    }
+
+    // Like submit, and drops the shared lookups for employeeIds (null for every ID) around the write.
+    private <T> CompletableFuture<ResponseDTO<T>> submitWrite(String operation, int[] employeeIds, Supplier<ResponseDTO<T>> call) {
+        forgetLookups(employeeIds);
+        return submit(operation, () -> {
+            try {
+                return call.get();
+            } finally {
+                forgetLookups(employeeIds);
+            }
+        });
+    }
+
+    private void forgetLookups(int[] employeeIds) {
+        if (employeeIds == null) {
+            inFlightLookups.clear();
+            return;
+        }
+        for (int employeeId : employeeIds) {
+            inFlightLookups.remove(employeeId);
+        }
+    }
+
+    private static int[] idOf(EmployeeDTO employee) {
+        return employee == null ? NO_IDS : new int[] {employee.getEmployeeId()};
+    }
+
+    private static int[] idsOf(List<EmployeeDTO> employeeList) {
+        if (employeeList == null) {
+            return NO_IDS;
+        }
+        int[] employeeIds = new int[employeeList.size()];
+        int count = 0;
+        for (EmployeeDTO employee : employeeList) {
+            if (employee != null) {
+                employeeIds[count++] = employee.getEmployeeId();
+            }
+        }
+        return count == employeeIds.length ? employeeIds : Arrays.copyOf(employeeIds, count);
+    }
+
+    private static int[] toArray(List<Integer> employeeIds) {
+        if (employeeIds == null) {
+            return NO_IDS;
+        }
+        int[] array = new int[employeeIds.size()];
+        int count = 0;
+        for (Integer employeeId : employeeIds) {
+            if (employeeId != null) {
+                array[count++] = employeeId;
+            }
+        }
+        return count == array.length ? array : Arrays.copyOf(array, count);
+    }
+
+    private <T> CompletableFuture<ResponseDTO<T>> submit(String operation, Supplier<ResponseDTO<T>> call) {
+        CompletableFuture<ResponseDTO<T>> result = new CompletableFuture<>();
+        Future<?> task = start(operation, result, call);
+        if (task != null) {
+            result.whenComplete((response, failure) -> {
+                if (result.isCancelled()) {
+                    task.cancel(true);
+                }
+            });
+            applyTimeout(operation, result, task);
+        }
+        return result;
+    }
+
+    // Queues the call; returns null if it was rejected, in which case result is already complete.
+    private <T> Future<?> start(String operation, CompletableFuture<ResponseDTO<T>> result, Supplier<ResponseDTO<T>> call) {
+        try {
+            return executor.submit(() -> {
+                if (result.isDone()) {
+                    return; // Cancelled or timed out while queued.
+                }
+                try {
+                    result.complete(call.get());
+                } catch (RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            String message = ErrorCodesManager.getErrorMessage(129, operation);
+            result.complete(ResponseDTO.<T>failure(129, message, 0, null));
+            return null;
+        }
+    }
+
+    private <T> void applyTimeout(String operation, CompletableFuture<ResponseDTO<T>> result, Future<?> task) {
+        if (timeoutMillis == 0 || result.isDone()) {
+            return;
+        }
+        ScheduledFuture<?> timer = AsyncExecutors.timeoutScheduler().schedule(() -> {
+            String message = ErrorCodesManager.getErrorMessage(128, operation, String.valueOf(timeoutMillis));
+            if (result.complete(ResponseDTO.<T>failure(128, message, 0, null)) && task != null) {
+                task.cancel(true);
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((response, failure) -> timer.cancel(false));
+    }
+}
@@ -1,15 +1,36 @@
 package com.litmus7.employeemanager.controller;
 
+import com.litmus7.employeemanager.constant.AnalyticsGroupBy;
+import com.litmus7.employeemanager.constant.AppConstants;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.BulkOperationResult;
+import com.litmus7.employeemanager.dto.CacheStats;
+import com.litmus7.employeemanager.dto.DeltaSyncReport;
+import com.litmus7.employeemanager.dto.DepartmentTransferResult;
 import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeePage;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.dto.EmployeeSearchHit;
+import com.litmus7.employeemanager.dto.ExportResult;
+import com.litmus7.employeemanager.dto.GroupStats;
+import com.litmus7.employeemanager.dto.ImportErrorReport;
+import com.litmus7.employeemanager.dto.ImportOptions;
 import com.litmus7.employeemanager.dto.ResponseDTO;
+import com.litmus7.employeemanager.dto.SalaryPercentiles;
+import com.litmus7.employeemanager.dto.WriteSummary;
 import com.litmus7.employeemanager.exception.EmployeeNotFoundException;
 import com.litmus7.employeemanager.exception.ServiceException;
+import com.litmus7.employeemanager.property.ApplicationProperties;
 import com.litmus7.employeemanager.services.EmployeeManagementService;
 import com.litmus7.employeemanager.util.EmployeeValidator;
 import com.litmus7.employeemanager.util.ErrorCodesManager;
 
 import java.io.File;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.AbstractMap.SimpleEntry;
 
 public class EmployeeController {
@@ -81,7 +102,80 @@ public class EmployeeController {
         }
     }
     
+    // Adds or updates one employee according to mode; the outcome says which happened.
+    public ResponseDTO<WriteOutcome> writeEmployee(EmployeeDTO employee, WriteMode mode) {
+        if (employee == null || mode == null) {
+            String message = ErrorCodesManager.getErrorMessage(100, employee == null ? "employee data" : "write mode");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        if (employee.getEmployeeId() <= 0) {
+            String message = ErrorCodesManager.getErrorMessage(105, employee.getEmployeeId());
+            return ResponseDTO.failure(105, message, 0, null);
+        }
+        ResponseDTO<String> validationResponse = validateEmployeeDTO(employee);
+        if (validationResponse.isFailure()) {
+            return ResponseDTO.failure(validationResponse.getErrorCode(), validationResponse.getMessage(), 0, null);
+        }
+        try {
+            WriteOutcome outcome = service.writeEmployee(employee, mode);
+            String message = "Employee with ID " + employee.getEmployeeId() + " written: " + outcome + ".";
+            int affectedCount = outcome == WriteOutcome.INSERTED || outcome == WriteOutcome.UPDATED ? 1 : 0;
+            return ResponseDTO.success(message, affectedCount, outcome);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(110, employee.getEmployeeId());
+            return ResponseDTO.failure(110, message, 0, null);
+        }
+    }
+
+    // Writes the whole list in one batch; the data holds one outcome per employee, in list order.
+    public ResponseDTO<List<WriteOutcome>> writeEmployeesInBatch(List<EmployeeDTO> employeeList, WriteMode mode) {
+        if (employeeList == null || employeeList.isEmpty() || mode == null) {
+            String message = ErrorCodesManager.getErrorMessage(100, mode == null ? "write mode" : "employee list");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        for (EmployeeDTO employee : employeeList) {
+            if (employee == null || employee.getEmployeeId() <= 0) {
+                String message = ErrorCodesManager.getErrorMessage(105, employee != null ? employee.getEmployeeId() : "null");
+                return ResponseDTO.failure(105, message, 0, null);
+            }
+            ResponseDTO<String> validationResponse = validateEmployeeDTO(employee);
+            if (validationResponse.isFailure()) {
+                return ResponseDTO.failure(validationResponse.getErrorCode(), validationResponse.getMessage(), 0, null);
+            }
+        }
+
+        try {
+            List<WriteOutcome> outcomes = service.writeEmployeesInBatch(employeeList, mode);
+            WriteSummary summary = new WriteSummary();
+            for (WriteOutcome outcome : outcomes) {
+                summary.add(outcome);
+            }
+            if (summary.getFailedCount() == outcomes.size()) {
+                String message = ErrorCodesManager.getErrorMessage(108);
+                return ResponseDTO.failure(108, message, 0, outcomes);
+            }
+            String message = "Batch write completed: " + summary + ".";
+            int affectedCount = summary.getInsertedCount() + summary.getUpdatedCount();
+            if (summary.getFailedCount() > 0) {
+                return ResponseDTO.partialSuccess(message, affectedCount, outcomes);
+            }
+            return ResponseDTO.success(message, affectedCount, outcomes);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+    
     public ResponseDTO<int[]> transferEmployeesToDepartment(List<Integer> employeeIds, String newDepartment) {
+        ResponseDTO<DepartmentTransferResult> response = transferEmployees(employeeIds, newDepartment);
+        if (response.isFailure()) {
+            return ResponseDTO.failure(response.getErrorCode(), response.getMessage(), 0, null);
+        }
+        return ResponseDTO.success(response.getMessage(), response.getAffectedCount(), response.getData().getUpdateCounts());
+    }
+
+    // Like transferEmployeesToDepartment, with the per-chunk lock timings in the result.
+    public ResponseDTO<DepartmentTransferResult> transferEmployees(List<Integer> employeeIds, String newDepartment) {
         if (employeeIds == null || employeeIds.isEmpty()) {
             String message = ErrorCodesManager.getErrorMessage(100, "Employee IDs");
             return ResponseDTO.failure(100, message, 0, null);
@@ -92,10 +186,10 @@ public class EmployeeController {
         }
         
         try {
-            int[] results = service.transferEmployeesToDepartment(employeeIds, newDepartment);
+            DepartmentTransferResult result = service.transferEmployees(employeeIds, newDepartment);
             int successfulUpdates = 0;
-            for (int result : results) {
-                if (result > 0) {
+            for (int updateCount : result.getUpdateCounts()) {
+                if (updateCount > 0) {
                     successfulUpdates++;
                 }
             }
@@ -104,7 +198,7 @@ public class EmployeeController {
                 return ResponseDTO.failure(112, message, 0, null);
             }
             String message = "Department transfer completed successfully.";
-            return ResponseDTO.success(message, successfulUpdates, results);
+            return ResponseDTO.success(message, successfulUpdates, result);
         } catch (ServiceException e) {
             String message = ErrorCodesManager.getErrorMessage(109);
             return ResponseDTO.failure(109, message, 0, null);
@@ -112,6 +206,27 @@ public class EmployeeController {
     }
 
     public ResponseDTO<List<String>> importEmployees(String filePath) {
+        return importEmployees(filePath, ImportOptions.defaults());
+    }
+
+    public ResponseDTO<List<String>> importEmployees(String filePath, ImportOptions options) {
+        ResponseDTO<ImportErrorReport> response = importEmployeesReport(filePath, options);
+        ImportErrorReport report = response.getData();
+        List<String> errors = report != null ? report.asMessages() : null;
+        if (response.isFailure()) {
+            return ResponseDTO.failure(response.getErrorCode(), response.getMessage(), response.getAffectedCount(), errors);
+        } else if (response.getStatusCode() == AppConstants.STATUS_CODE_PARTIAL_SUCCESS) {
+            return ResponseDTO.partialSuccess(response.getMessage(), response.getAffectedCount(), errors);
+        }
+        return ResponseDTO.success(response.getMessage(), response.getAffectedCount(), errors);
+    }
+
+    // Like importEmployees, but returns the rejected records as a report instead of message strings.
+    public ResponseDTO<ImportErrorReport> importEmployeesReport(String filePath, ImportOptions options) {
+        if (options == null) {
+            String message = ErrorCodesManager.getErrorMessage(100, "import options");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
         File csvFile = new File(filePath);
         if (!csvFile.exists() || csvFile.isDirectory()) {
             String message = ErrorCodesManager.getErrorMessage(102);
@@ -119,17 +234,20 @@ public class EmployeeController {
         }
 
         try {
-            SimpleEntry<Integer, List<String>> result = service.importEmployees(filePath);
+            SimpleEntry<Integer, ImportErrorReport> result = service.importEmployeesWithReport(filePath, options);
             
             int successfulCount = result.getKey();
-            List<String> errors = result.getValue();
-            int totalRecordsAttempted = successfulCount + errors.size();
+            ImportErrorReport errors = result.getValue();
+            long totalRecordsAttempted = successfulCount + errors.getTotalErrorCount();
 
             if (totalRecordsAttempted == 0) {
                 String message = ErrorCodesManager.getErrorMessage(103);
                 return ResponseDTO.failure(103, message, 0, errors);
-            } else if (successfulCount > 0 && errors.isEmpty()) {
+            } else if (successfulCount > 0 && errors.getTotalErrorCount() == 0) {
                 String message = "All " + successfulCount + " employee records imported successfully.";
+                if (options.getWriteMode() != WriteMode.INSERT) {
+                    message += " (" + errors.getWriteSummary() + ")";
+                }
                 return ResponseDTO.success(message, successfulCount, errors);
             } else if (successfulCount > 0) {
                 String message = ErrorCodesManager.getErrorMessage(108);
@@ -144,6 +262,32 @@ public class EmployeeController {
         }
     }
     
+    // Applies only the differences between the CSV file and the table; see EmployeeManagementService.syncEmployees.
+    public ResponseDTO<DeltaSyncReport> syncEmployees(String filePath, boolean deleteMissing, boolean dryRun) {
+        File csvFile = new File(filePath);
+        if (!csvFile.exists() || csvFile.isDirectory()) {
+            String message = ErrorCodesManager.getErrorMessage(102);
+            return ResponseDTO.failure(102, message, 0, null);
+        }
+        try {
+            DeltaSyncReport report = service.syncEmployees(filePath, deleteMissing, dryRun);
+            String message = (dryRun ? "Delta sync dry run: " : "Delta sync: ")
+                    + report.getInsertCount() + " to insert, " + report.getUpdateCount() + " to update, "
+                    + report.getDeleteCount() + " to delete, " + report.getUnchangedCount() + " unchanged.";
+            int affectedCount = dryRun ? 0 : report.getWriteSummary().getInsertedCount()
+                    + report.getWriteSummary().getUpdatedCount() + (report.isDeletesApplied() ? report.getDeleteCount() : 0);
+            if (report.getWriteSummary().getFailedCount() > 0) {
+                return ResponseDTO.failure(108, ErrorCodesManager.getErrorMessage(108), 0, report);
+            } else if (report.getErrorReport().getTotalErrorCount() > 0) {
+                return ResponseDTO.partialSuccess(message, affectedCount, report);
+            }
+            return ResponseDTO.success(message, affectedCount, report);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+    
     public ResponseDTO<List<EmployeeDTO>> getEmployeesByIds(List<Integer> employeeIds) {
         if (employeeIds == null || employeeIds.isEmpty()) {
             String message = ErrorCodesManager.getErrorMessage(104);
@@ -228,6 +372,75 @@ public class EmployeeController {
         }
     }
 
+    // Updates the whole list on one connection; the data holds one row count per employee, in list order.
+    public ResponseDTO<BulkOperationResult> updateEmployees(List<EmployeeDTO> employeeList) {
+        if (employeeList == null || employeeList.isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "employee list");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        for (EmployeeDTO employee : employeeList) {
+            if (employee == null || employee.getEmployeeId() <= 0) {
+                String message = ErrorCodesManager.getErrorMessage(105, employee != null ? employee.getEmployeeId() : "null");
+                return ResponseDTO.failure(105, message, 0, null);
+            }
+            ResponseDTO<String> validationResponse = validateEmployeeDTO(employee);
+            if (validationResponse.isFailure()) {
+                return ResponseDTO.failure(validationResponse.getErrorCode(), validationResponse.getMessage(), 0, null);
+            }
+        }
+        try {
+            return bulkResponse("Bulk update", service.updateEmployees(employeeList));
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    // Deletes the listed IDs on one connection; the data holds one row count per ID, in list order.
+    public ResponseDTO<BulkOperationResult> deleteEmployees(List<Integer> employeeIds) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "Employee IDs");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        for (Integer employeeId : employeeIds) {
+            if (employeeId == null || employeeId <= 0) {
+                String message = ErrorCodesManager.getErrorMessage(105, employeeId != null ? employeeId : "null");
+                return ResponseDTO.failure(105, message, 0, null);
+            }
+        }
+        try {
+            return bulkResponse("Bulk delete", service.deleteEmployees(employeeIds));
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    // Deletes every employee in the filter's department and/or join date range; the data is the number deleted.
+    public ResponseDTO<Integer> deleteEmployees(EmployeeFilter filter) {
+        if (filter == null || filter.isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "delete filter");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        if (filter.getJoinDateFrom() != null && filter.getJoinDateTo() != null
+                && filter.getJoinDateFrom().isAfter(filter.getJoinDateTo())) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            int deleted = service.deleteEmployees(filter);
+            if (deleted == 0) {
+                String message = ErrorCodesManager.getErrorMessage(104);
+                return ResponseDTO.failure(104, message, 0, 0);
+            }
+            String message = deleted + " employees deleted successfully.";
+            return ResponseDTO.success(message, deleted, deleted);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
     public ResponseDTO<List<EmployeeDTO>> findAllEmployees() {
         try {
             List<EmployeeDTO> employees = service.findAllEmployees();
@@ -239,6 +452,287 @@ public class EmployeeController {
         }
     }
 
+    // All employees in compact form, for callers that read many rows without needing EmployeeDTOs.
+    public ResponseDTO<EmployeeRecordStore> findAllEmployeeRecords() {
+        try {
+            EmployeeRecordStore employees = service.findAllEmployeeRecords();
+            String message = "All employees fetched successfully.";
+            return ResponseDTO.success(message, employees.size(), employees);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    // Streams all employees to the consumer; the response carries the row count instead of the rows.
+    public ResponseDTO<Integer> streamAllEmployees(Consumer<? super EmployeeDTO> consumer) {
+        if (consumer == null) {
+            String message = ErrorCodesManager.getErrorMessage(100, "employee consumer");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        try {
+            int rowCount = service.streamAllEmployees(consumer);
+            String message = "All employees streamed successfully.";
+            return ResponseDTO.success(message, rowCount, rowCount);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<ExportResult> exportEmployees(String filePath) {
+        return exportEmployees(filePath, ApplicationProperties.getExportPartitions());
+    }
+
+    // Writes every employee to a CSV file the import can read back; a path ending in .gz is compressed.
+    public ResponseDTO<ExportResult> exportEmployees(String filePath, int partitions) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "export file path");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        if (new File(filePath).isDirectory()) {
+            String message = ErrorCodesManager.getErrorMessage(101, "export file path");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        if (partitions <= 0) {
+            String message = ErrorCodesManager.getErrorMessage(101, "export partitions");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            ExportResult result = service.exportEmployees(filePath, partitions);
+            String message = "Exported " + result.getRowCount() + " employees to " + filePath + " ("
+                    + String.format("%.0f rows/s, %.1f MB/s", result.getRowsPerSecond(), result.getMegabytesPerSecond()) + ").";
+            return ResponseDTO.success(message, (int) result.getRowCount(), result);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(131, filePath);
+            return ResponseDTO.failure(131, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<EmployeePage> getEmployeesPage(String pageToken, int pageSize) {
+        return getEmployeesPage(pageToken, pageSize, EmployeeFilter.none());
+    }
+
+    // Keyset-paginated listing; pass the previous page's next-page token to continue.
+    public ResponseDTO<EmployeePage> getEmployeesPage(String pageToken, int pageSize, EmployeeFilter filter) {
+        if (pageSize <= 0 || pageSize > AppConstants.MAX_PAGE_SIZE) {
+            String message = ErrorCodesManager.getErrorMessage(101, "page size");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        if (isReversedJoinDateRange(filter)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            EmployeePage page = service.getEmployeesPage(pageToken, pageSize, filter);
+            String message = page.hasMore() ? "Employee page fetched; more employees available." : "Last employee page fetched.";
+            return ResponseDTO.success(message, page.getEmployees().size(), page);
+        } catch (ServiceException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                String message = ErrorCodesManager.getErrorMessage(101, "page token");
+                return ResponseDTO.failure(101, message, 0, null);
+            }
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<List<EmployeeDTO>> getEmployeesByEmail(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "email");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        try {
+            List<EmployeeDTO> employees = service.getEmployeesByEmail(email);
+            if (employees.isEmpty()) {
+                String message = ErrorCodesManager.getErrorMessage(130, email);
+                return ResponseDTO.failure(130, message, 0, null);
+            }
+            String message = "Employees found successfully.";
+            return ResponseDTO.success(message, employees.size(), employees);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<List<EmployeeDTO>> getEmployeesByDepartment(String department) {
+        if (department == null || department.trim().isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "department");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        try {
+            List<EmployeeDTO> employees = service.getEmployeesByDepartment(department);
+            if (employees.isEmpty()) {
+                String message = ErrorCodesManager.getErrorMessage(104);
+                return ResponseDTO.failure(104, message, 0, null);
+            }
+            String message = "Employees of department " + department + " fetched successfully.";
+            return ResponseDTO.success(message, employees.size(), employees);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    // Either bound may be null for an open range; results are ordered by join date.
+    public ResponseDTO<List<EmployeeDTO>> getEmployeesByJoinDate(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            List<EmployeeDTO> employees = service.getEmployeesByJoinDate(from, to);
+            if (employees.isEmpty()) {
+                String message = ErrorCodesManager.getErrorMessage(104);
+                return ResponseDTO.failure(104, message, 0, null);
+            }
+            String message = "Employees fetched by join date successfully.";
+            return ResponseDTO.success(message, employees.size(), employees);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<List<EmployeeSearchHit>> searchEmployees(String query) {
+        return searchEmployees(query, 0, AppConstants.DEFAULT_SEARCH_LIMIT);
+    }
+
+    // Name type-ahead; maxEdits 1 or 2 also finds misspelled names. Hits are ranked best first.
+    public ResponseDTO<List<EmployeeSearchHit>> searchEmployees(String query, int maxEdits, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            String message = ErrorCodesManager.getErrorMessage(100, "search query");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        if (maxEdits < 0 || maxEdits > AppConstants.MAX_SEARCH_EDITS) {
+            String message = ErrorCodesManager.getErrorMessage(101, "edit distance");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        if (limit <= 0 || limit > AppConstants.MAX_SEARCH_LIMIT) {
+            String message = ErrorCodesManager.getErrorMessage(101, "search limit");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            List<EmployeeSearchHit> hits = service.searchEmployees(query, maxEdits, limit);
+            if (hits.isEmpty()) {
+                String message = ErrorCodesManager.getErrorMessage(104);
+                return ResponseDTO.failure(104, message, 0, null);
+            }
+            String message = "Employee search completed.";
+            return ResponseDTO.success(message, hits.size(), hits);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    // Per-group headcount and salary figures from the in-memory analytics; the count is the number of groups.
+    public ResponseDTO<List<GroupStats>> getEmployeeStats(EmployeeFilter filter, AnalyticsGroupBy groupBy) {
+        if (groupBy == null) {
+            String message = ErrorCodesManager.getErrorMessage(100, "grouping");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        if (isReversedJoinDateRange(filter)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            List<GroupStats> stats = service.getEmployeeStats(filter, groupBy);
+            String message = "Employee statistics by " + groupBy + " computed.";
+            return ResponseDTO.success(message, stats.size(), stats);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<List<GroupStats>> getSalaryBandStats(EmployeeFilter filter, double bandWidth) {
+        if (!(bandWidth > 0) || Double.isInfinite(bandWidth)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "salary band width");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        if (isReversedJoinDateRange(filter)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            List<GroupStats> stats = service.getSalaryBandStats(filter, bandWidth);
+            String message = "Salary band statistics computed.";
+            return ResponseDTO.success(message, stats.size(), stats);
+        } catch (ServiceException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                String message = ErrorCodesManager.getErrorMessage(101, "salary band width");
+                return ResponseDTO.failure(101, message, 0, null);
+            }
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    // Percentiles between 0 and 100; the count is the number of salaries they were taken from.
+    public ResponseDTO<SalaryPercentiles> getSalaryPercentiles(EmployeeFilter filter, double... percentiles) {
+        if (percentiles == null || percentiles.length == 0) {
+            String message = ErrorCodesManager.getErrorMessage(100, "percentiles");
+            return ResponseDTO.failure(100, message, 0, null);
+        }
+        for (double percentile : percentiles) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                String message = ErrorCodesManager.getErrorMessage(101, "percentile");
+                return ResponseDTO.failure(101, message, 0, null);
+            }
+        }
+        if (isReversedJoinDateRange(filter)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            SalaryPercentiles result = service.getSalaryPercentiles(filter, percentiles);
+            String message = "Salary percentiles computed.";
+            return ResponseDTO.success(message, result.getSampleSize(), result);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<Integer> countEmployees(EmployeeFilter filter) {
+        if (isReversedJoinDateRange(filter)) {
+            String message = ErrorCodesManager.getErrorMessage(101, "join date range");
+            return ResponseDTO.failure(101, message, 0, null);
+        }
+        try {
+            int count = service.countEmployees(filter);
+            return ResponseDTO.success("Employees counted.", count, count);
+        } catch (ServiceException e) {
+            String message = ErrorCodesManager.getErrorMessage(109);
+            return ResponseDTO.failure(109, message, 0, null);
+        }
+    }
+
+    public ResponseDTO<CacheStats> getCacheStats() {
+        CacheStats stats = service.getCacheStats();
+        return ResponseDTO.success("Employee cache statistics fetched.", stats.getSize(), stats);
+    }
+
+    private ResponseDTO<BulkOperationResult> bulkResponse(String operation, BulkOperationResult result) {
+        int appliedCount = result.getAppliedCount();
+        if (appliedCount == 0) {
+            String message = ErrorCodesManager.getErrorMessage(108);
+            return ResponseDTO.failure(108, message, 0, result);
+        }
+        String message = operation + " completed: " + result + ".";
+        if (appliedCount < result.getItemCount()) {
+            return ResponseDTO.partialSuccess(message, appliedCount, result);
+        }
+        return ResponseDTO.success(message, appliedCount, result);
+    }
+
+    private static boolean isReversedJoinDateRange(EmployeeFilter filter) {
+        return filter != null && filter.getJoinDateFrom() != null && filter.getJoinDateTo() != null
+                && filter.getJoinDateFrom().isAfter(filter.getJoinDateTo());
+    }
+
     private ResponseDTO<String> validateEmployeeDTO(EmployeeDTO employee) {
         if (employee == null) {
             String message = ErrorCodesManager.getErrorMessage(100, "employee data");
@@ -0,0 +1,37 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.exception.DAOException;
+
+import java.util.List;
+
+/**
+ * Queues employees and writes them in batches within an {@link EmployeeWriteSession}. Every
+ * flush reports one {@link RecordProcessResult} per queued row, tagged with the CSV line number
+ * the row was queued with and its {@link WriteOutcome} under the writer's {@link WriteMode}.
+ * <p>
+ * The writer never commits; transaction boundaries stay with the session.
+ */
+public interface EmployeeBatchWriter extends AutoCloseable {
+
+    default List<RecordProcessResult> add(EmployeeDTO employee, int lineNumber) {
+        return add(employee, lineNumber, false);
+    }
+
+    /**
+     * Queues one employee. {@code existed} tells whether the ID was already in the table when
+     * the import started. Returns the results of the batch that was written if this row filled
+     * it, otherwise an empty list.
+     */
+    List<RecordProcessResult> add(EmployeeDTO employee, int lineNumber, boolean existed);
+
+    int getPendingCount();
+
+    // Writes any queued rows and returns their results.
+    List<RecordProcessResult> flush();
+
+    void close() throws DAOException;
+}
@@ -1,26 +1,51 @@
 package com.litmus7.employeemanager.dao;
 
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
 import com.litmus7.employeemanager.constant.SqlConstants;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.BulkOperationResult;
+import com.litmus7.employeemanager.dto.DepartmentTransferResult;
 import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
 import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.dto.TransferChunkStats;
 import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.exception.DuplicateEmployeeException;
+import com.litmus7.employeemanager.property.DatabaseProperties;
 import com.litmus7.employeemanager.util.DatabaseConnectionManager;
-import com.litmus7.employeemanager.util.EmployeeValidator;
+import com.litmus7.employeemanager.util.EmployeeContentHash;
+import com.litmus7.employeemanager.util.EmployeeRecordParser;
+import com.litmus7.employeemanager.util.ErrorCodesManager;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.LocalDate;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
-public class EmployeeDao {
+/** JDBC {@link EmployeeRepository} over the MySQL {@code employee} table. */
+public class EmployeeDao implements EmployeeRepository {
     
     private static final Logger logger = LogManager.getLogger(EmployeeDao.class);
 
@@ -30,19 +55,7 @@ public class EmployeeDao {
              PreparedStatement insertStatement = connection.prepareStatement(SqlConstants.INSERT_EMPLOYEE)) {
             
             logger.debug("Executing SQL: {}", SqlConstants.INSERT_EMPLOYEE);
-            insertStatement.setInt(1, employee.getEmployeeId());
-            insertStatement.setString(2, employee.getFirstName());
-            insertStatement.setString(3, employee.getLastName());
-            insertStatement.setString(4, employee.getEmail());
-            insertStatement.setString(5, employee.getPhone());
-            insertStatement.setString(6, employee.getDepartment());
-
-            if (employee.getSalary() != null) {
-                insertStatement.setDouble(7, employee.getSalary());
-            } else {
-                insertStatement.setNull(7, java.sql.Types.DOUBLE);
-            }
-            insertStatement.setDate(8, Date.valueOf(employee.getJoinDate()));
+            bindInsertParameters(insertStatement, employee);
 
             int rowsAffected = insertStatement.executeUpdate();
             logger.info("Successfully saved employee with ID: {}", employee.getEmployeeId());
@@ -50,16 +63,147 @@ public class EmployeeDao {
             return rowsAffected;
         } catch (SQLException e) {
             logger.error("Error saving employee {}: {}", employee.getEmployeeId(), e.getMessage(), e);
+            if (isDuplicatePrimaryKey(e)) {
+                throw new DuplicateEmployeeException("Duplicate entry for employee ID " + employee.getEmployeeId(), e);
+            }
             throw new DAOException("Error saving employee " + employee.getEmployeeId(), e);
         }
     }
     
+    /**
+     * Writes one employee with a single statement. For {@link WriteMode#UPSERT} the ID is looked
+     * up first on the same connection, because MySQL reports an existing row that already held the
+     * same values as 1 affected row, just like an insert; knowing the row existed turns that into
+     * UNCHANGED. INSERT and INSERT_IGNORE counts are unambiguous and need no lookup.
+     */
+    public WriteOutcome writeEmployee(EmployeeDTO employee, WriteMode mode) throws DAOException {
+        logger.trace("Entering writeEmployee() for employee ID: {} with mode {}", employee.getEmployeeId(), mode);
+        String sql = insertSql(mode);
+        try (Connection connection = DatabaseConnectionManager.getConnection()) {
+            boolean existed = mode == WriteMode.UPSERT && findExistingEmployeeIds(connection,
+                    Collections.singletonList(employee)).contains(employee.getEmployeeId());
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                logger.debug("Executing SQL: {}", sql);
+                bindInsertParameters(statement, employee);
+                WriteOutcome outcome = outcomeOf(mode, statement.executeUpdate(), existed);
+                logger.info("Wrote employee with ID {}: {}", employee.getEmployeeId(), outcome);
+                logger.trace("Exiting writeEmployee().");
+                return outcome;
+            }
+        } catch (SQLException e) {
+            logger.error("Error writing employee {}: {}", employee.getEmployeeId(), e.getMessage(), e);
+            if (isDuplicatePrimaryKey(e)) {
+                throw new DuplicateEmployeeException("Duplicate entry for employee ID " + employee.getEmployeeId(), e);
+            }
+            throw new DAOException("Error writing employee " + employee.getEmployeeId(), e);
+        }
+    }
+
+    /**
+     * Writes all employees in one JDBC batch and returns one outcome per employee, in list order.
+     * For INSERT_IGNORE and UPSERT the IDs that already exist are looked up first (one IN query
+     * per 512 IDs), so outcomes stay exact even when the driver rewrites the batch and reports
+     * no per-row counts.
+     */
+    public List<WriteOutcome> writeEmployeesInBatch(List<EmployeeDTO> employeeList, WriteMode mode) throws DAOException {
+        logger.trace("Entering writeEmployeesInBatch() for {} employees with mode {}.",
+                employeeList == null ? 0 : employeeList.size(), mode);
+        if (employeeList == null || employeeList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = insertSql(mode);
+        try (Connection connection = DatabaseConnectionManager.getConnection()) {
+            IntHashSet existingIds = mode == WriteMode.INSERT ? new IntHashSet() : findExistingEmployeeIds(connection, employeeList);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (EmployeeDTO employee : employeeList) {
+                    bindInsertParameters(statement, employee);
+                    statement.addBatch();
+                }
+                logger.debug("Executing SQL in batch: {}", sql);
+                int[] updateCounts;
+                try {
+                    updateCounts = statement.executeBatch();
+                } catch (BatchUpdateException e) {
+                    logger.error("Batch write partially failed: {}", e.getMessage(), e);
+                    updateCounts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+                }
+                List<WriteOutcome> outcomes = new ArrayList<>(employeeList.size());
+                for (int i = 0; i < employeeList.size(); i++) {
+                    // Rows past the driver's counts never ran after a failure.
+                    outcomes.add(i < updateCounts.length
+                            ? outcomeOf(mode, updateCounts[i], existingIds.contains(employeeList.get(i).getEmployeeId()))
+                            : WriteOutcome.FAILED);
+                }
+                logger.info("Batch write of {} employees completed.", employeeList.size());
+                logger.trace("Exiting writeEmployeesInBatch().");
+                return outcomes;
+            }
+        } catch (SQLException e) {
+            logger.error("Error in batch write of employees: {}", e.getMessage(), e);
+            throw new DAOException("Error in batch write of employees", e);
+        }
+    }
+
     public int[] transferEmployeesToDepartment(List<Integer> employeeIds, String newDepartment) throws DAOException {
-        logger.trace("Entering transferEmployeesToDepartment() for IDs: {}", employeeIds);
+        return transferEmployees(employeeIds, newDepartment).getUpdateCounts();
+    }
+
+    /**
+     * Moves the employees to {@code newDepartment} in one transaction. In the default SET mode
+     * (db.transfer.mode) this takes a few chunked statements instead of one per ID; the result
+     * still holds one update count per requested ID, plus how long each chunk held its locks.
+     */
+    public DepartmentTransferResult transferEmployees(List<Integer> employeeIds, String newDepartment) throws DAOException {
+        logger.trace("Entering transferEmployees() for {} IDs.", employeeIds == null ? 0 : employeeIds.size());
         if (employeeIds == null || employeeIds.isEmpty()) {
-            return new int[0];
+            return new DepartmentTransferResult(new int[0], Collections.<TransferChunkStats>emptyList());
+        }
+        if ("BATCH".equalsIgnoreCase(DatabaseProperties.getTransferMode())) {
+            return new DepartmentTransferResult(transferInBatch(employeeIds, newDepartment),
+                    Collections.<TransferChunkStats>emptyList());
         }
 
+        IntHashSet uniqueIds = new IntHashSet(employeeIds.size());
+        for (Integer employeeId : employeeIds) {
+            if (employeeId != null) {
+                uniqueIds.add(employeeId);
+            }
+        }
+        int[] sortedIds = uniqueIds.toArray();
+        Arrays.sort(sortedIds);
+
+        try (Connection connection = DatabaseConnectionManager.getConnection()) {
+            connection.setAutoCommit(false);
+            logger.info("Transaction started for set-based department transfer of {} IDs.", sortedIds.length);
+            SetBasedDepartmentTransfer transfer = new SetBasedDepartmentTransfer(connection, newDepartment);
+            try {
+                transfer.run(sortedIds);
+                connection.commit();
+                logger.info("Transaction committed successfully for department transfer.");
+            } catch (SQLException e) {
+                logger.error("Error updating departments. Attempting rollback.", e);
+                connection.rollback();
+                throw new DAOException("Error updating departments for employees. Transaction rolled back.", e);
+            }
+            List<TransferChunkStats> chunkStats = transfer.getChunkStats(System.nanoTime());
+            int[] updateCounts = new int[employeeIds.size()];
+            for (int i = 0; i < updateCounts.length; i++) {
+                Integer employeeId = employeeIds.get(i);
+                updateCounts[i] = employeeId != null && transfer.wasMoved(employeeId) ? 1 : 0;
+            }
+            DepartmentTransferResult result = new DepartmentTransferResult(updateCounts, chunkStats);
+            logger.info("Department transfer used {} chunks; longest lock hold {} ms.", chunkStats.size(),
+                    result.getMaxLockHoldNanos() / 1_000_000);
+            logger.trace("Exiting transferEmployees().");
+            return result;
+        } catch (SQLException e) {
+            logger.error("Database connection or transaction error during department transfer.", e);
+            throw new DAOException("Database connection or transaction error.", e);
+        }
+    }
+
+    private int[] transferInBatch(List<Integer> employeeIds, String newDepartment) throws DAOException {
+        logger.trace("Entering transferInBatch() for IDs: {}", employeeIds);
         try (Connection connection = DatabaseConnectionManager.getConnection()) {
             connection.setAutoCommit(false);
             logger.info("Transaction started for department transfer.");
@@ -81,7 +225,7 @@ public class EmployeeDao {
                 connection.rollback();
                 throw new DAOException("Error updating departments for employees. Transaction rolled back.", e);
             }
-            logger.trace("Exiting transferEmployeesToDepartment().");
+            logger.trace("Exiting transferInBatch().");
             return updateCounts;
         } catch (SQLException e) {
             logger.error("Database connection or transaction error during department transfer.", e);
@@ -100,20 +244,7 @@ public class EmployeeDao {
             
             for (EmployeeDTO employee : employeeList) {
                 logger.debug("Adding employee ID {} to batch.", employee.getEmployeeId());
-                preparedStatement.setInt(1, employee.getEmployeeId());
-                preparedStatement.setString(2, employee.getFirstName());
-                preparedStatement.setString(3, employee.getLastName());
-                preparedStatement.setString(4, employee.getEmail());
-                preparedStatement.setString(5, employee.getPhone());
-                preparedStatement.setString(6, employee.getDepartment());
-
-                if (employee.getSalary() != null) {
-                    preparedStatement.setDouble(7, employee.getSalary());
-                } else {
-                    preparedStatement.setNull(7, java.sql.Types.DOUBLE);
-                }
-                preparedStatement.setDate(8, Date.valueOf(employee.getJoinDate()));
-
+                bindInsertParameters(preparedStatement, employee);
                 preparedStatement.addBatch();
             }
             
@@ -144,48 +275,229 @@ public class EmployeeDao {
         }
     }
     
+    /**
+     * Streams every existing employee ID into a primitive set with a single query, so the
+     * CSV import can reject duplicates in memory instead of probing the table once per row.
+     */
+    public IntHashSet loadExistingEmployeeIds(Connection connection) throws DAOException {
+        logger.trace("Entering loadExistingEmployeeIds().");
+        IntHashSet employeeIds = new IntHashSet(1024);
+        try (PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_ALL_EMPLOYEE_IDS,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(DatabaseProperties.getStreamingFetchSize());
+            logger.debug("Executing SQL: {}", SqlConstants.FIND_ALL_EMPLOYEE_IDS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    employeeIds.add(resultSet.getInt(1));
+                }
+            }
+            logger.info("Loaded {} existing employee IDs for duplicate detection.", employeeIds.size());
+        } catch (SQLException e) {
+            logger.error("Error loading existing employee IDs: {}", e.getMessage(), e);
+            throw new DAOException("Error loading existing employee IDs", e);
+        }
+        logger.trace("Exiting loadExistingEmployeeIds().");
+        return employeeIds;
+    }
+
+    /**
+     * Streams the whole table once and returns each employee's {@link EmployeeContentHash}, keyed
+     * by ID, so a delta sync can compare a file against the table without holding the rows.
+     */
+    public IntLongHashMap loadEmployeeContentHashes(Connection connection) throws DAOException {
+        logger.trace("Entering loadEmployeeContentHashes().");
+        IntLongHashMap contentHashes = new IntLongHashMap(1024);
+        try (PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_ALL_EMPLOYEES,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(DatabaseProperties.getStreamingFetchSize());
+            logger.debug("Executing SQL: {}", SqlConstants.FIND_ALL_EMPLOYEES);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    EmployeeDTO employee = mapEmployee(resultSet);
+                    contentHashes.put(employee.getEmployeeId(), EmployeeContentHash.of(employee));
+                }
+            }
+            logger.info("Loaded content hashes for {} employees.", contentHashes.size());
+        } catch (SQLException e) {
+            logger.error("Error loading employee content hashes: {}", e.getMessage(), e);
+            throw new DAOException("Error loading employee content hashes", e);
+        }
+        logger.trace("Exiting loadEmployeeContentHashes().");
+        return contentHashes;
+    }
+
+    /**
+     * Deletes the given IDs on the caller's connection in bucketed {@code IN} chunks and returns
+     * the number of rows deleted. The caller owns commit/rollback.
+     */
+    public int deleteEmployeesByIds(Connection connection, int[] employeeIds) throws DAOException {
+        logger.trace("Entering deleteEmployeesByIds() for {} IDs.", employeeIds.length);
+        int deleted = 0;
+        Map<Integer, PreparedStatement> statements = new HashMap<>();
+        try {
+            try {
+                for (int from = 0; from < employeeIds.length; from += InListSql.maxChunkSize()) {
+                    int count = Math.min(InListSql.maxChunkSize(), employeeIds.length - from);
+                    int bucket = InListSql.bucketFor(count);
+                    PreparedStatement statement = statements.get(bucket);
+                    if (statement == null) {
+                        logger.debug("Preparing IN-list delete with {} placeholders.", bucket);
+                        statement = connection.prepareStatement(InListSql.expand(SqlConstants.DELETE_EMPLOYEES_BY_IDS, bucket));
+                        statements.put(bucket, statement);
+                    }
+                    InListSql.bind(statement, 1, employeeIds, from, count, bucket);
+                    deleted += statement.executeUpdate();
+                }
+            } finally {
+                for (PreparedStatement statement : statements.values()) {
+                    statement.close();
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Error deleting employees by ID: {}", e.getMessage(), e);
+            throw new DAOException("Error deleting employees by ID", e);
+        }
+        logger.info("Deleted {} employees.", deleted);
+        logger.trace("Exiting deleteEmployeesByIds().");
+        return deleted;
+    }
+
+    /**
+     * Fetches the employees with the given IDs, in the order the IDs were requested (each employee
+     * once). Large lists are split into bucketed {@code IN} chunks which run concurrently on
+     * separate pooled connections.
+     */
     public List<EmployeeDTO> findEmployeesByIds(List<Integer> employeeIds) throws DAOException {
-        logger.trace("Entering findEmployeesByIds() for {} IDs.", employeeIds.size());
+        logger.trace("Entering findEmployeesByIds() for {} IDs.", employeeIds == null ? 0 : employeeIds.size());
         if (employeeIds == null || employeeIds.isEmpty()) {
             return Collections.emptyList();
         }
-        
-        List<EmployeeDTO> employees = new ArrayList<>();
-        String placeholders = employeeIds.stream().map(id -> "?").collect(Collectors.joining(","));
-        String sql = SqlConstants.FIND_EMPLOYEES_BY_IDS.replace("?", placeholders);
 
-        try (Connection connection = DatabaseConnectionManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-            
-            for (int i = 0; i < employeeIds.size(); i++) {
-                statement.setInt(i + 1, employeeIds.get(i));
+        IntHashSet seen = new IntHashSet(employeeIds.size());
+        int[] uniqueIds = new int[employeeIds.size()];
+        int uniqueCount = 0;
+        for (Integer employeeId : employeeIds) {
+            if (employeeId != null && seen.add(employeeId)) {
+                uniqueIds[uniqueCount++] = employeeId;
             }
-            
-            logger.debug("Executing SQL: {}", sql);
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    Double salary = resultSet.getObject("salary", Double.class);
-                    employees.add(new EmployeeDTO(
-                        resultSet.getInt("employee_id"),
-                        resultSet.getString("first_name"),
-                        resultSet.getString("last_name"),
-                        resultSet.getString("email"),
-                        resultSet.getString("phone"),
-                        resultSet.getString("department"),
-                        salary,
-                        resultSet.getDate("join_date").toLocalDate()
-                    ));
-                }
+        }
+
+        int chunkSize = InListSql.maxChunkSize();
+        int chunkCount = (uniqueCount + chunkSize - 1) / chunkSize;
+        List<List<EmployeeDTO>> chunkResults = new ArrayList<>(Collections.nCopies(chunkCount, (List<EmployeeDTO>) null));
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch chunksDone = new CountDownLatch(chunkCount);
+        AtomicReference<Exception> helperFailure = new AtomicReference<>();
+        int workers = Math.min(chunkCount, DatabaseProperties.getInListParallelism());
+        final int idCount = uniqueCount;
+        Runnable helper = () -> {
+            try {
+                fetchInListChunks(uniqueIds, idCount, nextChunk, chunkResults, chunksDone);
+            } catch (SQLException | RuntimeException e) {
+                helperFailure.compareAndSet(null, e);
+            }
+        };
+
+        List<Future<?>> futures = new ArrayList<>(Math.max(0, workers - 1));
+        try {
+            for (int i = 1; i < workers; i++) {
+                futures.add(InListExecutorHolder.EXECUTOR.submit(helper));
             }
-            logger.info("Found {} employees for the given IDs.", employees.size());
+            // The calling thread works too. Once it runs out of chunks every chunk is claimed, so
+            // helpers still queued behind other lookups are dropped, and we wait only for the
+            // chunks that running helpers hold.
+            fetchInListChunks(uniqueIds, idCount, nextChunk, chunkResults, chunksDone);
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+            chunksDone.await();
         } catch (SQLException e) {
             logger.error("Error finding employees by IDs: {}", e.getMessage(), e);
             throw new DAOException("Error finding employees by IDs", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DAOException("Interrupted while finding employees by IDs", e);
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
         }
+        Exception failure = helperFailure.get();
+        if (failure != null) {
+            logger.error("Error finding employees by IDs: {}", failure.getMessage(), failure);
+            throw new DAOException("Error finding employees by IDs", failure);
+        }
+
+        Map<Integer, EmployeeDTO> employeesById = new HashMap<>();
+        for (List<EmployeeDTO> chunk : chunkResults) {
+            for (EmployeeDTO employee : chunk) {
+                employeesById.put(employee.getEmployeeId(), employee);
+            }
+        }
+        List<EmployeeDTO> employees = new ArrayList<>(employeesById.size());
+        for (int i = 0; i < uniqueCount; i++) {
+            EmployeeDTO employee = employeesById.get(uniqueIds[i]);
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+        logger.info("Found {} employees for the given IDs in {} chunks.", employees.size(), chunkCount);
         logger.trace("Exiting findEmployeesByIds().");
         return employees;
     }
 
+    // Claims chunks until none are left, reusing one pooled connection and one statement per bucket size.
+    // Every claimed chunk counts down chunksDone once, whether it was fetched or failed.
+    private void fetchInListChunks(int[] ids, int idCount, AtomicInteger nextChunk, List<List<EmployeeDTO>> chunkResults,
+                                   CountDownLatch chunksDone) throws SQLException {
+        int chunkSize = InListSql.maxChunkSize();
+        int chunk = nextChunk.getAndIncrement();
+        if (chunk * chunkSize >= idCount) {
+            return;
+        }
+        boolean chunkPending = true;
+        Map<Integer, PreparedStatement> statements = new HashMap<>();
+        try (Connection connection = DatabaseConnectionManager.getConnection()) {
+            try {
+                while (true) {
+                    int from = chunk * chunkSize;
+                    int count = Math.min(chunkSize, idCount - from);
+                    int bucket = InListSql.bucketFor(count);
+                    PreparedStatement statement = statements.get(bucket);
+                    if (statement == null) {
+                        String sql = InListSql.expand(SqlConstants.FIND_EMPLOYEES_BY_IDS, bucket);
+                        logger.debug("Preparing IN-list query with {} placeholders.", bucket);
+                        statement = connection.prepareStatement(sql);
+                        statements.put(bucket, statement);
+                    }
+                    InListSql.bind(statement, 1, ids, from, count, bucket);
+                    List<EmployeeDTO> employees = new ArrayList<>(count);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            employees.add(mapEmployee(resultSet));
+                        }
+                    }
+                    chunkResults.set(chunk, employees);
+                    chunkPending = false;
+                    chunksDone.countDown();
+                    chunk = nextChunk.getAndIncrement();
+                    if (chunk * chunkSize >= idCount) {
+                        break;
+                    }
+                    chunkPending = true;
+                }
+            } finally {
+                for (PreparedStatement statement : statements.values()) {
+                    statement.close();
+                }
+            }
+        } finally {
+            if (chunkPending) {
+                chunksDone.countDown();
+            }
+        }
+    }
+
     public EmployeeDTO findEmployeeById(int employeeId) throws DAOException {
         logger.trace("Entering findEmployeeById() for ID: {}", employeeId);
         try (Connection connection = DatabaseConnectionManager.getConnection();
@@ -194,18 +506,8 @@ public class EmployeeDao {
             logger.debug("Executing SQL: {}", SqlConstants.FIND_EMPLOYEE_BY_ID);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    Double salary = resultSet.getObject("salary", Double.class);
                     logger.info("Successfully found employee with ID: {}", employeeId);
-                    return new EmployeeDTO(
-                        resultSet.getInt("employee_id"),
-                        resultSet.getString("first_name"),
-                        resultSet.getString("last_name"),
-                        resultSet.getString("email"),
-                        resultSet.getString("phone"),
-                        resultSet.getString("department"),
-                        salary,
-                        resultSet.getDate("join_date").toLocalDate()
-                    );
+                    return mapEmployee(resultSet);
                 }
             }
         } catch (SQLException e) {
@@ -217,26 +519,22 @@ public class EmployeeDao {
         return null;
     }
     
-    public List<EmployeeDTO> findAllEmployees() throws DAOException {
+    /**
+     * Loads the whole table into an {@link EmployeeRecordStore}. Rows are read straight into its
+     * columns through the streaming fetch size, so no EmployeeDTO is created per row.
+     */
+    public EmployeeRecordStore findAllEmployees() throws DAOException {
         logger.trace("Entering findAllEmployees().");
-        List<EmployeeDTO> employees = new ArrayList<>();
+        EmployeeRecordStore.Builder employees = new EmployeeRecordStore.Builder();
         try (Connection connection = DatabaseConnectionManager.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_ALL_EMPLOYEES)) {
-            
+             PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_ALL_EMPLOYEES,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            statement.setFetchSize(DatabaseProperties.getStreamingFetchSize());
             logger.debug("Executing SQL: {}", SqlConstants.FIND_ALL_EMPLOYEES);
             try (ResultSet resultSet = statement.executeQuery()) {
                 while (resultSet.next()) {
-                    Double salary = resultSet.getObject("salary", Double.class);
-                    employees.add(new EmployeeDTO(
-                        resultSet.getInt("employee_id"),
-                        resultSet.getString("first_name"),
-                        resultSet.getString("last_name"),
-                        resultSet.getString("email"),
-                        resultSet.getString("phone"),
-                        resultSet.getString("department"),
-                        salary,
-                        resultSet.getDate("join_date").toLocalDate()
-                    ));
+                    addRecord(employees, resultSet);
                 }
             }
             logger.info("Found {} total employees.", employees.size());
@@ -245,6 +543,125 @@ public class EmployeeDao {
             throw new DAOException("Error finding all employees", e);
         }
         logger.trace("Exiting findAllEmployees().");
+        return employees.build();
+    }
+
+    /**
+     * Streams the whole employee table through {@code consumer} one row at a time. Rows are
+     * mapped lazily from a forward-only cursor using the streaming fetch size, so memory use
+     * does not grow with the table. Returns the number of rows delivered.
+     */
+    public int forEachEmployee(Consumer<? super EmployeeDTO> consumer) throws DAOException {
+        logger.trace("Entering forEachEmployee().");
+        int rowCount = 0;
+        try (Connection connection = DatabaseConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_ALL_EMPLOYEES,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            statement.setFetchSize(DatabaseProperties.getStreamingFetchSize());
+            logger.debug("Executing streaming SQL: {}", SqlConstants.FIND_ALL_EMPLOYEES);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(mapEmployee(resultSet));
+                    rowCount++;
+                }
+            }
+            logger.info("Streamed {} employees.", rowCount);
+        } catch (SQLException e) {
+            logger.error("Error streaming employees after {} rows: {}", rowCount, e.getMessage(), e);
+            throw new DAOException("Error streaming employees", e);
+        }
+        logger.trace("Exiting forEachEmployee().");
+        return rowCount;
+    }
+
+    /**
+     * Streams the employees with IDs from {@code fromEmployeeId} to {@code toEmployeeId} through
+     * {@code consumer}, like {@link #forEachEmployee(Consumer)}. The range is a primary-key scan,
+     * so several ranges can be read at once on separate connections.
+     */
+    public int forEachEmployeeInRange(int fromEmployeeId, int toEmployeeId, Consumer<? super EmployeeDTO> consumer)
+            throws DAOException {
+        logger.trace("Entering forEachEmployeeInRange() for IDs {} to {}.", fromEmployeeId, toEmployeeId);
+        int rowCount = 0;
+        try (Connection connection = DatabaseConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_EMPLOYEES_IN_ID_RANGE,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            statement.setFetchSize(DatabaseProperties.getStreamingFetchSize());
+            statement.setInt(1, fromEmployeeId);
+            statement.setInt(2, toEmployeeId);
+            logger.debug("Executing streaming SQL: {}", SqlConstants.FIND_EMPLOYEES_IN_ID_RANGE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    consumer.accept(mapEmployee(resultSet));
+                    rowCount++;
+                }
+            }
+            logger.info("Streamed {} employees with IDs {} to {}.", rowCount, fromEmployeeId, toEmployeeId);
+        } catch (SQLException e) {
+            logger.error("Error streaming employees {} to {} after {} rows: {}", fromEmployeeId, toEmployeeId, rowCount,
+                    e.getMessage(), e);
+            throw new DAOException("Error streaming employees " + fromEmployeeId + " to " + toEmployeeId, e);
+        }
+        logger.trace("Exiting forEachEmployeeInRange().");
+        return rowCount;
+    }
+
+    public int[] findEmployeeIdBounds() throws DAOException {
+        logger.trace("Entering findEmployeeIdBounds().");
+        try (Connection connection = DatabaseConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SqlConstants.FIND_EMPLOYEE_ID_BOUNDS)) {
+
+            logger.debug("Executing SQL: {}", SqlConstants.FIND_EMPLOYEE_ID_BOUNDS);
+            int[] bounds = null;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    int lowest = resultSet.getInt(1);
+                    // MIN over an empty table is NULL.
+                    if (!resultSet.wasNull()) {
+                        bounds = new int[] {lowest, resultSet.getInt(2)};
+                    }
+                }
+            }
+            logger.trace("Exiting findEmployeeIdBounds().");
+            return bounds;
+        } catch (SQLException e) {
+            logger.error("Error finding employee ID bounds: {}", e.getMessage(), e);
+            throw new DAOException("Error finding employee ID bounds", e);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} employees with IDs greater than {@code afterEmployeeId}, in ID
+     * order. Seeking on the primary key keeps the cost per page flat however deep the listing goes.
+     */
+    public List<EmployeeDTO> findEmployeesPage(int afterEmployeeId, int limit, EmployeeFilter filter) throws DAOException {
+        logger.trace("Entering findEmployeesPage() after ID {} with limit {} and {}.", afterEmployeeId, limit, filter);
+        StringBuilder sql = new StringBuilder(SqlConstants.FIND_EMPLOYEES_PAGE);
+        appendFilterConditions(sql, filter);
+        sql.append(SqlConstants.PAGE_ORDER_AND_LIMIT);
+
+        List<EmployeeDTO> employees = new ArrayList<>(limit);
+        try (Connection connection = DatabaseConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+
+            statement.setInt(1, afterEmployeeId);
+            int parameterIndex = bindFilterParameters(statement, 2, filter);
+            statement.setInt(parameterIndex, limit);
+
+            logger.debug("Executing SQL: {}", sql);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    employees.add(mapEmployee(resultSet));
+                }
+            }
+            logger.info("Fetched page of {} employees after ID {}.", employees.size(), afterEmployeeId);
+        } catch (SQLException e) {
+            logger.error("Error fetching employee page after ID {}: {}", afterEmployeeId, e.getMessage(), e);
+            throw new DAOException("Error fetching employee page after ID " + afterEmployeeId, e);
+        }
+        logger.trace("Exiting findEmployeesPage().");
         return employees;
     }
 
@@ -254,19 +671,7 @@ public class EmployeeDao {
              PreparedStatement updateStatement = connection.prepareStatement(SqlConstants.UPDATE_EMPLOYEE)) {
             
             logger.debug("Executing SQL: {}", SqlConstants.UPDATE_EMPLOYEE);
-            updateStatement.setString(1, employee.getFirstName());
-            updateStatement.setString(2, employee.getLastName());
-            updateStatement.setString(3, employee.getEmail());
-            updateStatement.setString(4, employee.getPhone());
-            updateStatement.setString(5, employee.getDepartment());
-
-            if (employee.getSalary() != null) {
-                updateStatement.setDouble(6, employee.getSalary());
-            } else {
-                updateStatement.setNull(6, java.sql.Types.DOUBLE);
-            }
-            updateStatement.setDate(7, Date.valueOf(employee.getJoinDate()));
-            updateStatement.setInt(8, employee.getEmployeeId());
+            bindUpdateParameters(updateStatement, employee);
 
             int rowsAffected = updateStatement.executeUpdate();
             logger.info("Updated employee with ID {}. Rows affected: {}", employee.getEmployeeId(), rowsAffected);
@@ -292,104 +697,373 @@ public class EmployeeDao {
         }
     }
 
-    public RecordProcessResult processEmployeeRecord(Connection connection, String values[], int lineNumber) throws DAOException {
-        logger.trace("Entering processEmployeeRecord() for line: {}", lineNumber);
-        Integer employeeId = null;
-        String firstName;
-        String lastName;
-        String email;
-        String phone;
-        String department;
-        Double salary;
-        LocalDate joinDateLocal;
-
-        if (values.length < 8) {
-            logger.warn("Incomplete data on line {}. Expected 8 fields, got {}.", lineNumber, values.length);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Incomplete set of data. Expected 8 fields, got " + values.length + ".");
-        }
-
-        employeeId = EmployeeValidator.validateEmployeeId(values[0], lineNumber);
-        if (employeeId == null) {
-            logger.warn("Invalid employee ID on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Invalid Employee ID. Skipping record.");
-        }
-        firstName = EmployeeValidator.validateStringField("First Name", values[1], lineNumber);
-        if (firstName == null) {
-            logger.warn("Invalid first name on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": First Name is invalid. Skipping record.");
-        }
-        lastName = EmployeeValidator.validateStringField("Last Name", values[2], lineNumber);
-        if (lastName == null) {
-            logger.warn("Invalid last name on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Last Name is invalid. Skipping record.");
-        }
-        email = EmployeeValidator.validateEmail(values[3], lineNumber);
-        if (email == null) {
-            logger.warn("Invalid email on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Email is invalid. Skipping record.");
-        }
-        phone = EmployeeValidator.validatePhoneNumber(values[4], lineNumber);
-        if (phone == null) {
-            logger.warn("Invalid phone number on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Phone is invalid. Skipping record.");
-        }
-        department = EmployeeValidator.validateStringField("Department", values[5], lineNumber);
-        if (department == null) {
-            logger.warn("Invalid department on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Department is invalid. Skipping record.");
-        }
-        salary = EmployeeValidator.validateSalary(values[6], lineNumber);
-        if (salary == null) {
-            logger.warn("Invalid salary on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Salary is invalid. Skipping record.");
-        }
-        joinDateLocal = EmployeeValidator.validateJoinDate(values[7], lineNumber);
-        if (joinDateLocal == null) {
-            logger.warn("Invalid join date on line {}. Skipping record.", lineNumber);
-            return new RecordProcessResult(false, "Line " + lineNumber + ": Join Date is invalid. Skipping record.");
-        }
-        
-        try {
-            if (isEmployeeIdExists(employeeId)) {
-                logger.warn("Duplicate employee ID {} found on line {}.", employeeId, lineNumber);
-                return new RecordProcessResult(false, "Line " + lineNumber + ": Employee with ID " + employeeId + " already exists (Duplicate).");
+    /**
+     * Updates every employee with one batched prepared statement on a single connection. With
+     * {@code commitChunkSize} 0 the whole list is one transaction; otherwise every chunk of that
+     * many employees is committed on its own. See {@link BulkOperationResult} for the per-item counts.
+     */
+    public BulkOperationResult updateEmployees(List<EmployeeDTO> employeeList, int commitChunkSize) throws DAOException {
+        logger.trace("Entering updateEmployees() for {} employees.", employeeList == null ? 0 : employeeList.size());
+        BulkOperationResult result = executeInCommitChunks(SqlConstants.UPDATE_EMPLOYEE, employeeList, commitChunkSize,
+                EmployeeDao::bindUpdateParameters);
+        logger.trace("Exiting updateEmployees().");
+        return result;
+    }
+
+    // Batched counterpart of deleteEmployee; same transaction rules as updateEmployees.
+    public BulkOperationResult deleteEmployees(List<Integer> employeeIds, int commitChunkSize) throws DAOException {
+        logger.trace("Entering deleteEmployees() for {} IDs.", employeeIds == null ? 0 : employeeIds.size());
+        BulkOperationResult result = executeInCommitChunks(SqlConstants.DELETE_EMPLOYEE, employeeIds, commitChunkSize,
+                (statement, employeeId) -> statement.setInt(1, employeeId));
+        logger.trace("Exiting deleteEmployees().");
+        return result;
+    }
+
+    /**
+     * Deletes every employee matching the filter and returns the number of rows deleted. With
+     * {@code commitChunkSize} 0 this is a single statement; otherwise rows are deleted and committed
+     * in ID order, that many at a time, so no transaction holds more than one chunk of row locks.
+     * If a chunk fails, the chunks committed before it stay deleted.
+     */
+    public int deleteEmployeesMatching(EmployeeFilter filter, int commitChunkSize) throws DAOException {
+        logger.trace("Entering deleteEmployeesMatching() with {} and commit chunk size {}.", filter, commitChunkSize);
+        StringBuilder sql = new StringBuilder(SqlConstants.DELETE_EMPLOYEES_MATCHING);
+        appendFilterConditions(sql, filter);
+        if (commitChunkSize > 0) {
+            sql.append(SqlConstants.DELETE_CHUNK_LIMIT);
+        }
+
+        int deleted = 0;
+        try (Connection connection = DatabaseConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            connection.setAutoCommit(false);
+            int parameterIndex = bindFilterParameters(statement, 1, filter);
+            if (commitChunkSize > 0) {
+                statement.setInt(parameterIndex, commitChunkSize);
             }
-        } catch (DAOException e) {
-             throw new DAOException("Database error checking for duplicate employee ID " + employeeId, e);
+            logger.debug("Executing SQL: {}", sql);
+            try {
+                int chunkDeleted;
+                do {
+                    chunkDeleted = statement.executeUpdate();
+                    connection.commit();
+                    deleted += chunkDeleted;
+                    logger.debug("Committed delete chunk of {} employees.", chunkDeleted);
+                } while (commitChunkSize > 0 && chunkDeleted == commitChunkSize);
+            } catch (SQLException e) {
+                logger.error("Error deleting employees matching {} after {} committed deletions. Attempting rollback.",
+                        filter, deleted, e);
+                connection.rollback();
+                throw new DAOException("Error deleting employees matching " + filter + "; " + deleted
+                        + " employees were already deleted in committed chunks.", e);
+            }
+        } catch (SQLException e) {
+            logger.error("Database connection or transaction error during predicate delete.", e);
+            throw new DAOException("Database connection or transaction error.", e);
         }
+        logger.info("Deleted {} employees matching {}.", deleted, filter);
+        logger.trace("Exiting deleteEmployeesMatching().");
+        return deleted;
+    }
 
-        EmployeeDTO employeeToInsert = new EmployeeDTO(
-            employeeId, firstName, lastName, email, phone, department, salary, joinDateLocal
-        );
+    /**
+     * Validates and inserts a single CSV record. {@code knownEmployeeIds} holds every ID already in the
+     * table or accepted earlier in the same file; IDs inserted here are added to it.
+     * Bulk imports should prefer {@link #openBatchWriter(Connection, int)}.
+     */
+    public RecordProcessResult processEmployeeRecord(Connection connection, String values[], int lineNumber,
+                                                     IntHashSet knownEmployeeIds) throws DAOException {
+        logger.trace("Entering processEmployeeRecord() for line: {}", lineNumber);
+        RecordProcessResult parsed = EmployeeRecordParser.parse(values, lineNumber);
+        if (!parsed.success) {
+            return parsed;
+        }
+        int employeeId = parsed.employee.getEmployeeId();
 
-        try {
-            PreparedStatement insertStatement = connection.prepareStatement(SqlConstants.INSERT_EMPLOYEE);
-            insertStatement.setInt(1, employeeToInsert.getEmployeeId());
-            insertStatement.setString(2, employeeToInsert.getFirstName());
-            insertStatement.setString(3, employeeToInsert.getLastName());
-            insertStatement.setString(4, employeeToInsert.getEmail());
-            insertStatement.setString(5, employeeToInsert.getPhone());
-            insertStatement.setString(6, employeeToInsert.getDepartment());
-            if (employeeToInsert.getSalary() != null) {
-                insertStatement.setDouble(7, employeeToInsert.getSalary());
-            } else {
-                insertStatement.setNull(7, java.sql.Types.DOUBLE);
-            }
-            insertStatement.setDate(8, Date.valueOf(employeeToInsert.getJoinDate()));
-            
+        if (knownEmployeeIds.contains(employeeId)) {
+            logger.warn("Duplicate employee ID {} found on line {}.", employeeId, lineNumber);
+            return new RecordProcessResult(ImportErrorCodes.DUPLICATE_EMPLOYEE_ID, ErrorCodesManager.getErrorMessage(
+                    ImportErrorCodes.DUPLICATE_EMPLOYEE_ID, String.valueOf(lineNumber), String.valueOf(employeeId)), lineNumber);
+        }
+
+        try (PreparedStatement insertStatement = connection.prepareStatement(SqlConstants.INSERT_EMPLOYEE)) {
+            bindInsertParameters(insertStatement, parsed.employee);
             logger.debug("Executing SQL: {} for employee ID {}.", SqlConstants.INSERT_EMPLOYEE, employeeId);
             int rowsAffected = insertStatement.executeUpdate();
 
             if (rowsAffected > 0) {
+                knownEmployeeIds.add(employeeId);
                 logger.info("Successfully inserted employee with ID {} from line {}.", employeeId, lineNumber);
-                return new RecordProcessResult(true, "Successfully imported Employee ID: " + employeeId);
+                return RecordProcessResult.written(WriteOutcome.INSERTED, employeeId, lineNumber);
             } else {
                 logger.warn("Failed to insert employee ID {} from line {}. 0 rows affected.", employeeId, lineNumber);
-                return new RecordProcessResult(false, "Line " + lineNumber + ": Failed to insert Employee ID: " + employeeId + " (0 rows affected).");
+                return new RecordProcessResult(ImportErrorCodes.NO_ROWS_AFFECTED, ErrorCodesManager.getErrorMessage(
+                        ImportErrorCodes.NO_ROWS_AFFECTED, String.valueOf(lineNumber), String.valueOf(employeeId)), lineNumber);
             }
         } catch (SQLException e) {
             logger.error("Failed to insert Employee ID {} from line {}: {}", employeeId, lineNumber, e.getMessage(), e);
             throw new DAOException("Failed to insert Employee ID: " + employeeId + " from line " + lineNumber, e);
         }
     }
-}
\ No newline at end of file
+
+    public EmployeeWriteSession openWriteSession() throws DAOException {
+        return new JdbcEmployeeWriteSession(this);
+    }
+
+    // Opens a batching insert writer on the caller's connection; the caller owns commit/rollback.
+    public EmployeeBatchWriter openBatchWriter(Connection connection, int batchSize) throws DAOException {
+        return openBatchWriter(connection, batchSize, WriteMode.INSERT);
+    }
+
+    public EmployeeBatchWriter openBatchWriter(Connection connection, int batchSize, WriteMode mode) throws DAOException {
+        return new JdbcEmployeeBatchWriter(connection, batchSize, mode);
+    }
+
+    // IDs of employeeList that are already in the table, looked up in bucketed IN chunks.
+    private IntHashSet findExistingEmployeeIds(Connection connection, List<EmployeeDTO> employeeList) throws SQLException {
+        int[] ids = new int[employeeList.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = employeeList.get(i).getEmployeeId();
+        }
+        IntHashSet existingIds = new IntHashSet(ids.length);
+        Map<Integer, PreparedStatement> statements = new HashMap<>();
+        try {
+            for (int from = 0; from < ids.length; from += InListSql.maxChunkSize()) {
+                int count = Math.min(InListSql.maxChunkSize(), ids.length - from);
+                int bucket = InListSql.bucketFor(count);
+                PreparedStatement statement = statements.get(bucket);
+                if (statement == null) {
+                    String sql = InListSql.expand(SqlConstants.FIND_EXISTING_EMPLOYEE_IDS, bucket);
+                    logger.debug("Preparing existing-ID query with {} placeholders.", bucket);
+                    statement = connection.prepareStatement(sql);
+                    statements.put(bucket, statement);
+                }
+                InListSql.bind(statement, 1, ids, from, count, bucket);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        existingIds.add(resultSet.getInt(1));
+                    }
+                }
+            }
+        } finally {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+        return existingIds;
+    }
+
+    /**
+     * Runs {@code sql} once per item as one JDBC batch per commit chunk on a single connection.
+     * A failing chunk is rolled back and ends the run; its items and all later ones stay
+     * {@link Statement#EXECUTE_FAILED}.
+     */
+    private <T> BulkOperationResult executeInCommitChunks(String sql, List<T> items, int commitChunkSize,
+                                                          StatementBinder<? super T> binder) throws DAOException {
+        if (items == null || items.isEmpty()) {
+            return new BulkOperationResult(new int[0], 0, 0);
+        }
+        int[] rowCounts = new int[items.size()];
+        Arrays.fill(rowCounts, Statement.EXECUTE_FAILED);
+        int chunkSize = commitChunkSize > 0 ? commitChunkSize : items.size();
+        int chunkCount = (items.size() + chunkSize - 1) / chunkSize;
+        int committedChunks = 0;
+
+        try (Connection connection = DatabaseConnectionManager.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            logger.debug("Executing SQL in batch: {} ({} items, {} chunks)", sql, items.size(), chunkCount);
+            for (int from = 0; from < items.size(); from += chunkSize) {
+                int to = Math.min(items.size(), from + chunkSize);
+                try {
+                    for (int i = from; i < to; i++) {
+                        binder.bind(statement, items.get(i));
+                        statement.addBatch();
+                    }
+                    int[] updateCounts = statement.executeBatch();
+                    connection.commit();
+                    System.arraycopy(updateCounts, 0, rowCounts, from, Math.min(updateCounts.length, to - from));
+                    committedChunks++;
+                } catch (SQLException e) {
+                    logger.error("Bulk chunk of items {} to {} failed. Attempting rollback.", from, to - 1, e);
+                    connection.rollback();
+                    break;
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Database connection or transaction error during bulk operation.", e);
+            throw new DAOException("Database connection or transaction error.", e);
+        }
+        BulkOperationResult result = new BulkOperationResult(rowCounts, chunkCount, committedChunks);
+        logger.info("Bulk operation finished: {}.", result);
+        return result;
+    }
+
+    /**
+     * True for MySQL's duplicate-key error (SQLState 23000, code 1062) on the primary key. The
+     * same error on any other unique key, and every other integrity error, is left to fail as is.
+     * MySQL names the key 'PRIMARY', or 'employee.PRIMARY' from 8.0.19 on.
+     */
+    static boolean isDuplicatePrimaryKey(SQLException e) {
+        String message = e.getMessage();
+        return "23000".equals(e.getSQLState()) && e.getErrorCode() == 1062
+                && message != null && message.contains("PRIMARY'");
+    }
+
+    static String insertSql(WriteMode mode) {
+        switch (mode) {
+            case INSERT_IGNORE:
+                return SqlConstants.INSERT_IGNORE_EMPLOYEE;
+            case UPSERT:
+                return SqlConstants.UPSERT_EMPLOYEE;
+            default:
+                return SqlConstants.INSERT_EMPLOYEE;
+        }
+    }
+
+    /**
+     * Maps the driver's update count for one row to its outcome. {@code existed} tells whether the
+     * ID was known to be in the table before the write; it settles the counts MySQL leaves
+     * ambiguous (found-rows reporting, and SUCCESS_NO_INFO from rewritten batches).
+     */
+    static WriteOutcome outcomeOf(WriteMode mode, int updateCount, boolean existed) {
+        if (updateCount == Statement.EXECUTE_FAILED) {
+            return WriteOutcome.FAILED;
+        }
+        boolean noInfo = updateCount == Statement.SUCCESS_NO_INFO;
+        switch (mode) {
+            case INSERT_IGNORE:
+                if (noInfo) {
+                    return existed ? WriteOutcome.SKIPPED : WriteOutcome.INSERTED;
+                }
+                return updateCount > 0 ? WriteOutcome.INSERTED : WriteOutcome.SKIPPED;
+            case UPSERT:
+                if (noInfo) {
+                    return existed ? WriteOutcome.UPDATED : WriteOutcome.INSERTED;
+                }
+                if (updateCount >= 2) {
+                    return WriteOutcome.UPDATED;
+                }
+                return updateCount == 0 || existed ? WriteOutcome.UNCHANGED : WriteOutcome.INSERTED;
+            default:
+                return noInfo || updateCount > 0 ? WriteOutcome.INSERTED : WriteOutcome.FAILED;
+        }
+    }
+
+    // Result reported for one written CSV row; FAILED means the statement affected no row.
+    static RecordProcessResult outcomeResult(WriteOutcome outcome, int employeeId, int lineNumber) {
+        if (outcome == WriteOutcome.FAILED) {
+            logger.warn("Failed to insert employee ID {} from line {}. 0 rows affected.", employeeId, lineNumber);
+            return RecordProcessResult.rejected(ImportErrorCodes.NO_ROWS_AFFECTED, lineNumber, String.valueOf(employeeId));
+        }
+        logger.debug("Wrote employee with ID {} from line {}: {}.", employeeId, lineNumber, outcome);
+        return RecordProcessResult.written(outcome, employeeId, lineNumber);
+    }
+
+    static EmployeeDTO mapEmployee(ResultSet resultSet) throws SQLException {
+        Double salary = resultSet.getObject("salary", Double.class);
+        return new EmployeeDTO(
+            resultSet.getInt("employee_id"),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name"),
+            resultSet.getString("email"),
+            resultSet.getString("phone"),
+            resultSet.getString("department"),
+            salary,
+            resultSet.getDate("join_date").toLocalDate()
+        );
+    }
+
+    static void addRecord(EmployeeRecordStore.Builder records, ResultSet resultSet) throws SQLException {
+        double salary = resultSet.getDouble("salary");
+        if (resultSet.wasNull()) {
+            salary = Double.NaN;
+        }
+        Date joinDate = resultSet.getDate("join_date");
+        records.add(
+            resultSet.getInt("employee_id"),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name"),
+            resultSet.getString("email"),
+            resultSet.getString("phone"),
+            resultSet.getString("department"),
+            salary,
+            joinDate == null ? EmployeeRecordStore.NO_JOIN_DATE : (int) joinDate.toLocalDate().toEpochDay()
+        );
+    }
+
+    static void bindInsertParameters(PreparedStatement insertStatement, EmployeeDTO employee) throws SQLException {
+        insertStatement.setInt(1, employee.getEmployeeId());
+        insertStatement.setString(2, employee.getFirstName());
+        insertStatement.setString(3, employee.getLastName());
+        insertStatement.setString(4, employee.getEmail());
+        insertStatement.setString(5, employee.getPhone());
+        insertStatement.setString(6, employee.getDepartment());
+        if (employee.getSalary() != null) {
+            insertStatement.setDouble(7, employee.getSalary());
+        } else {
+            insertStatement.setNull(7, java.sql.Types.DOUBLE);
+        }
+        insertStatement.setDate(8, Date.valueOf(employee.getJoinDate()));
+    }
+
+    static void bindUpdateParameters(PreparedStatement updateStatement, EmployeeDTO employee) throws SQLException {
+        updateStatement.setString(1, employee.getFirstName());
+        updateStatement.setString(2, employee.getLastName());
+        updateStatement.setString(3, employee.getEmail());
+        updateStatement.setString(4, employee.getPhone());
+        updateStatement.setString(5, employee.getDepartment());
+        if (employee.getSalary() != null) {
+            updateStatement.setDouble(6, employee.getSalary());
+        } else {
+            updateStatement.setNull(6, java.sql.Types.DOUBLE);
+        }
+        updateStatement.setDate(7, Date.valueOf(employee.getJoinDate()));
+        updateStatement.setInt(8, employee.getEmployeeId());
+    }
+
+    // Appends one " AND ..." condition per non-null field of the filter.
+    private static void appendFilterConditions(StringBuilder sql, EmployeeFilter filter) {
+        if (filter.getDepartment() != null) {
+            sql.append(SqlConstants.FILTER_BY_DEPARTMENT);
+        }
+        if (filter.getJoinDateFrom() != null) {
+            sql.append(SqlConstants.FILTER_JOIN_DATE_FROM);
+        }
+        if (filter.getJoinDateTo() != null) {
+            sql.append(SqlConstants.FILTER_JOIN_DATE_TO);
+        }
+    }
+
+    // Binds the conditions added by appendFilterConditions; returns the next free parameter index.
+    private static int bindFilterParameters(PreparedStatement statement, int firstIndex, EmployeeFilter filter)
+            throws SQLException {
+        int parameterIndex = firstIndex;
+        if (filter.getDepartment() != null) {
+            statement.setString(parameterIndex++, filter.getDepartment());
+        }
+        if (filter.getJoinDateFrom() != null) {
+            statement.setDate(parameterIndex++, Date.valueOf(filter.getJoinDateFrom()));
+        }
+        if (filter.getJoinDateTo() != null) {
+            statement.setDate(parameterIndex++, Date.valueOf(filter.getJoinDateTo()));
+        }
+        return parameterIndex;
+    }
+
+    // Sets the parameters of one batched statement for one item.
+    private interface StatementBinder<T> {
+        void bind(PreparedStatement statement, T item) throws SQLException;
+    }
+
+    // Created on first use, so code that never looks up large ID lists starts no threads.
+    private static final class InListExecutorHolder {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+                Math.max(1, DatabaseProperties.getInListParallelism() - 1), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-in-list-" + THREAD_NUMBER.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -0,0 +1,78 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.BulkOperationResult;
+import com.litmus7.employeemanager.dto.DepartmentTransferResult;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.exception.DAOException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Storage operations the service needs for employees. {@link EmployeeDao} keeps them in MySQL
+ * over JDBC; {@link InMemoryEmployeeRepository} keeps them in the JVM for running without a
+ * database. {@link EmployeeRepositoryFactory} picks one from {@code repository.type}.
+ * <p>
+ * Every method runs in its own transaction, except the work done through an
+ * {@link EmployeeWriteSession}.
+ */
+public interface EmployeeRepository {
+
+    // Inserts one employee; an existing ID fails with DuplicateEmployeeException.
+    int saveEmployee(EmployeeDTO employee) throws DAOException;
+
+    WriteOutcome writeEmployee(EmployeeDTO employee, WriteMode mode) throws DAOException;
+
+    // One outcome per employee, in list order.
+    List<WriteOutcome> writeEmployeesInBatch(List<EmployeeDTO> employeeList, WriteMode mode) throws DAOException;
+
+    // Inserts all employees; returns one update count per employee.
+    int[] addEmployeesInBatch(List<EmployeeDTO> employeeList) throws DAOException;
+
+    int[] transferEmployeesToDepartment(List<Integer> employeeIds, String newDepartment) throws DAOException;
+
+    DepartmentTransferResult transferEmployees(List<Integer> employeeIds, String newDepartment) throws DAOException;
+
+    boolean isEmployeeIdExists(int employeeId) throws DAOException;
+
+    // Employees with the given IDs in request order, each once; missing IDs are left out.
+    List<EmployeeDTO> findEmployeesByIds(List<Integer> employeeIds) throws DAOException;
+
+    // Null if there is no employee with that ID.
+    EmployeeDTO findEmployeeById(int employeeId) throws DAOException;
+
+    // The whole table in ID order, in compact form.
+    EmployeeRecordStore findAllEmployees() throws DAOException;
+
+    // Passes every employee to the consumer without collecting them; returns the number delivered.
+    int forEachEmployee(Consumer<? super EmployeeDTO> consumer) throws DAOException;
+
+    // Like forEachEmployee, limited to IDs from fromEmployeeId to toEmployeeId, both inclusive.
+    int forEachEmployeeInRange(int fromEmployeeId, int toEmployeeId, Consumer<? super EmployeeDTO> consumer) throws DAOException;
+
+    // Lowest and highest employee ID, or null if there are no employees.
+    int[] findEmployeeIdBounds() throws DAOException;
+
+    // Up to limit employees matching the filter with IDs greater than afterEmployeeId, in ID order.
+    List<EmployeeDTO> findEmployeesPage(int afterEmployeeId, int limit, EmployeeFilter filter) throws DAOException;
+
+    // Returns 0 if there is no employee with that ID.
+    int updateEmployee(EmployeeDTO employee) throws DAOException;
+
+    // Returns 0 if there is no employee with that ID.
+    int deleteEmployee(int employeeId) throws DAOException;
+
+    // commitChunkSize 0 applies the whole list in one transaction.
+    BulkOperationResult updateEmployees(List<EmployeeDTO> employeeList, int commitChunkSize) throws DAOException;
+
+    BulkOperationResult deleteEmployees(List<Integer> employeeIds, int commitChunkSize) throws DAOException;
+
+    int deleteEmployeesMatching(EmployeeFilter filter, int commitChunkSize) throws DAOException;
+
+    // Starts a transaction for an import or sync; the caller must close it.
+    EmployeeWriteSession openWriteSession() throws DAOException;
+}
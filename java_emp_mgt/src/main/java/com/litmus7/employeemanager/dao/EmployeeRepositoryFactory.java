@@ -0,0 +1,36 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Chooses the {@link EmployeeRepository} named by {@code repository.type}: JDBC (MySQL through
+ * {@link EmployeeDao}) or MEMORY ({@link InMemoryEmployeeRepository}). There is one in-memory
+ * store per JVM, so every service instance sees the same data.
+ */
+public final class EmployeeRepositoryFactory {
+
+    private static final Logger logger = LogManager.getLogger(EmployeeRepositoryFactory.class);
+
+    private EmployeeRepositoryFactory() {}
+
+    public static EmployeeRepository getRepository() {
+        String configured = ApplicationProperties.getRepositoryType();
+        if ("MEMORY".equalsIgnoreCase(configured)) {
+            return MemoryHolder.REPOSITORY;
+        }
+        if (!"JDBC".equalsIgnoreCase(configured)) {
+            logger.warn("Unknown repository.type '{}'. Using JDBC.", configured);
+        }
+        return new EmployeeDao();
+    }
+
+    private static final class MemoryHolder {
+        private static final InMemoryEmployeeRepository REPOSITORY = new InMemoryEmployeeRepository();
+
+        static {
+            logger.info("Employees are stored in memory; nothing is written to the database.");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+
+/**
+ * One transaction of a bulk import or sync, opened with {@link EmployeeRepository#openWriteSession()}.
+ * Nothing written through the session or its batch writers is kept until {@link #commit()};
+ * work not committed when the session is closed is rolled back. A session may commit several
+ * times, and each commit ends one chunk.
+ */
+public interface EmployeeWriteSession extends AutoCloseable {
+
+    // Every employee ID currently in the table.
+    IntHashSet loadExistingEmployeeIds() throws DAOException;
+
+    // Employee ID to EmployeeContentHash of every row currently in the table.
+    IntLongHashMap loadEmployeeContentHashes() throws DAOException;
+
+    EmployeeBatchWriter openBatchWriter(int batchSize, WriteMode mode) throws DAOException;
+
+    // Returns the number of employees deleted.
+    int deleteEmployeesByIds(int[] employeeIds) throws DAOException;
+
+    void commit() throws DAOException;
+
+    void rollback() throws DAOException;
+
+    void close() throws DAOException;
+}
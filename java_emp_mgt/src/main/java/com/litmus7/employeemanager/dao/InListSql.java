@@ -0,0 +1,75 @@
+package com.litmus7.employeemanager.dao;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Expands a single {@code IN (?)} placeholder into one of a few fixed sizes, so a query over any
+ * number of IDs only ever produces four distinct SQL strings. The driver and server can cache
+ * those, where one string per list length would be parsed again for every new length.
+ * <p>
+ * Unused slots in a bucket are filled with a repeat of the chunk's last ID, which does not change
+ * the result of an {@code IN} predicate.
+ */
+final class InListSql {
+
+    static final int[] BUCKET_SIZES = {8, 32, 128, 512};
+
+    private static final Map<String, String[]> EXPANDED_SQL = new ConcurrentHashMap<>();
+
+    private InListSql() {}
+
+    static int maxChunkSize() {
+        return BUCKET_SIZES[BUCKET_SIZES.length - 1];
+    }
+
+    // Smallest bucket that holds idCount IDs; idCount must not exceed maxChunkSize().
+    static int bucketFor(int idCount) {
+        for (int bucket : BUCKET_SIZES) {
+            if (idCount <= bucket) {
+                return bucket;
+            }
+        }
+        throw new IllegalArgumentException("IN list of " + idCount + " IDs exceeds the largest bucket " + maxChunkSize());
+    }
+
+    /** Returns {@code template} with its {@code IN (?)} placeholder widened to {@code bucket} markers. */
+    static String expand(String template, int bucket) {
+        String[] byBucket = EXPANDED_SQL.computeIfAbsent(template, key -> {
+            String[] expanded = new String[BUCKET_SIZES.length];
+            for (int i = 0; i < BUCKET_SIZES.length; i++) {
+                expanded[i] = key.replace("IN (?)", "IN (" + placeholders(BUCKET_SIZES[i]) + ")");
+            }
+            return expanded;
+        });
+        for (int i = 0; i < BUCKET_SIZES.length; i++) {
+            if (BUCKET_SIZES[i] == bucket) {
+                return byBucket[i];
+            }
+        }
+        throw new IllegalArgumentException("Not a bucket size: " + bucket);
+    }
+
+    /**
+     * Binds {@code ids[from..from+count)} starting at parameter {@code firstIndex}, padding up to
+     * {@code bucket} parameters with the last ID. Returns the next free parameter index.
+     */
+    static int bind(PreparedStatement statement, int firstIndex, int[] ids, int from, int count, int bucket)
+            throws SQLException {
+        int parameterIndex = firstIndex;
+        for (int i = 0; i < bucket; i++) {
+            statement.setInt(parameterIndex++, ids[from + Math.min(i, count - 1)]);
+        }
+        return parameterIndex;
+    }
+
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            builder.append(i == 0 ? "?" : ",?");
+        }
+        return builder.toString();
+    }
+}
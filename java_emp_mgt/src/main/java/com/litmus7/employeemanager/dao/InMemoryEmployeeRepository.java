@@ -0,0 +1,578 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.BulkOperationResult;
+import com.litmus7.employeemanager.dto.DepartmentTransferResult;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.dto.TransferChunkStats;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.exception.DuplicateEmployeeException;
+import com.litmus7.employeemanager.util.ConcurrentIntObjectMap;
+import com.litmus7.employeemanager.util.EmployeeContentHash;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link EmployeeRepository} kept entirely in the JVM, for running the service and load tests
+ * without a database. Employees live in a {@link ConcurrentIntObjectMap} keyed by ID, so lookups
+ * by ID take no store-wide lock. A department index (department to IDs) serves department
+ * filters, and a sorted ID array, rebuilt lazily after inserts or deletes, serves ordered scans
+ * and keyset pages.
+ * <p>
+ * Writes are serialized by the store's write lock. Scans and filtered queries share its read lock.
+ * Writes done through a {@link EmployeeWriteSession} become visible as they are made and are
+ * undone on rollback, so other readers can see a session's uncommitted rows.
+ */
+public class InMemoryEmployeeRepository implements EmployeeRepository {
+
+    private static final Logger logger = LogManager.getLogger(InMemoryEmployeeRepository.class);
+
+    private final ConcurrentIntObjectMap<EmployeeDTO> employees = new ConcurrentIntObjectMap<>(1024);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock.
+    private final Map<String, IntHashSet> idsByDepartment = new HashMap<>();
+    // Null after an insert or delete; rebuilt by the next reader that needs it.
+    private volatile int[] sortedIds = new int[0];
+
+    public int saveEmployee(EmployeeDTO employee) throws DAOException {
+        logger.trace("Entering saveEmployee() for employee ID: {}", employee.getEmployeeId());
+        writeEmployee(employee, WriteMode.INSERT);
+        return 1;
+    }
+
+    public WriteOutcome writeEmployee(EmployeeDTO employee, WriteMode mode) throws DAOException {
+        lock.writeLock().lock();
+        try {
+            WriteOutcome outcome = apply(employee, mode, null);
+            if (outcome == WriteOutcome.FAILED) {
+                throw duplicate(employee.getEmployeeId());
+            }
+            logger.debug("Wrote employee with ID {} in memory: {}", employee.getEmployeeId(), outcome);
+            return outcome;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Under INSERT, an existing ID fails only its own row, like a batch that continues after an error.
+    public List<WriteOutcome> writeEmployeesInBatch(List<EmployeeDTO> employeeList, WriteMode mode) throws DAOException {
+        if (employeeList == null || employeeList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<WriteOutcome> outcomes = new ArrayList<>(employeeList.size());
+        lock.writeLock().lock();
+        try {
+            for (EmployeeDTO employee : employeeList) {
+                outcomes.add(apply(employee, mode, null));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("In-memory batch write of {} employees completed.", employeeList.size());
+        return outcomes;
+    }
+
+    // Rows with new IDs are kept even if others are duplicates; the duplicates then fail the call.
+    public int[] addEmployeesInBatch(List<EmployeeDTO> employeeList) throws DAOException {
+        if (employeeList == null || employeeList.isEmpty()) {
+            return new int[0];
+        }
+        int[] results = new int[employeeList.size()];
+        int firstDuplicate = -1;
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < results.length; i++) {
+                boolean inserted = apply(employeeList.get(i), WriteMode.INSERT, null) == WriteOutcome.INSERTED;
+                results[i] = inserted ? 1 : Statement.EXECUTE_FAILED;
+                if (!inserted && firstDuplicate < 0) {
+                    firstDuplicate = employeeList.get(i).getEmployeeId();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (firstDuplicate >= 0) {
+            throw duplicate(firstDuplicate);
+        }
+        return results;
+    }
+
+    public int[] transferEmployeesToDepartment(List<Integer> employeeIds, String newDepartment) throws DAOException {
+        return transferEmployees(employeeIds, newDepartment).getUpdateCounts();
+    }
+
+    public DepartmentTransferResult transferEmployees(List<Integer> employeeIds, String newDepartment) throws DAOException {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return new DepartmentTransferResult(new int[0], Collections.<TransferChunkStats>emptyList());
+        }
+        int[] updateCounts = new int[employeeIds.size()];
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < updateCounts.length; i++) {
+                Integer employeeId = employeeIds.get(i);
+                EmployeeDTO current = employeeId != null ? employees.get(employeeId) : null;
+                if (current != null) {
+                    store(withDepartment(current, newDepartment), null);
+                    updateCounts[i] = 1;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Transferred employees to department {} in memory.", newDepartment);
+        return new DepartmentTransferResult(updateCounts, Collections.<TransferChunkStats>emptyList());
+    }
+
+    public boolean isEmployeeIdExists(int employeeId) {
+        return employees.containsKey(employeeId);
+    }
+
+    public List<EmployeeDTO> findEmployeesByIds(List<Integer> employeeIds) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        IntHashSet seen = new IntHashSet(employeeIds.size());
+        List<EmployeeDTO> found = new ArrayList<>(employeeIds.size());
+        for (Integer employeeId : employeeIds) {
+            if (employeeId != null && seen.add(employeeId)) {
+                EmployeeDTO employee = employees.get(employeeId);
+                if (employee != null) {
+                    found.add(employee);
+                }
+            }
+        }
+        return found;
+    }
+
+    public EmployeeDTO findEmployeeById(int employeeId) {
+        return employees.get(employeeId);
+    }
+
+    public EmployeeRecordStore findAllEmployees() {
+        EmployeeRecordStore.Builder all = new EmployeeRecordStore.Builder(employees.size());
+        forEachEmployee(all::add);
+        return all.build();
+    }
+
+    // Walks a snapshot of the IDs without holding the lock, so the consumer may call back into the repository.
+    public int forEachEmployee(Consumer<? super EmployeeDTO> consumer) {
+        int rowCount = 0;
+        for (int employeeId : sortedIdSnapshot()) {
+            EmployeeDTO employee = employees.get(employeeId);
+            if (employee != null) {
+                consumer.accept(employee);
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    public int forEachEmployeeInRange(int fromEmployeeId, int toEmployeeId, Consumer<? super EmployeeDTO> consumer) {
+        int[] ids = sortedIdSnapshot();
+        int index = Arrays.binarySearch(ids, fromEmployeeId);
+        int rowCount = 0;
+        for (index = index >= 0 ? index : -index - 1; index < ids.length && ids[index] <= toEmployeeId; index++) {
+            EmployeeDTO employee = employees.get(ids[index]);
+            if (employee != null) {
+                consumer.accept(employee);
+                rowCount++;
+            }
+        }
+        return rowCount;
+    }
+
+    public int[] findEmployeeIdBounds() {
+        int[] ids = sortedIdSnapshot();
+        return ids.length == 0 ? null : new int[] {ids[0], ids[ids.length - 1]};
+    }
+
+    public List<EmployeeDTO> findEmployeesPage(int afterEmployeeId, int limit, EmployeeFilter filter) {
+        List<EmployeeDTO> page = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            int[] ids = candidateIds(filter);
+            int index = Arrays.binarySearch(ids, afterEmployeeId);
+            for (index = index >= 0 ? index + 1 : -index - 1; index < ids.length && page.size() < limit; index++) {
+                EmployeeDTO employee = employees.get(ids[index]);
+                if (employee != null && filter.matches(employee)) {
+                    page.add(employee);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return page;
+    }
+
+    public int updateEmployee(EmployeeDTO employee) {
+        lock.writeLock().lock();
+        try {
+            return replaceIfPresent(employee, null) ? 1 : 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int deleteEmployee(int employeeId) {
+        lock.writeLock().lock();
+        try {
+            return delete(employeeId, null) ? 1 : 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Applied atomically; commitChunkSize only shapes the reported chunk counts.
+    public BulkOperationResult updateEmployees(List<EmployeeDTO> employeeList, int commitChunkSize) {
+        if (employeeList == null || employeeList.isEmpty()) {
+            return new BulkOperationResult(new int[0], 0, 0);
+        }
+        int[] rowCounts = new int[employeeList.size()];
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < rowCounts.length; i++) {
+                rowCounts[i] = replaceIfPresent(employeeList.get(i), null) ? 1 : 0;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        int chunkCount = chunkCount(rowCounts.length, commitChunkSize);
+        return new BulkOperationResult(rowCounts, chunkCount, chunkCount);
+    }
+
+    public BulkOperationResult deleteEmployees(List<Integer> employeeIds, int commitChunkSize) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return new BulkOperationResult(new int[0], 0, 0);
+        }
+        int[] rowCounts = new int[employeeIds.size()];
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < rowCounts.length; i++) {
+                rowCounts[i] = delete(employeeIds.get(i), null) ? 1 : 0;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        int chunkCount = chunkCount(rowCounts.length, commitChunkSize);
+        return new BulkOperationResult(rowCounts, chunkCount, chunkCount);
+    }
+
+    public int deleteEmployeesMatching(EmployeeFilter filter, int commitChunkSize) {
+        int deleted = 0;
+        lock.writeLock().lock();
+        try {
+            for (int employeeId : candidateIds(filter)) {
+                EmployeeDTO employee = employees.get(employeeId);
+                if (employee != null && filter.matches(employee) && delete(employeeId, null)) {
+                    deleted++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Deleted {} employees matching {} in memory.", deleted, filter);
+        return deleted;
+    }
+
+    public EmployeeWriteSession openWriteSession() {
+        return new MemoryWriteSession();
+    }
+
+    // Number of employees currently stored.
+    public int size() {
+        return employees.size();
+    }
+
+    // Caller holds the write lock. FAILED means INSERT hit an existing ID.
+    private WriteOutcome apply(EmployeeDTO employee, WriteMode mode, List<UndoEntry> undoLog) {
+        EmployeeDTO current = employees.get(employee.getEmployeeId());
+        if (current == null) {
+            store(employee, undoLog);
+            return WriteOutcome.INSERTED;
+        }
+        switch (mode) {
+            case INSERT:
+                return WriteOutcome.FAILED;
+            case INSERT_IGNORE:
+                return WriteOutcome.SKIPPED;
+            default:
+                if (sameContent(current, employee)) {
+                    return WriteOutcome.UNCHANGED;
+                }
+                store(employee, undoLog);
+                return WriteOutcome.UPDATED;
+        }
+    }
+
+    private boolean replaceIfPresent(EmployeeDTO employee, List<UndoEntry> undoLog) {
+        if (!employees.containsKey(employee.getEmployeeId())) {
+            return false;
+        }
+        store(employee, undoLog);
+        return true;
+    }
+
+    // Caller holds the write lock.
+    private void store(EmployeeDTO employee, List<UndoEntry> undoLog) {
+        int employeeId = employee.getEmployeeId();
+        EmployeeDTO previous = employees.put(employeeId, employee);
+        if (previous == null) {
+            sortedIds = null;
+        } else {
+            unindex(previous);
+        }
+        index(employee);
+        if (undoLog != null) {
+            undoLog.add(new UndoEntry(employeeId, previous));
+        }
+    }
+
+    // Caller holds the write lock.
+    private boolean delete(int employeeId, List<UndoEntry> undoLog) {
+        EmployeeDTO previous = employees.remove(employeeId);
+        if (previous == null) {
+            return false;
+        }
+        sortedIds = null;
+        unindex(previous);
+        if (undoLog != null) {
+            undoLog.add(new UndoEntry(employeeId, previous));
+        }
+        return true;
+    }
+
+    private void index(EmployeeDTO employee) {
+        if (employee.getDepartment() != null) {
+            idsByDepartment.computeIfAbsent(employee.getDepartment(), key -> new IntHashSet()).add(employee.getEmployeeId());
+        }
+    }
+
+    private void unindex(EmployeeDTO employee) {
+        IntHashSet ids = employee.getDepartment() != null ? idsByDepartment.get(employee.getDepartment()) : null;
+        if (ids != null) {
+            ids.remove(employee.getEmployeeId());
+            if (ids.isEmpty()) {
+                idsByDepartment.remove(employee.getDepartment());
+            }
+        }
+    }
+
+    // Sorted IDs a filter can match; narrowed through the department index when the filter has one. Caller holds a lock.
+    private int[] candidateIds(EmployeeFilter filter) {
+        if (filter == null || filter.getDepartment() == null) {
+            return sortedIdSnapshot();
+        }
+        IntHashSet ids = idsByDepartment.get(filter.getDepartment());
+        if (ids == null) {
+            return new int[0];
+        }
+        int[] candidates = ids.toArray();
+        Arrays.sort(candidates);
+        return candidates;
+    }
+
+    private int[] sortedIdSnapshot() {
+        int[] snapshot = sortedIds;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        lock.readLock().lock();
+        try {
+            snapshot = sortedIds;
+            if (snapshot == null) {
+                // Writers are excluded here, so concurrent readers can only compute the same array.
+                IntHashSet ids = new IntHashSet(employees.size());
+                employees.forEachKey(ids::add);
+                snapshot = ids.toArray();
+                Arrays.sort(snapshot);
+                sortedIds = snapshot;
+            }
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean sameContent(EmployeeDTO a, EmployeeDTO b) {
+        return Objects.equals(a.getFirstName(), b.getFirstName())
+               && Objects.equals(a.getLastName(), b.getLastName())
+               && Objects.equals(a.getEmail(), b.getEmail())
+               && Objects.equals(a.getPhone(), b.getPhone())
+               && Objects.equals(a.getDepartment(), b.getDepartment())
+               && Objects.equals(a.getSalary(), b.getSalary())
+               && Objects.equals(a.getJoinDate(), b.getJoinDate());
+    }
+
+    private static EmployeeDTO withDepartment(EmployeeDTO employee, String department) {
+        return new EmployeeDTO(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhone(), department, employee.getSalary(), employee.getJoinDate());
+    }
+
+    private static int chunkCount(int itemCount, int commitChunkSize) {
+        return commitChunkSize > 0 ? (itemCount + commitChunkSize - 1) / commitChunkSize : 1;
+    }
+
+    private static DAOException duplicate(int employeeId) {
+        logger.error("Duplicate entry for employee ID {}.", employeeId);
+        return new DuplicateEmployeeException("Duplicate entry for employee ID " + employeeId);
+    }
+
+    // Previous state of one row; previous is null when the row did not exist.
+    private static final class UndoEntry {
+        final int employeeId;
+        final EmployeeDTO previous;
+
+        UndoEntry(int employeeId, EmployeeDTO previous) {
+            this.employeeId = employeeId;
+            this.previous = previous;
+        }
+    }
+
+    /** Applies writes right away and keeps an undo log since the last commit for rollback. */
+    private final class MemoryWriteSession implements EmployeeWriteSession {
+        private final List<UndoEntry> undoLog = new ArrayList<>();
+        private boolean closed;
+
+        public IntHashSet loadExistingEmployeeIds() {
+            int[] ids = sortedIdSnapshot();
+            IntHashSet existing = new IntHashSet(ids.length);
+            for (int employeeId : ids) {
+                existing.add(employeeId);
+            }
+            return existing;
+        }
+
+        public IntLongHashMap loadEmployeeContentHashes() {
+            IntLongHashMap contentHashes = new IntLongHashMap(employees.size());
+            forEachEmployee(employee -> contentHashes.put(employee.getEmployeeId(), EmployeeContentHash.of(employee)));
+            return contentHashes;
+        }
+
+        public EmployeeBatchWriter openBatchWriter(int batchSize, WriteMode mode) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            return new MemoryBatchWriter(this, batchSize, mode);
+        }
+
+        public int deleteEmployeesByIds(int[] employeeIds) {
+            int deleted = 0;
+            lock.writeLock().lock();
+            try {
+                for (int employeeId : employeeIds) {
+                    if (delete(employeeId, undoLog)) {
+                        deleted++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return deleted;
+        }
+
+        public void commit() {
+            undoLog.clear();
+        }
+
+        public void rollback() {
+            lock.writeLock().lock();
+            try {
+                for (int i = undoLog.size() - 1; i >= 0; i--) {
+                    UndoEntry entry = undoLog.get(i);
+                    if (entry.previous == null) {
+                        delete(entry.employeeId, null);
+                    } else {
+                        store(entry.previous, null);
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.info("Rolled back {} in-memory writes.", undoLog.size());
+            undoLog.clear();
+        }
+
+        public void close() {
+            if (!closed) {
+                closed = true;
+                if (!undoLog.isEmpty()) {
+                    rollback();
+                }
+            }
+        }
+
+        void write(List<EmployeeDTO> batch, int[] lineNumbers, WriteMode mode, List<RecordProcessResult> results) {
+            lock.writeLock().lock();
+            try {
+                for (int i = 0; i < batch.size(); i++) {
+                    EmployeeDTO employee = batch.get(i);
+                    WriteOutcome outcome = apply(employee, mode, undoLog);
+                    results.add(outcome == WriteOutcome.FAILED
+                            ? RecordProcessResult.rejected(ImportErrorCodes.INSERT_FAILED,
+                                    lineNumbers[i], "Duplicate entry for employee ID " + employee.getEmployeeId())
+                            : EmployeeDao.outcomeResult(outcome, employee.getEmployeeId(), lineNumbers[i]));
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static final class MemoryBatchWriter implements EmployeeBatchWriter {
+        private final MemoryWriteSession session;
+        private final int batchSize;
+        private final WriteMode mode;
+        private final List<EmployeeDTO> pending;
+        private final int[] pendingLineNumbers;
+
+        MemoryBatchWriter(MemoryWriteSession session, int batchSize, WriteMode mode) {
+            this.session = session;
+            this.batchSize = batchSize;
+            this.mode = mode;
+            this.pending = new ArrayList<>(batchSize);
+            this.pendingLineNumbers = new int[batchSize];
+        }
+
+        public List<RecordProcessResult> add(EmployeeDTO employee, int lineNumber, boolean existed) {
+            pendingLineNumbers[pending.size()] = lineNumber;
+            pending.add(employee);
+            return pending.size() >= batchSize ? flush() : Collections.<RecordProcessResult>emptyList();
+        }
+
+        public int getPendingCount() {
+            return pending.size();
+        }
+
+        public List<RecordProcessResult> flush() {
+            if (pending.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<RecordProcessResult> results = new ArrayList<>(pending.size());
+            session.write(pending, pendingLineNumbers, mode, results);
+            pending.clear();
+            return results;
+        }
+
+        public void close() {
+            // Nothing is held outside the session.
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.exception.DAOException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC {@link EmployeeBatchWriter} over one reused prepared statement. {@link #add} sends the
+ * queued rows with {@code executeBatch} as soon as {@code batchSize} of them are pending.
+ * <p>
+ * The connection belongs to the caller: the writer never commits, rolls back or closes it.
+ * {@link #close()} only closes the statement, dropping any rows that were never flushed; undoing
+ * rows that were flushed is left to the caller's rollback.
+ */
+final class JdbcEmployeeBatchWriter implements EmployeeBatchWriter {
+
+    private static final Logger logger = LogManager.getLogger(JdbcEmployeeBatchWriter.class);
+
+    private final PreparedStatement insertStatement;
+    private final WriteMode mode;
+    private final int batchSize;
+    private final int[] pendingEmployeeIds;
+    private final int[] pendingLineNumbers;
+    private final boolean[] pendingExisted;
+    private int pendingCount;
+
+    JdbcEmployeeBatchWriter(Connection connection, int batchSize, WriteMode mode) throws DAOException {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.mode = mode;
+        try {
+            this.insertStatement = connection.prepareStatement(EmployeeDao.insertSql(mode));
+        } catch (SQLException e) {
+            logger.error("Error preparing batch insert statement: {}", e.getMessage(), e);
+            throw new DAOException("Error preparing batch insert statement", e);
+        }
+        this.batchSize = batchSize;
+        this.pendingEmployeeIds = new int[batchSize];
+        this.pendingLineNumbers = new int[batchSize];
+        this.pendingExisted = new boolean[batchSize];
+    }
+
+    // existed decides the outcome when the driver reports no per-row count.
+    public List<RecordProcessResult> add(EmployeeDTO employee, int lineNumber, boolean existed) {
+        try {
+            EmployeeDao.bindInsertParameters(insertStatement, employee);
+            insertStatement.addBatch();
+        } catch (SQLException e) {
+            logger.error("Failed to queue Employee ID {} from line {}: {}", employee.getEmployeeId(), lineNumber, e.getMessage(), e);
+            return Collections.singletonList(insertFailure(lineNumber, e.getMessage()));
+        }
+        pendingEmployeeIds[pendingCount] = employee.getEmployeeId();
+        pendingLineNumbers[pendingCount] = lineNumber;
+        pendingExisted[pendingCount] = existed;
+        pendingCount++;
+        return pendingCount >= batchSize ? flush() : Collections.<RecordProcessResult>emptyList();
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    // Maps the driver's update counts back to the CSV lines the rows were queued with.
+    public List<RecordProcessResult> flush() {
+        if (pendingCount == 0) {
+            return Collections.emptyList();
+        }
+        List<RecordProcessResult> results = new ArrayList<>(pendingCount);
+        try {
+            logger.debug("Executing batch {} for {} employees.", mode, pendingCount);
+            int[] updateCounts = insertStatement.executeBatch();
+            mapUpdateCounts(updateCounts, null, results);
+        } catch (BatchUpdateException e) {
+            logger.error("Batch insert partially failed: {}", e.getMessage(), e);
+            int[] updateCounts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+            mapUpdateCounts(updateCounts, e, results);
+        } catch (SQLException e) {
+            logger.error("Batch insert failed: {}", e.getMessage(), e);
+            for (int i = 0; i < pendingCount; i++) {
+                results.add(insertFailure(pendingLineNumbers[i], e.getMessage()));
+            }
+            clearQuietly();
+        }
+        pendingCount = 0;
+        return results;
+    }
+
+    public void close() throws DAOException {
+        try {
+            insertStatement.close();
+        } catch (SQLException e) {
+            throw new DAOException("Error closing batch insert statement", e);
+        }
+    }
+
+    private void mapUpdateCounts(int[] updateCounts, BatchUpdateException failure, List<RecordProcessResult> results) {
+        for (int i = 0; i < pendingCount; i++) {
+            int employeeId = pendingEmployeeIds[i];
+            int lineNumber = pendingLineNumbers[i];
+            if (i >= updateCounts.length) {
+                // The driver stopped at the first failing row; the rest of the batch never ran.
+                String reason = i == updateCounts.length && failure != null ? failure.getMessage() : "not executed after an earlier failure in the batch";
+                results.add(insertFailure(lineNumber, reason));
+            } else if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                String reason = failure != null ? failure.getMessage() : "statement failed";
+                results.add(insertFailure(lineNumber, reason));
+            } else {
+                // SUCCESS_NO_INFO is what rewritten multi-row inserts report for each row.
+                WriteOutcome outcome = EmployeeDao.outcomeOf(mode, updateCounts[i], pendingExisted[i]);
+                results.add(EmployeeDao.outcomeResult(outcome, employeeId, lineNumber));
+            }
+        }
+    }
+
+    private static RecordProcessResult insertFailure(int lineNumber, String reason) {
+        return RecordProcessResult.rejected(ImportErrorCodes.INSERT_FAILED, lineNumber, reason);
+    }
+
+    private void clearQuietly() {
+        try {
+            insertStatement.clearBatch();
+        } catch (SQLException e) {
+            logger.debug("Error clearing batch: {}", e.getMessage());
+        }
+    }
+}
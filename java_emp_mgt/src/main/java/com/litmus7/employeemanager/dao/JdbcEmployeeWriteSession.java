@@ -0,0 +1,91 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.DatabaseConnectionManager;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * {@link EmployeeWriteSession} over one pooled connection with auto-commit off. Closing hands
+ * the connection back to the pool, which rolls back anything left uncommitted.
+ */
+final class JdbcEmployeeWriteSession implements EmployeeWriteSession {
+
+    private static final Logger logger = LogManager.getLogger(JdbcEmployeeWriteSession.class);
+
+    private final EmployeeDao employeeDao;
+    private final Connection connection;
+
+    JdbcEmployeeWriteSession(EmployeeDao employeeDao) throws DAOException {
+        this.employeeDao = employeeDao;
+        try {
+            this.connection = DatabaseConnectionManager.getConnection();
+        } catch (SQLException e) {
+            logger.error("Error opening a write session: {}", e.getMessage(), e);
+            throw new DAOException("Error opening a write session", e);
+        }
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            closeQuietly();
+            logger.error("Error starting a transaction: {}", e.getMessage(), e);
+            throw new DAOException("Error starting a transaction", e);
+        }
+    }
+
+    public IntHashSet loadExistingEmployeeIds() throws DAOException {
+        return employeeDao.loadExistingEmployeeIds(connection);
+    }
+
+    public IntLongHashMap loadEmployeeContentHashes() throws DAOException {
+        return employeeDao.loadEmployeeContentHashes(connection);
+    }
+
+    public EmployeeBatchWriter openBatchWriter(int batchSize, WriteMode mode) throws DAOException {
+        return employeeDao.openBatchWriter(connection, batchSize, mode);
+    }
+
+    public int deleteEmployeesByIds(int[] employeeIds) throws DAOException {
+        return employeeDao.deleteEmployeesByIds(connection, employeeIds);
+    }
+
+    public void commit() throws DAOException {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            logger.error("Error committing transaction: {}", e.getMessage(), e);
+            throw new DAOException("Error committing transaction", e);
+        }
+    }
+
+    public void rollback() throws DAOException {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            logger.error("Error rolling back transaction: {}", e.getMessage(), e);
+            throw new DAOException("Error rolling back transaction", e);
+        }
+    }
+
+    public void close() throws DAOException {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new DAOException("Error closing write session connection", e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.SqlConstants;
+import com.litmus7.employeemanager.dto.TransferChunkStats;
+import com.litmus7.employeemanager.property.DatabaseProperties;
+import com.litmus7.employeemanager.util.IntHashSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves a set of employees to a new department with a few set-based statements instead of one
+ * UPDATE per ID. Each chunk first locks its rows with {@code SELECT ... FOR UPDATE}, which also
+ * tells which IDs exist, so per-ID update counts can be rebuilt afterwards; then one UPDATE moves
+ * the whole chunk. IDs are processed in ascending order so concurrent transfers lock rows in the
+ * same order. Very large sets are loaded into a temporary table and handled as a single join.
+ * <p>
+ * Runs inside the caller's transaction and never commits.
+ */
+final class SetBasedDepartmentTransfer {
+
+    private static final Logger logger = LogManager.getLogger(SetBasedDepartmentTransfer.class);
+
+    private final Connection connection;
+    private final String newDepartment;
+    private final IntHashSet movedIds = new IntHashSet();
+    // Per chunk: ID count, rows matched, start, locks granted, update finished (System.nanoTime()).
+    private final List<long[]> chunkTimings = new ArrayList<>();
+
+    SetBasedDepartmentTransfer(Connection connection, String newDepartment) {
+        this.connection = connection;
+        this.newDepartment = newDepartment;
+    }
+
+    // sortedIds must be distinct and in ascending order.
+    void run(int[] sortedIds) throws SQLException {
+        if (sortedIds.length >= DatabaseProperties.getTransferTempTableThreshold()) {
+            runWithTemporaryTable(sortedIds);
+        } else {
+            runWithInLists(sortedIds);
+        }
+    }
+
+    boolean wasMoved(int employeeId) {
+        return movedIds.contains(employeeId);
+    }
+
+    /** Builds the chunk stats once the transaction has ended at {@code transactionEndNanos}. */
+    List<TransferChunkStats> getChunkStats(long transactionEndNanos) {
+        List<TransferChunkStats> stats = new ArrayList<>(chunkTimings.size());
+        for (long[] timing : chunkTimings) {
+            stats.add(new TransferChunkStats((int) timing[0], (int) timing[1], timing[3] - timing[2],
+                    timing[4] - timing[3], transactionEndNanos - timing[3]));
+        }
+        return stats;
+    }
+
+    private void runWithInLists(int[] sortedIds) throws SQLException {
+        Map<Integer, PreparedStatement> lockStatements = new HashMap<>();
+        Map<Integer, PreparedStatement> updateStatements = new HashMap<>();
+        try {
+            for (int from = 0; from < sortedIds.length; from += InListSql.maxChunkSize()) {
+                int count = Math.min(InListSql.maxChunkSize(), sortedIds.length - from);
+                int bucket = InListSql.bucketFor(count);
+                PreparedStatement lockStatement = prepare(lockStatements, SqlConstants.LOCK_EMPLOYEES_BY_IDS, bucket);
+                PreparedStatement updateStatement = prepare(updateStatements, SqlConstants.UPDATE_DEPARTMENT_BY_IDS, bucket);
+
+                long start = System.nanoTime();
+                InListSql.bind(lockStatement, 1, sortedIds, from, count, bucket);
+                int found = collectMovedIds(lockStatement);
+                long locked = System.nanoTime();
+                updateStatement.setString(1, newDepartment);
+                InListSql.bind(updateStatement, 2, sortedIds, from, count, bucket);
+                int matched = updateStatement.executeUpdate();
+                recordChunk(count, found, matched, start, locked, System.nanoTime());
+            }
+        } finally {
+            closeAll(lockStatements);
+            closeAll(updateStatements);
+        }
+    }
+
+    private void runWithTemporaryTable(int[] sortedIds) throws SQLException {
+        logger.debug("Loading {} IDs into a temporary table for the department transfer.", sortedIds.length);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SqlConstants.CREATE_TRANSFER_ID_TABLE);
+            statement.executeUpdate(SqlConstants.CLEAR_TRANSFER_ID_TABLE);
+        }
+        try {
+            int batchSize = DatabaseProperties.getBatchSize();
+            try (PreparedStatement insertStatement = connection.prepareStatement(SqlConstants.INSERT_TRANSFER_ID)) {
+                for (int i = 0; i < sortedIds.length; i++) {
+                    insertStatement.setInt(1, sortedIds[i]);
+                    insertStatement.addBatch();
+                    if ((i + 1) % batchSize == 0) {
+                        insertStatement.executeBatch();
+                    }
+                }
+                insertStatement.executeBatch();
+            }
+
+            long start = System.nanoTime();
+            int found;
+            try (PreparedStatement lockStatement = connection.prepareStatement(SqlConstants.LOCK_EMPLOYEES_IN_TRANSFER_TABLE)) {
+                logger.debug("Executing SQL: {}", SqlConstants.LOCK_EMPLOYEES_IN_TRANSFER_TABLE);
+                found = collectMovedIds(lockStatement);
+            }
+            long locked = System.nanoTime();
+            int matched;
+            try (PreparedStatement updateStatement = connection.prepareStatement(SqlConstants.UPDATE_DEPARTMENT_FROM_TRANSFER_TABLE)) {
+                logger.debug("Executing SQL: {}", SqlConstants.UPDATE_DEPARTMENT_FROM_TRANSFER_TABLE);
+                updateStatement.setString(1, newDepartment);
+                matched = updateStatement.executeUpdate();
+            }
+            recordChunk(sortedIds.length, found, matched, start, locked, System.nanoTime());
+        } finally {
+            // Temporary tables live as long as the pooled session, so drop it right away.
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SqlConstants.DROP_TRANSFER_ID_TABLE);
+            }
+        }
+    }
+
+    private int collectMovedIds(PreparedStatement lockStatement) throws SQLException {
+        int found = 0;
+        try (ResultSet resultSet = lockStatement.executeQuery()) {
+            while (resultSet.next()) {
+                movedIds.add(resultSet.getInt(1));
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private void recordChunk(int idCount, int found, int matched, long start, long locked, long end) {
+        if (matched != found) {
+            // Found-rows counting reports every matched row, so this only happens with affected-row counting.
+            logger.warn("Department transfer chunk locked {} rows but the update reported {}.", found, matched);
+        }
+        chunkTimings.add(new long[] {idCount, found, start, locked, end});
+        logger.debug("Department transfer chunk of {} IDs: {} rows, lock wait {} us, update {} us.",
+                idCount, found, (locked - start) / 1000, (end - locked) / 1000);
+    }
+
+    private PreparedStatement prepare(Map<Integer, PreparedStatement> statements, String template, int bucket)
+            throws SQLException {
+        PreparedStatement statement = statements.get(bucket);
+        if (statement == null) {
+            logger.debug("Preparing SQL with {} placeholders: {}", bucket, template);
+            statement = connection.prepareStatement(InListSql.expand(template, bucket));
+            statements.put(bucket, statement);
+        }
+        return statement;
+    }
+
+    private static void closeAll(Map<Integer, PreparedStatement> statements) throws SQLException {
+        for (PreparedStatement statement : statements.values()) {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.litmus7.employeemanager.dto;
+
+import java.sql.Statement;
+
+/**
+ * Outcome of a bulk update or delete: one row count per requested item, in request order. A
+ * count of 1 means the employee was changed, 0 that no employee had that ID, and
+ * {@link Statement#EXECUTE_FAILED} that the item was rolled back or never ran because its commit
+ * chunk failed. {@link Statement#SUCCESS_NO_INFO} is passed through when the driver reports no
+ * per-row count and is counted as applied.
+ * <p>
+ * With chunked commits the chunks before a failing one stay committed; the failing chunk and
+ * every chunk after it are reported as failed.
+ */
+public class BulkOperationResult {
+    private final int[] rowCounts;
+    private final int chunkCount;
+    private final int committedChunkCount;
+
+    public BulkOperationResult(int[] rowCounts, int chunkCount, int committedChunkCount) {
+        this.rowCounts = rowCounts;
+        this.chunkCount = chunkCount;
+        this.committedChunkCount = committedChunkCount;
+    }
+
+    public int[] getRowCounts() {
+        return rowCounts.clone();
+    }
+
+    public int getItemCount() {
+        return rowCounts.length;
+    }
+
+    public boolean isApplied(int index) {
+        return rowCounts[index] > 0 || rowCounts[index] == Statement.SUCCESS_NO_INFO;
+    }
+
+    public boolean isFailed(int index) {
+        return rowCounts[index] == Statement.EXECUTE_FAILED;
+    }
+
+    public int getAppliedCount() {
+        int applied = 0;
+        for (int i = 0; i < rowCounts.length; i++) {
+            if (isApplied(i)) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    public int getNotFoundCount() {
+        int notFound = 0;
+        for (int rowCount : rowCounts) {
+            if (rowCount == 0) {
+                notFound++;
+            }
+        }
+        return notFound;
+    }
+
+    public int getFailedCount() {
+        int failed = 0;
+        for (int i = 0; i < rowCounts.length; i++) {
+            if (isFailed(i)) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public int getCommittedChunkCount() {
+        return committedChunkCount;
+    }
+
+    public String toString() {
+        return getAppliedCount() + " applied, " + getNotFoundCount() + " not found, " + getFailedCount()
+               + " failed (" + committedChunkCount + " of " + chunkCount + " chunks committed)";
+    }
+}
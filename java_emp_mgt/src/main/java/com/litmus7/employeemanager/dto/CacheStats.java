@@ -0,0 +1,75 @@
+package com.litmus7.employeemanager.dto;
+
+public class CacheStats {
+    private final long hitCount;
+    private final long negativeHitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+    private final long invalidationCount;
+    private final int size;
+    private final int maxSize;
+
+    public CacheStats(long hitCount, long negativeHitCount, long missCount, long evictionCount,
+                      long expirationCount, long invalidationCount, int size, int maxSize) {
+        this.hitCount = hitCount;
+        this.negativeHitCount = negativeHitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+        this.invalidationCount = invalidationCount;
+        this.size = size;
+        this.maxSize = maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    // Lookups answered from a cached "employee does not exist" entry.
+    public long getNegativeHitCount() {
+        return negativeHitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public double getHitRate() {
+        long lookups = hitCount + negativeHitCount + missCount;
+        return lookups == 0 ? 0.0 : (hitCount + negativeHitCount) / (double) lookups;
+    }
+
+    public String toString() {
+        return "CacheStats{" +
+               "hits=" + hitCount +
+               ", negativeHits=" + negativeHitCount +
+               ", misses=" + missCount +
+               ", hitRate=" + String.format("%.3f", getHitRate()) +
+               ", evictions=" + evictionCount +
+               ", expirations=" + expirationCount +
+               ", invalidations=" + invalidationCount +
+               ", size=" + size + "/" + maxSize +
+               '}';
+    }
+}
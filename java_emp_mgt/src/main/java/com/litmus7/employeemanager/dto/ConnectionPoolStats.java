@@ -0,0 +1,101 @@
+package com.litmus7.employeemanager.dto;
+
+public class ConnectionPoolStats {
+    private final int maxSize;
+    private final int totalConnections;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int waitingThreads;
+    private final long acquireCount;
+    private final long acquireTimeoutCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long totalUsageNanos;
+    private final long connectionsCreated;
+    private final long connectionsDestroyed;
+
+    public ConnectionPoolStats(int maxSize, int totalConnections, int activeConnections, int idleConnections,
+                               int waitingThreads, long acquireCount, long acquireTimeoutCount, long totalWaitNanos,
+                               long maxWaitNanos, long totalUsageNanos, long connectionsCreated, long connectionsDestroyed) {
+        this.maxSize = maxSize;
+        this.totalConnections = totalConnections;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.waitingThreads = waitingThreads;
+        this.acquireCount = acquireCount;
+        this.acquireTimeoutCount = acquireTimeoutCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.totalUsageNanos = totalUsageNanos;
+        this.connectionsCreated = connectionsCreated;
+        this.connectionsDestroyed = connectionsDestroyed;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+
+    public int getIdleConnections() {
+        return idleConnections;
+    }
+
+    public int getWaitingThreads() {
+        return waitingThreads;
+    }
+
+    public long getAcquireCount() {
+        return acquireCount;
+    }
+
+    public long getAcquireTimeoutCount() {
+        return acquireTimeoutCount;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    public double getAverageWaitMillis() {
+        return acquireCount == 0 ? 0.0 : (totalWaitNanos / (double) acquireCount) / 1_000_000.0;
+    }
+
+    public long getTotalUsageNanos() {
+        return totalUsageNanos;
+    }
+
+    public long getConnectionsCreated() {
+        return connectionsCreated;
+    }
+
+    public long getConnectionsDestroyed() {
+        return connectionsDestroyed;
+    }
+
+    public String toString() {
+        return "ConnectionPoolStats{" +
+               "total=" + totalConnections + "/" + maxSize +
+               ", active=" + activeConnections +
+               ", idle=" + idleConnections +
+               ", waiting=" + waitingThreads +
+               ", acquired=" + acquireCount +
+               ", timeouts=" + acquireTimeoutCount +
+               ", avgWaitMs=" + String.format("%.3f", getAverageWaitMillis()) +
+               ", maxWaitMs=" + String.format("%.3f", maxWaitNanos / 1_000_000.0) +
+               ", usageMs=" + (totalUsageNanos / 1_000_000L) +
+               ", created=" + connectionsCreated +
+               ", destroyed=" + connectionsDestroyed +
+               '}';
+    }
+}
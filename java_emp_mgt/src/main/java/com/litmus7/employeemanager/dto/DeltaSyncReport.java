@@ -0,0 +1,90 @@
+package com.litmus7.employeemanager.dto;
+
+/**
+ * Result of a delta sync: which employee IDs the CSV file inserts, updates or (optionally)
+ * deletes compared with the table, and how many rows were already identical. For a dry run the
+ * ID lists are the diff that would be applied and nothing has been written.
+ */
+public class DeltaSyncReport {
+    private final boolean dryRun;
+    private final int[] insertedIds;
+    private final int[] updatedIds;
+    private final int[] deletedIds;
+    private final int unchangedCount;
+    private final boolean deletesApplied;
+    private final WriteSummary writeSummary;
+    private final ImportErrorReport errorReport;
+
+    public DeltaSyncReport(boolean dryRun, int[] insertedIds, int[] updatedIds, int[] deletedIds, int unchangedCount,
+                           boolean deletesApplied, WriteSummary writeSummary, ImportErrorReport errorReport) {
+        this.dryRun = dryRun;
+        this.insertedIds = insertedIds;
+        this.updatedIds = updatedIds;
+        this.deletedIds = deletedIds;
+        this.unchangedCount = unchangedCount;
+        this.deletesApplied = deletesApplied;
+        this.writeSummary = writeSummary;
+        this.errorReport = errorReport;
+    }
+
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    // IDs in the file but not in the table.
+    public int[] getInsertedIds() {
+        return insertedIds.clone();
+    }
+
+    // IDs whose row content differs from the file.
+    public int[] getUpdatedIds() {
+        return updatedIds.clone();
+    }
+
+    // IDs in the table but not in the file; empty unless deletes were requested.
+    public int[] getDeletedIds() {
+        return deletedIds.clone();
+    }
+
+    public int getInsertCount() {
+        return insertedIds.length;
+    }
+
+    public int getUpdateCount() {
+        return updatedIds.length;
+    }
+
+    public int getDeleteCount() {
+        return deletedIds.length;
+    }
+
+    public int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    // False for dry runs, and when rejected records made it unsafe to treat missing IDs as deleted.
+    public boolean isDeletesApplied() {
+        return deletesApplied;
+    }
+
+    // Outcomes of the inserts and updates actually sent; empty for a dry run.
+    public WriteSummary getWriteSummary() {
+        return writeSummary;
+    }
+
+    public ImportErrorReport getErrorReport() {
+        return errorReport;
+    }
+
+    public String toString() {
+        return "DeltaSyncReport{" +
+               "dryRun=" + dryRun +
+               ", inserts=" + insertedIds.length +
+               ", updates=" + updatedIds.length +
+               ", deletes=" + deletedIds.length +
+               ", unchanged=" + unchangedCount +
+               ", deletesApplied=" + deletesApplied +
+               ", rejected=" + errorReport.getTotalErrorCount() +
+               '}';
+    }
+}
@@ -0,0 +1,36 @@
+package com.litmus7.employeemanager.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a department transfer: one update count per requested ID, in request order (1 if
+ * the employee was moved, 0 if it does not exist), plus the timing of each statement group.
+ * Per-ID transfers in BATCH mode report no chunk stats.
+ */
+public class DepartmentTransferResult {
+    private final int[] updateCounts;
+    private final List<TransferChunkStats> chunkStats;
+
+    public DepartmentTransferResult(int[] updateCounts, List<TransferChunkStats> chunkStats) {
+        this.updateCounts = updateCounts;
+        this.chunkStats = Collections.unmodifiableList(chunkStats);
+    }
+
+    public int[] getUpdateCounts() {
+        return updateCounts.clone();
+    }
+
+    public List<TransferChunkStats> getChunkStats() {
+        return chunkStats;
+    }
+
+    // Longest time any chunk held its row locks.
+    public long getMaxLockHoldNanos() {
+        long max = 0;
+        for (TransferChunkStats stats : chunkStats) {
+            max = Math.max(max, stats.getLockHoldNanos());
+        }
+        return max;
+    }
+}
@@ -0,0 +1,61 @@
+package com.litmus7.employeemanager.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Optional criteria for employee queries. A null field means "no restriction"; the join date
+ * bounds are inclusive.
+ */
+public class EmployeeFilter {
+    private final String department;
+    private final LocalDate joinDateFrom;
+    private final LocalDate joinDateTo;
+
+    public EmployeeFilter(String department, LocalDate joinDateFrom, LocalDate joinDateTo) {
+        this.department = department;
+        this.joinDateFrom = joinDateFrom;
+        this.joinDateTo = joinDateTo;
+    }
+
+    public static EmployeeFilter none() {
+        return new EmployeeFilter(null, null, null);
+    }
+
+    public String getDepartment() {
+        return department;
+    }
+
+    public LocalDate getJoinDateFrom() {
+        return joinDateFrom;
+    }
+
+    public LocalDate getJoinDateTo() {
+        return joinDateTo;
+    }
+
+    public boolean isEmpty() {
+        return department == null && joinDateFrom == null && joinDateTo == null;
+    }
+
+    public boolean matches(EmployeeDTO employee) {
+        if (department != null && !department.equals(employee.getDepartment())) {
+            return false;
+        }
+        if (joinDateFrom == null && joinDateTo == null) {
+            return true;
+        }
+        // Like the SQL comparison, a date bound never matches a missing join date.
+        LocalDate joinDate = employee.getJoinDate();
+        return joinDate != null
+                && (joinDateFrom == null || !joinDate.isBefore(joinDateFrom))
+                && (joinDateTo == null || !joinDate.isAfter(joinDateTo));
+    }
+
+    public String toString() {
+        return "EmployeeFilter{" +
+               "department='" + department + '\'' +
+               ", joinDateFrom=" + joinDateFrom +
+               ", joinDateTo=" + joinDateTo +
+               '}';
+    }
+}
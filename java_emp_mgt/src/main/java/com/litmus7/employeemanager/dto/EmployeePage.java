@@ -0,0 +1,40 @@
+package com.litmus7.employeemanager.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated employee listing. Pass {@link #getNextPageToken()} back to
+ * fetch the following page; it is null on the last page.
+ */
+public class EmployeePage {
+    private final List<EmployeeDTO> employees;
+    private final String nextPageToken;
+
+    public EmployeePage(List<EmployeeDTO> employees, String nextPageToken) {
+        this.employees = Collections.unmodifiableList(employees);
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<EmployeeDTO> getEmployees() {
+        return employees;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    public boolean hasMore() {
+        return nextPageToken != null;
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("EmployeePage{size=").append(employees.size())
+          .append(", nextPageToken=").append(nextPageToken).append("}");
+        for (EmployeeDTO employee : employees) {
+            sb.append("\n    ").append(employee);
+        }
+        return sb.toString();
+    }
+}
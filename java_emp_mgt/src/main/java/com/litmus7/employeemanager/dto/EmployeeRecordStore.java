@@ -0,0 +1,334 @@
+package com.litmus7.employeemanager.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read-only table of employees stored column by column in primitive arrays, for large result
+ * sets. Salaries are doubles, join dates are epoch days, first and last names share one
+ * dictionary of distinct strings and departments another, and emails and phone numbers are kept
+ * as UTF-8 bytes in one array. A row costs roughly a fifth of the heap of an {@link EmployeeDTO}
+ * with its boxed salary, date and strings.
+ * <p>
+ * Rows are addressed by index. {@link #get(int)} and {@link #asList()} build an
+ * {@link EmployeeDTO} for a row only when asked, and do not keep it.
+ */
+public final class EmployeeRecordStore {
+
+    // Join date of a row without one.
+    public static final int NO_JOIN_DATE = Integer.MIN_VALUE;
+
+    private static final int NULL_CODE = -1;
+    // Longest array the JVM reliably allocates; textEnds holds two entries per row.
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int MAX_ROWS = MAX_ARRAY_LENGTH / 2;
+    private static final EmployeeRecordStore EMPTY = new Builder(0).build();
+
+    private final int size;
+    private final int[] employeeIds;
+    private final int[] firstNameCodes;
+    private final int[] lastNameCodes;
+    private final int[] departmentCodes;
+    // NaN where the salary is null.
+    private final double[] salaries;
+    private final int[] joinEpochDays;
+    private final String[] names;
+    private final String[] departments;
+    // Email of row i ends at textEnds[2i], its phone at textEnds[2i + 1]; each starts where the
+    // previous value ended. A null value is stored as -(end + 1).
+    private final byte[] text;
+    private final int[] textEnds;
+
+    private EmployeeRecordStore(Builder builder) {
+        size = builder.size;
+        employeeIds = Arrays.copyOf(builder.employeeIds, size);
+        firstNameCodes = Arrays.copyOf(builder.firstNameCodes, size);
+        lastNameCodes = Arrays.copyOf(builder.lastNameCodes, size);
+        departmentCodes = Arrays.copyOf(builder.departmentCodes, size);
+        salaries = Arrays.copyOf(builder.salaries, size);
+        joinEpochDays = Arrays.copyOf(builder.joinEpochDays, size);
+        names = builder.names.toArray();
+        departments = builder.departments.toArray();
+        text = Arrays.copyOf(builder.text, builder.textLength);
+        textEnds = Arrays.copyOf(builder.textEnds, size * 2);
+    }
+
+    public static EmployeeRecordStore empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getEmployeeId(int row) {
+        return employeeIds[checkRow(row)];
+    }
+
+    // Returns the dictionary's instance, so equal names of different rows are the same String.
+    public String getFirstName(int row) {
+        return decode(names, firstNameCodes[checkRow(row)]);
+    }
+
+    public String getLastName(int row) {
+        return decode(names, lastNameCodes[checkRow(row)]);
+    }
+
+    public String getEmail(int row) {
+        return textAt(2 * checkRow(row));
+    }
+
+    public String getPhone(int row) {
+        return textAt(2 * checkRow(row) + 1);
+    }
+
+    public String getDepartment(int row) {
+        return decode(departments, departmentCodes[checkRow(row)]);
+    }
+
+    // Index of the row's department in getDepartments(), or -1 if it has none.
+    public int getDepartmentCode(int row) {
+        return departmentCodes[checkRow(row)];
+    }
+
+    // Distinct departments in order of first appearance.
+    public List<String> getDepartments() {
+        return Collections.unmodifiableList(Arrays.asList(departments));
+    }
+
+    public boolean hasSalary(int row) {
+        return !Double.isNaN(salaries[checkRow(row)]);
+    }
+
+    // NaN if the row has no salary.
+    public double getSalary(int row) {
+        return salaries[checkRow(row)];
+    }
+
+    // NO_JOIN_DATE if the row has no join date.
+    public int getJoinEpochDay(int row) {
+        return joinEpochDays[checkRow(row)];
+    }
+
+    public LocalDate getJoinDate(int row) {
+        int epochDay = joinEpochDays[checkRow(row)];
+        return epochDay == NO_JOIN_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    // A new EmployeeDTO with the row's values.
+    public EmployeeDTO get(int row) {
+        checkRow(row);
+        double salary = salaries[row];
+        return new EmployeeDTO(employeeIds[row], getFirstName(row), getLastName(row), getEmail(row), getPhone(row),
+                getDepartment(row), Double.isNaN(salary) ? null : salary, getJoinDate(row));
+    }
+
+    /**
+     * Unmodifiable list view whose elements are made by {@link #get(int)} as they are read.
+     * Reading an element twice gives two separate objects with the same values.
+     */
+    public List<EmployeeDTO> asList() {
+        return new RowList(this);
+    }
+
+    public String toString() {
+        return "EmployeeRecordStore{size=" + size +
+               ", distinctNames=" + names.length +
+               ", departments=" + departments.length +
+               ", textBytes=" + text.length +
+               '}';
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        return row;
+    }
+
+    private static String decode(String[] dictionary, int code) {
+        return code == NULL_CODE ? null : dictionary[code];
+    }
+
+    private String textAt(int slot) {
+        int end = textEnds[slot];
+        if (end < 0) {
+            return null;
+        }
+        int start = slot == 0 ? 0 : endOf(textEnds[slot - 1]);
+        return new String(text, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static int endOf(int storedEnd) {
+        return storedEnd < 0 ? -(storedEnd + 1) : storedEnd;
+    }
+
+    private static final class RowList extends AbstractList<EmployeeDTO> implements RandomAccess {
+        private final EmployeeRecordStore store;
+
+        RowList(EmployeeRecordStore store) {
+            this.store = store;
+        }
+
+        public EmployeeDTO get(int index) {
+            return store.get(index);
+        }
+
+        public int size() {
+            return store.size;
+        }
+    }
+
+    /**
+     * Collects rows for an {@link EmployeeRecordStore}. Arrays grow as rows are added and are
+     * trimmed to size by {@link #build()}. Not thread-safe.
+     */
+    public static final class Builder {
+        private int size;
+        private int[] employeeIds;
+        private int[] firstNameCodes;
+        private int[] lastNameCodes;
+        private int[] departmentCodes;
+        private double[] salaries;
+        private int[] joinEpochDays;
+        private final Dictionary names = new Dictionary();
+        private final Dictionary departments = new Dictionary();
+        private byte[] text;
+        private int textLength;
+        private int[] textEnds;
+
+        public Builder() {
+            this(256);
+        }
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(16, Math.min(expectedSize, MAX_ROWS));
+            employeeIds = new int[capacity];
+            firstNameCodes = new int[capacity];
+            lastNameCodes = new int[capacity];
+            departmentCodes = new int[capacity];
+            salaries = new double[capacity];
+            joinEpochDays = new int[capacity];
+            text = new byte[(int) Math.min(capacity * 32L, MAX_ARRAY_LENGTH)];
+            textEnds = new int[capacity * 2];
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Adds one row. {@code salary} is NaN for a null salary and {@code joinEpochDay} is
+         * {@link EmployeeRecordStore#NO_JOIN_DATE} for a null join date.
+         */
+        public Builder add(int employeeId, String firstName, String lastName, String email, String phone,
+                           String department, double salary, int joinEpochDay) {
+            if (size == employeeIds.length) {
+                grow();
+            }
+            employeeIds[size] = employeeId;
+            firstNameCodes[size] = names.codeOf(firstName);
+            lastNameCodes[size] = names.codeOf(lastName);
+            departmentCodes[size] = departments.codeOf(department);
+            salaries[size] = salary;
+            joinEpochDays[size] = joinEpochDay;
+            appendText(2 * size, email);
+            appendText(2 * size + 1, phone);
+            size++;
+            return this;
+        }
+
+        public Builder add(EmployeeDTO employee) {
+            Double salary = employee.getSalary();
+            LocalDate joinDate = employee.getJoinDate();
+            return add(employee.getEmployeeId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                    employee.getPhone(), employee.getDepartment(), salary == null ? Double.NaN : salary,
+                    joinDate == null ? NO_JOIN_DATE : (int) joinDate.toEpochDay());
+        }
+
+        // Copies one row of another store without going through an EmployeeDTO.
+        public Builder add(EmployeeRecordStore source, int row) {
+            source.checkRow(row);
+            return add(source.employeeIds[row], source.getFirstName(row), source.getLastName(row),
+                    source.getEmail(row), source.getPhone(row), source.getDepartment(row),
+                    source.salaries[row], source.joinEpochDays[row]);
+        }
+
+        public EmployeeRecordStore build() {
+            return new EmployeeRecordStore(this);
+        }
+
+        private void appendText(int slot, String value) {
+            if (value == null) {
+                textEnds[slot] = -(textLength + 1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            long required = (long) textLength + bytes.length;
+            if (required > text.length) {
+                int length = grownLength(text.length, required, MAX_ARRAY_LENGTH, "bytes of email and phone text");
+                text = Arrays.copyOf(text, length);
+            }
+            System.arraycopy(bytes, 0, text, textLength, bytes.length);
+            textLength += bytes.length;
+            textEnds[slot] = textLength;
+        }
+
+        private void grow() {
+            int capacity = grownLength(employeeIds.length, size + 1L, MAX_ROWS, "rows");
+            employeeIds = Arrays.copyOf(employeeIds, capacity);
+            firstNameCodes = Arrays.copyOf(firstNameCodes, capacity);
+            lastNameCodes = Arrays.copyOf(lastNameCodes, capacity);
+            departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            joinEpochDays = Arrays.copyOf(joinEpochDays, capacity);
+            textEnds = Arrays.copyOf(textEnds, capacity * 2);
+        }
+
+        // Half as long again, at least required and at most limit; fails once required passes limit.
+        private static int grownLength(int length, long required, int limit, String unit) {
+            if (required > limit) {
+                throw new IllegalStateException("An employee record store holds at most " + limit + " " + unit
+                        + "; " + required + " needed.");
+            }
+            return (int) Math.min(limit, Math.max(required, (long) length + (length >> 1)));
+        }
+    }
+
+    // Assigns each distinct string a code in order of first appearance.
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private String[] values = new String[16];
+
+        int codeOf(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = codes.size();
+                if (code == values.length) {
+                    values = Arrays.copyOf(values, code * 2);
+                }
+                values[code] = value;
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        String[] toArray() {
+            return Arrays.copyOf(values, codes.size());
+        }
+    }
+}
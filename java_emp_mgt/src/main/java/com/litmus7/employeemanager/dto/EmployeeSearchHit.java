@@ -0,0 +1,48 @@
+package com.litmus7.employeemanager.dto;
+
+import com.litmus7.employeemanager.constant.SearchMatchType;
+
+/**
+ * One employee found by a name search, with the indexed term that matched the query word the
+ * search was ranked by and how it matched.
+ */
+public class EmployeeSearchHit {
+    private final EmployeeDTO employee;
+    private final String matchedTerm;
+    private final SearchMatchType matchType;
+    private final int editDistance;
+
+    public EmployeeSearchHit(EmployeeDTO employee, String matchedTerm, SearchMatchType matchType, int editDistance) {
+        this.employee = employee;
+        this.matchedTerm = matchedTerm;
+        this.matchType = matchType;
+        this.editDistance = editDistance;
+    }
+
+    public EmployeeDTO getEmployee() {
+        return employee;
+    }
+
+    // Lower-case first name, last name or email local part.
+    public String getMatchedTerm() {
+        return matchedTerm;
+    }
+
+    public SearchMatchType getMatchType() {
+        return matchType;
+    }
+
+    // 0 unless the match is FUZZY.
+    public int getEditDistance() {
+        return editDistance;
+    }
+
+    public String toString() {
+        return "EmployeeSearchHit{" +
+               "employeeId=" + employee.getEmployeeId() +
+               ", matchedTerm='" + matchedTerm + '\'' +
+               ", matchType=" + matchType +
+               ", editDistance=" + editDistance +
+               '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.litmus7.employeemanager.dto;
+
+/** Outcome of a CSV export: what was written where, and how fast. */
+public class ExportResult {
+    private final String filePath;
+    private final long rowCount;
+    private final long csvBytes;
+    private final long fileBytes;
+    private final int partitionCount;
+    private final boolean compressed;
+    private final long elapsedNanos;
+
+    public ExportResult(String filePath, long rowCount, long csvBytes, long fileBytes, int partitionCount,
+                        boolean compressed, long elapsedNanos) {
+        this.filePath = filePath;
+        this.rowCount = rowCount;
+        this.csvBytes = csvBytes;
+        this.fileBytes = fileBytes;
+        this.partitionCount = partitionCount;
+        this.compressed = compressed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    // Employees written, not counting the header.
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // Size of the CSV text before compression.
+    public long getCsvBytes() {
+        return csvBytes;
+    }
+
+    // Size of the file on disk; smaller than getCsvBytes() when compressed.
+    public long getFileBytes() {
+        return fileBytes;
+    }
+
+    // ID ranges exported in parallel; 1 for a single cursor.
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rowCount * 1e9 / elapsedNanos;
+    }
+
+    // Megabytes (10^6 bytes) of CSV text per second, before compression.
+    public double getMegabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : csvBytes * 1e3 / elapsedNanos;
+    }
+
+    public String toString() {
+        return String.format("%d rows, %d CSV bytes (%d on disk) in %d ms: %.0f rows/s, %.1f MB/s",
+                rowCount, csvBytes, fileBytes, elapsedNanos / 1_000_000, getRowsPerSecond(), getMegabytesPerSecond());
+    }
+}
@@ -0,0 +1,64 @@
+package com.litmus7.employeemanager.dto;
+
+/**
+ * Headcount and salary figures of one group of employees, e.g. a department or a join-date
+ * cohort. Salary figures cover only the employees that have a salary; they are NaN for a group
+ * without any.
+ */
+public class GroupStats {
+    private final String key;
+    private final int headcount;
+    private final int salaryCount;
+    private final double salarySum;
+    private final double minSalary;
+    private final double maxSalary;
+
+    public GroupStats(String key, int headcount, int salaryCount, double salarySum, double minSalary, double maxSalary) {
+        this.key = key;
+        this.headcount = headcount;
+        this.salaryCount = salaryCount;
+        this.salarySum = salarySum;
+        this.minSalary = salaryCount == 0 ? Double.NaN : minSalary;
+        this.maxSalary = salaryCount == 0 ? Double.NaN : maxSalary;
+    }
+
+    // Department name, "2021", "2021-Q3", "2021-07" or "[30000, 40000)" for a salary band.
+    public String getKey() {
+        return key;
+    }
+
+    public int getHeadcount() {
+        return headcount;
+    }
+
+    public int getSalaryCount() {
+        return salaryCount;
+    }
+
+    public double getSalarySum() {
+        return salaryCount == 0 ? Double.NaN : salarySum;
+    }
+
+    public double getAverageSalary() {
+        return salaryCount == 0 ? Double.NaN : salarySum / salaryCount;
+    }
+
+    public double getMinSalary() {
+        return minSalary;
+    }
+
+    public double getMaxSalary() {
+        return maxSalary;
+    }
+
+    public String toString() {
+        return "GroupStats{" +
+               "key='" + key + '\'' +
+               ", headcount=" + headcount +
+               ", salarySum=" + getSalarySum() +
+               ", avgSalary=" + String.format("%.2f", getAverageSalary()) +
+               ", minSalary=" + minSalary +
+               ", maxSalary=" + maxSalary +
+               '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.litmus7.employeemanager.dto;
+
+/**
+ * Position of the last committed chunk of a chunked CSV import. {@code byteOffset} is the start
+ * of the first uncommitted line and {@code contentHash} is the CRC32 of every byte before it.
+ */
+public class ImportCheckpoint {
+    private final String filePath;
+    private final long byteOffset;
+    private final int lineNumber;
+    private final long contentHash;
+
+    public ImportCheckpoint(String filePath, long byteOffset, int lineNumber, long contentHash) {
+        this.filePath = filePath;
+        this.byteOffset = byteOffset;
+        this.lineNumber = lineNumber;
+        this.contentHash = contentHash;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+
+    // Last line covered by the committed chunk.
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    public String toString() {
+        return "ImportCheckpoint{" +
+               "filePath='" + filePath + '\'' +
+               ", byteOffset=" + byteOffset +
+               ", lineNumber=" + lineNumber +
+               ", contentHash=" + Long.toHexString(contentHash) +
+               '}';
+    }
+}
@@ -0,0 +1,213 @@
+package com.litmus7.employeemanager.dto;
+
+import com.litmus7.employeemanager.constant.EmployeeCsvField;
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.util.ErrorCodesManager;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+/**
+ * Rejected records of one CSV import, kept as parallel primitive arrays (line number, error code,
+ * byte offset of the record in the file) instead of one message String per row. Messages are
+ * rendered from errorcodes.properties only when read, through {@link #getMessage(int)} or the
+ * {@link #asMessages()} view.
+ * <p>
+ * At most {@code maxRecordedErrors} rejections are listed; the rest are only counted in
+ * {@link #getCountsByCode()}. Free-text messages added with {@link #addMessage(String)} are
+ * always listed, after all rejected records.
+ * <p>
+ * The report also carries the {@link WriteSummary} of the import, so callers can tell inserted,
+ * updated, unchanged and skipped rows apart.
+ */
+public class ImportErrorReport {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxRecordedErrors;
+    private int[] lineNumbers = new int[INITIAL_CAPACITY];
+    private int[] errorCodes = new int[INITIAL_CAPACITY];
+    private long[] recordOffsets = new long[INITIAL_CAPACITY];
+    private String[] details = new String[INITIAL_CAPACITY];
+    private int recordedCount;
+    private int listedRejectionCount;
+    private boolean sorted = true;
+
+    private final Map<Integer, int[]> countsByCode = new TreeMap<>();
+    private long totalErrorCount;
+    private final WriteSummary writeSummary = new WriteSummary();
+
+    public ImportErrorReport(int maxRecordedErrors) {
+        this.maxRecordedErrors = Math.max(0, maxRecordedErrors);
+    }
+
+    /**
+     * Adds a rejected record. {@code recordOffset} is the byte offset where the record starts in
+     * the CSV file, or -1 if unknown; the offending value can be re-read from there.
+     */
+    public void add(RecordProcessResult result, long recordOffset) {
+        if (result.errorCode == 0) {
+            addMessage(result.getMessage()); // Not coded, so there is nothing to render lazily.
+            return;
+        }
+        totalErrorCount++;
+        int[] count = countsByCode.get(result.errorCode);
+        if (count == null) {
+            countsByCode.put(result.errorCode, new int[] {1});
+        } else {
+            count[0]++;
+        }
+        if (listedRejectionCount < maxRecordedErrors) {
+            listedRejectionCount++;
+            append(result.lineNumber, result.errorCode, recordOffset, result.errorDetail);
+        }
+    }
+
+    public void addMessage(String message) {
+        totalErrorCount++;
+        append(0, 0, -1L, message);
+    }
+
+    public WriteSummary getWriteSummary() {
+        return writeSummary;
+    }
+
+    public long getTotalErrorCount() {
+        return totalErrorCount;
+    }
+
+    // Number of entries that can be read by index, including free-text messages.
+    public int getRecordedCount() {
+        return recordedCount;
+    }
+
+    public boolean isTruncated() {
+        return totalErrorCount > recordedCount;
+    }
+
+    /** Rejected records per error code, including the ones beyond the listing limit. */
+    public Map<Integer, Integer> getCountsByCode() {
+        Map<Integer, Integer> counts = new TreeMap<>();
+        for (Map.Entry<Integer, int[]> entry : countsByCode.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public int getLineNumber(int index) {
+        ensureSorted();
+        return lineNumbers[checkIndex(index)];
+    }
+
+    // 0 for free-text messages.
+    public int getErrorCode(int index) {
+        ensureSorted();
+        return errorCodes[checkIndex(index)];
+    }
+
+    public EmployeeCsvField getField(int index) {
+        return EmployeeCsvField.forErrorCode(getErrorCode(index));
+    }
+
+    public long getRecordOffset(int index) {
+        ensureSorted();
+        return recordOffsets[checkIndex(index)];
+    }
+
+    public String getMessage(int index) {
+        ensureSorted();
+        checkIndex(index);
+        int errorCode = errorCodes[index];
+        if (errorCode == 0) {
+            return details[index];
+        }
+        return ErrorCodesManager.getErrorMessage(errorCode, String.valueOf(lineNumbers[index]), details[index]);
+    }
+
+    /**
+     * Read-only view of all messages in line order, rendered one at a time on access. If rejections
+     * were left out because of the limit, a last element says how many.
+     */
+    public List<String> asMessages() {
+        return new MessageList();
+    }
+
+    private void append(int lineNumber, int errorCode, long recordOffset, String detail) {
+        if (recordedCount == lineNumbers.length) {
+            int capacity = recordedCount * 2;
+            lineNumbers = Arrays.copyOf(lineNumbers, capacity);
+            errorCodes = Arrays.copyOf(errorCodes, capacity);
+            recordOffsets = Arrays.copyOf(recordOffsets, capacity);
+            details = Arrays.copyOf(details, capacity);
+        }
+        if (recordedCount > 0 && sortKey(lineNumber, errorCode) < sortKey(lineNumbers[recordedCount - 1], errorCodes[recordedCount - 1])) {
+            sorted = false;
+        }
+        lineNumbers[recordedCount] = lineNumber;
+        errorCodes[recordedCount] = errorCode;
+        recordOffsets[recordedCount] = recordOffset;
+        details[recordedCount] = detail;
+        recordedCount++;
+    }
+
+    // Batch insert results arrive after later lines were validated, so restore line order on first read.
+    private void ensureSorted() {
+        if (sorted) {
+            return;
+        }
+        long[] keys = new long[recordedCount];
+        for (int i = 0; i < recordedCount; i++) {
+            keys[i] = ((long) sortKey(lineNumbers[i], errorCodes[i]) << 32) | i; // Stable for equal lines.
+        }
+        Arrays.sort(keys);
+        int[] sortedLines = new int[lineNumbers.length];
+        int[] sortedCodes = new int[errorCodes.length];
+        long[] sortedOffsets = new long[recordOffsets.length];
+        String[] sortedDetails = new String[details.length];
+        for (int i = 0; i < recordedCount; i++) {
+            int from = (int) keys[i];
+            sortedLines[i] = lineNumbers[from];
+            sortedCodes[i] = errorCodes[from];
+            sortedOffsets[i] = recordOffsets[from];
+            sortedDetails[i] = details[from];
+        }
+        lineNumbers = sortedLines;
+        errorCodes = sortedCodes;
+        recordOffsets = sortedOffsets;
+        details = sortedDetails;
+        sorted = true;
+    }
+
+    // Free-text messages have no line and sort after every record.
+    private static int sortKey(int lineNumber, int errorCode) {
+        return errorCode == 0 && lineNumber == 0 ? Integer.MAX_VALUE : lineNumber;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= recordedCount) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + recordedCount);
+        }
+        return index;
+    }
+
+    private final class MessageList extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            if (index == recordedCount && isTruncated()) {
+                return ErrorCodesManager.getErrorMessage(ImportErrorCodes.ERRORS_NOT_RECORDED,
+                        String.valueOf(totalErrorCount - recordedCount), String.valueOf(maxRecordedErrors));
+            }
+            return getMessage(index);
+        }
+
+        @Override
+        public int size() {
+            return isTruncated() ? recordedCount + 1 : recordedCount;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.litmus7.employeemanager.dto;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import com.litmus7.employeemanager.property.DatabaseProperties;
+
+/**
+ * Settings for a CSV employee import. Instances are immutable; the {@code with...} methods
+ * return adjusted copies.
+ */
+public class ImportOptions {
+
+    public enum Mode {
+        // Read, validate and write on the calling thread.
+        SEQUENTIAL,
+        // One reader thread, a pool of validation workers and a single batching writer.
+        STAGED
+    }
+
+    public enum CommitMode {
+        // One transaction for the whole file, rolled back if any record fails.
+        STRICT,
+        // Commit every commitInterval lines and checkpoint, so a rerun resumes after the last commit.
+        CHUNKED
+    }
+
+    private final Mode mode;
+    private final int workerThreads;
+    private final int batchSize;
+    private final CommitMode commitMode;
+    private final int commitInterval;
+    private final WriteMode writeMode;
+
+    public ImportOptions(Mode mode, int workerThreads, int batchSize) {
+        this(mode, workerThreads, batchSize, CommitMode.STRICT, 0);
+    }
+
+    public ImportOptions(Mode mode, int workerThreads, int batchSize, CommitMode commitMode, int commitInterval) {
+        this(mode, workerThreads, batchSize, commitMode, commitInterval, WriteMode.INSERT);
+    }
+
+    public ImportOptions(Mode mode, int workerThreads, int batchSize, CommitMode commitMode, int commitInterval,
+                         WriteMode writeMode) {
+        this.mode = mode;
+        this.workerThreads = Math.max(1, workerThreads);
+        this.batchSize = Math.max(1, batchSize);
+        this.commitMode = commitMode;
+        this.commitInterval = Math.max(1, commitInterval);
+        this.writeMode = writeMode;
+    }
+
+    // Options as configured in application.properties and database.properties.
+    public static ImportOptions defaults() {
+        return new ImportOptions(
+            Mode.valueOf(ApplicationProperties.getImportMode().toUpperCase()),
+            ApplicationProperties.getImportWorkerThreads(),
+            DatabaseProperties.getBatchSize(),
+            CommitMode.valueOf(ApplicationProperties.getImportCommitMode().toUpperCase()),
+            ApplicationProperties.getImportCommitInterval(),
+            WriteMode.valueOf(ApplicationProperties.getImportWriteMode().toUpperCase())
+        );
+    }
+
+    public ImportOptions withMode(Mode mode) {
+        return new ImportOptions(mode, workerThreads, batchSize, commitMode, commitInterval, writeMode);
+    }
+
+    public ImportOptions withWorkerThreads(int workerThreads) {
+        return new ImportOptions(mode, workerThreads, batchSize, commitMode, commitInterval, writeMode);
+    }
+
+    public ImportOptions withBatchSize(int batchSize) {
+        return new ImportOptions(mode, workerThreads, batchSize, commitMode, commitInterval, writeMode);
+    }
+
+    public ImportOptions withStrictCommit() {
+        return new ImportOptions(mode, workerThreads, batchSize, CommitMode.STRICT, commitInterval, writeMode);
+    }
+
+    public ImportOptions withChunkedCommit(int commitInterval) {
+        return new ImportOptions(mode, workerThreads, batchSize, CommitMode.CHUNKED, commitInterval, writeMode);
+    }
+
+    // INSERT rejects IDs that already exist; INSERT_IGNORE skips them and UPSERT updates them.
+    public ImportOptions withWriteMode(WriteMode writeMode) {
+        return new ImportOptions(mode, workerThreads, batchSize, commitMode, commitInterval, writeMode);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public CommitMode getCommitMode() {
+        return commitMode;
+    }
+
+    public int getCommitInterval() {
+        return commitInterval;
+    }
+
+    public WriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    public String toString() {
+        return "ImportOptions{" +
+               "mode=" + mode +
+               ", workerThreads=" + workerThreads +
+               ", batchSize=" + batchSize +
+               ", commitMode=" + commitMode +
+               ", commitInterval=" + commitInterval +
+               ", writeMode=" + writeMode +
+               '}';
+    }
+}
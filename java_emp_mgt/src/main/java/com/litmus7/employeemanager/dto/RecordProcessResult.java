@@ -1,11 +1,85 @@
 package com.litmus7.employeemanager.dto;
 
+import com.litmus7.employeemanager.constant.WriteOutcome;
+
 public class RecordProcessResult {
     public final boolean success;
-    public final String message; // Message for this specific record (success or failure)
+    private final String message; // Message given by the creator; null if it is rendered on demand
+    public final int lineNumber; // CSV line the record came from, 0 when not known
+    public final EmployeeDTO employee; // Parsed employee, set only for records that passed validation
+    public final int errorCode; // ImportErrorCodes value for rejected records, 0 otherwise
+    public final String errorDetail; // Second message argument of a coded rejection, if any
+    public final WriteOutcome outcome; // Write result; FAILED for rejections, null for records not written yet
+    public final int employeeId; // ID of the written record, 0 when not known
 
     public RecordProcessResult(boolean success, String message) {
+        this(success, message, 0, null);
+    }
+
+    public RecordProcessResult(boolean success, String message, int lineNumber) {
+        this(success, message, lineNumber, null);
+    }
+
+    public RecordProcessResult(boolean success, String message, int lineNumber, EmployeeDTO employee) {
+        this(success, message, lineNumber, employee, 0, null, null, 0);
+    }
+
+    // A rejected record with its structured error code.
+    public RecordProcessResult(int errorCode, String message, int lineNumber) {
+        this(false, message, lineNumber, null, errorCode, null, WriteOutcome.FAILED, 0);
+    }
+
+    private RecordProcessResult(boolean success, String message, int lineNumber, EmployeeDTO employee,
+                                int errorCode, String errorDetail, WriteOutcome outcome, int employeeId) {
         this.success = success;
         this.message = message;
+        this.lineNumber = lineNumber;
+        this.employee = employee;
+        this.errorCode = errorCode;
+        this.errorDetail = errorDetail;
+        this.outcome = outcome;
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * A rejected record without a message; it is rendered from {@code errorCode}, the line number
+     * and {@code errorDetail} only if someone reads it (see {@link ImportErrorReport}).
+     */
+    public static RecordProcessResult rejected(int errorCode, int lineNumber, String errorDetail) {
+        return new RecordProcessResult(false, null, lineNumber, null, errorCode, errorDetail, WriteOutcome.FAILED, 0);
+    }
+
+    // A record that passed validation and has not been written yet.
+    public static RecordProcessResult parsed(EmployeeDTO employee, int lineNumber) {
+        return new RecordProcessResult(true, null, lineNumber, employee, 0, null, null, employee.getEmployeeId());
+    }
+
+    // A record that reached the database; FAILED outcomes should use a rejection instead.
+    public static RecordProcessResult written(WriteOutcome outcome, int employeeId, int lineNumber) {
+        return new RecordProcessResult(true, null, lineNumber, null, 0, null, outcome, employeeId);
+    }
+
+    /**
+     * The message for this record. Successful records only carry their outcome and ID, so the text
+     * is built here when someone asks for it; coded rejections are rendered by
+     * {@link ImportErrorReport} and return null unless they were created with a message.
+     */
+    public String getMessage() {
+        if (message != null || !success) {
+            return message;
+        }
+        if (outcome == null) {
+            return "Parsed Employee ID: " + employeeId;
+        }
+        switch (outcome) {
+            case UPDATED:
+                return "Updated Employee ID: " + employeeId;
+            case UNCHANGED:
+                return "Unchanged Employee ID: " + employeeId;
+            case SKIPPED:
+                return "Skipped existing Employee ID: " + employeeId;
+            default:
+                return "Successfully imported Employee ID: " + employeeId;
+        }
     }
 }
@@ -0,0 +1,50 @@
+package com.litmus7.employeemanager.dto;
+
+import java.util.Arrays;
+
+/**
+ * Salary percentiles of a set of employees, interpolated linearly between the two nearest
+ * salaries. Values are NaN when no employee in the set has a salary.
+ */
+public class SalaryPercentiles {
+    private final double[] percentiles;
+    private final double[] values;
+    private final int sampleSize;
+
+    public SalaryPercentiles(double[] percentiles, double[] values, int sampleSize) {
+        this.percentiles = percentiles.clone();
+        this.values = values.clone();
+        this.sampleSize = sampleSize;
+    }
+
+    // The requested percentiles, each between 0 and 100, in request order.
+    public double[] getPercentiles() {
+        return percentiles.clone();
+    }
+
+    public double[] getValues() {
+        return values.clone();
+    }
+
+    // Salary at percentile, which must be one of the requested ones.
+    public double getValue(double percentile) {
+        for (int i = 0; i < percentiles.length; i++) {
+            if (percentiles[i] == percentile) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException("Percentile " + percentile + " was not requested");
+    }
+
+    // Number of salaries the percentiles were taken from.
+    public int getSampleSize() {
+        return sampleSize;
+    }
+
+    public String toString() {
+        return "SalaryPercentiles{percentiles=" + Arrays.toString(percentiles) +
+               ", values=" + Arrays.toString(values) +
+               ", sampleSize=" + sampleSize +
+               '}';
+    }
+}
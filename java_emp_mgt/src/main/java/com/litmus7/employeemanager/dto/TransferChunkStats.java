@@ -0,0 +1,54 @@
+package com.litmus7.employeemanager.dto;
+
+/**
+ * Timing of one statement group of a set-based department transfer. Row locks taken by a chunk
+ * are held until the transaction commits, so the hold time runs from the moment the chunk's
+ * locks were granted to the end of the commit.
+ */
+public class TransferChunkStats {
+    private final int idCount;
+    private final int rowsMatched;
+    private final long lockWaitNanos;
+    private final long updateNanos;
+    private final long lockHoldNanos;
+
+    public TransferChunkStats(int idCount, int rowsMatched, long lockWaitNanos, long updateNanos, long lockHoldNanos) {
+        this.idCount = idCount;
+        this.rowsMatched = rowsMatched;
+        this.lockWaitNanos = lockWaitNanos;
+        this.updateNanos = updateNanos;
+        this.lockHoldNanos = lockHoldNanos;
+    }
+
+    public int getIdCount() {
+        return idCount;
+    }
+
+    // Employees of the chunk that exist and were moved.
+    public int getRowsMatched() {
+        return rowsMatched;
+    }
+
+    // Time to acquire the chunk's row locks (the SELECT ... FOR UPDATE).
+    public long getLockWaitNanos() {
+        return lockWaitNanos;
+    }
+
+    public long getUpdateNanos() {
+        return updateNanos;
+    }
+
+    public long getLockHoldNanos() {
+        return lockHoldNanos;
+    }
+
+    public String toString() {
+        return "TransferChunkStats{" +
+               "ids=" + idCount +
+               ", matched=" + rowsMatched +
+               ", lockWaitMs=" + lockWaitNanos / 1_000_000 +
+               ", updateMs=" + updateNanos / 1_000_000 +
+               ", lockHoldMs=" + lockHoldNanos / 1_000_000 +
+               '}';
+    }
+}
@@ -0,0 +1,42 @@
+package com.litmus7.employeemanager.dto;
+
+import com.litmus7.employeemanager.constant.WriteOutcome;
+
+/** Number of rows per {@link WriteOutcome} for a batch or import. */
+public class WriteSummary {
+
+    private final int[] counts = new int[WriteOutcome.values().length];
+
+    public void add(WriteOutcome outcome) {
+        counts[outcome.ordinal()]++;
+    }
+
+    public int getCount(WriteOutcome outcome) {
+        return counts[outcome.ordinal()];
+    }
+
+    public int getInsertedCount() {
+        return getCount(WriteOutcome.INSERTED);
+    }
+
+    public int getUpdatedCount() {
+        return getCount(WriteOutcome.UPDATED);
+    }
+
+    public int getUnchangedCount() {
+        return getCount(WriteOutcome.UNCHANGED);
+    }
+
+    public int getSkippedCount() {
+        return getCount(WriteOutcome.SKIPPED);
+    }
+
+    public int getFailedCount() {
+        return getCount(WriteOutcome.FAILED);
+    }
+
+    public String toString() {
+        return getInsertedCount() + " inserted, " + getUpdatedCount() + " updated, " + getUnchangedCount()
+               + " unchanged, " + getSkippedCount() + " skipped, " + getFailedCount() + " failed";
+    }
+}
@@ -0,0 +1,13 @@
+package com.litmus7.employeemanager.exception;
+
+// An insert hit an employee ID that is already stored.
+public class DuplicateEmployeeException extends DAOException {
+
+    public DuplicateEmployeeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public DuplicateEmployeeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,174 @@
+package com.litmus7.employeemanager.property;
+
+import com.litmus7.employeemanager.util.EmployeeValidationEngine;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public final class ApplicationProperties {
+
+    private static final Logger logger = LogManager.getLogger(ApplicationProperties.class);
+
+    private static final Properties PROPERTIES = new Properties(); // Stores loaded properties
+    private static final String PROPERTIES_FILE_NAME = "application.properties";
+
+    static {
+        loadProperties();
+    }
+
+    private ApplicationProperties() {}
+
+    private static void loadProperties() {
+        logger.info("Attempting to load application properties from file: {}", PROPERTIES_FILE_NAME);
+        try (InputStream input = ApplicationProperties.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE_NAME)) {
+            if (input == null) {
+                // Every setting has a default, so a missing file is not fatal.
+                logger.warn("Unable to find {} in the classpath. Using defaults.", PROPERTIES_FILE_NAME);
+                return;
+            }
+            PROPERTIES.load(input);
+            logger.info("Application properties loaded successfully.");
+        } catch (IOException ex) {
+            logger.fatal("Error loading application properties: {}", ex.getMessage(), ex);
+            throw new RuntimeException("Failed to load application properties", ex);
+        }
+    }
+
+    public static String getImportMode() {
+        return PROPERTIES.getProperty("import.mode", "SEQUENTIAL").trim();
+    }
+
+    public static int getImportWorkerThreads() {
+        int configured = getIntProperty("import.workerThreads", 0);
+        return configured > 0 ? configured : Runtime.getRuntime().availableProcessors();
+    }
+
+    public static int getImportChunkLines() {
+        return Math.max(1, getIntProperty("import.chunkLines", 256));
+    }
+
+    public static int getImportMaxChunksInFlight() {
+        return Math.max(1, getIntProperty("import.maxChunksInFlight", 64));
+    }
+
+    public static String getImportCommitMode() {
+        return PROPERTIES.getProperty("import.commitMode", "STRICT").trim();
+    }
+
+    public static int getImportCommitInterval() {
+        return Math.max(1, getIntProperty("import.commitInterval", 10_000));
+    }
+
+    public static String getImportReaderMode() {
+        return PROPERTIES.getProperty("import.readerMode", "STREAM").trim();
+    }
+
+    public static String getImportWriteMode() {
+        return PROPERTIES.getProperty("import.writeMode", "INSERT").trim();
+    }
+
+    public static int getImportMaxErrorRecords() {
+        return Math.max(0, getIntProperty("import.maxErrorRecords", 100_000));
+    }
+
+    public static EmployeeValidationEngine.Mode getValidationMode() {
+        String configured = PROPERTIES.getProperty("validation.mode", "FAST").trim();
+        try {
+            return EmployeeValidationEngine.Mode.valueOf(configured.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown validation.mode '{}'. Using FAST.", configured);
+            return EmployeeValidationEngine.Mode.FAST;
+        }
+    }
+
+    public static boolean isCacheEnabled() {
+        return Boolean.parseBoolean(PROPERTIES.getProperty("cache.enabled", "true").trim());
+    }
+
+    public static int getCacheMaxSize() {
+        return Math.max(0, getIntProperty("cache.maxSize", 10_000));
+    }
+
+    public static long getCacheTtlSeconds() {
+        return Math.max(1, getLongProperty("cache.ttlSeconds", 300));
+    }
+
+    public static long getCacheNegativeTtlSeconds() {
+        return Math.max(0, getLongProperty("cache.negativeTtlSeconds", 30));
+    }
+
+    public static String getRepositoryType() {
+        return PROPERTIES.getProperty("repository.type", "JDBC").trim();
+    }
+
+    public static String getAsyncExecutor() {
+        return PROPERTIES.getProperty("async.executor", "AUTO").trim();
+    }
+
+    // 0 lets the executor size the platform pool from the connection pool.
+    public static int getAsyncPoolSize() {
+        return Math.max(0, getIntProperty("async.poolSize", 0));
+    }
+
+    public static int getAsyncQueueCapacity() {
+        return Math.max(1, getIntProperty("async.queueCapacity", 10_000));
+    }
+
+    public static long getAsyncTimeoutMillis() {
+        return Math.max(0, getLongProperty("async.timeoutMs", 30_000));
+    }
+
+    // 0 keeps every analytics scan on the calling thread.
+    public static int getAnalyticsParallelThreshold() {
+        return Math.max(0, getIntProperty("analytics.parallelThreshold", 200_000));
+    }
+
+    // 0 never reloads on age alone.
+    public static long getAnalyticsMaxAgeSeconds() {
+        return Math.max(0, getLongProperty("analytics.maxAgeSeconds", 300));
+    }
+
+    // 0 never reloads on age alone.
+    public static long getIndexMaxAgeSeconds() {
+        return Math.max(0, getLongProperty("index.maxAgeSeconds", 300));
+    }
+
+    // 0 never reloads on age alone.
+    public static long getSearchMaxAgeSeconds() {
+        return Math.max(0, getLongProperty("search.maxAgeSeconds", 300));
+    }
+
+    // ID ranges exported at once, each on its own cursor and connection.
+    public static int getExportPartitions() {
+        return Math.max(1, getIntProperty("export.partitions", 1));
+    }
+
+    public static int getExportBufferSize() {
+        return Math.max(1024, getIntProperty("export.bufferSize", 256 * 1024));
+    }
+
+    // Deflate level for .gz exports, from 1 (fastest) to 9 (smallest).
+    public static int getExportGzipLevel() {
+        return Math.max(1, Math.min(9, getIntProperty("export.gzipLevel", 1)));
+    }
+
+    private static int getIntProperty(String key, int defaultValue) {
+        return (int) getLongProperty(key, defaultValue);
+    }
+
+    private static long getLongProperty(String key, long defaultValue) {
+        String value = PROPERTIES.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for property {}. Using default {}.", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+}
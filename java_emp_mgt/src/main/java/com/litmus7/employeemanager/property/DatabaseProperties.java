@@ -46,4 +46,88 @@ public final class DatabaseProperties {
     public static String getDbPassword() {
         return PROPERTIES.getProperty("db.password");
     }
+
+    public static int getPoolMinSize() {
+        return getIntProperty("db.pool.minSize", 2);
+    }
+
+    public static int getPoolMaxSize() {
+        return getIntProperty("db.pool.maxSize", 10);
+    }
+
+    public static long getPoolIdleTimeoutMillis() {
+        return getLongProperty("db.pool.idleTimeoutMs", 300_000L);
+    }
+
+    public static long getPoolAcquireTimeoutMillis() {
+        return getLongProperty("db.pool.acquireTimeoutMs", 30_000L);
+    }
+
+    public static String getPoolValidationQuery() {
+        return PROPERTIES.getProperty("db.pool.validationQuery", "SELECT 1").trim();
+    }
+
+    public static long getPoolValidationIntervalMillis() {
+        return getLongProperty("db.pool.validationIntervalMs", 30_000L);
+    }
+
+    public static int getBatchSize() {
+        return Math.max(1, getIntProperty("db.batchSize", 500));
+    }
+
+    /**
+     * Driver-specific connection settings, declared as {@code db.connection.<name>=<value>}
+     * and handed to the JDBC driver as {@code <name>=<value>}.
+     */
+    public static Properties getDriverProperties() {
+        Properties driverProperties = new Properties();
+        String prefix = "db.connection.";
+        for (String key : PROPERTIES.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                driverProperties.setProperty(key.substring(prefix.length()), PROPERTIES.getProperty(key).trim());
+            }
+        }
+        return driverProperties;
+    }
+
+    public static int getStreamingFetchSize() {
+        return getIntProperty("db.streamingFetchSize", 1000);
+    }
+
+    // Connections one ID-list lookup may use at once; never more than the pool holds.
+    public static int getInListParallelism() {
+        return Math.max(1, Math.min(getPoolMaxSize(), getIntProperty("db.inListParallelism", 4)));
+    }
+
+    // BATCH (one UPDATE per ID in a JDBC batch) or SET (chunked IN-list / temporary-table UPDATEs).
+    public static String getTransferMode() {
+        return PROPERTIES.getProperty("db.transfer.mode", "SET").trim();
+    }
+
+    // Transfers of at least this many distinct IDs join against a temporary ID table instead of IN lists.
+    public static int getTransferTempTableThreshold() {
+        return Math.max(1, getIntProperty("db.transfer.tempTableThreshold", 50_000));
+    }
+
+    // Items per commit for bulk updates and deletes; 0 runs the whole request in one transaction.
+    public static int getBulkCommitChunkSize() {
+        return Math.max(0, getIntProperty("db.bulk.commitChunkSize", 0));
+    }
+
+    private static int getIntProperty(String key, int defaultValue) {
+        return (int) getLongProperty(key, defaultValue);
+    }
+
+    private static long getLongProperty(String key, long defaultValue) {
+        String value = PROPERTIES.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for property {}. Using default {}.", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
 }
\ No newline at end of file
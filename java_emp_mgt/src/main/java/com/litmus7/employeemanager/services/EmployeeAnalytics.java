@@ -0,0 +1,565 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.constant.AnalyticsGroupBy;
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.dto.GroupStats;
+import com.litmus7.employeemanager.dto.SalaryPercentiles;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * In-memory copy of the columns reports need: employee ID, department code, salary and join date
+ * as parallel primitive arrays. Group-by statistics, counts and salary percentiles are answered
+ * by plain loops over those arrays, without a query. Loading and keeping the columns current is
+ * left to {@link InMemoryEmployeeView}.
+ * <p>
+ * Scans of at least {@code parallelThreshold} rows are split across the common fork/join pool.
+ */
+final class EmployeeAnalytics extends InMemoryEmployeeView<EmployeeAnalytics.Columns> {
+
+    private static final int NO_JOIN_DATE = EmployeeRecordStore.NO_JOIN_DATE;
+    private static final int NO_JOIN_MONTH = Integer.MIN_VALUE;
+    private static final int ANY_DEPARTMENT = -1;
+    private static final int UNKNOWN_DEPARTMENT = -2;
+    private static final int MAX_GROUPS = 100_000;
+    private static final int MIN_PARALLEL_CHUNK = 16_384;
+
+    private final int parallelThreshold;
+
+    EmployeeAnalytics(int parallelThreshold, long maxAgeSeconds) {
+        super(maxAgeSeconds);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    Columns load(EmployeeRepository repository) throws DAOException {
+        return Columns.of(repository.findAllEmployees());
+    }
+
+    int size(Columns columns) {
+        return columns.size;
+    }
+
+    void upsert(Columns columns, EmployeeDTO employee) {
+        columns.upsert(employee);
+    }
+
+    void remove(Columns columns, int employeeId) {
+        columns.remove(employeeId);
+    }
+
+    void transfer(Columns columns, List<Integer> employeeIds, String newDepartment) {
+        int departmentCode = columns.departmentCodeOf(newDepartment);
+        for (Integer employeeId : employeeIds) {
+            columns.setDepartment(employeeId, departmentCode);
+        }
+    }
+
+    int countEmployees(EmployeeRepository repository, EmployeeFilter filter) throws DAOException {
+        Columns current = acquire(repository);
+        try {
+            RowFilter rowFilter = new RowFilter(current, filter);
+            if (rowFilter.department == UNKNOWN_DEPARTMENT) {
+                return 0;
+            }
+            int count = 0;
+            for (int row = 0; row < current.size; row++) {
+                count += rowFilter.matches(current, row) ? 1 : 0;
+            }
+            return count;
+        } finally {
+            release();
+        }
+    }
+
+    // Groups in key order: departments alphabetically, join-date periods chronologically.
+    List<GroupStats> groupStats(EmployeeRepository repository, EmployeeFilter filter, AnalyticsGroupBy groupBy)
+            throws DAOException {
+        Columns current = acquire(repository);
+        try {
+            Grouping grouping;
+            switch (groupBy) {
+                case DEPARTMENT:
+                    grouping = Grouping.byDepartment(current);
+                    break;
+                case JOIN_YEAR:
+                    grouping = Grouping.byJoinPeriod(current, 12);
+                    break;
+                case JOIN_QUARTER:
+                    grouping = Grouping.byJoinPeriod(current, 3);
+                    break;
+                default:
+                    grouping = Grouping.byJoinPeriod(current, 1);
+            }
+            return aggregate(current, new RowFilter(current, filter), grouping);
+        } finally {
+            release();
+        }
+    }
+
+    // Salary bands of bandWidth starting at multiples of bandWidth, in ascending order.
+    List<GroupStats> salaryBands(EmployeeRepository repository, EmployeeFilter filter, double bandWidth)
+            throws DAOException {
+        Columns current = acquire(repository);
+        try {
+            return aggregate(current, new RowFilter(current, filter), Grouping.bySalaryBand(current, bandWidth));
+        } finally {
+            release();
+        }
+    }
+
+    SalaryPercentiles salaryPercentiles(EmployeeRepository repository, EmployeeFilter filter, double[] percentiles)
+            throws DAOException {
+        double[] sorted;
+        Columns current = acquire(repository);
+        try {
+            RowFilter rowFilter = new RowFilter(current, filter);
+            sorted = rowFilter.isEmpty() ? current.sortedSalaries(this) : sortedSalaries(current, rowFilter);
+        } finally {
+            release();
+        }
+
+        double[] values = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            values[i] = interpolate(sorted, percentiles[i]);
+        }
+        return new SalaryPercentiles(percentiles, values, sorted.length);
+    }
+
+    private List<GroupStats> aggregate(Columns current, RowFilter rowFilter, Grouping grouping) {
+        if (grouping.groupCount == 0 || rowFilter.department == UNKNOWN_DEPARTMENT) {
+            return Collections.emptyList();
+        }
+        Partial totals;
+        if (isParallel(current.size)) {
+            int chunk = Math.max(MIN_PARALLEL_CHUNK, current.size / (ForkJoinPool.getCommonPoolParallelism() * 4));
+            totals = ForkJoinPool.commonPool().invoke(new AggregateTask(current, rowFilter, grouping, 0, current.size, chunk));
+        } else {
+            totals = new Partial(grouping);
+            totals.accumulate(current, rowFilter, grouping, 0, current.size);
+        }
+
+        List<GroupStats> result = new ArrayList<>();
+        for (int group = 0; group < grouping.groupCount; group++) {
+            if (totals.headcount[group] > 0) {
+                result.add(new GroupStats(grouping.label(current, group), totals.headcount[group],
+                        totals.salaryCount[group], totals.salarySum[group], totals.minSalary[group], totals.maxSalary[group]));
+            }
+        }
+        if (grouping.sortByKey) {
+            result.sort(Comparator.comparing(GroupStats::getKey, Comparator.nullsLast(Comparator.<String>naturalOrder())));
+        }
+        return result;
+    }
+
+    private double[] sortedSalaries(Columns current, RowFilter rowFilter) {
+        double[] salaries = new double[current.size];
+        int count = 0;
+        if (rowFilter.department != UNKNOWN_DEPARTMENT) {
+            for (int row = 0; row < current.size; row++) {
+                double salary = current.salaries[row];
+                if (salary == salary && rowFilter.matches(current, row)) {
+                    salaries[count++] = salary;
+                }
+            }
+        }
+        return sort(Arrays.copyOf(salaries, count));
+    }
+
+    private double[] sort(double[] values) {
+        if (isParallel(values.length)) {
+            Arrays.parallelSort(values);
+        } else {
+            Arrays.sort(values);
+        }
+        return values;
+    }
+
+    private boolean isParallel(int rows) {
+        return parallelThreshold > 0 && rows >= parallelThreshold;
+    }
+
+    private static double interpolate(double[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        double position = percentile / 100 * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    // Resolved once per query so the row loop compares ints only.
+    private static final class RowFilter {
+        final int department;
+        final int fromDay;
+        final int toDay;
+
+        RowFilter(Columns columns, EmployeeFilter filter) {
+            if (filter == null || filter.getDepartment() == null) {
+                department = ANY_DEPARTMENT;
+            } else {
+                Integer code = columns.departmentCodes.get(filter.getDepartment());
+                department = code == null ? UNKNOWN_DEPARTMENT : code;
+            }
+            LocalDate from = filter == null ? null : filter.getJoinDateFrom();
+            LocalDate to = filter == null ? null : filter.getJoinDateTo();
+            // A bound on the join date leaves out rows without one.
+            fromDay = from != null ? (int) from.toEpochDay() : (to != null ? NO_JOIN_DATE + 1 : NO_JOIN_DATE);
+            toDay = to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE;
+        }
+
+        boolean isEmpty() {
+            return department == ANY_DEPARTMENT && fromDay == NO_JOIN_DATE && toDay == Integer.MAX_VALUE;
+        }
+
+        // Non-short-circuit operators keep random data from defeating branch prediction.
+        boolean matches(Columns columns, int row) {
+            int joinDay = columns.joinDays[row];
+            return (department == ANY_DEPARTMENT | columns.departments[row] == department)
+                    & joinDay >= fromDay & joinDay <= toDay;
+        }
+    }
+
+    private static final class Grouping {
+        // 0 department, 1 join period, 2 salary band
+        final int kind;
+        final int groupCount;
+        final int base;
+        final int monthsPerPeriod;
+        final double bandWidth;
+        final boolean sortByKey;
+        // Group of each join month from firstMonth, so the row loop looks up instead of dividing.
+        final int firstMonth;
+        final int[] groupByMonth;
+
+        private Grouping(int kind, int groupCount, int base, int monthsPerPeriod, double bandWidth, boolean sortByKey,
+                         int firstMonth, int[] groupByMonth) {
+            this.kind = kind;
+            this.groupCount = groupCount;
+            this.base = base;
+            this.monthsPerPeriod = monthsPerPeriod;
+            this.bandWidth = bandWidth;
+            this.sortByKey = sortByKey;
+            this.firstMonth = firstMonth;
+            this.groupByMonth = groupByMonth;
+        }
+
+        static Grouping byDepartment(Columns columns) {
+            return new Grouping(0, columns.departmentNames.size(), 0, 0, 0, true, 0, null);
+        }
+
+        static Grouping byJoinPeriod(Columns columns, int monthsPerPeriod) {
+            if (columns.minJoinMonth > columns.maxJoinMonth) {
+                return new Grouping(1, 0, 0, monthsPerPeriod, 0, false, 0, new int[0]);
+            }
+            int base = Math.floorDiv(columns.minJoinMonth, monthsPerPeriod);
+            int count = Math.floorDiv(columns.maxJoinMonth, monthsPerPeriod) - base + 1;
+            int[] groupByMonth = new int[columns.maxJoinMonth - columns.minJoinMonth + 1];
+            for (int i = 0; i < groupByMonth.length; i++) {
+                groupByMonth[i] = Math.floorDiv(columns.minJoinMonth + i, monthsPerPeriod) - base;
+            }
+            return new Grouping(1, count, base, monthsPerPeriod, 0, false, columns.minJoinMonth, groupByMonth);
+        }
+
+        static Grouping bySalaryBand(Columns columns, double bandWidth) {
+            if (columns.minSalary > columns.maxSalary) {
+                return new Grouping(2, 0, 0, 0, bandWidth, false, 0, null);
+            }
+            long base = (long) Math.floor(columns.minSalary / bandWidth);
+            long count = (long) Math.floor(columns.maxSalary / bandWidth) - base + 1;
+            if (count > MAX_GROUPS || base < Integer.MIN_VALUE || base > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Salary band width " + bandWidth + " gives more than "
+                        + MAX_GROUPS + " bands");
+            }
+            return new Grouping(2, (int) count, (int) base, 0, bandWidth, false, 0, null);
+        }
+
+        // groupCount, the spare slot every Partial has, if the row belongs to no group.
+        int groupOf(Columns columns, int row) {
+            switch (kind) {
+                case 0:
+                    return columns.departments[row];
+                case 1:
+                    int joinMonth = columns.joinMonths[row];
+                    return joinMonth == NO_JOIN_MONTH ? groupCount : groupByMonth[joinMonth - firstMonth];
+                default:
+                    double salary = columns.salaries[row];
+                    int band = (int) Math.floor(salary / bandWidth) - base;
+                    return salary == salary ? band : groupCount;
+            }
+        }
+
+        String label(Columns columns, int group) {
+            switch (kind) {
+                case 0:
+                    return columns.departmentNames.get(group);
+                case 1:
+                    int period = base + group;
+                    if (monthsPerPeriod == 12) {
+                        return String.valueOf(period);
+                    }
+                    int firstMonth = period * monthsPerPeriod;
+                    int year = Math.floorDiv(firstMonth, 12);
+                    int month = Math.floorMod(firstMonth, 12);
+                    return monthsPerPeriod == 3 ? year + "-Q" + (month / 3 + 1) : String.format("%d-%02d", year, month + 1);
+                default:
+                    BigDecimal width = BigDecimal.valueOf(bandWidth);
+                    BigDecimal lower = width.multiply(BigDecimal.valueOf(base + (long) group));
+                    return "[" + lower.stripTrailingZeros().toPlainString() + ", "
+                            + lower.add(width).stripTrailingZeros().toPlainString() + ")";
+            }
+        }
+    }
+
+    private static final class Partial {
+        final int[] headcount;
+        final int[] salaryCount;
+        final double[] salarySum;
+        final double[] minSalary;
+        final double[] maxSalary;
+
+        // One slot per group plus a spare one that collects rows outside every group.
+        Partial(Grouping grouping) {
+            int groups = grouping.groupCount + 1;
+            headcount = new int[groups];
+            salaryCount = new int[groups];
+            salarySum = new double[groups];
+            minSalary = new double[groups];
+            maxSalary = new double[groups];
+            Arrays.fill(minSalary, Double.POSITIVE_INFINITY);
+            Arrays.fill(maxSalary, Double.NEGATIVE_INFINITY);
+        }
+
+        // Filtered-out rows and rows without a salary are added to the spare slot or as neutral
+        // values instead of being skipped, so the loop has no data-dependent branches.
+        void accumulate(Columns columns, RowFilter rowFilter, Grouping grouping, int from, int to) {
+            int spare = grouping.groupCount;
+            double[] salaries = columns.salaries;
+            for (int row = from; row < to; row++) {
+                int group = rowFilter.matches(columns, row) ? grouping.groupOf(columns, row) : spare;
+                double salary = salaries[row];
+                boolean hasSalary = salary == salary;
+                headcount[group]++;
+                salaryCount[group] += hasSalary ? 1 : 0;
+                salarySum[group] += hasSalary ? salary : 0;
+                minSalary[group] = Math.min(minSalary[group], hasSalary ? salary : Double.POSITIVE_INFINITY);
+                maxSalary[group] = Math.max(maxSalary[group], hasSalary ? salary : Double.NEGATIVE_INFINITY);
+            }
+        }
+
+        Partial merge(Partial other) {
+            for (int group = 0; group < headcount.length; group++) {
+                headcount[group] += other.headcount[group];
+                salaryCount[group] += other.salaryCount[group];
+                salarySum[group] += other.salarySum[group];
+                minSalary[group] = Math.min(minSalary[group], other.minSalary[group]);
+                maxSalary[group] = Math.max(maxSalary[group], other.maxSalary[group]);
+            }
+            return this;
+        }
+    }
+
+    private static final class AggregateTask extends RecursiveTask<Partial> {
+        private final Columns columns;
+        private final RowFilter rowFilter;
+        private final Grouping grouping;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        AggregateTask(Columns columns, RowFilter rowFilter, Grouping grouping, int from, int to, int chunk) {
+            this.columns = columns;
+            this.rowFilter = rowFilter;
+            this.grouping = grouping;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        protected Partial compute() {
+            if (to - from <= chunk) {
+                Partial partial = new Partial(grouping);
+                partial.accumulate(columns, rowFilter, grouping, from, to);
+                return partial;
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask left = new AggregateTask(columns, rowFilter, grouping, from, middle, chunk);
+            left.fork();
+            Partial right = new AggregateTask(columns, rowFilter, grouping, middle, to, chunk).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * The columns themselves; row order is arbitrary because a delete moves the last row into
+     * the freed slot. Not thread-safe; guarded by the view's lock.
+     */
+    static final class Columns {
+        int size;
+        int[] employeeIds;
+        int[] departments;
+        double[] salaries;
+        int[] joinDays;
+        // year * 12 + month - 1, so periods of 1, 3 or 12 months are a division away.
+        int[] joinMonths;
+        final IntLongHashMap rowsById;
+        final List<String> departmentNames = new ArrayList<>();
+        final Map<String, Integer> departmentCodes = new HashMap<>();
+        // Bounds only ever widen; they size the group arrays.
+        int minJoinMonth = Integer.MAX_VALUE;
+        int maxJoinMonth = Integer.MIN_VALUE;
+        double minSalary = Double.POSITIVE_INFINITY;
+        double maxSalary = Double.NEGATIVE_INFINITY;
+        // Every salary in ascending order; dropped on any change and rebuilt by the next reader.
+        volatile double[] sortedSalaries;
+
+        Columns(int capacity) {
+            capacity = Math.max(16, capacity);
+            employeeIds = new int[capacity];
+            departments = new int[capacity];
+            salaries = new double[capacity];
+            joinDays = new int[capacity];
+            joinMonths = new int[capacity];
+            rowsById = new IntLongHashMap(capacity);
+        }
+
+        static Columns of(EmployeeRecordStore store) {
+            Columns columns = new Columns(store.size());
+            List<String> storeDepartments = store.getDepartments();
+            int[] departmentCodes = new int[storeDepartments.size()];
+            for (int i = 0; i < departmentCodes.length; i++) {
+                departmentCodes[i] = columns.departmentCodeOf(storeDepartments.get(i));
+            }
+            int noDepartment = -1;
+            for (int row = 0; row < store.size(); row++) {
+                int storeCode = store.getDepartmentCode(row);
+                int departmentCode;
+                if (storeCode >= 0) {
+                    departmentCode = departmentCodes[storeCode];
+                } else {
+                    if (noDepartment < 0) {
+                        noDepartment = columns.departmentCodeOf(null);
+                    }
+                    departmentCode = noDepartment;
+                }
+                columns.append(store.getEmployeeId(row), departmentCode, store.getSalary(row), store.getJoinEpochDay(row));
+            }
+            return columns;
+        }
+
+        int departmentCodeOf(String department) {
+            Integer code = departmentCodes.get(department);
+            if (code == null) {
+                code = departmentNames.size();
+                departmentNames.add(department);
+                departmentCodes.put(department, code);
+            }
+            return code;
+        }
+
+        void upsert(EmployeeDTO employee) {
+            Double salary = employee.getSalary();
+            LocalDate joinDate = employee.getJoinDate();
+            int departmentCode = departmentCodeOf(employee.getDepartment());
+            double salaryValue = salary == null ? Double.NaN : salary;
+            int joinDay = joinDate == null ? NO_JOIN_DATE : (int) joinDate.toEpochDay();
+            int row = (int) rowsById.get(employee.getEmployeeId(), -1);
+            if (row < 0) {
+                append(employee.getEmployeeId(), departmentCode, salaryValue, joinDay);
+            } else {
+                set(row, departmentCode, salaryValue, joinDay);
+            }
+        }
+
+        void setDepartment(int employeeId, int departmentCode) {
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row >= 0) {
+                departments[row] = departmentCode;
+            }
+        }
+
+        void remove(int employeeId) {
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row < 0) {
+                return;
+            }
+            rowsById.remove(employeeId);
+            int last = --size;
+            if (row != last) {
+                employeeIds[row] = employeeIds[last];
+                departments[row] = departments[last];
+                salaries[row] = salaries[last];
+                joinDays[row] = joinDays[last];
+                joinMonths[row] = joinMonths[last];
+                rowsById.put(employeeIds[row], row);
+            }
+            sortedSalaries = null;
+        }
+
+        double[] sortedSalaries(EmployeeAnalytics analytics) {
+            double[] sorted = sortedSalaries;
+            if (sorted == null) {
+                double[] values = new double[size];
+                int count = 0;
+                for (int row = 0; row < size; row++) {
+                    double salary = salaries[row];
+                    if (salary == salary) {
+                        values[count++] = salary;
+                    }
+                }
+                sorted = analytics.sort(Arrays.copyOf(values, count));
+                sortedSalaries = sorted;
+            }
+            return sorted;
+        }
+
+        private void append(int employeeId, int departmentCode, double salary, int joinDay) {
+            if (size == employeeIds.length) {
+                int capacity = size + (size >> 1);
+                employeeIds = Arrays.copyOf(employeeIds, capacity);
+                departments = Arrays.copyOf(departments, capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+                joinDays = Arrays.copyOf(joinDays, capacity);
+                joinMonths = Arrays.copyOf(joinMonths, capacity);
+            }
+            int row = size++;
+            employeeIds[row] = employeeId;
+            rowsById.put(employeeId, row);
+            set(row, departmentCode, salary, joinDay);
+        }
+
+        private void set(int row, int departmentCode, double salary, int joinDay) {
+            departments[row] = departmentCode;
+            salaries[row] = salary;
+            joinDays[row] = joinDay;
+            int joinMonth = NO_JOIN_MONTH;
+            if (joinDay != NO_JOIN_DATE) {
+                LocalDate joinDate = LocalDate.ofEpochDay(joinDay);
+                joinMonth = joinDate.getYear() * 12 + joinDate.getMonthValue() - 1;
+                minJoinMonth = Math.min(minJoinMonth, joinMonth);
+                maxJoinMonth = Math.max(maxJoinMonth, joinMonth);
+            }
+            joinMonths[row] = joinMonth;
+            if (salary == salary) {
+                minSalary = Math.min(minSalary, salary);
+                maxSalary = Math.max(maxSalary, salary);
+            }
+            sortedSalaries = null;
+        }
+    }
+}
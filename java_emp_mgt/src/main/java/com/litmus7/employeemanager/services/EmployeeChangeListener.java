@@ -0,0 +1,26 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+
+import java.util.List;
+
+/**
+ * Told by {@link EmployeeManagementService} about every write it makes, so in-memory views of the
+ * table can follow along without re-reading it. Called on the writing thread after the write;
+ * implementations must be thread-safe and must not throw.
+ */
+interface EmployeeChangeListener {
+
+    // These rows now hold exactly these values (inserted or updated).
+    void employeesWritten(List<EmployeeDTO> employees);
+
+    void employeesDeleted(List<Integer> employeeIds);
+
+    void employeesTransferred(List<Integer> employeeIds, String newDepartment);
+
+    // These rows may have changed in ways the service does not know, e.g. after a failed write.
+    void employeesChanged(List<Integer> employeeIds);
+
+    // Any row may have changed, e.g. after an import or a predicate delete.
+    void allEmployeesChanged();
+}
@@ -0,0 +1,229 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.ExportResult;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.EmployeeCsvWriter;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams the employee table into one CSV file that {@code importEmployees} reads back. With more
+ * than one partition, the ID range between the lowest and highest ID is cut into equal spans,
+ * each read by its own cursor into its own part file on its own thread, and the parts are then
+ * joined with channel-to-channel copies. Gzip parts are complete gzip members, and concatenated
+ * members are one valid gzip file.
+ * <p>
+ * The file only appears under its name once it is complete; on failure the parts are removed and
+ * an existing file of that name is left as it was. When one partition fails, the others stop at
+ * their next row, and the parts are removed once their workers have ended.
+ * <p>
+ * One instance runs one export.
+ */
+final class EmployeeCsvExport {
+
+    private static final Logger logger = LogManager.getLogger(EmployeeCsvExport.class);
+    // Longest wait for the other partitions to stop after one has failed.
+    private static final long WORKER_STOP_TIMEOUT_SECONDS = 30;
+
+    private final EmployeeRepository repository;
+    private final int partitions;
+    private final int bufferSize;
+    private final int gzipLevel;
+    // Set once a partition has failed; the other workers stop at their next row.
+    private volatile boolean cancelled;
+
+    // gzipLevel -1 writes plain CSV.
+    EmployeeCsvExport(EmployeeRepository repository, int partitions, int bufferSize, int gzipLevel) {
+        this.repository = repository;
+        this.partitions = Math.max(1, partitions);
+        this.bufferSize = bufferSize;
+        this.gzipLevel = gzipLevel;
+    }
+
+    ExportResult run(String filePath) throws DAOException, IOException, InterruptedException {
+        long startNanos = System.nanoTime();
+        List<int[]> ranges = partitionRanges();
+        List<Path> parts = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            parts.add(Paths.get(filePath + ".part" + i));
+        }
+        Path target = Paths.get(filePath);
+        try {
+            long[] totals = writeParts(ranges, parts);
+            Path assembled = parts.size() == 1 ? parts.get(0) : concatenate(parts, Paths.get(filePath + ".tmp"));
+            moveIntoPlace(assembled, target);
+            ExportResult result = new ExportResult(filePath, totals[0], totals[1], Files.size(target), ranges.size(),
+                    gzipLevel >= 0, System.nanoTime() - startNanos);
+            logger.info("Exported {} employees to {} in {} partitions: {}", result.getRowCount(), filePath,
+                    result.getPartitionCount(), result);
+            return result;
+        } finally {
+            for (Path part : parts) {
+                deleteQuietly(part);
+            }
+            deleteQuietly(Paths.get(filePath + ".tmp"));
+        }
+    }
+
+    // Inclusive ID spans, one per partition; a single null span stands for the whole table.
+    private List<int[]> partitionRanges() throws DAOException {
+        List<int[]> ranges = new ArrayList<>();
+        int[] bounds = partitions > 1 ? repository.findEmployeeIdBounds() : null;
+        if (bounds == null) {
+            ranges.add(null);
+            return ranges;
+        }
+        long lowest = bounds[0];
+        long span = (long) bounds[1] - lowest + 1;
+        int count = (int) Math.min(partitions, span);
+        for (int i = 0; i < count; i++) {
+            long from = lowest + span * i / count;
+            long to = lowest + span * (i + 1) / count - 1;
+            ranges.add(new int[] {(int) from, (int) to});
+        }
+        return ranges;
+    }
+
+    // Returns the total rows and CSV bytes written.
+    private long[] writeParts(List<int[]> ranges, List<Path> parts) throws DAOException, IOException, InterruptedException {
+        if (ranges.size() == 1) {
+            return writePart(ranges.get(0), parts.get(0), true);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(ranges.size(), runnable -> {
+            Thread thread = new Thread(runnable, "employee-export-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<long[]>> futures = new ArrayList<>(ranges.size());
+        try {
+            for (int i = 0; i < ranges.size(); i++) {
+                int[] range = ranges.get(i);
+                Path part = parts.get(i);
+                boolean header = i == 0;
+                futures.add(executor.submit((Callable<long[]>) () -> writePart(range, part, header)));
+            }
+            long[] totals = new long[2];
+            for (Future<long[]> future : futures) {
+                long[] written = future.get();
+                totals[0] += written[0];
+                totals[1] += written[1];
+            }
+            return totals;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DAOException) {
+                throw (DAOException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Export partition failed: " + cause.getMessage(), cause);
+        } finally {
+            cancelled = true;
+            for (Future<long[]> future : futures) {
+                future.cancel(true);
+            }
+            executor.shutdownNow();
+            awaitWorkers(executor);
+        }
+    }
+
+    // Interrupts do not stop a blocking ResultSet.next(), so the part files stay open until then.
+    private static void awaitWorkers(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(WORKER_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Export partitions still running after {} seconds; their part files may remain.",
+                        WORKER_STOP_TIMEOUT_SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("Interrupted while waiting for export partitions to stop.");
+        }
+    }
+
+    private long[] writePart(int[] range, Path part, boolean header) throws DAOException, IOException {
+        long[] written;
+        try (EmployeeCsvWriter writer = new EmployeeCsvWriter(part.toString(), bufferSize, gzipLevel)) {
+            if (header) {
+                writer.writeHeader();
+            }
+            try {
+                if (range == null) {
+                    repository.forEachEmployee(employee -> write(writer, employee));
+                } else {
+                    repository.forEachEmployeeInRange(range[0], range[1], employee -> write(writer, employee));
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            written = new long[] {writer.getRowCount(), writer.getBytesWritten()};
+        }
+        logger.debug("Wrote {} employees to {}.", written[0], part);
+        return written;
+    }
+
+    private void write(EmployeeCsvWriter writer, EmployeeDTO employee) {
+        try {
+            if (cancelled) {
+                throw new InterruptedIOException("Export cancelled after another partition failed.");
+            }
+            writer.write(employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // A failed delete is logged rather than thrown, so it cannot hide the export's own error.
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Could not delete export file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static Path concatenate(List<Path> parts, Path assembled) throws IOException {
+        try (FileChannel out = FileChannel.open(assembled, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path part : parts) {
+                try (FileChannel in = FileChannel.open(part, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long copied = 0; copied < size; ) {
+                        copied += in.transferTo(copied, size - copied, out);
+                    }
+                }
+            }
+        }
+        return assembled;
+    }
+
+    private static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
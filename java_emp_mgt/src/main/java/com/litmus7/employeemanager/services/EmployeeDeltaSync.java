@@ -0,0 +1,128 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dao.EmployeeBatchWriter;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.ImportErrorReport;
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.dto.WriteSummary;
+import com.litmus7.employeemanager.util.CsvFileReader;
+import com.litmus7.employeemanager.util.EmployeeContentHash;
+import com.litmus7.employeemanager.util.EmployeeRecordParser;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compares a CSV file with the table's content hashes and sends only the rows that differ. New
+ * and changed rows go through an UPSERT batch writer, so a nightly file with little churn costs
+ * one streamed read of the table plus a write per changed row. IDs in the table but not in the
+ * file are collected for the caller to delete.
+ * <p>
+ * Without a writer nothing is sent and the collected IDs are a dry-run diff.
+ */
+final class EmployeeDeltaSync {
+
+    private static final Logger logger = LogManager.getLogger(EmployeeDeltaSync.class);
+
+    private final IntLongHashMap tableHashes;
+    private final EmployeeBatchWriter batchWriter;
+    private final ImportErrorReport errorReport;
+    private final WriteSummary writeSummary = new WriteSummary();
+
+    private final IntHashSet fileEmployeeIds = new IntHashSet(1024);
+    private final IntHashSet insertIds = new IntHashSet();
+    private final IntHashSet updateIds = new IntHashSet();
+    private int unchangedCount;
+
+    // batchWriter must be an UPSERT writer, or null for a dry run.
+    EmployeeDeltaSync(IntLongHashMap tableHashes, EmployeeBatchWriter batchWriter, ImportErrorReport errorReport) {
+        this.tableHashes = tableHashes;
+        this.batchWriter = batchWriter;
+        this.errorReport = errorReport;
+    }
+
+    /** Reads every remaining record of {@code reader}, numbering lines from {@code firstLineNumber}. */
+    void run(CsvFileReader reader, int firstLineNumber) throws IOException {
+        int lineNumber = firstLineNumber;
+        long recordOffset = reader.getBytePosition();
+        String record;
+        while ((record = reader.readRecord()) != null) {
+            RecordProcessResult parsed = EmployeeRecordParser.parseLine(record, lineNumber);
+            if (parsed.success) {
+                compare(parsed.employee, lineNumber, recordOffset);
+            } else {
+                errorReport.add(parsed, recordOffset);
+            }
+            lineNumber += reader.getRecordLineCount();
+            recordOffset = reader.getBytePosition();
+        }
+        if (batchWriter != null) {
+            apply(batchWriter.flush());
+        }
+        logger.info("Delta sync compared {} employees: {} new, {} changed, {} unchanged.",
+                fileEmployeeIds.size(), insertIds.size(), updateIds.size(), unchangedCount);
+    }
+
+    private void compare(EmployeeDTO employee, int lineNumber, long recordOffset) {
+        int employeeId = employee.getEmployeeId();
+        if (!fileEmployeeIds.add(employeeId)) {
+            logger.warn("Duplicate employee ID {} found on line {}.", employeeId, lineNumber);
+            errorReport.add(RecordProcessResult.rejected(ImportErrorCodes.DUPLICATE_EMPLOYEE_ID, lineNumber,
+                    String.valueOf(employeeId)), recordOffset);
+            return;
+        }
+        boolean existed = tableHashes.containsKey(employeeId);
+        if (existed && tableHashes.get(employeeId, 0L) == EmployeeContentHash.of(employee)) {
+            unchangedCount++;
+            return;
+        }
+        (existed ? updateIds : insertIds).add(employeeId);
+        if (batchWriter != null) {
+            apply(batchWriter.add(employee, lineNumber, existed));
+        }
+    }
+
+    private void apply(List<RecordProcessResult> results) {
+        for (RecordProcessResult result : results) {
+            if (result.success) {
+                writeSummary.add(result.outcome);
+            } else {
+                writeSummary.add(WriteOutcome.FAILED);
+                errorReport.add(result, -1L);
+            }
+        }
+    }
+
+    // Table IDs that do not appear in the file.
+    int[] getMissingIds() {
+        IntHashSet missingIds = new IntHashSet(Math.max(16, tableHashes.size() - fileEmployeeIds.size()));
+        tableHashes.forEachKey(employeeId -> {
+            if (!fileEmployeeIds.contains(employeeId)) {
+                missingIds.add(employeeId);
+            }
+        });
+        return missingIds.toArray();
+    }
+
+    int[] getInsertIds() {
+        return insertIds.toArray();
+    }
+
+    int[] getUpdateIds() {
+        return updateIds.toArray();
+    }
+
+    int getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    WriteSummary getWriteSummary() {
+        return writeSummary;
+    }
+}
@@ -0,0 +1,285 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Secondary indexes from email, department and join date to employee IDs, so those lookups do
+ * not scan the table. Emails are hashed case-insensitively, departments are dictionary-coded with
+ * one posting set of IDs per department, and join dates are kept in a sorted map for range
+ * queries. Loading and keeping the indexes current is left to {@link InMemoryEmployeeView}.
+ * <p>
+ * The indexes only hold IDs; the service reads the rows themselves by ID.
+ */
+final class EmployeeIndexes extends InMemoryEmployeeView<EmployeeIndexes.Index> {
+
+    private static final int NO_JOIN_DATE = EmployeeRecordStore.NO_JOIN_DATE;
+
+    EmployeeIndexes(long maxAgeSeconds) {
+        super(maxAgeSeconds);
+    }
+
+    Index load(EmployeeRepository repository) throws DAOException {
+        EmployeeRecordStore employees = repository.findAllEmployees();
+        Index index = new Index(employees.size());
+        for (int row = 0; row < employees.size(); row++) {
+            index.put(employees.getEmployeeId(row), employees.getEmail(row), employees.getDepartment(row),
+                    employees.getJoinEpochDay(row));
+        }
+        return index;
+    }
+
+    int size(Index index) {
+        return index.size;
+    }
+
+    void upsert(Index index, EmployeeDTO employee) {
+        LocalDate joinDate = employee.getJoinDate();
+        index.put(employee.getEmployeeId(), employee.getEmail(), employee.getDepartment(),
+                joinDate == null ? NO_JOIN_DATE : (int) joinDate.toEpochDay());
+    }
+
+    void remove(Index index, int employeeId) {
+        index.remove(employeeId);
+    }
+
+    void transfer(Index index, List<Integer> employeeIds, String newDepartment) {
+        int departmentCode = index.departmentCodeOf(newDepartment);
+        for (Integer employeeId : employeeIds) {
+            index.setDepartment(employeeId, departmentCode);
+        }
+    }
+
+    // Ascending IDs of the employees with this email, ignoring case; usually zero or one.
+    int[] findIdsByEmail(EmployeeRepository repository, String email) throws DAOException {
+        String key = normalizeEmail(email);
+        Index index = acquire(repository);
+        try {
+            Integer employeeId = index.idByEmail.get(key);
+            if (employeeId != null) {
+                return new int[] {employeeId};
+            }
+            IntHashSet shared = index.idsBySharedEmail.get(key);
+            return shared == null ? new int[0] : sorted(shared);
+        } finally {
+            release();
+        }
+    }
+
+    // Ascending IDs of the department's employees.
+    int[] findIdsByDepartment(EmployeeRepository repository, String department) throws DAOException {
+        Index index = acquire(repository);
+        try {
+            Integer departmentCode = index.departmentCodes.get(department);
+            return departmentCode == null ? new int[0] : sorted(index.idsByDepartment.get(departmentCode));
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * IDs of the employees who joined between {@code from} and {@code to}, both inclusive and
+     * either one open when null, ordered by join date and then by ID.
+     */
+    int[] findIdsByJoinDate(EmployeeRepository repository, LocalDate from, LocalDate to) throws DAOException {
+        int fromDay = from == null ? NO_JOIN_DATE + 1 : (int) from.toEpochDay();
+        int toDay = to == null ? Integer.MAX_VALUE : (int) to.toEpochDay();
+        if (fromDay > toDay) {
+            return new int[0];
+        }
+        Index index = acquire(repository);
+        try {
+            int[] ids = new int[16];
+            int count = 0;
+            for (IntHashSet sameDay : index.idsByJoinDay.subMap(fromDay, true, toDay, true).values()) {
+                int[] dayIds = sorted(sameDay);
+                if (count + dayIds.length > ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(count + dayIds.length, ids.length * 2));
+                }
+                System.arraycopy(dayIds, 0, ids, count, dayIds.length);
+                count += dayIds.length;
+            }
+            return Arrays.copyOf(ids, count);
+        } finally {
+            release();
+        }
+    }
+
+    static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int[] sorted(IntHashSet ids) {
+        int[] array = ids.toArray();
+        Arrays.sort(array);
+        return array;
+    }
+
+    /**
+     * The indexes plus each indexed employee's current email, department and join date, which
+     * say where to remove the employee from when it changes. Not thread-safe; guarded by the
+     * view's lock.
+     */
+    static final class Index {
+        int size;
+        int[] employeeIds;
+        String[] emails;
+        int[] departments;
+        int[] joinDays;
+        final IntLongHashMap rowsById;
+        final Map<String, Integer> idByEmail;
+        // Emails held by more than one employee; such an email is not in idByEmail.
+        final Map<String, IntHashSet> idsBySharedEmail = new HashMap<>();
+        final List<String> departmentNames = new ArrayList<>();
+        final Map<String, Integer> departmentCodes = new HashMap<>();
+        final List<IntHashSet> idsByDepartment = new ArrayList<>();
+        final TreeMap<Integer, IntHashSet> idsByJoinDay = new TreeMap<>();
+
+        Index(int capacity) {
+            capacity = Math.max(16, capacity);
+            employeeIds = new int[capacity];
+            emails = new String[capacity];
+            departments = new int[capacity];
+            joinDays = new int[capacity];
+            rowsById = new IntLongHashMap(capacity);
+            idByEmail = new HashMap<>(capacity * 4 / 3 + 1);
+        }
+
+        int departmentCodeOf(String department) {
+            Integer code = departmentCodes.get(department);
+            if (code == null) {
+                code = departmentNames.size();
+                departmentNames.add(department);
+                departmentCodes.put(department, code);
+                idsByDepartment.add(new IntHashSet());
+            }
+            return code;
+        }
+
+        void put(int employeeId, String email, String department, int joinDay) {
+            String key = normalizeEmail(email);
+            int departmentCode = departmentCodeOf(department);
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row < 0) {
+                if (size == employeeIds.length) {
+                    grow();
+                }
+                row = size++;
+                employeeIds[row] = employeeId;
+                rowsById.put(employeeId, row);
+            } else {
+                if (key != null && key.equals(emails[row]) && departments[row] == departmentCode && joinDays[row] == joinDay) {
+                    return;
+                }
+                unindex(row);
+            }
+            emails[row] = key;
+            departments[row] = departmentCode;
+            joinDays[row] = joinDay;
+            index(row);
+        }
+
+        void setDepartment(int employeeId, int departmentCode) {
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row >= 0 && departments[row] != departmentCode) {
+                idsByDepartment.get(departments[row]).remove(employeeId);
+                departments[row] = departmentCode;
+                idsByDepartment.get(departmentCode).add(employeeId);
+            }
+        }
+
+        // The last row moves into the freed one.
+        void remove(int employeeId) {
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row < 0) {
+                return;
+            }
+            unindex(row);
+            rowsById.remove(employeeId);
+            int last = --size;
+            if (row != last) {
+                employeeIds[row] = employeeIds[last];
+                emails[row] = emails[last];
+                departments[row] = departments[last];
+                joinDays[row] = joinDays[last];
+                rowsById.put(employeeIds[row], row);
+            }
+            emails[last] = null;
+        }
+
+        private void index(int row) {
+            int employeeId = employeeIds[row];
+            String email = emails[row];
+            if (email != null) {
+                IntHashSet shared = idsBySharedEmail.get(email);
+                Integer existing = idByEmail.get(email);
+                if (shared != null) {
+                    shared.add(employeeId);
+                } else if (existing != null) {
+                    shared = new IntHashSet();
+                    shared.add(existing);
+                    shared.add(employeeId);
+                    idByEmail.remove(email);
+                    idsBySharedEmail.put(email, shared);
+                } else {
+                    idByEmail.put(email, employeeId);
+                }
+            }
+            idsByDepartment.get(departments[row]).add(employeeId);
+            if (joinDays[row] != NO_JOIN_DATE) {
+                IntHashSet sameDay = idsByJoinDay.get(joinDays[row]);
+                if (sameDay == null) {
+                    sameDay = new IntHashSet();
+                    idsByJoinDay.put(joinDays[row], sameDay);
+                }
+                sameDay.add(employeeId);
+            }
+        }
+
+        private void unindex(int row) {
+            int employeeId = employeeIds[row];
+            String email = emails[row];
+            if (email != null) {
+                IntHashSet shared = idsBySharedEmail.get(email);
+                if (shared == null) {
+                    idByEmail.remove(email);
+                } else {
+                    shared.remove(employeeId);
+                    if (shared.size() == 1) {
+                        idsBySharedEmail.remove(email);
+                        idByEmail.put(email, shared.toArray()[0]);
+                    }
+                }
+            }
+            idsByDepartment.get(departments[row]).remove(employeeId);
+            if (joinDays[row] != NO_JOIN_DATE) {
+                IntHashSet sameDay = idsByJoinDay.get(joinDays[row]);
+                sameDay.remove(employeeId);
+                if (sameDay.isEmpty()) {
+                    idsByJoinDay.remove(joinDays[row]);
+                }
+            }
+        }
+
+        private void grow() {
+            int capacity = size + (size >> 1);
+            employeeIds = Arrays.copyOf(employeeIds, capacity);
+            emails = Arrays.copyOf(emails, capacity);
+            departments = Arrays.copyOf(departments, capacity);
+            joinDays = Arrays.copyOf(joinDays, capacity);
+        }
+    }
+}
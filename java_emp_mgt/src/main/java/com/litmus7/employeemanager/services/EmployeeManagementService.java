@@ -1,72 +1,209 @@
 package com.litmus7.employeemanager.services;
 
-import com.litmus7.employeemanager.dao.EmployeeDao;
+import com.litmus7.employeemanager.constant.AnalyticsGroupBy;
+import com.litmus7.employeemanager.constant.AppConstants;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dao.EmployeeBatchWriter;
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dao.EmployeeRepositoryFactory;
+import com.litmus7.employeemanager.dao.EmployeeWriteSession;
+import com.litmus7.employeemanager.dto.BulkOperationResult;
+import com.litmus7.employeemanager.dto.CacheStats;
+import com.litmus7.employeemanager.dto.DeltaSyncReport;
+import com.litmus7.employeemanager.dto.DepartmentTransferResult;
 import com.litmus7.employeemanager.dto.EmployeeDTO;
-import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.dto.EmployeeFilter;
+import com.litmus7.employeemanager.dto.EmployeePage;
+import com.litmus7.employeemanager.dto.EmployeeRecordStore;
+import com.litmus7.employeemanager.dto.EmployeeSearchHit;
+import com.litmus7.employeemanager.dto.ExportResult;
+import com.litmus7.employeemanager.dto.GroupStats;
+import com.litmus7.employeemanager.dto.ImportCheckpoint;
+import com.litmus7.employeemanager.dto.ImportErrorReport;
+import com.litmus7.employeemanager.dto.ImportOptions;
+import com.litmus7.employeemanager.dto.SalaryPercentiles;
+import com.litmus7.employeemanager.dto.TransferChunkStats;
 import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.exception.DuplicateEmployeeException;
 import com.litmus7.employeemanager.exception.EmployeeNotFoundException;
 import com.litmus7.employeemanager.exception.ServiceException;
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import com.litmus7.employeemanager.property.DatabaseProperties;
 import com.litmus7.employeemanager.util.CsvFileReader;
-import com.litmus7.employeemanager.util.DatabaseConnectionManager;
+import com.litmus7.employeemanager.util.EmployeeCache;
+import com.litmus7.employeemanager.util.EmployeeRecordParser;
+import com.litmus7.employeemanager.util.ImportCheckpointStore;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+import com.litmus7.employeemanager.util.PageTokenCodec;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
-import java.sql.Connection;
-import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.AbstractMap.SimpleEntry;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 public class EmployeeManagementService {
     
     private static final Logger logger = LogManager.getLogger(EmployeeManagementService.class);
 
-    private final EmployeeDao employeeDao;
+    // Shared by every service instance so a write through one is seen by reads through all.
+    private static final EmployeeCache EMPLOYEE_CACHE = createCache();
+    private static final EmployeeAnalytics EMPLOYEE_ANALYTICS = new EmployeeAnalytics(
+            ApplicationProperties.getAnalyticsParallelThreshold(), ApplicationProperties.getAnalyticsMaxAgeSeconds());
+    private static final EmployeeIndexes EMPLOYEE_INDEXES = new EmployeeIndexes(ApplicationProperties.getIndexMaxAgeSeconds());
+    private static final EmployeeNameIndex EMPLOYEE_NAME_INDEX = new EmployeeNameIndex(ApplicationProperties.getSearchMaxAgeSeconds());
+    // Told about every write made through any service instance.
+    private static final List<EmployeeChangeListener> CHANGE_LISTENERS = new CopyOnWriteArrayList<EmployeeChangeListener>(
+            Arrays.asList(EMPLOYEE_ANALYTICS, EMPLOYEE_INDEXES, EMPLOYEE_NAME_INDEX));
+    // Writes whose events have not been published yet; overlapping ones are re-read, not applied.
+    private static final InFlightWrites IN_FLIGHT_WRITES = new InFlightWrites();
+
+    private final EmployeeRepository employeeRepository;
 
     public EmployeeManagementService() {
-        this.employeeDao = new EmployeeDao();
+        this(EmployeeRepositoryFactory.getRepository());
+    }
+
+    public EmployeeManagementService(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    private static EmployeeCache createCache() {
+        int maxSize = ApplicationProperties.isCacheEnabled() ? ApplicationProperties.getCacheMaxSize() : 0;
+        logger.info("Employee cache configured with max size {}.", maxSize);
+        return new EmployeeCache(maxSize, ApplicationProperties.getCacheTtlSeconds(),
+                ApplicationProperties.getCacheNegativeTtlSeconds());
     }
     
     public int addEmployee(EmployeeDTO employee) throws ServiceException {
         logger.trace("Entering addEmployee() for employee ID: {}", employee.getEmployeeId());
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(Collections.singletonList(employee.getEmployeeId()));
         try {
-            if (employeeDao.isEmployeeIdExists(employee.getEmployeeId())) {
-                logger.warn("Attempted to add existing employee ID {}.", employee.getEmployeeId());
-                throw new ServiceException("Employee with ID " + employee.getEmployeeId() + " already exists.");
-            }
-            int rowsAffected = employeeDao.saveEmployee(employee);
+            // A plain INSERT: only a duplicate primary key means "already exists", so truncation or
+            // other constraint errors still fail instead of being turned into warnings.
+            int rowsAffected = employeeRepository.saveEmployee(employee);
             logger.info("Employee with ID {} added successfully.", employee.getEmployeeId());
+            publishWritten(write, Collections.singletonList(employee));
             return rowsAffected;
+        } catch (DuplicateEmployeeException e) {
+            logger.warn("Attempted to add existing employee ID {}.", employee.getEmployeeId());
+            throw new ServiceException("Employee with ID " + employee.getEmployeeId() + " already exists.", e);
         } catch (DAOException e) {
             logger.error("DAO error adding employee ID {}: {}", employee.getEmployeeId(), e.getMessage(), e);
+            publishChanged(Collections.singletonList(employee.getEmployeeId()));
             throw new ServiceException("Database error adding employee ID " + employee.getEmployeeId(), e);
         } finally {
+            publishChanged(write.end());
+            EMPLOYEE_CACHE.invalidate(employee.getEmployeeId()); // Drops a cached "not found" entry.
             logger.trace("Exiting addEmployee().");
         }
     }
     
+    public WriteOutcome writeEmployee(EmployeeDTO employee, WriteMode mode) throws ServiceException {
+        logger.trace("Entering writeEmployee() for employee ID: {} with mode {}", employee.getEmployeeId(), mode);
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(Collections.singletonList(employee.getEmployeeId()));
+        try {
+            WriteOutcome outcome = employeeRepository.writeEmployee(employee, mode);
+            logger.info("Employee with ID {} written: {}", employee.getEmployeeId(), outcome);
+            if (outcome == WriteOutcome.INSERTED || outcome == WriteOutcome.UPDATED) {
+                publishWritten(write, Collections.singletonList(employee));
+            }
+            return outcome;
+        } catch (DAOException e) {
+            logger.error("DAO error writing employee ID {}: {}", employee.getEmployeeId(), e.getMessage(), e);
+            publishChanged(Collections.singletonList(employee.getEmployeeId()));
+            throw new ServiceException("Database error writing employee ID " + employee.getEmployeeId(), e);
+        } finally {
+            publishChanged(write.end());
+            EMPLOYEE_CACHE.invalidate(employee.getEmployeeId());
+            logger.trace("Exiting writeEmployee().");
+        }
+    }
+
+    public List<WriteOutcome> writeEmployeesInBatch(List<EmployeeDTO> employeeList, WriteMode mode) throws ServiceException {
+        logger.trace("Entering writeEmployeesInBatch() for {} employees with mode {}.",
+                employeeList == null ? 0 : employeeList.size(), mode);
+        if (employeeList == null || employeeList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(idsOf(employeeList));
+        try {
+            List<WriteOutcome> outcomes = employeeRepository.writeEmployeesInBatch(employeeList, mode);
+            logger.info("Batch write of {} employees completed.", employeeList.size());
+            List<EmployeeDTO> written = new ArrayList<>(employeeList.size());
+            for (int i = 0; i < outcomes.size(); i++) {
+                if (outcomes.get(i) == WriteOutcome.INSERTED || outcomes.get(i) == WriteOutcome.UPDATED) {
+                    written.add(employeeList.get(i));
+                }
+            }
+            publishWritten(write, written);
+            return outcomes;
+        } catch (DAOException e) {
+            logger.error("DAO error during batch employee write: {}", e.getMessage(), e);
+            publishChanged(idsOf(employeeList));
+            throw new ServiceException("A database error occurred during batch employee write.", e);
+        } finally {
+            publishChanged(write.end());
+            for (EmployeeDTO employee : employeeList) {
+                if (employee != null) {
+                    EMPLOYEE_CACHE.invalidate(employee.getEmployeeId());
+                }
+            }
+            logger.trace("Exiting writeEmployeesInBatch().");
+        }
+    }
+
     public int[] transferEmployeesToDepartment(List<Integer> employeeIds, String newDepartment) throws ServiceException {
-        logger.trace("Entering transferEmployeesToDepartment() for IDs: {} to department: {}", employeeIds, newDepartment);
+        return transferEmployees(employeeIds, newDepartment).getUpdateCounts();
+    }
+
+    // Same as transferEmployeesToDepartment, but also returns the lock timings of each chunk.
+    public DepartmentTransferResult transferEmployees(List<Integer> employeeIds, String newDepartment) throws ServiceException {
+        logger.trace("Entering transferEmployees() for {} IDs to department: {}",
+                employeeIds == null ? 0 : employeeIds.size(), newDepartment);
         if (employeeIds == null || employeeIds.isEmpty()) {
             logger.warn("Attempted department transfer with an empty list of employee IDs.");
-            return new int[0];
+            return new DepartmentTransferResult(new int[0], Collections.<TransferChunkStats>emptyList());
         }
         if (newDepartment == null || newDepartment.trim().isEmpty()) {
             logger.error("New department name is null or empty. Transfer not possible.");
             throw new ServiceException("New department cannot be null or empty.");
         }
         
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(employeeIds);
         try {
-            int[] results = employeeDao.transferEmployeesToDepartment(employeeIds, newDepartment);
+            DepartmentTransferResult result = employeeRepository.transferEmployees(employeeIds, newDepartment);
             logger.info("Department transfer for {} employees completed.", employeeIds.size());
-            return results;
+            int[] updateCounts = result.getUpdateCounts();
+            List<Integer> transferred = new ArrayList<>(employeeIds.size());
+            for (int i = 0; i < updateCounts.length && i < employeeIds.size(); i++) {
+                if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    transferred.add(employeeIds.get(i));
+                }
+            }
+            publishTransferred(write, transferred, newDepartment);
+            return result;
         } catch (DAOException e) {
             logger.error("DAO error during department transfer: {}", e.getMessage(), e);
+            publishChanged(employeeIds);
             throw new ServiceException("A database error occurred during department transfer. " + e.getMessage(), e);
         } finally {
-            logger.trace("Exiting transferEmployeesToDepartment().");
+            publishChanged(write.end());
+            EMPLOYEE_CACHE.invalidateAll(employeeIds);
+            logger.trace("Exiting transferEmployees().");
         }
     }
 
@@ -75,100 +212,281 @@ public class EmployeeManagementService {
         if (employeeList == null || employeeList.isEmpty()) {
             return new int[0];
         }
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(idsOf(employeeList));
         try {
-            int[] results = employeeDao.addEmployeesInBatch(employeeList);
+            int[] results = employeeRepository.addEmployeesInBatch(employeeList);
             logger.info("Batch creation of {} employees completed.", employeeList.size());
+            List<EmployeeDTO> added = new ArrayList<>(employeeList.size());
+            for (int i = 0; i < results.length && i < employeeList.size(); i++) {
+                if (results[i] > 0 || results[i] == Statement.SUCCESS_NO_INFO) {
+                    added.add(employeeList.get(i));
+                }
+            }
+            publishWritten(write, added);
             return results;
         } catch (DAOException e) {
             logger.error("DAO error during batch employee creation: {}", e.getMessage(), e);
+            publishChanged(idsOf(employeeList));
             throw new ServiceException("A database error occurred during batch employee creation.", e);
         } finally {
+            publishChanged(write.end());
+            for (EmployeeDTO employee : employeeList) {
+                if (employee != null) {
+                    EMPLOYEE_CACHE.invalidate(employee.getEmployeeId());
+                }
+            }
             logger.trace("Exiting addEmployeesInBatch().");
         }
     }
 
     public SimpleEntry<Integer, List<String>> importEmployees(String filePath) throws ServiceException {
-        logger.trace("Entering importEmployees() for file: {}", filePath);
+        return importEmployees(filePath, ImportOptions.defaults());
+    }
+
+    public SimpleEntry<Integer, List<String>> importEmployees(String filePath, ImportOptions options) throws ServiceException {
+        SimpleEntry<Integer, ImportErrorReport> result = importEmployeesWithReport(filePath, options);
+        return new SimpleEntry<>(result.getKey(), result.getValue().asMessages());
+    }
+
+    /**
+     * Imports the CSV file and returns the number of imported employees together with a report of
+     * the rejected records. Error messages are only rendered when the report is read.
+     */
+    public SimpleEntry<Integer, ImportErrorReport> importEmployeesWithReport(String filePath, ImportOptions options)
+            throws ServiceException {
+        logger.trace("Entering importEmployeesWithReport() for file: {} with {}", filePath, options);
         int successfulEntries = 0;
-        List<String> detailedErrorMessages = new ArrayList<>();
-        int totalRecordsAttempted = 0;
+        ImportErrorReport errorReport = new ImportErrorReport(ApplicationProperties.getImportMaxErrorRecords());
+
+        boolean chunkedCommit = options.getCommitMode() == ImportOptions.CommitMode.CHUNKED;
+        ImportCheckpointStore checkpointStore = chunkedCommit ? new ImportCheckpointStore(filePath) : null;
 
-        try (Connection connection = DatabaseConnectionManager.getConnection()) {
-            connection.setAutoCommit(false);
+        IN_FLIGHT_WRITES.beginTableWrite();
+        try (EmployeeWriteSession session = employeeRepository.openWriteSession()) {
             logger.info("Transaction started for CSV import.");
 
-            try (CsvFileReader csvFileReader = new CsvFileReader(filePath)) {
-                csvFileReader.skipHeader();
-                logger.info("CSV header skipped.");
-
-                System.out.println("\n--- Starting Employee Data Import ---");
-                String line;
-                while ((line = csvFileReader.readLine()) != null) {
-                    totalRecordsAttempted++;
-
-                    if (line.trim().isEmpty()) {
-                        String msg = "Line " + (totalRecordsAttempted + 1) + ": SKIPPED (Empty Line)";
-                        logger.warn(msg);
-                        detailedErrorMessages.add(msg);
-                        continue;
+            IntHashSet knownEmployeeIds = session.loadExistingEmployeeIds();
+            boolean readFailed = false;
+
+            try (EmployeeBatchWriter batchWriter = session.openBatchWriter(options.getBatchSize(), options.getWriteMode())) {
+                ImportRecordSink sink = new ImportRecordSink(batchWriter, knownEmployeeIds, errorReport, options.getWriteMode());
+                if (chunkedCommit) {
+                    sink.commitEvery(options.getCommitInterval(), (lineNumber, byteOffset, contentHash) -> {
+                        session.commit();
+                        checkpointStore.save(byteOffset, lineNumber, contentHash);
+                        logger.info("Committed CSV import chunk through line {}.", lineNumber);
+                    });
+                }
+                try (CsvFileReader csvFileReader = new CsvFileReader(filePath, readerMode())) {
+                    // Line 1 is the header, so data starts on line 2 unless resuming.
+                    int firstLineNumber = 2;
+                    ImportCheckpoint checkpoint = chunkedCommit ? checkpointStore.load() : null;
+                    if (checkpoint != null) {
+                        csvFileReader.skipToByteOffset(checkpoint.getByteOffset());
+                        if (csvFileReader.getContentChecksum() != checkpoint.getContentHash()) {
+                            throw new IOException("CSV file changed since the last checkpoint. Delete "
+                                    + checkpointStore.getCheckpointPath() + " to import it from the start.");
+                        }
+                        firstLineNumber = checkpoint.getLineNumber() + 1;
+                        logger.info("Resuming CSV import from line {} ({}).", firstLineNumber, checkpoint);
+                    } else {
+                        csvFileReader.skipHeader();
+                        logger.info("CSV header skipped.");
                     }
 
-                    String[] values = line.split(",", -1);
-                    
-                    try {
-                        RecordProcessResult recordResult = employeeDao.processEmployeeRecord(connection, values, totalRecordsAttempted + 1);
-                        if (recordResult.success) {
-                            successfulEntries++;
-                            System.out.println(recordResult.message);
-                            logger.debug("Successfully processed record on line {}.", (totalRecordsAttempted + 1));
-                        } else {
-                            System.err.println(recordResult.message);
-                            logger.warn("Failed to process record on line {}: {}", (totalRecordsAttempted + 1), recordResult.message);
-                            detailedErrorMessages.add(recordResult.message);
+                    System.out.println("\n--- Starting Employee Data Import ---");
+                    if (options.getMode() == ImportOptions.Mode.STAGED) {
+                        new StagedImportPipeline(options.getWorkerThreads(), ApplicationProperties.getImportChunkLines(),
+                                ApplicationProperties.getImportMaxChunksInFlight()).run(csvFileReader, sink, firstLineNumber);
+                    } else {
+                        int lineNumber = firstLineNumber;
+                        String record;
+                        long recordOffset = csvFileReader.getBytePosition();
+                        while ((record = csvFileReader.readRecord()) != null) {
+                            sink.accept(EmployeeRecordParser.parseLine(record, lineNumber), recordOffset);
+                            lineNumber += csvFileReader.getRecordLineCount();
+                            recordOffset = csvFileReader.getBytePosition();
+                            sink.markPosition(lineNumber - 1, recordOffset, csvFileReader.getContentChecksum());
                         }
-                    } catch (DAOException e) {
-                        String errorMessage = "Failed to insert record from line " + (totalRecordsAttempted + 1) + ". Error: " + e.getMessage();
-                        System.err.println(errorMessage);
-                        logger.error("DAO error on line {}: {}", (totalRecordsAttempted + 1), e.getMessage(), e);
-                        detailedErrorMessages.add(errorMessage);
                     }
+                } catch (IOException e) {
+                    readFailed = true;
+                    String criticalOverallErrorMessage = "Critical Error reading CSV file: " + e.getMessage();
+                    System.err.println(criticalOverallErrorMessage);
+                    logger.fatal("Critical error reading CSV file: {}", e.getMessage(), e);
+                    errorReport.addMessage(criticalOverallErrorMessage);
                 }
-            } catch (IOException e) {
-                String criticalOverallErrorMessage = "Critical Error reading CSV file: " + e.getMessage();
-                System.err.println(criticalOverallErrorMessage);
-                logger.fatal("Critical error reading CSV file: {}", e.getMessage(), e);
-                detailedErrorMessages.add(criticalOverallErrorMessage);
+                sink.flush();
+                successfulEntries = sink.getSuccessfulEntries();
             }
 
-            if (detailedErrorMessages.isEmpty()) {
-                connection.commit();
+            if (chunkedCommit) {
+                // Earlier chunks are already committed; rejected rows do not undo the rest.
+                if (readFailed) {
+                    session.rollback();
+                    logger.warn("CSV import stopped; uncommitted chunk rolled back. Rerun to resume from the last checkpoint.");
+                } else {
+                    session.commit();
+                    checkpointStore.delete();
+                    logger.info("Chunked CSV import completed and checkpoint removed.");
+                }
+            } else if (errorReport.getTotalErrorCount() == 0) {
+                session.commit();
                 logger.info("CSV import transaction committed successfully.");
             } else {
-                connection.rollback();
+                session.rollback();
                 logger.warn("CSV import transaction rolled back due to errors.");
             }
-        } catch (SQLException e) {
+        } catch (DAOException e) {
             logger.error("Database transaction error during import: {}", e.getMessage(), e);
             throw new ServiceException("Database transaction error during import: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Import interrupted: {}", e.getMessage(), e);
+            throw new ServiceException("Import was interrupted.", e);
         } catch (Exception e) {
             logger.error("An unexpected error occurred during import: {}", e.getMessage(), e);
             throw new ServiceException("An unexpected error occurred during import: " + e.getMessage(), e);
         } finally {
-            logger.trace("Exiting importEmployees().");
+            // Imported rows may replace cached "not found" entries.
+            EMPLOYEE_CACHE.invalidateAll();
+            publishAllChanged();
+            IN_FLIGHT_WRITES.endTableWrite();
+            logger.trace("Exiting importEmployeesWithReport().");
         }
         
-        return new SimpleEntry<>(successfulEntries, detailedErrorMessages);
+        return new SimpleEntry<>(successfulEntries, errorReport);
     }
     
+    /**
+     * Brings the table in line with the CSV file, writing only rows whose content differs (see
+     * {@link EmployeeDeltaSync}). With {@code deleteMissing}, IDs absent from the file are deleted,
+     * but only if every record of the file was valid, since a rejected line may hold one of them.
+     * A dry run reads both sides and returns the diff without writing anything.
+     */
+    public DeltaSyncReport syncEmployees(String filePath, boolean deleteMissing, boolean dryRun) throws ServiceException {
+        logger.trace("Entering syncEmployees() for file: {} (deleteMissing={}, dryRun={})", filePath, deleteMissing, dryRun);
+        ImportErrorReport errorReport = new ImportErrorReport(ApplicationProperties.getImportMaxErrorRecords());
+
+        if (!dryRun) {
+            IN_FLIGHT_WRITES.beginTableWrite();
+        }
+        try (EmployeeWriteSession session = employeeRepository.openWriteSession()) {
+            IntLongHashMap tableHashes = session.loadEmployeeContentHashes();
+
+            EmployeeDeltaSync deltaSync;
+            try (EmployeeBatchWriter batchWriter = dryRun ? null
+                         : session.openBatchWriter(DatabaseProperties.getBatchSize(), WriteMode.UPSERT);
+                 CsvFileReader csvFileReader = new CsvFileReader(filePath, readerMode())) {
+                csvFileReader.skipHeader();
+                deltaSync = new EmployeeDeltaSync(tableHashes, batchWriter, errorReport);
+                deltaSync.run(csvFileReader, 2);
+            }
+
+            int[] deleteIds = deleteMissing ? deltaSync.getMissingIds() : new int[0];
+            boolean writesFailed = deltaSync.getWriteSummary().getFailedCount() > 0;
+            boolean applyDeletes = !dryRun && deleteIds.length > 0 && errorReport.getTotalErrorCount() == 0;
+            if (deleteIds.length > 0 && !dryRun && !applyDeletes) {
+                logger.warn("Delta sync found {} IDs missing from the file but skipped deleting them because of rejected records.",
+                        deleteIds.length);
+            }
+            if (applyDeletes) {
+                session.deleteEmployeesByIds(deleteIds);
+            }
+
+            if (dryRun || writesFailed) {
+                session.rollback();
+                if (writesFailed) {
+                    logger.warn("Delta sync rolled back because {} writes failed.", deltaSync.getWriteSummary().getFailedCount());
+                }
+            } else {
+                session.commit();
+                logger.info("Delta sync committed: {}.", deltaSync.getWriteSummary());
+            }
+            DeltaSyncReport report = new DeltaSyncReport(dryRun, deltaSync.getInsertIds(), deltaSync.getUpdateIds(), deleteIds,
+                    deltaSync.getUnchangedCount(), applyDeletes && !writesFailed, deltaSync.getWriteSummary(), errorReport);
+            if (!dryRun && !writesFailed) {
+                // Only IDs and hashes are at hand here, so listeners re-read the synced rows.
+                List<Integer> synced = new ArrayList<>();
+                addAll(synced, report.getInsertedIds());
+                addAll(synced, report.getUpdatedIds());
+                if (report.isDeletesApplied()) {
+                    addAll(synced, report.getDeletedIds());
+                }
+                publishChanged(synced);
+            }
+            return report;
+        } catch (DAOException e) {
+            logger.error("DAO error during delta sync: {}", e.getMessage(), e);
+            if (!dryRun) {
+                publishAllChanged();
+            }
+            throw new ServiceException("A database error occurred during delta sync.", e);
+        } catch (IOException e) {
+            logger.error("Error reading CSV file for delta sync: {}", e.getMessage(), e);
+            throw new ServiceException("Error reading CSV file for delta sync: " + e.getMessage(), e);
+        } finally {
+            if (!dryRun) {
+                EMPLOYEE_CACHE.invalidateAll();
+                IN_FLIGHT_WRITES.endTableWrite();
+            }
+            logger.trace("Exiting syncEmployees().");
+        }
+    }
+
+    private static CsvFileReader.Mode readerMode() {
+        String configured = ApplicationProperties.getImportReaderMode();
+        try {
+            return CsvFileReader.Mode.valueOf(configured.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown import.readerMode '{}'. Using STREAM.", configured);
+            return CsvFileReader.Mode.STREAM;
+        }
+    }
+
     public List<EmployeeDTO> getEmployeesByIds(List<Integer> employeeIds) throws ServiceException {
         logger.trace("Entering getEmployeesByIds() for IDs: {}", employeeIds);
         if (employeeIds == null || employeeIds.isEmpty()) {
             return Collections.emptyList();
         }
+        Set<Integer> uniqueIds = new LinkedHashSet<>(employeeIds);
+        Map<Integer, EmployeeDTO> found = new HashMap<>();
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer employeeId : uniqueIds) {
+            EmployeeCache.Entry entry = employeeId != null ? EMPLOYEE_CACHE.get(employeeId) : null;
+            if (entry == null) {
+                missingIds.add(employeeId);
+            } else if (!entry.isNegative()) {
+                found.put(employeeId, entry.getEmployee());
+            }
+        }
         try {
-            List<EmployeeDTO> employees = employeeDao.findEmployeesByIds(employeeIds);
+            if (!missingIds.isEmpty()) {
+                long loadGeneration = EMPLOYEE_CACHE.currentGeneration();
+                List<EmployeeDTO> loaded = employeeRepository.findEmployeesByIds(missingIds);
+                if (loaded != null) {
+                    for (EmployeeDTO employee : loaded) {
+                        found.put(employee.getEmployeeId(), employee);
+                        EMPLOYEE_CACHE.put(employee, loadGeneration);
+                    }
+                }
+                for (Integer employeeId : missingIds) {
+                    if (employeeId != null && !found.containsKey(employeeId)) {
+                        EMPLOYEE_CACHE.putNegative(employeeId, loadGeneration);
+                    }
+                }
+            }
+            logger.debug("Served {} of {} IDs from the cache.", uniqueIds.size() - missingIds.size(), uniqueIds.size());
+            // Results follow the order of the requested IDs, each employee once.
+            List<EmployeeDTO> employees = new ArrayList<>(found.size());
+            for (Integer employeeId : uniqueIds) {
+                EmployeeDTO employee = found.get(employeeId);
+                if (employee != null) {
+                    employees.add(employee);
+                }
+            }
             logger.info("Found {} employees for the given IDs.", employees.size());
-            return employees != null ? employees : Collections.emptyList();
+            return employees;
         } catch (DAOException e) {
             logger.error("DAO error fetching employees by IDs: {}", e.getMessage(), e);
             throw new ServiceException("Database error fetching employees by IDs: " + e.getMessage(), e);
@@ -179,12 +497,23 @@ public class EmployeeManagementService {
 
     public EmployeeDTO getEmployeeById(int employeeId) throws ServiceException, EmployeeNotFoundException {
         logger.trace("Entering getEmployeeById() for ID: {}", employeeId);
+        EmployeeCache.Entry cached = EMPLOYEE_CACHE.get(employeeId);
+        if (cached != null) {
+            logger.trace("Exiting getEmployeeById() with cached result.");
+            if (cached.isNegative()) {
+                throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found.");
+            }
+            return cached.getEmployee();
+        }
         try {
-            EmployeeDTO employee = employeeDao.findEmployeeById(employeeId);
+            long loadGeneration = EMPLOYEE_CACHE.currentGeneration();
+            EmployeeDTO employee = employeeRepository.findEmployeeById(employeeId);
             if (employee == null) {
+                EMPLOYEE_CACHE.putNegative(employeeId, loadGeneration);
                 logger.warn("Employee with ID {} not found.", employeeId);
                 throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found.");
             }
+            EMPLOYEE_CACHE.put(employee, loadGeneration);
             logger.info("Employee with ID {} found.", employeeId);
             return employee;
         } catch (DAOException e) {
@@ -197,44 +526,147 @@ public class EmployeeManagementService {
 
     public int updateEmployee(EmployeeDTO employee) throws ServiceException, EmployeeNotFoundException {
         logger.trace("Entering updateEmployee() for ID: {}", employee.getEmployeeId());
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(Collections.singletonList(employee.getEmployeeId()));
         try {
-            int rowsAffected = employeeDao.updateEmployee(employee);
+            int rowsAffected = employeeRepository.updateEmployee(employee);
             if (rowsAffected == 0) {
                 logger.warn("Employee with ID {} not found for update.", employee.getEmployeeId());
                 throw new EmployeeNotFoundException("Employee with ID " + employee.getEmployeeId() + " not found for update.");
             }
             logger.info("Employee with ID {} updated successfully.", employee.getEmployeeId());
+            publishWritten(write, Collections.singletonList(employee));
             return rowsAffected;
         } catch (DAOException e) {
             logger.error("DAO error updating employee ID {}: {}", employee.getEmployeeId(), e.getMessage(), e);
+            publishChanged(Collections.singletonList(employee.getEmployeeId()));
             throw new ServiceException("Database error updating employee ID " + employee.getEmployeeId(), e);
         } finally {
+            publishChanged(write.end());
+            EMPLOYEE_CACHE.invalidate(employee.getEmployeeId());
             logger.trace("Exiting updateEmployee().");
         }
     }
 
     public int deleteEmployee(int employeeId) throws ServiceException, EmployeeNotFoundException {
         logger.trace("Entering deleteEmployee() for ID: {}", employeeId);
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(Collections.singletonList(employeeId));
         try {
-            int rowsAffected = employeeDao.deleteEmployee(employeeId);
+            int rowsAffected = employeeRepository.deleteEmployee(employeeId);
             if (rowsAffected == 0) {
                 logger.warn("Employee with ID {} not found for deletion.", employeeId);
                 throw new EmployeeNotFoundException("Employee with ID " + employeeId + " not found for deletion.");
             }
             logger.info("Employee with ID {} deleted successfully.", employeeId);
+            publishDeleted(write, Collections.singletonList(employeeId));
             return rowsAffected;
         } catch (DAOException e) {
             logger.error("DAO error deleting employee ID {}: {}", employeeId, e.getMessage(), e);
+            publishChanged(Collections.singletonList(employeeId));
             throw new ServiceException("Database error deleting employee ID " + employeeId, e);
         } finally {
+            publishChanged(write.end());
+            EMPLOYEE_CACHE.invalidate(employeeId);
             logger.trace("Exiting deleteEmployee().");
         }
     }
+
+    // Batched updates on one connection, committed every db.bulk.commitChunkSize employees (0 = one transaction).
+    public BulkOperationResult updateEmployees(List<EmployeeDTO> employeeList) throws ServiceException {
+        logger.trace("Entering updateEmployees() for {} employees.", employeeList == null ? 0 : employeeList.size());
+        if (employeeList == null || employeeList.isEmpty()) {
+            return new BulkOperationResult(new int[0], 0, 0);
+        }
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(idsOf(employeeList));
+        try {
+            BulkOperationResult result = employeeRepository.updateEmployees(employeeList, DatabaseProperties.getBulkCommitChunkSize());
+            logger.info("Bulk update of {} employees completed: {}.", employeeList.size(), result);
+            List<EmployeeDTO> updated = new ArrayList<>(employeeList.size());
+            for (int i = 0; i < employeeList.size(); i++) {
+                if (result.isApplied(i)) {
+                    updated.add(employeeList.get(i));
+                }
+            }
+            publishWritten(write, updated);
+            return result;
+        } catch (DAOException e) {
+            logger.error("DAO error during bulk employee update: {}", e.getMessage(), e);
+            publishChanged(idsOf(employeeList));
+            throw new ServiceException("A database error occurred during bulk employee update.", e);
+        } finally {
+            publishChanged(write.end());
+            for (EmployeeDTO employee : employeeList) {
+                if (employee != null) {
+                    EMPLOYEE_CACHE.invalidate(employee.getEmployeeId());
+                }
+            }
+            logger.trace("Exiting updateEmployees().");
+        }
+    }
+
+    public BulkOperationResult deleteEmployees(List<Integer> employeeIds) throws ServiceException {
+        logger.trace("Entering deleteEmployees() for {} IDs.", employeeIds == null ? 0 : employeeIds.size());
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return new BulkOperationResult(new int[0], 0, 0);
+        }
+        if (employeeIds.contains(null)) {
+            throw new ServiceException("Employee IDs for bulk delete cannot contain null.");
+        }
+        InFlightWrites.Write write = IN_FLIGHT_WRITES.begin(employeeIds);
+        try {
+            BulkOperationResult result = employeeRepository.deleteEmployees(employeeIds, DatabaseProperties.getBulkCommitChunkSize());
+            logger.info("Bulk delete of {} employees completed: {}.", employeeIds.size(), result);
+            List<Integer> deleted = new ArrayList<>(employeeIds.size());
+            for (int i = 0; i < employeeIds.size(); i++) {
+                if (result.isApplied(i)) {
+                    deleted.add(employeeIds.get(i));
+                }
+            }
+            publishDeleted(write, deleted);
+            return result;
+        } catch (DAOException e) {
+            logger.error("DAO error during bulk employee delete: {}", e.getMessage(), e);
+            publishChanged(employeeIds);
+            throw new ServiceException("A database error occurred during bulk employee delete.", e);
+        } finally {
+            publishChanged(write.end());
+            EMPLOYEE_CACHE.invalidateAll(employeeIds);
+            logger.trace("Exiting deleteEmployees().");
+        }
+    }
+
+    // Deletes every employee matching the filter. An empty filter is refused rather than emptying the table.
+    public int deleteEmployees(EmployeeFilter filter) throws ServiceException {
+        logger.trace("Entering deleteEmployees() with {}.", filter);
+        if (filter == null || filter.isEmpty()) {
+            logger.error("Predicate delete requested without any criteria.");
+            throw new ServiceException("A filter with at least one criterion is required for a predicate delete.");
+        }
+        IN_FLIGHT_WRITES.beginTableWrite();
+        try {
+            int deleted = employeeRepository.deleteEmployeesMatching(filter, DatabaseProperties.getBulkCommitChunkSize());
+            logger.info("Deleted {} employees matching {}.", deleted, filter);
+            return deleted;
+        } catch (DAOException e) {
+            logger.error("DAO error during predicate delete: {}", e.getMessage(), e);
+            throw new ServiceException("A database error occurred during predicate delete. " + e.getMessage(), e);
+        } finally {
+            // The deleted IDs are not known here, and committed chunks stay deleted even on failure.
+            EMPLOYEE_CACHE.invalidateAll();
+            publishAllChanged();
+            IN_FLIGHT_WRITES.endTableWrite();
+            logger.trace("Exiting deleteEmployees().");
+        }
+    }
     
+    // EmployeeDTOs are made from the compact records as the list is read.
     public List<EmployeeDTO> findAllEmployees() throws ServiceException {
-        logger.trace("Entering findAllEmployees().");
+        return findAllEmployeeRecords().asList();
+    }
+
+    public EmployeeRecordStore findAllEmployeeRecords() throws ServiceException {
+        logger.trace("Entering findAllEmployeeRecords().");
         try {
-            List<EmployeeDTO> employees = employeeDao.findAllEmployees();
+            EmployeeRecordStore employees = employeeRepository.findAllEmployees();
             if (employees == null) {
                 logger.error("Failed to fetch all employees: Result was null from DAO.");
                 throw new ServiceException("Failed to fetch all employees: Result was null.");
@@ -245,7 +677,454 @@ public class EmployeeManagementService {
             logger.error("DAO error fetching all employees: {}", e.getMessage(), e);
             throw new ServiceException("Database error fetching all employees", e);
         } finally {
-            logger.trace("Exiting findAllEmployees().");
+            logger.trace("Exiting findAllEmployeeRecords().");
+        }
+    }
+
+    /**
+     * Hands every employee to {@code consumer} without materialising the table in memory.
+     * The underlying cursor and connection are closed before this method returns, including
+     * when the consumer throws.
+     */
+    public int streamAllEmployees(Consumer<? super EmployeeDTO> consumer) throws ServiceException {
+        logger.trace("Entering streamAllEmployees().");
+        if (consumer == null) {
+            throw new ServiceException("Employee consumer cannot be null.");
+        }
+        try {
+            int rowCount = employeeRepository.forEachEmployee(consumer);
+            logger.info("Streamed {} employees.", rowCount);
+            return rowCount;
+        } catch (DAOException e) {
+            logger.error("DAO error streaming employees: {}", e.getMessage(), e);
+            throw new ServiceException("Database error streaming employees", e);
+        } catch (RuntimeException e) {
+            logger.error("Employee consumer failed while streaming: {}", e.getMessage(), e);
+            throw new ServiceException("Employee consumer failed while streaming: " + e.getMessage(), e);
+        } finally {
+            logger.trace("Exiting streamAllEmployees().");
+        }
+    }
+
+    public ExportResult exportEmployees(String filePath) throws ServiceException {
+        return exportEmployees(filePath, ApplicationProperties.getExportPartitions());
+    }
+
+    /**
+     * Writes the whole table to a CSV file in the layout {@link #importEmployeesWithReport} reads,
+     * gzip-compressed if the path ends in {@code .gz}. With more than one partition, ID ranges are
+     * streamed in parallel on separate cursors; see {@link EmployeeCsvExport}.
+     */
+    public ExportResult exportEmployees(String filePath, int partitions) throws ServiceException {
+        logger.trace("Entering exportEmployees() to {} with {} partitions.", filePath, partitions);
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new ServiceException("Export file path cannot be null or empty.");
+        }
+        if (partitions <= 0) {
+            throw new ServiceException("Export partitions must be at least 1.");
+        }
+        // Each partition holds a pooled connection for its whole scan; more than the pool would time out.
+        int poolSize = DatabaseProperties.getPoolMaxSize();
+        if (partitions > poolSize) {
+            logger.warn("Export partitions {} exceed the connection pool size; using {}.", partitions, poolSize);
+            partitions = poolSize;
+        }
+        int gzipLevel = CsvFileReader.isGzip(filePath) ? ApplicationProperties.getExportGzipLevel() : -1;
+        try {
+            return new EmployeeCsvExport(employeeRepository, partitions, ApplicationProperties.getExportBufferSize(),
+                    gzipLevel).run(filePath);
+        } catch (DAOException e) {
+            logger.error("DAO error exporting employees: {}", e.getMessage(), e);
+            throw new ServiceException("Database error exporting employees", e);
+        } catch (IOException e) {
+            logger.error("Error writing export file {}: {}", filePath, e.getMessage(), e);
+            throw new ServiceException("Error writing export file: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Export interrupted: {}", e.getMessage(), e);
+            throw new ServiceException("Export was interrupted.", e);
+        } finally {
+            logger.trace("Exiting exportEmployees().");
+        }
+    }
+
+    /**
+     * Returns one keyset-paginated page of employees. {@code pageToken} is null for the first page
+     * and otherwise the token from the previous page; the filter must stay the same across pages.
+     */
+    public EmployeePage getEmployeesPage(String pageToken, int pageSize, EmployeeFilter filter) throws ServiceException {
+        logger.trace("Entering getEmployeesPage() with token {} and page size {}.", pageToken, pageSize);
+        if (pageSize <= 0 || pageSize > AppConstants.MAX_PAGE_SIZE) {
+            throw new ServiceException("Page size must be between 1 and " + AppConstants.MAX_PAGE_SIZE + ".");
+        }
+        int afterEmployeeId;
+        try {
+            afterEmployeeId = PageTokenCodec.decode(pageToken);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected page token {}: {}", pageToken, e.getMessage());
+            throw new ServiceException("Invalid page token.", e);
+        }
+        EmployeeFilter effectiveFilter = filter != null ? filter : EmployeeFilter.none();
+        try {
+            // Fetch one extra row to learn whether another page follows without a COUNT query.
+            List<EmployeeDTO> employees = employeeRepository.findEmployeesPage(afterEmployeeId, pageSize + 1, effectiveFilter);
+            String nextPageToken = null;
+            if (employees.size() > pageSize) {
+                employees = employees.subList(0, pageSize);
+                nextPageToken = PageTokenCodec.encode(employees.get(pageSize - 1).getEmployeeId());
+            }
+            logger.info("Fetched page of {} employees (more: {}).", employees.size(), nextPageToken != null);
+            return new EmployeePage(employees, nextPageToken);
+        } catch (DAOException e) {
+            logger.error("DAO error fetching employee page: {}", e.getMessage(), e);
+            throw new ServiceException("Database error fetching employee page", e);
+        } finally {
+            logger.trace("Exiting getEmployeesPage().");
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return EMPLOYEE_CACHE.getStats();
+    }
+
+    /**
+     * Employees with this email, ignoring case; usually one. The email index gives the IDs in
+     * constant time and the rows come from the cache or the repository.
+     */
+    public List<EmployeeDTO> getEmployeesByEmail(String email) throws ServiceException {
+        logger.trace("Entering getEmployeesByEmail() for email: {}", email);
+        if (email == null || email.trim().isEmpty()) {
+            throw new ServiceException("Email cannot be null or empty.");
+        }
+        try {
+            int[] ids = EMPLOYEE_INDEXES.findIdsByEmail(employeeRepository, email);
+            List<Integer> employeeIds = new ArrayList<>(ids.length);
+            addAll(employeeIds, ids);
+            String key = EmployeeIndexes.normalizeEmail(email);
+            List<EmployeeDTO> employees = new ArrayList<>(ids.length);
+            // The index may lag behind writes made outside this JVM; rows that no longer match are left out.
+            for (EmployeeDTO employee : getEmployeesByIds(employeeIds)) {
+                if (key.equals(EmployeeIndexes.normalizeEmail(employee.getEmail()))) {
+                    employees.add(employee);
+                }
+            }
+            logger.info("Found {} employees with email {}.", employees.size(), email);
+            return employees;
+        } catch (DAOException e) {
+            logger.error("DAO error loading employee indexes: {}", e.getMessage(), e);
+            throw new ServiceException("Database error loading employee indexes", e);
+        } finally {
+            logger.trace("Exiting getEmployeesByEmail().");
+        }
+    }
+
+    // Employees of the department in ascending ID order.
+    public List<EmployeeDTO> getEmployeesByDepartment(String department) throws ServiceException {
+        logger.trace("Entering getEmployeesByDepartment() for department: {}", department);
+        if (department == null || department.trim().isEmpty()) {
+            throw new ServiceException("Department cannot be null or empty.");
+        }
+        EmployeeFilter filter = new EmployeeFilter(department, null, null);
+        try {
+            List<EmployeeDTO> employees = findIndexedEmployees(
+                    EMPLOYEE_INDEXES.findIdsByDepartment(employeeRepository, department), filter);
+            logger.info("Found {} employees in department {}.", employees.size(), department);
+            return employees;
+        } catch (DAOException e) {
+            logger.error("DAO error fetching employees of department {}: {}", department, e.getMessage(), e);
+            throw new ServiceException("Database error fetching employees of department " + department, e);
+        } finally {
+            logger.trace("Exiting getEmployeesByDepartment().");
+        }
+    }
+
+    /**
+     * Employees who joined between {@code from} and {@code to}, both inclusive and either one
+     * open when null, ordered by join date and then by ID.
+     */
+    public List<EmployeeDTO> getEmployeesByJoinDate(LocalDate from, LocalDate to) throws ServiceException {
+        logger.trace("Entering getEmployeesByJoinDate() from {} to {}.", from, to);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ServiceException("Join date range starts after it ends.");
+        }
+        // Both bounds open still leaves out employees without a join date.
+        EmployeeFilter filter = new EmployeeFilter(null, from != null ? from : LocalDate.MIN, to != null ? to : LocalDate.MAX);
+        try {
+            List<EmployeeDTO> employees = findIndexedEmployees(
+                    EMPLOYEE_INDEXES.findIdsByJoinDate(employeeRepository, from, to), filter);
+            logger.info("Found {} employees who joined from {} to {}.", employees.size(), from, to);
+            return employees;
+        } catch (DAOException e) {
+            logger.error("DAO error fetching employees by join date: {}", e.getMessage(), e);
+            throw new ServiceException("Database error fetching employees by join date", e);
+        } finally {
+            logger.trace("Exiting getEmployeesByJoinDate().");
+        }
+    }
+
+    public List<EmployeeSearchHit> searchEmployees(String query, int limit) throws ServiceException {
+        return searchEmployees(query, 0, limit);
+    }
+
+    /**
+     * Type-ahead search on first name, last name and email local part, ignoring case. Every word
+     * of the query must match a term of the employee exactly, as a prefix or, with
+     * {@code maxEdits} above 0, within that many edits (fewer for short words). At most
+     * {@code limit} hits are returned, best first.
+     */
+    public List<EmployeeSearchHit> searchEmployees(String query, int maxEdits, int limit) throws ServiceException {
+        logger.trace("Entering searchEmployees() for '{}' with up to {} edits.", query, maxEdits);
+        if (EmployeeNameIndex.queryWords(query).length == 0) {
+            throw new ServiceException("Search query cannot be null or empty.");
+        }
+        if (maxEdits < 0 || maxEdits > AppConstants.MAX_SEARCH_EDITS) {
+            throw new ServiceException("Edit distance must be between 0 and " + AppConstants.MAX_SEARCH_EDITS + ".");
+        }
+        if (limit <= 0 || limit > AppConstants.MAX_SEARCH_LIMIT) {
+            throw new ServiceException("Search limit must be between 1 and " + AppConstants.MAX_SEARCH_LIMIT + ".");
+        }
+        try {
+            List<EmployeeNameIndex.Match> matches = EMPLOYEE_NAME_INDEX.search(employeeRepository, query, maxEdits, limit);
+            List<Integer> employeeIds = new ArrayList<>(matches.size());
+            for (EmployeeNameIndex.Match match : matches) {
+                employeeIds.add(match.employeeId);
+            }
+            Map<Integer, EmployeeDTO> employees = new HashMap<>();
+            for (EmployeeDTO employee : getEmployeesByIds(employeeIds)) {
+                employees.put(employee.getEmployeeId(), employee);
+            }
+            List<EmployeeSearchHit> hits = new ArrayList<>(matches.size());
+            for (EmployeeNameIndex.Match match : matches) {
+                EmployeeDTO employee = employees.get(match.employeeId);
+                // The index may lag behind writes made outside this JVM; rows that no longer match are left out.
+                if (employee != null && Arrays.asList(EmployeeNameIndex.termsOf(employee)).contains(match.termMatch.term)) {
+                    hits.add(new EmployeeSearchHit(employee, match.termMatch.term, match.termMatch.type, match.termMatch.distance));
+                }
+            }
+            logger.info("Name search for '{}' found {} employees.", query, hits.size());
+            return hits;
+        } catch (DAOException e) {
+            logger.error("DAO error loading the name search index: {}", e.getMessage(), e);
+            throw new ServiceException("Database error loading the name search index", e);
+        } finally {
+            logger.trace("Exiting searchEmployees().");
+        }
+    }
+
+    /**
+     * Reads the rows of indexed IDs in the index's order, keeping only those that still match the
+     * filter in case the index lags behind writes made outside this JVM. Lists can be large, so
+     * they bypass the cache rather than evicting everything in it.
+     */
+    private List<EmployeeDTO> findIndexedEmployees(int[] ids, EmployeeFilter filter) throws DAOException {
+        if (ids.length == 0) {
+            return Collections.emptyList();
+        }
+        List<Integer> employeeIds = new ArrayList<>(ids.length);
+        addAll(employeeIds, ids);
+        IntLongHashMap positions = new IntLongHashMap(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            positions.put(ids[i], i);
+        }
+        EmployeeDTO[] ordered = new EmployeeDTO[ids.length];
+        for (EmployeeDTO employee : employeeRepository.findEmployeesByIds(employeeIds)) {
+            int position = (int) positions.get(employee.getEmployeeId(), -1);
+            if (position >= 0 && filter.matches(employee)) {
+                ordered[position] = employee;
+            }
+        }
+        List<EmployeeDTO> employees = new ArrayList<>(ids.length);
+        for (EmployeeDTO employee : ordered) {
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Headcount and salary statistics per group, answered from the in-memory analytics columns.
+     * The first call loads the table; later calls only re-read what changed outside this service.
+     */
+    public List<GroupStats> getEmployeeStats(EmployeeFilter filter, AnalyticsGroupBy groupBy) throws ServiceException {
+        logger.trace("Entering getEmployeeStats() by {} with {}.", groupBy, filter);
+        if (groupBy == null) {
+            throw new ServiceException("A grouping is required for employee statistics.");
+        }
+        try {
+            List<GroupStats> stats = EMPLOYEE_ANALYTICS.groupStats(employeeRepository, filter, groupBy);
+            logger.debug("Computed {} employee groups by {}.", stats.size(), groupBy);
+            return stats;
+        } catch (DAOException e) {
+            logger.error("DAO error loading employee analytics: {}", e.getMessage(), e);
+            throw new ServiceException("Database error loading employee analytics", e);
+        } finally {
+            logger.trace("Exiting getEmployeeStats().");
+        }
+    }
+
+    // Statistics per salary band of bandWidth, e.g. [30000, 40000) for a width of 10000.
+    public List<GroupStats> getSalaryBandStats(EmployeeFilter filter, double bandWidth) throws ServiceException {
+        logger.trace("Entering getSalaryBandStats() with band width {} and {}.", bandWidth, filter);
+        if (!(bandWidth > 0) || Double.isInfinite(bandWidth)) {
+            throw new ServiceException("Salary band width must be a positive number.");
+        }
+        try {
+            return EMPLOYEE_ANALYTICS.salaryBands(employeeRepository, filter, bandWidth);
+        } catch (DAOException e) {
+            logger.error("DAO error loading employee analytics: {}", e.getMessage(), e);
+            throw new ServiceException("Database error loading employee analytics", e);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Rejected salary band width {}: {}", bandWidth, e.getMessage());
+            throw new ServiceException(e.getMessage(), e);
+        } finally {
+            logger.trace("Exiting getSalaryBandStats().");
+        }
+    }
+
+    public SalaryPercentiles getSalaryPercentiles(EmployeeFilter filter, double... percentiles) throws ServiceException {
+        logger.trace("Entering getSalaryPercentiles() with {}.", filter);
+        if (percentiles == null || percentiles.length == 0) {
+            throw new ServiceException("At least one percentile is required.");
+        }
+        for (double percentile : percentiles) {
+            if (!(percentile >= 0 && percentile <= 100)) {
+                throw new ServiceException("Percentile " + percentile + " is not between 0 and 100.");
+            }
+        }
+        try {
+            return EMPLOYEE_ANALYTICS.salaryPercentiles(employeeRepository, filter, percentiles.clone());
+        } catch (DAOException e) {
+            logger.error("DAO error loading employee analytics: {}", e.getMessage(), e);
+            throw new ServiceException("Database error loading employee analytics", e);
+        } finally {
+            logger.trace("Exiting getSalaryPercentiles().");
+        }
+    }
+
+    public int countEmployees(EmployeeFilter filter) throws ServiceException {
+        logger.trace("Entering countEmployees() with {}.", filter);
+        try {
+            return EMPLOYEE_ANALYTICS.countEmployees(employeeRepository, filter);
+        } catch (DAOException e) {
+            logger.error("DAO error loading employee analytics: {}", e.getMessage(), e);
+            throw new ServiceException("Database error loading employee analytics", e);
+        } finally {
+            logger.trace("Exiting countEmployees().");
+        }
+    }
+
+    private static List<Integer> idsOf(List<EmployeeDTO> employees) {
+        List<Integer> ids = new ArrayList<>(employees.size());
+        for (EmployeeDTO employee : employees) {
+            if (employee != null) {
+                ids.add(employee.getEmployeeId());
+            }
+        }
+        return ids;
+    }
+
+    private static void addAll(List<Integer> target, int[] ids) {
+        for (int id : ids) {
+            target.add(id);
+        }
+    }
+
+    /**
+     * Publishes the rows a write has made. Rows whose ID another write is also changing are only
+     * marked changed, since the two writes' events may arrive in either order. A failing listener
+     * must not fail a write that has already been made.
+     */
+    private static void publishWritten(InFlightWrites.Write write, List<EmployeeDTO> written) {
+        List<EmployeeDTO> employees = new ArrayList<>(written.size());
+        List<Integer> contendedIds = new ArrayList<>();
+        for (EmployeeDTO employee : written) {
+            if (write.isContended(employee.getEmployeeId())) {
+                contendedIds.add(employee.getEmployeeId());
+            } else {
+                employees.add(employee);
+            }
+        }
+        publishChanged(contendedIds);
+        if (employees.isEmpty()) {
+            return;
+        }
+        for (EmployeeChangeListener listener : CHANGE_LISTENERS) {
+            try {
+                listener.employeesWritten(employees);
+            } catch (RuntimeException e) {
+                logger.error("Change listener failed on {} written employees; marking them changed: {}",
+                        employees.size(), e.getMessage(), e);
+                listener.employeesChanged(idsOf(employees));
+            }
+        }
+    }
+
+    private static void publishDeleted(InFlightWrites.Write write, List<Integer> deletedIds) {
+        List<Integer> employeeIds = withoutContended(write, deletedIds);
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        for (EmployeeChangeListener listener : CHANGE_LISTENERS) {
+            try {
+                listener.employeesDeleted(employeeIds);
+            } catch (RuntimeException e) {
+                logger.error("Change listener failed on {} deleted employees: {}", employeeIds.size(), e.getMessage(), e);
+                listener.employeesChanged(employeeIds);
+            }
+        }
+    }
+
+    private static void publishTransferred(InFlightWrites.Write write, List<Integer> transferredIds, String newDepartment) {
+        List<Integer> employeeIds = withoutContended(write, transferredIds);
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        for (EmployeeChangeListener listener : CHANGE_LISTENERS) {
+            try {
+                listener.employeesTransferred(employeeIds, newDepartment);
+            } catch (RuntimeException e) {
+                logger.error("Change listener failed on {} transferred employees: {}", employeeIds.size(), e.getMessage(), e);
+                listener.employeesChanged(employeeIds);
+            }
+        }
+    }
+
+    // Marks the contended IDs changed and returns the others.
+    private static List<Integer> withoutContended(InFlightWrites.Write write, List<Integer> employeeIds) {
+        List<Integer> uncontended = new ArrayList<>(employeeIds.size());
+        List<Integer> contendedIds = new ArrayList<>();
+        for (Integer employeeId : employeeIds) {
+            if (write.isContended(employeeId)) {
+                contendedIds.add(employeeId);
+            } else {
+                uncontended.add(employeeId);
+            }
+        }
+        publishChanged(contendedIds);
+        return uncontended;
+    }
+
+    private static void publishChanged(List<Integer> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        for (EmployeeChangeListener listener : CHANGE_LISTENERS) {
+            try {
+                listener.employeesChanged(employeeIds);
+            } catch (RuntimeException e) {
+                logger.error("Change listener failed on {} changed employees: {}", employeeIds.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void publishAllChanged() {
+        for (EmployeeChangeListener listener : CHANGE_LISTENERS) {
+            try {
+                listener.allEmployeesChanged();
+            } catch (RuntimeException e) {
+                logger.error("Change listener failed on a full change: {}", e.getMessage(), e);
+            }
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,569 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.constant.SearchMatchType;
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.IntHashSet;
+import com.litmus7.employeemanager.util.IntLongHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Search index over the words of first and last names and the local part of emails, all lower
+ * case. Terms are kept in a sorted map to the IDs of their employees in ascending order, which
+ * serves exact and prefix lookups directly. Fuzzy lookups walk the same map as if it were a trie:
+ * consecutive terms share their edit-distance rows for a common prefix, and once a prefix is too
+ * far from the query every term starting with it is skipped in one step. A transposition of two
+ * adjacent letters counts as one edit.
+ * <p>
+ * The index is built from a streamed scan of the table; loading and keeping it current is left
+ * to {@link InMemoryEmployeeView}.
+ */
+final class EmployeeNameIndex extends InMemoryEmployeeView<EmployeeNameIndex.Terms> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    // A query word matching at most this many IDs is resolved to an ID set before the search.
+    private static final int FILTER_BUDGET = 20_000;
+
+    EmployeeNameIndex(long maxAgeSeconds) {
+        super(maxAgeSeconds);
+    }
+
+    Terms load(EmployeeRepository repository) throws DAOException {
+        Terms terms = new Terms();
+        repository.forEachEmployee(terms::put);
+        terms.sortPostings();
+        return terms;
+    }
+
+    int size(Terms terms) {
+        return terms.size;
+    }
+
+    void upsert(Terms terms, EmployeeDTO employee) {
+        terms.put(employee);
+    }
+
+    void remove(Terms terms, int employeeId) {
+        terms.remove(employeeId);
+    }
+
+    void transfer(Terms terms, List<Integer> employeeIds, String newDepartment) {
+        // Departments are not indexed.
+    }
+
+    /**
+     * The best {@code limit} employees whose terms match every word of the query, as an exact
+     * term, a term starting with the word or, for {@code maxEdits} above 0, a term within the
+     * allowed number of edits. The longest word ranks the results: employees with an exact match
+     * first, then prefix matches in term order, then fuzzy matches by distance and term; ties go
+     * to the lower ID.
+     */
+    List<Match> search(EmployeeRepository repository, String query, int maxEdits, int limit) throws DAOException {
+        String[] words = queryWords(query);
+        if (words.length == 0) {
+            return Collections.emptyList();
+        }
+        int anchor = 0;
+        for (int i = 1; i < words.length; i++) {
+            if (words[i].length() > words[anchor].length()) {
+                anchor = i;
+            }
+        }
+        String word = words[anchor];
+        int edits = allowedEdits(word, maxEdits);
+        Terms terms = acquire(repository);
+        try {
+            Search search = new Search(terms, words, anchor, maxEdits, limit);
+            if (!search.prepareFilters()) {
+                return Collections.emptyList();
+            }
+            search.collect(new TermMatch(word, SearchMatchType.EXACT, 0));
+            for (String term : terms.prefixRange(word).keySet()) {
+                if (search.isFull()) {
+                    break;
+                }
+                if (term.length() > word.length()) {
+                    search.collect(new TermMatch(term, SearchMatchType.PREFIX, 0));
+                }
+            }
+            if (!search.isFull() && edits > 0) {
+                for (TermMatch fuzzy : terms.fuzzyTerms(word, edits)) {
+                    search.collect(fuzzy);
+                    if (search.isFull()) {
+                        break;
+                    }
+                }
+            }
+            return search.matches;
+        } finally {
+            release();
+        }
+    }
+
+    // Lower-case words of a query; an email is reduced to its local part.
+    static String[] queryWords(String query) {
+        if (query == null) {
+            return new String[0];
+        }
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        int at = normalized.indexOf('@');
+        if (at >= 0) {
+            normalized = normalized.substring(0, at).trim();
+        }
+        return normalized.isEmpty() ? new String[0] : WHITESPACE.split(normalized);
+    }
+
+    // Distinct terms an employee is indexed under.
+    static String[] termsOf(EmployeeDTO employee) {
+        List<String> terms = new ArrayList<>(4);
+        addWords(terms, employee.getFirstName());
+        addWords(terms, employee.getLastName());
+        String email = employee.getEmail();
+        if (email != null) {
+            int at = email.indexOf('@');
+            addTerm(terms, (at >= 0 ? email.substring(0, at) : email).trim().toLowerCase(Locale.ROOT));
+        }
+        return terms.toArray(new String[0]);
+    }
+
+    // Short words allow fewer edits, since two edits turn most three-letter words into many others.
+    private static int allowedEdits(String word, int maxEdits) {
+        int byLength = word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+        return Math.min(maxEdits, byLength);
+    }
+
+    private static void addWords(List<String> terms, String value) {
+        if (value != null) {
+            String trimmed = value.trim();
+            if (!trimmed.isEmpty()) {
+                for (String word : WHITESPACE.split(trimmed.toLowerCase(Locale.ROOT))) {
+                    addTerm(terms, word);
+                }
+            }
+        }
+    }
+
+    private static void addTerm(List<String> terms, String term) {
+        if (!term.isEmpty() && !terms.contains(term)) {
+            terms.add(term);
+        }
+    }
+
+    /**
+     * Edit distance counting insertions, deletions, substitutions and transpositions of adjacent
+     * characters as one edit each, or max + 1 once it is known to exceed max.
+     */
+    private static int editDistance(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return max + 1;
+        }
+        int[][] rows = new int[a.length() + 1][b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            rows[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            if (fillRow(rows, i, a, b) > max) {
+                return max + 1;
+            }
+        }
+        return Math.min(rows[a.length()][b.length()], max + 1);
+    }
+
+    /**
+     * Fills row {@code i} of the edit-distance table between {@code term}'s first i characters
+     * and {@code word} from the rows above it, and returns the row's minimum.
+     */
+    private static int fillRow(int[][] rows, int i, String term, String word) {
+        char c = term.charAt(i - 1);
+        int[] previous = rows[i - 1];
+        int[] row = rows[i];
+        row[0] = i;
+        int rowMin = i;
+        for (int j = 1; j <= word.length(); j++) {
+            int value = Math.min(previous[j - 1] + (word.charAt(j - 1) == c ? 0 : 1), Math.min(previous[j], row[j - 1]) + 1);
+            if (i > 1 && j > 1 && c == word.charAt(j - 2) && term.charAt(i - 2) == word.charAt(j - 1)) {
+                value = Math.min(value, rows[i - 2][j - 2] + 1);
+            }
+            row[j] = value;
+            rowMin = Math.min(rowMin, value);
+        }
+        return rowMin;
+    }
+
+    static final class TermMatch {
+        final String term;
+        final SearchMatchType type;
+        final int distance;
+
+        TermMatch(String term, SearchMatchType type, int distance) {
+            this.term = term;
+            this.type = type;
+            this.distance = distance;
+        }
+    }
+
+    static final class Match {
+        final int employeeId;
+        final TermMatch termMatch;
+
+        Match(int employeeId, TermMatch termMatch) {
+            this.employeeId = employeeId;
+            this.termMatch = termMatch;
+        }
+    }
+
+    /**
+     * State of one search. Terms are collected best first and each term's IDs in ascending
+     * order, so the first {@code limit} employees that pass the other words are the answer.
+     */
+    private static final class Search {
+        private final Terms terms;
+        private final String[] words;
+        private final int anchor;
+        private final int maxEdits;
+        private final int limit;
+        // IDs matching each other word, or null where that word matches too many to list.
+        private final IntHashSet[] filters;
+        private final IntHashSet found = new IntHashSet();
+        final List<Match> matches = new ArrayList<>();
+
+        Search(Terms terms, String[] words, int anchor, int maxEdits, int limit) {
+            this.terms = terms;
+            this.words = words;
+            this.anchor = anchor;
+            this.maxEdits = maxEdits;
+            this.limit = limit;
+            this.filters = new IntHashSet[words.length];
+        }
+
+        /**
+         * Lists the IDs of every other word that matches few enough of them. Returns false if a
+         * word matches no term at all, so nothing can match the query.
+         */
+        boolean prepareFilters() {
+            for (int i = 0; i < words.length; i++) {
+                if (i == anchor) {
+                    continue;
+                }
+                String word = words[i];
+                IntHashSet ids = new IntHashSet();
+                boolean matchesTerm = false;
+                for (Object posting : terms.prefixRange(word).values()) {
+                    matchesTerm = true;
+                    if (!addIds(posting, ids)) {
+                        ids = null;
+                        break;
+                    }
+                }
+                int edits = allowedEdits(word, maxEdits);
+                if (ids != null && edits > 0) {
+                    for (TermMatch fuzzy : terms.fuzzyTerms(word, edits)) {
+                        matchesTerm = true;
+                        if (!addIds(terms.postings.get(fuzzy.term), ids)) {
+                            ids = null;
+                            break;
+                        }
+                    }
+                }
+                if (!matchesTerm) {
+                    return false;
+                }
+                filters[i] = ids;
+            }
+            return true;
+        }
+
+        // Returns false, leaving ids partly filled, once they would exceed the budget.
+        private static boolean addIds(Object posting, IntHashSet ids) {
+            if (posting instanceof Integer) {
+                ids.add((Integer) posting);
+            } else {
+                IdList list = (IdList) posting;
+                if (ids.size() + list.size > FILTER_BUDGET) {
+                    return false;
+                }
+                for (int i = 0; i < list.size; i++) {
+                    ids.add(list.ids[i]);
+                }
+            }
+            return ids.size() <= FILTER_BUDGET;
+        }
+
+        boolean isFull() {
+            return matches.size() == limit;
+        }
+
+        void collect(TermMatch termMatch) {
+            Object posting = terms.postings.get(termMatch.term);
+            if (posting instanceof Integer) {
+                consider((Integer) posting, termMatch);
+            } else if (posting != null) {
+                IdList ids = (IdList) posting;
+                for (int i = 0; i < ids.size && !isFull(); i++) {
+                    consider(ids.ids[i], termMatch);
+                }
+            }
+        }
+
+        private void consider(int employeeId, TermMatch termMatch) {
+            if (!isFull() && !found.contains(employeeId) && matchesOtherWords(employeeId)) {
+                found.add(employeeId);
+                matches.add(new Match(employeeId, termMatch));
+            }
+        }
+
+        private boolean matchesOtherWords(int employeeId) {
+            String[] employeeTerms = null;
+            for (int i = 0; i < words.length; i++) {
+                if (i == anchor) {
+                    continue;
+                }
+                if (filters[i] != null) {
+                    if (!filters[i].contains(employeeId)) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (employeeTerms == null) {
+                    employeeTerms = terms.termsOfId(employeeId);
+                }
+                if (!matchesAny(employeeTerms, words[i], allowedEdits(words[i], maxEdits))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean matchesAny(String[] employeeTerms, String word, int edits) {
+            for (String term : employeeTerms) {
+                if (term.startsWith(word) || (edits > 0 && editDistance(word, term, edits) <= edits)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // Ascending employee IDs of a term held by more than one employee.
+    static final class IdList {
+        final String term;
+        int[] ids = new int[4];
+        int size;
+
+        IdList(String term) {
+            this.term = term;
+        }
+
+        // Keeps the order; used once the index is built.
+        void insert(int employeeId) {
+            int position = Arrays.binarySearch(ids, 0, size, employeeId);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = employeeId;
+            size++;
+        }
+
+        // Appends out of order while loading; sort() restores the order.
+        void append(int employeeId) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = employeeId;
+        }
+
+        void sort() {
+            Arrays.sort(ids, 0, size);
+        }
+
+        void remove(int employeeId) {
+            int position = Arrays.binarySearch(ids, 0, size, employeeId);
+            if (position >= 0) {
+                System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Terms to employee IDs, plus each indexed employee's terms so it can be removed when it
+     * changes. A term held by one employee maps to an Integer, a shared one to an IdList, whose
+     * term is the one String instance all of its employees' rows refer to. Not thread-safe;
+     * guarded by the view's lock.
+     */
+    static final class Terms {
+        int size;
+        int[] employeeIds = new int[1024];
+        String[][] termsByRow = new String[1024][];
+        final IntLongHashMap rowsById = new IntLongHashMap(1024);
+        final TreeMap<String, Object> postings = new TreeMap<>();
+        private boolean loading = true;
+
+        String[] termsOfId(int employeeId) {
+            int row = (int) rowsById.get(employeeId, -1);
+            return row < 0 ? new String[0] : termsByRow[row];
+        }
+
+        // Terms starting with the word, the word itself included.
+        SortedMap<String, Object> prefixRange(String word) {
+            return postings.subMap(word, word + Character.MAX_VALUE);
+        }
+
+        void sortPostings() {
+            for (Object posting : postings.values()) {
+                if (posting instanceof IdList) {
+                    ((IdList) posting).sort();
+                }
+            }
+            loading = false;
+        }
+
+        void put(EmployeeDTO employee) {
+            int employeeId = employee.getEmployeeId();
+            String[] terms = EmployeeNameIndex.termsOf(employee);
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row < 0) {
+                if (size == employeeIds.length) {
+                    employeeIds = Arrays.copyOf(employeeIds, size + (size >> 1));
+                    termsByRow = Arrays.copyOf(termsByRow, employeeIds.length);
+                }
+                row = size++;
+                employeeIds[row] = employeeId;
+                rowsById.put(employeeId, row);
+            } else {
+                if (Arrays.equals(terms, termsByRow[row])) {
+                    return;
+                }
+                for (String term : termsByRow[row]) {
+                    removePosting(term, employeeId);
+                }
+            }
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = addPosting(terms[i], employeeId);
+            }
+            termsByRow[row] = terms;
+        }
+
+        // The last row moves into the freed one.
+        void remove(int employeeId) {
+            int row = (int) rowsById.get(employeeId, -1);
+            if (row < 0) {
+                return;
+            }
+            for (String term : termsByRow[row]) {
+                removePosting(term, employeeId);
+            }
+            rowsById.remove(employeeId);
+            int last = --size;
+            if (row != last) {
+                employeeIds[row] = employeeIds[last];
+                termsByRow[row] = termsByRow[last];
+                rowsById.put(employeeIds[row], row);
+            }
+            termsByRow[last] = null;
+        }
+
+        /**
+         * Terms within {@code maxEdits} of the word that do not start with it, by distance and
+         * then term. Visits the sorted terms in order, keeping one row of the edit-distance table
+         * per character of the current term; a term sharing a prefix with the previous one reuses
+         * those rows.
+         */
+        List<TermMatch> fuzzyTerms(String word, int maxEdits) {
+            int maxDepth = word.length() + maxEdits;
+            int[][] rows = new int[maxDepth + 1][word.length() + 1];
+            for (int j = 0; j <= word.length(); j++) {
+                rows[0][j] = j;
+            }
+            List<TermMatch> matches = new ArrayList<>();
+            String rowsTerm = "";
+            int validDepth = 0;
+            String term = postings.isEmpty() ? null : postings.firstKey();
+            while (term != null) {
+                int depth = Math.min(validDepth, commonPrefixLength(rowsTerm, term));
+                int lastDepth = Math.min(term.length(), maxDepth);
+                boolean tooFar = false;
+                while (depth < lastDepth && !tooFar) {
+                    depth++;
+                    tooFar = fillRow(rows, depth, term, word) > maxEdits;
+                }
+                rowsTerm = term;
+                validDepth = depth;
+                if (tooFar || term.length() > maxDepth) {
+                    // No term starting with these characters can be close enough.
+                    term = postings.higherKey(term.substring(0, depth) + Character.MAX_VALUE);
+                    continue;
+                }
+                int distance = rows[term.length()][word.length()];
+                if (distance <= maxEdits && !term.startsWith(word)) {
+                    matches.add(new TermMatch(term, SearchMatchType.FUZZY, distance));
+                }
+                term = postings.higherKey(term);
+            }
+            matches.sort(Comparator.<TermMatch>comparingInt(match -> match.distance).thenComparing(match -> match.term));
+            return matches;
+        }
+
+        // Returns the instance of the term that the index keeps.
+        private String addPosting(String term, int employeeId) {
+            Object posting = postings.get(term);
+            if (posting == null) {
+                postings.put(term, employeeId);
+                return term;
+            }
+            IdList ids;
+            if (posting instanceof Integer) {
+                ids = new IdList(postings.floorKey(term));
+                ids.append((Integer) posting);
+                postings.put(ids.term, ids);
+            } else {
+                ids = (IdList) posting;
+            }
+            if (loading) {
+                ids.append(employeeId);
+            } else {
+                ids.insert(employeeId);
+            }
+            return ids.term;
+        }
+
+        private void removePosting(String term, int employeeId) {
+            Object posting = postings.get(term);
+            if (posting instanceof Integer) {
+                if ((Integer) posting == employeeId) {
+                    postings.remove(term);
+                }
+            } else if (posting != null) {
+                IdList ids = (IdList) posting;
+                ids.remove(employeeId);
+                if (ids.size == 1) {
+                    postings.put(ids.term, ids.ids[0]);
+                }
+            }
+        }
+
+        private static int commonPrefixLength(String a, String b) {
+            int max = Math.min(a.length(), b.length());
+            int i = 0;
+            while (i < max && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dao.EmployeeBatchWriter;
+import com.litmus7.employeemanager.dto.ImportErrorReport;
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.IntHashSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writer side of a CSV import. Receives parsed records in file order, rejects duplicate IDs
+ * and queues the rest on the batch writer. Under {@link WriteMode#INSERT} an ID that is already
+ * in the table counts as a duplicate; the other modes only reject IDs repeated within the file. Rejections go to an {@link ImportErrorReport} as codes;
+ * their messages are not built here. Must only be used from the thread that owns the import
+ * session.
+ */
+final class ImportRecordSink {
+
+    private static final Logger logger = LogManager.getLogger(ImportRecordSink.class);
+
+    private final EmployeeBatchWriter batchWriter;
+    private final IntHashSet knownEmployeeIds;
+    private final ImportErrorReport errorReport;
+    private final WriteMode writeMode;
+    // IDs seen so far in this file; INSERT mode adds them to knownEmployeeIds instead.
+    private final IntHashSet fileEmployeeIds;
+    private int successfulEntries;
+    private CommitHandler commitHandler;
+    private int commitInterval;
+    private int linesSinceCommit;
+
+    /** Called at a line boundary once enough lines have been written since the previous commit. */
+    interface CommitHandler {
+        void commit(int lineNumber, long byteOffset, long contentHash) throws DAOException, IOException;
+    }
+
+    ImportRecordSink(EmployeeBatchWriter batchWriter, IntHashSet knownEmployeeIds, ImportErrorReport errorReport,
+                     WriteMode writeMode) {
+        this.batchWriter = batchWriter;
+        this.knownEmployeeIds = knownEmployeeIds;
+        this.errorReport = errorReport;
+        this.writeMode = writeMode;
+        this.fileEmployeeIds = writeMode == WriteMode.INSERT ? null : new IntHashSet();
+    }
+
+    // Enables chunked commits; without this the sink never commits.
+    void commitEvery(int commitInterval, CommitHandler commitHandler) {
+        this.commitInterval = commitInterval;
+        this.commitHandler = commitHandler;
+    }
+
+    // recordOffset is the byte offset of the record in the CSV file, kept with any rejection.
+    void accept(RecordProcessResult parsed, long recordOffset) {
+        linesSinceCommit++;
+        if (!parsed.success) {
+            reject(parsed, recordOffset);
+            return;
+        }
+        int employeeId = parsed.employee.getEmployeeId();
+        boolean firstInFile = writeMode == WriteMode.INSERT ? knownEmployeeIds.add(employeeId) : fileEmployeeIds.add(employeeId);
+        if (!firstInFile) {
+            logger.warn("Duplicate employee ID {} found on line {}.", employeeId, parsed.lineNumber);
+            reject(RecordProcessResult.rejected(ImportErrorCodes.DUPLICATE_EMPLOYEE_ID, parsed.lineNumber,
+                    String.valueOf(employeeId)), recordOffset);
+            return;
+        }
+        boolean existed = writeMode != WriteMode.INSERT && knownEmployeeIds.contains(employeeId);
+        if (existed && writeMode == WriteMode.INSERT_IGNORE) {
+            // INSERT IGNORE would leave the row alone anyway, so it is not sent.
+            apply(Collections.singletonList(RecordProcessResult.written(WriteOutcome.SKIPPED, employeeId, parsed.lineNumber)));
+            return;
+        }
+        apply(batchWriter.add(parsed.employee, parsed.lineNumber, existed));
+    }
+
+    void flush() {
+        apply(batchWriter.flush());
+    }
+
+    /**
+     * Reports that every line up to {@code lineNumber} has been accepted and that the next
+     * unread line starts at {@code byteOffset}. Commits if the commit interval has been reached.
+     */
+    void markPosition(int lineNumber, long byteOffset, long contentHash) throws DAOException, IOException {
+        if (commitHandler == null || linesSinceCommit < commitInterval) {
+            return;
+        }
+        flush();
+        commitHandler.commit(lineNumber, byteOffset, contentHash);
+        linesSinceCommit = 0;
+    }
+
+    int getSuccessfulEntries() {
+        return successfulEntries;
+    }
+
+    ImportErrorReport getErrorReport() {
+        return errorReport;
+    }
+
+    // Batch results are only known per line; the writer does not keep record offsets.
+    private void apply(List<RecordProcessResult> results) {
+        for (RecordProcessResult recordResult : results) {
+            if (recordResult.success) {
+                successfulEntries++;
+                errorReport.getWriteSummary().add(recordResult.outcome);
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Line {}: {}", recordResult.lineNumber, recordResult.getMessage());
+                }
+            } else {
+                reject(recordResult, -1L);
+            }
+        }
+    }
+
+    private void reject(RecordProcessResult recordResult, long recordOffset) {
+        logger.warn("Failed to process record on line {} (error code {}).", recordResult.lineNumber, recordResult.errorCode);
+        errorReport.getWriteSummary().add(WriteOutcome.FAILED);
+        errorReport.add(recordResult, recordOffset);
+    }
+}
@@ -0,0 +1,98 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.util.IntLongHashMap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the writes the service has in flight, from before a write is sent until its change events
+ * are published. Events are published after the commit on the writing thread, so two writes to the
+ * same ID that overlap may reach the {@link EmployeeChangeListener}s in either order. For such
+ * contended IDs only a re-read is safe: the service publishes {@code employeesChanged} instead of
+ * applying the rows, and again when the write ends, after any event it did apply.
+ * <p>
+ * Writes that may touch any row (imports, syncs, predicate deletes) are tracked as table writes;
+ * every ID of a write that overlaps one of them counts as contended.
+ */
+final class InFlightWrites {
+
+    // Per ID: the low 32 bits count the writes in flight, CONTENDED marks that two of them overlapped.
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+    private static final long CONTENDED = 1L << 32;
+    // A map that grew past this many IDs is dropped once empty, so one bulk write does not pin it.
+    private static final int SHRINK_THRESHOLD = 4096;
+
+    // Everything below is guarded by this.
+    private IntLongHashMap writesById = new IntLongHashMap();
+    private int tableWrites;
+    private long tableWritesStarted;
+
+    synchronized Write begin(List<Integer> employeeIds) {
+        for (Integer employeeId : employeeIds) {
+            if (employeeId != null) {
+                long entry = writesById.get(employeeId, 0L);
+                writesById.put(employeeId, entry == 0 ? 1 : (entry + 1) | CONTENDED);
+            }
+        }
+        return new Write(employeeIds, tableWritesStarted);
+    }
+
+    synchronized void beginTableWrite() {
+        tableWrites++;
+        tableWritesStarted++;
+    }
+
+    synchronized void endTableWrite() {
+        tableWrites--;
+    }
+
+    /** One write to known IDs; {@link #end()} must be called once its events are published. */
+    final class Write {
+        private final List<Integer> employeeIds;
+        private final long tableWritesBefore;
+
+        private Write(List<Integer> employeeIds, long tableWritesBefore) {
+            this.employeeIds = employeeIds;
+            this.tableWritesBefore = tableWritesBefore;
+        }
+
+        // True if another write to this ID, or a table write, has overlapped this one so far.
+        boolean isContended(int employeeId) {
+            synchronized (InFlightWrites.this) {
+                return tableWriteOverlapped() || (writesById.get(employeeId, 0L) & CONTENDED) != 0;
+            }
+        }
+
+        // Ends the write and returns its IDs that were contended at any point; they must be re-read.
+        List<Integer> end() {
+            synchronized (InFlightWrites.this) {
+                boolean tableWriteOverlapped = tableWriteOverlapped();
+                List<Integer> contended = new ArrayList<>();
+                for (Integer employeeId : employeeIds) {
+                    if (employeeId == null) {
+                        continue;
+                    }
+                    long entry = writesById.get(employeeId, 0L);
+                    if (tableWriteOverlapped || (entry & CONTENDED) != 0) {
+                        contended.add(employeeId);
+                    }
+                    long count = (entry & COUNT_MASK) - 1;
+                    if (count <= 0) {
+                        writesById.remove(employeeId);
+                    } else {
+                        writesById.put(employeeId, (entry & CONTENDED) | count);
+                    }
+                }
+                if (writesById.isEmpty() && employeeIds.size() > SHRINK_THRESHOLD) {
+                    writesById = new IntLongHashMap();
+                }
+                return contended;
+            }
+        }
+
+        private boolean tableWriteOverlapped() {
+            return tableWrites > 0 || tableWritesStarted != tableWritesBefore;
+        }
+    }
+}
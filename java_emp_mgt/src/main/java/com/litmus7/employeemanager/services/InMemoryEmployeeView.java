@@ -0,0 +1,232 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.dao.EmployeeRepository;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.IntHashSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Base of the in-memory structures built from the whole employee table, such as
+ * {@link EmployeeAnalytics}. The structure of type {@code S} is loaded from the repository on
+ * first use and then kept current from the service's {@link EmployeeChangeListener} events: known
+ * writes are applied in place, rows the service could not account for are re-read by ID before
+ * the next query, and bulk changes trigger a full reload. A full reload also happens once the
+ * structure is older than {@code maxAgeSeconds}, to pick up writes made outside this JVM.
+ * <p>
+ * Queries call {@link #acquire(EmployeeRepository)}, read the structure and then call
+ * {@link #release()}. Subclasses only say how to build and update the structure; the update
+ * methods are always called under the write lock.
+ */
+abstract class InMemoryEmployeeView<S> implements EmployeeChangeListener {
+
+    private static final Logger logger = LogManager.getLogger(InMemoryEmployeeView.class);
+
+    // Re-reading more changed IDs than this share of the table costs more than a full reload.
+    private static final int REREAD_DIVISOR = 10;
+
+    private final long maxAgeNanos;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Only one thread reads from the repository at a time; the others wait and reuse its result.
+    private final Object refreshLock = new Object();
+    // Everything below is guarded by lock.
+    private S state;
+    private boolean stale = true;
+    private IntHashSet changedIds = new IntHashSet();
+    // Events that arrive while a refresh is reading; they are replayed on the refreshed structure.
+    private List<Consumer<S>> replayLog;
+    private long loadedAtNanos;
+
+    InMemoryEmployeeView(long maxAgeSeconds) {
+        this.maxAgeNanos = maxAgeSeconds * 1_000_000_000L;
+    }
+
+    // Builds the structure from every employee in the repository.
+    abstract S load(EmployeeRepository repository) throws DAOException;
+
+    abstract int size(S state);
+
+    abstract void upsert(S state, EmployeeDTO employee);
+
+    abstract void remove(S state, int employeeId);
+
+    abstract void transfer(S state, List<Integer> employeeIds, String newDepartment);
+
+    public final void employeesWritten(List<EmployeeDTO> employees) {
+        apply(state -> {
+            for (EmployeeDTO employee : employees) {
+                upsert(state, employee);
+            }
+        });
+    }
+
+    public final void employeesDeleted(List<Integer> employeeIds) {
+        apply(state -> {
+            for (Integer employeeId : employeeIds) {
+                remove(state, employeeId);
+            }
+        });
+    }
+
+    public final void employeesTransferred(List<Integer> employeeIds, String newDepartment) {
+        apply(state -> transfer(state, employeeIds, newDepartment));
+    }
+
+    public final void employeesChanged(List<Integer> employeeIds) {
+        lock.writeLock().lock();
+        try {
+            for (Integer employeeId : employeeIds) {
+                if (employeeId != null) {
+                    changedIds.add(employeeId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public final void allEmployeesChanged() {
+        lock.writeLock().lock();
+        try {
+            stale = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Brings the structure up to date and returns it with the read lock held. Every call must be
+     * followed by {@link #release()}, also when reading fails.
+     */
+    final S acquire(EmployeeRepository repository) throws DAOException {
+        refreshIfNeeded(repository);
+        lock.readLock().lock();
+        return state;
+    }
+
+    final void release() {
+        lock.readLock().unlock();
+    }
+
+    private void apply(Consumer<S> event) {
+        lock.writeLock().lock();
+        try {
+            // Before the first load there is nothing to update; the load reads the written rows.
+            if (state != null) {
+                event.accept(state);
+            }
+            if (replayLog != null) {
+                replayLog.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refreshIfNeeded(EmployeeRepository repository) throws DAOException {
+        lock.readLock().lock();
+        try {
+            if (!needsRefresh()) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        synchronized (refreshLock) {
+            refresh(repository);
+        }
+    }
+
+    private boolean needsRefresh() {
+        return state == null || stale || !changedIds.isEmpty() || isExpired();
+    }
+
+    private boolean isExpired() {
+        return maxAgeNanos > 0 && System.nanoTime() - loadedAtNanos > maxAgeNanos;
+    }
+
+    private void refresh(EmployeeRepository repository) throws DAOException {
+        boolean fullReload;
+        int[] rereadIds;
+        lock.writeLock().lock();
+        try {
+            if (!needsRefresh()) {
+                return; // Another thread refreshed while this one waited.
+            }
+            fullReload = state == null || stale || isExpired()
+                    || changedIds.size() > Math.max(1_000, size(state) / REREAD_DIVISOR);
+            rereadIds = fullReload ? null : changedIds.toArray();
+            stale = false;
+            changedIds = new IntHashSet();
+            replayLog = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startNanos = System.nanoTime();
+        S loaded = null;
+        List<EmployeeDTO> reread = null;
+        try {
+            if (fullReload) {
+                loaded = load(repository);
+            } else {
+                List<Integer> ids = new ArrayList<>(rereadIds.length);
+                for (int employeeId : rereadIds) {
+                    ids.add(employeeId);
+                }
+                reread = repository.findEmployeesByIds(ids);
+            }
+        } catch (DAOException | RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                if (fullReload) {
+                    stale = true;
+                } else {
+                    for (int employeeId : rereadIds) {
+                        changedIds.add(employeeId);
+                    }
+                }
+                replayLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int loadedSize = 0;
+        lock.writeLock().lock();
+        try {
+            if (fullReload) {
+                state = loaded;
+                loadedSize = size(loaded);
+                loadedAtNanos = System.nanoTime();
+            } else {
+                // IDs not found were deleted; the rest are written back with their current values.
+                for (int employeeId : rereadIds) {
+                    remove(state, employeeId);
+                }
+                for (EmployeeDTO employee : reread) {
+                    upsert(state, employee);
+                }
+            }
+            for (Consumer<S> event : replayLog) {
+                event.accept(state);
+            }
+            replayLog = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (fullReload) {
+            logger.info("Loaded {} employees into {} in {} ms.", loadedSize, getClass().getSimpleName(),
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        } else {
+            logger.debug("Re-read {} changed employees into {}.", rereadIds.length, getClass().getSimpleName());
+        }
+    }
+}
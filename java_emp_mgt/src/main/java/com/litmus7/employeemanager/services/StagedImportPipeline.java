@@ -0,0 +1,218 @@
+package com.litmus7.employeemanager.services;
+
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.exception.DAOException;
+import com.litmus7.employeemanager.util.CsvFileReader;
+import com.litmus7.employeemanager.util.EmployeeRecordParser;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Staged CSV import: one reader thread hands chunks of raw lines through a bounded queue to
+ * a pool of validation workers, and the calling thread, which owns the database connection,
+ * drains their results back into file order before passing them to the {@link ImportRecordSink}.
+ * <p>
+ * A semaphore caps the number of chunks between the reader and the writer, so a slow database
+ * throttles the reader instead of letting parsed rows pile up in memory.
+ */
+final class StagedImportPipeline {
+
+    private static final Logger logger = LogManager.getLogger(StagedImportPipeline.class);
+
+    private static final LineChunk END_OF_INPUT = new LineChunk(-1, new String[0], new int[0], new long[0], 0, 0, 0L, 0L);
+    private static final ParsedChunk WORKER_DONE = new ParsedChunk(END_OF_INPUT, new RecordProcessResult[0]);
+    private static final long FAILURE_CHECK_MILLIS = 100L;
+
+    private final int workerThreads;
+    private final int chunkLines;
+    private final int maxChunksInFlight;
+
+    StagedImportPipeline(int workerThreads, int chunkLines, int maxChunksInFlight) {
+        this.workerThreads = Math.max(1, workerThreads);
+        this.chunkLines = Math.max(1, chunkLines);
+        this.maxChunksInFlight = Math.max(1, maxChunksInFlight);
+    }
+
+    /**
+     * Reads every remaining line of {@code reader}, numbering them from {@code firstLineNumber},
+     * and feeds the parsed records to {@code sink} in line order on the calling thread.
+     */
+    void run(CsvFileReader reader, ImportRecordSink sink, int firstLineNumber)
+            throws IOException, DAOException, InterruptedException {
+        BlockingQueue<LineChunk> lineChunks = new ArrayBlockingQueue<>(maxChunksInFlight + workerThreads);
+        BlockingQueue<ParsedChunk> parsedChunks = new ArrayBlockingQueue<>(maxChunksInFlight + workerThreads);
+        Semaphore chunksInFlight = new Semaphore(maxChunksInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workerThreads + 1, runnable -> {
+            Thread thread = new Thread(runnable, "employee-import-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.info("Starting staged import with {} validation workers.", workerThreads);
+
+        try {
+            executor.execute(() -> readChunks(reader, firstLineNumber, lineChunks, chunksInFlight, failure));
+            for (int i = 0; i < workerThreads; i++) {
+                executor.execute(() -> validateChunks(lineChunks, parsedChunks, failure));
+            }
+
+            Map<Long, ParsedChunk> outOfOrder = new HashMap<>();
+            long nextSequence = 0;
+            int finishedWorkers = 0;
+            while (finishedWorkers < workerThreads) {
+                ParsedChunk chunk = parsedChunks.poll(FAILURE_CHECK_MILLIS, TimeUnit.MILLISECONDS);
+                if (chunk == null) {
+                    if (failure.get() != null) {
+                        break;
+                    }
+                    continue;
+                }
+                if (chunk == WORKER_DONE) {
+                    finishedWorkers++;
+                    continue;
+                }
+                outOfOrder.put(chunk.source.sequence, chunk);
+                while ((chunk = outOfOrder.remove(nextSequence)) != null) {
+                    LineChunk source = chunk.source;
+                    for (int i = 0; i < chunk.results.length; i++) {
+                        sink.accept(chunk.results[i], source.recordOffsets[i]);
+                    }
+                    sink.markPosition(source.endLineNumber, source.endByteOffset, source.endContentHash);
+                    nextSequence++;
+                    chunksInFlight.release();
+                }
+            }
+            logger.info("Staged import processed {} chunks.", nextSequence);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Throwable cause = failure.get();
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+    }
+
+    private void readChunks(CsvFileReader reader, int firstLineNumber, BlockingQueue<LineChunk> lineChunks,
+                            Semaphore chunksInFlight, AtomicReference<Throwable> failure) {
+        try {
+            long sequence = 0;
+            int lineNumber = firstLineNumber;
+            boolean endOfFile = false;
+            while (!endOfFile) {
+                chunksInFlight.acquire();
+                String[] lines = new String[chunkLines];
+                int[] lineNumbers = new int[chunkLines];
+                long[] recordOffsets = new long[chunkLines];
+                int count = 0;
+                while (count < chunkLines) {
+                    long recordOffset = reader.getBytePosition();
+                    String record = reader.readRecord();
+                    if (record == null) {
+                        endOfFile = true;
+                        break;
+                    }
+                    lines[count] = record;
+                    lineNumbers[count] = lineNumber;
+                    recordOffsets[count] = recordOffset;
+                    lineNumber += reader.getRecordLineCount();
+                    count++;
+                }
+                if (count > 0) {
+                    lineChunks.put(new LineChunk(sequence++, lines, lineNumbers, recordOffsets, count, lineNumber - 1,
+                            reader.getBytePosition(), reader.getContentChecksum()));
+                } else {
+                    chunksInFlight.release();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Error reading CSV file in staged import: {}", e.getMessage(), e);
+            failure.compareAndSet(null, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            for (int i = 0; i < workerThreads; i++) {
+                if (!lineChunks.offer(END_OF_INPUT)) {
+                    break; // Only happens while the pipeline is being torn down.
+                }
+            }
+        }
+    }
+
+    private void validateChunks(BlockingQueue<LineChunk> lineChunks, BlockingQueue<ParsedChunk> parsedChunks,
+                                AtomicReference<Throwable> failure) {
+        try {
+            LineChunk chunk;
+            while ((chunk = lineChunks.take()) != END_OF_INPUT) {
+                RecordProcessResult[] results = new RecordProcessResult[chunk.count];
+                for (int i = 0; i < chunk.count; i++) {
+                    results[i] = EmployeeRecordParser.parseLine(chunk.lines[i], chunk.lineNumbers[i]);
+                }
+                parsedChunks.put(new ParsedChunk(chunk, results));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error e) {
+            logger.error("Validation worker failed: {}", e.getMessage(), e);
+            failure.compareAndSet(null, e);
+        } finally {
+            parsedChunks.offer(WORKER_DONE);
+        }
+    }
+
+    private static final class LineChunk {
+        private final long sequence;
+        private final String[] lines;
+        private final int[] lineNumbers;
+        private final long[] recordOffsets; // Byte offset where each record starts.
+        private final int count;
+        // Last physical line of the chunk and the reader position right after it, used for checkpoints.
+        private final int endLineNumber;
+        private final long endByteOffset;
+        private final long endContentHash;
+
+        private LineChunk(long sequence, String[] lines, int[] lineNumbers, long[] recordOffsets, int count,
+                          int endLineNumber, long endByteOffset, long endContentHash) {
+            this.sequence = sequence;
+            this.lines = lines;
+            this.lineNumbers = lineNumbers;
+            this.recordOffsets = recordOffsets;
+            this.count = count;
+            this.endLineNumber = endLineNumber;
+            this.endByteOffset = endByteOffset;
+            this.endContentHash = endContentHash;
+        }
+    }
+
+    private static final class ParsedChunk {
+        private final LineChunk source;
+        private final RecordProcessResult[] results;
+
+        private ParsedChunk(LineChunk source, RecordProcessResult[] results) {
+            this.source = source;
+            this.results = results;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.litmus7.employeemanager.constant.AppConstants;
 import com.litmus7.employeemanager.controller.EmployeeController;
 import com.litmus7.employeemanager.dto.EmployeeDTO;
 import com.litmus7.employeemanager.dto.ResponseDTO;
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import com.litmus7.employeemanager.util.DatabaseConnectionManager;
 import com.litmus7.employeemanager.util.ErrorCodesManager;
 
 import java.time.LocalDate;
@@ -101,7 +103,11 @@ public class EmployeeManagerApp {
         System.out.println("\n----- Fetching All Employees -----");
         ResponseDTO<List<EmployeeDTO>> fetchAllResponse = controller.findAllEmployees();
         printEmployeeListResponse(fetchAllResponse);
-        
+
+        if (!"MEMORY".equalsIgnoreCase(ApplicationProperties.getRepositoryType())) {
+            System.out.println("\nConnection pool usage: " + DatabaseConnectionManager.getPoolStats());
+        }
+        System.out.println("Employee cache usage: " + controller.getCacheStats().getData());
         System.out.println("\nApplication: Program execution finished.");
     }
     
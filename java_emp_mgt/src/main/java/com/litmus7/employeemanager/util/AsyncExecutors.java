@@ -0,0 +1,101 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import com.litmus7.employeemanager.property.DatabaseProperties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for the async controller API. On JDK 21+ calls run on virtual threads, so hundreds
+ * of pending lookups cost no platform threads; the connection pool still bounds how many reach
+ * the database at once. On older JDKs (or with {@code async.executor=PLATFORM}) a fixed pool
+ * with a bounded queue is used, and calls beyond the queue are rejected.
+ */
+public final class AsyncExecutors {
+
+    private static final Logger logger = LogManager.getLogger(AsyncExecutors.class);
+
+    private AsyncExecutors() {}
+
+    /** Executor configured by the async.* properties, created on first use and shared. */
+    public static ExecutorService shared() {
+        return SharedHolder.EXECUTOR;
+    }
+
+    /** Single daemon thread that fires call timeouts; cancelled timers are removed right away. */
+    public static ScheduledExecutorService timeoutScheduler() {
+        return TimeoutHolder.SCHEDULER;
+    }
+
+    /**
+     * Creates an executor for {@code mode} AUTO, VIRTUAL or PLATFORM. AUTO and VIRTUAL fall back
+     * to the bounded platform pool when the JDK has no virtual threads.
+     */
+    public static ExecutorService create(String mode, int poolSize, int queueCapacity) {
+        if (!"PLATFORM".equalsIgnoreCase(mode)) {
+            ExecutorService virtualThreads = newVirtualThreadExecutor();
+            if (virtualThreads != null) {
+                logger.info("Async calls run on virtual threads.");
+                return virtualThreads;
+            }
+            if ("VIRTUAL".equalsIgnoreCase(mode)) {
+                logger.warn("Virtual threads are not available on this JDK. Using a pool of {} threads.", poolSize);
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-async-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        logger.info("Async calls run on a pool of {} threads with {} queue slots.", poolSize, queueCapacity);
+        return pool;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() is looked up reflectively so the code still runs on JDK 8-20.
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // JDK 19/20 have the method but reject it unless preview features are enabled.
+            logger.debug("Virtual thread executor unavailable: {}", e.toString());
+            return null;
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final ExecutorService EXECUTOR = create(ApplicationProperties.getAsyncExecutor(),
+                ApplicationProperties.getAsyncPoolSize() > 0 ? ApplicationProperties.getAsyncPoolSize()
+                        : DatabaseProperties.getPoolMaxSize(),
+                ApplicationProperties.getAsyncQueueCapacity());
+    }
+
+    private static final class TimeoutHolder {
+        private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "employee-async-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
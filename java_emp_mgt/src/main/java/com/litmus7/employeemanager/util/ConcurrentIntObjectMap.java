@@ -0,0 +1,303 @@
+package com.litmus7.employeemanager.util;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Thread-safe map from primitive int keys to objects, split into independently locked segments.
+ * Each segment is an open-addressing table like {@link IntHashSet} with a parallel value array,
+ * so an entry costs two array slots instead of a boxed key and a node object.
+ * <p>
+ * {@link #get(int)} first reads optimistically without taking a lock and only falls back to the
+ * segment's read lock if a writer changed the segment meanwhile, so lookups do not block each
+ * other or writers of other segments. Null values are not allowed.
+ */
+public final class ConcurrentIntObjectMap<V> {
+
+    private static final int FREE = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int SEGMENT_BITS = 4;
+
+    private final Segment<V>[] segments;
+
+    public ConcurrentIntObjectMap() {
+        this(16);
+    }
+
+    public ConcurrentIntObjectMap(int expectedSize) {
+        @SuppressWarnings("unchecked")
+        Segment<V>[] created = (Segment<V>[]) new Segment<?>[1 << SEGMENT_BITS];
+        int segmentSize = Math.max(4, expectedSize >>> SEGMENT_BITS);
+        for (int i = 0; i < created.length; i++) {
+            created[i] = new Segment<>(segmentSize);
+        }
+        segments = created;
+    }
+
+    public V get(int key) {
+        return segmentFor(key).get(key);
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    // Returns the previous value, or null if the key was not mapped.
+    public V put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not supported");
+        }
+        return segmentFor(key).put(key, value);
+    }
+
+    // Returns the removed value, or null if the key was not mapped.
+    public V remove(int key) {
+        return segmentFor(key).remove(key);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    // Visits the keys one segment at a time; keys written concurrently may or may not be seen.
+    public void forEachKey(IntConsumer action) {
+        for (Segment<V> segment : segments) {
+            for (int key : segment.keys()) {
+                action.accept(key);
+            }
+        }
+    }
+
+    private Segment<V> segmentFor(int key) {
+        return segments[(key * 0x9E3779B9) >>> (32 - SEGMENT_BITS)];
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        // Replaced as a whole on rehash, so an optimistic reader always sees matching arrays.
+        private Table table;
+        private int size;
+        private Object freeKeyValue;
+
+        Segment(int expectedSize) {
+            table = new Table(tableSizeFor(Math.max(4, (int) Math.ceil(expectedSize / LOAD_FACTOR))));
+        }
+
+        V get(int key) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0) {
+                Object value = find(key);
+                if (lock.validate(stamp)) {
+                    return cast(value);
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                return cast(find(key));
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        V put(int key, Object value) {
+            long stamp = lock.writeLock();
+            try {
+                if (key == FREE) {
+                    Object previous = freeKeyValue;
+                    if (previous == null) {
+                        size++;
+                    }
+                    freeKeyValue = value;
+                    return cast(previous);
+                }
+                Table current = table;
+                int index = current.slot(key);
+                int existing;
+                while ((existing = current.keys[index]) != FREE) {
+                    if (existing == key) {
+                        Object previous = current.values[index];
+                        current.values[index] = value;
+                        return cast(previous);
+                    }
+                    index = (index + 1) & current.mask;
+                }
+                current.values[index] = value;
+                current.keys[index] = key;
+                if (++size >= current.resizeThreshold) {
+                    table = current.rehash(current.keys.length << 1);
+                }
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        V remove(int key) {
+            long stamp = lock.writeLock();
+            try {
+                if (key == FREE) {
+                    Object previous = freeKeyValue;
+                    if (previous != null) {
+                        freeKeyValue = null;
+                        size--;
+                    }
+                    return cast(previous);
+                }
+                Table current = table;
+                int index = current.slot(key);
+                int existing;
+                while ((existing = current.keys[index]) != FREE) {
+                    if (existing == key) {
+                        Object previous = current.values[index];
+                        current.shiftKeysBack(index);
+                        size--;
+                        return cast(previous);
+                    }
+                    index = (index + 1) & current.mask;
+                }
+                return null;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void clear() {
+            long stamp = lock.writeLock();
+            try {
+                table = new Table(table.keys.length);
+                freeKeyValue = null;
+                size = 0;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int[] keys() {
+            long stamp = lock.readLock();
+            try {
+                int[] keys = new int[size];
+                int position = 0;
+                if (freeKeyValue != null) {
+                    keys[position++] = FREE;
+                }
+                for (int key : table.keys) {
+                    if (key != FREE) {
+                        keys[position++] = key;
+                    }
+                }
+                return keys;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        // May run without a lock: it must not fail or loop forever on a table being changed.
+        private Object find(int key) {
+            if (key == FREE) {
+                return freeKeyValue;
+            }
+            Table current = table;
+            int index = current.slot(key);
+            for (int probes = 0; probes <= current.mask; probes++) {
+                int existing = current.keys[index];
+                if (existing == key) {
+                    return current.values[index];
+                }
+                if (existing == FREE) {
+                    return null;
+                }
+                index = (index + 1) & current.mask;
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> V cast(Object value) {
+            return (V) value;
+        }
+    }
+
+    private static final class Table {
+        final int[] keys;
+        final Object[] values;
+        final int mask;
+        final int resizeThreshold;
+
+        Table(int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+            mask = capacity - 1;
+            resizeThreshold = (int) (capacity * LOAD_FACTOR);
+        }
+
+        int slot(int key) {
+            // Fibonacci hashing spreads sequential IDs across the table.
+            int hash = key * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+
+        Table rehash(int newCapacity) {
+            Table resized = new Table(newCapacity);
+            for (int i = 0; i < keys.length; i++) {
+                int key = keys[i];
+                if (key != FREE) {
+                    int index = resized.slot(key);
+                    while (resized.keys[index] != FREE) {
+                        index = (index + 1) & resized.mask;
+                    }
+                    resized.keys[index] = key;
+                    resized.values[index] = values[i];
+                }
+            }
+            return resized;
+        }
+
+        // Backward-shift deletion keeps probe chains intact without tombstones.
+        void shiftKeysBack(int index) {
+            int last;
+            int current;
+            while (true) {
+                last = index;
+                index = (index + 1) & mask;
+                while (true) {
+                    if ((current = keys[index]) == FREE) {
+                        keys[last] = FREE;
+                        values[last] = null;
+                        return;
+                    }
+                    int home = slot(current);
+                    if (last <= index ? (last >= home || home > index) : (last >= home && home > index)) {
+                        break;
+                    }
+                    index = (index + 1) & mask;
+                }
+                keys[last] = current;
+                values[last] = values[index];
+            }
+        }
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(capacity - 1) << 1;
+        return n <= 0 ? 1 << 30 : n;
+    }
+}
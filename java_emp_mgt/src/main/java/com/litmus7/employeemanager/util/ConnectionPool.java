@@ -0,0 +1,350 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.dto.ConnectionPoolStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Bounded JDBC connection pool. Callers borrow connections with {@link #getConnection()} and
+ * hand them back by calling {@code close()} on the returned connection, so existing
+ * try-with-resources code keeps working unchanged.
+ */
+public final class ConnectionPool implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ConnectionPool.class);
+
+    private final String url;
+    private final Properties connectionProperties;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long acquireTimeoutMillis;
+    private final String validationQuery;
+    private final long validationIntervalMillis;
+
+    // Most recently returned connections sit at the head so hot connections get reused first.
+    private final LinkedBlockingDeque<PooledEntry> idleConnections = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ScheduledExecutorService housekeeper;
+
+    private final AtomicLong acquireCount = new AtomicLong();
+    private final AtomicLong acquireTimeoutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicLong totalUsageNanos = new AtomicLong();
+    private final AtomicLong connectionsCreated = new AtomicLong();
+    private final AtomicLong connectionsDestroyed = new AtomicLong();
+
+    public ConnectionPool(String url, Properties connectionProperties, int minSize, int maxSize,
+                          long idleTimeoutMillis, long acquireTimeoutMillis,
+                          String validationQuery, long validationIntervalMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool max size must be positive: " + maxSize);
+        }
+        this.url = url;
+        this.connectionProperties = connectionProperties;
+        this.maxSize = maxSize;
+        this.minSize = Math.max(0, Math.min(minSize, maxSize));
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.validationQuery = validationQuery;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (idleTimeoutMillis > 0) {
+            long period = Math.max(1_000L, idleTimeoutMillis / 2);
+            housekeeper.scheduleWithFixedDelay(this::evictIdleConnections, period, period, TimeUnit.MILLISECONDS);
+        }
+        logger.info("Connection pool created (min={}, max={}, idleTimeoutMs={}, acquireTimeoutMs={}).",
+                this.minSize, maxSize, idleTimeoutMillis, acquireTimeoutMillis);
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("Connection pool is closed.");
+        }
+        if (warmedUp.compareAndSet(false, true)) {
+            fillToMinimum();
+        }
+
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+        long waited = System.nanoTime() - waitStart;
+        if (!acquired) {
+            acquireTimeoutCount.incrementAndGet();
+            logger.error("Timed out after {} ms waiting for a database connection. {}", acquireTimeoutMillis, getStats());
+            throw new SQLException("Timed out after " + acquireTimeoutMillis + " ms waiting for a database connection (max pool size " + maxSize + ").");
+        }
+
+        try {
+            PooledEntry entry = takeIdleOrCreate();
+            acquireCount.incrementAndGet();
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulate(waited);
+            entry.borrowedAt = System.nanoTime();
+            logger.trace("Borrowed pooled connection after waiting {} us.", waited / 1_000L);
+            return entry.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public ConnectionPoolStats getStats() {
+        int total = totalConnections.get();
+        int idle = idleConnections.size();
+        return new ConnectionPoolStats(maxSize, total, Math.max(0, total - idle), idle, permits.getQueueLength(),
+                acquireCount.get(), acquireTimeoutCount.get(), totalWaitNanos.get(), maxWaitNanos.get(),
+                totalUsageNanos.get(), connectionsCreated.get(), connectionsDestroyed.get());
+    }
+
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        housekeeper.shutdownNow();
+        PooledEntry entry;
+        while ((entry = idleConnections.pollFirst()) != null) {
+            destroy(entry);
+        }
+        logger.info("Connection pool closed. {}", getStats());
+    }
+
+    private PooledEntry takeIdleOrCreate() throws SQLException {
+        PooledEntry entry = idleConnections.pollFirst();
+        while (true) {
+            if (entry != null) {
+                if (isUsable(entry)) {
+                    return entry;
+                }
+                destroy(entry);
+            } else if (reserveSlot(maxSize)) {
+                return createEntry();
+            }
+            if ((entry = idleConnections.pollFirst()) == null && totalConnections.get() >= maxSize) {
+                // Every slot is taken, but we hold a permit, so one of them is idle or being
+                // pre-opened by fillToMinimum; wait for it rather than open past maxSize.
+                entry = pollIdle();
+            }
+        }
+    }
+
+    private PooledEntry pollIdle() throws SQLException {
+        try {
+            PooledEntry entry = idleConnections.pollFirst(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+            if (entry == null && totalConnections.get() >= maxSize) {
+                throw new SQLException("Timed out after " + acquireTimeoutMillis + " ms waiting for a pooled connection to be opened.");
+            }
+            return entry;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+    }
+
+    // Claims one of the slots below limit in totalConnections; the caller must open a connection
+    // into it with createEntry, which gives the slot back if opening fails.
+    private boolean reserveSlot(int limit) {
+        int total;
+        do {
+            total = totalConnections.get();
+            if (total >= limit) {
+                return false;
+            }
+        } while (!totalConnections.compareAndSet(total, total + 1));
+        return true;
+    }
+
+    private boolean isUsable(PooledEntry entry) {
+        long idleMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - entry.lastReturnedAt);
+        if (idleMillis < validationIntervalMillis) {
+            return true;
+        }
+        try {
+            if (entry.physical.isClosed()) {
+                return false;
+            }
+            if (validationQuery == null || validationQuery.isEmpty()) {
+                return entry.physical.isValid(5);
+            }
+            try (Statement statement = entry.physical.createStatement()) {
+                statement.setQueryTimeout(5);
+                statement.execute(validationQuery);
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.warn("Discarding pooled connection that failed validation: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private PooledEntry createEntry() throws SQLException {
+        try {
+            Connection physical = DriverManager.getConnection(url, connectionProperties);
+            connectionsCreated.incrementAndGet();
+            logger.debug("Opened new physical connection ({} total).", totalConnections.get());
+            return new PooledEntry(physical);
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void release(PooledEntry entry) {
+        totalUsageNanos.addAndGet(System.nanoTime() - entry.borrowedAt);
+        try {
+            if (closed.get() || entry.physical.isClosed()) {
+                destroy(entry);
+                return;
+            }
+            if (!entry.physical.getAutoCommit()) {
+                // Never hand an open transaction to the next borrower.
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+            entry.physical.clearWarnings();
+            entry.lastReturnedAt = System.nanoTime();
+            idleConnections.offerFirst(entry);
+        } catch (SQLException e) {
+            logger.warn("Discarding pooled connection that could not be reset: {}", e.getMessage());
+            destroy(entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void destroy(PooledEntry entry) {
+        totalConnections.decrementAndGet();
+        connectionsDestroyed.incrementAndGet();
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            logger.debug("Error closing physical connection: {}", e.getMessage());
+        }
+    }
+
+    private void fillToMinimum() {
+        while (!closed.get() && reserveSlot(minSize)) {
+            try {
+                PooledEntry entry = createEntry();
+                entry.lastReturnedAt = System.nanoTime();
+                idleConnections.offerLast(entry);
+            } catch (SQLException e) {
+                logger.warn("Could not pre-open pooled connection: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void evictIdleConnections() {
+        try {
+            long now = System.nanoTime();
+            // Oldest idle connections accumulate at the tail of the deque.
+            while (totalConnections.get() > minSize) {
+                PooledEntry candidate = idleConnections.peekLast();
+                if (candidate == null || TimeUnit.NANOSECONDS.toMillis(now - candidate.lastReturnedAt) < idleTimeoutMillis) {
+                    break;
+                }
+                if (idleConnections.removeLastOccurrence(candidate)) {
+                    destroy(candidate);
+                    logger.debug("Evicted idle pooled connection ({} remaining).", totalConnections.get());
+                }
+            }
+            fillToMinimum();
+            logger.debug("Connection pool status: {}", getStats());
+        } catch (RuntimeException e) {
+            logger.error("Connection pool housekeeping failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private final class PooledEntry {
+        private final Connection physical;
+        private volatile long lastReturnedAt = System.nanoTime();
+        private volatile long borrowedAt;
+
+        private PooledEntry(Connection physical) {
+            this.physical = physical;
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, new ConnectionHandle(this));
+        }
+    }
+
+    /**
+     * Per-borrow view of a pooled connection. Closing it returns the physical connection to the
+     * pool exactly once; any later use fails as it would on a really closed connection.
+     */
+    private final class ConnectionHandle implements InvocationHandler {
+        private final PooledEntry entry;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        private ConnectionHandle(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if ("close".equals(name) && method.getParameterCount() == 0) {
+                if (returned.compareAndSet(false, true)) {
+                    release(entry);
+                }
+                return null;
+            }
+            if ("isClosed".equals(name) && method.getParameterCount() == 0) {
+                return returned.get() || entry.physical.isClosed();
+            }
+            if ("equals".equals(name) && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if ("hashCode".equals(name) && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+            if ("toString".equals(name) && method.getParameterCount() == 0) {
+                return "PooledConnection[" + entry.physical + "]";
+            }
+            if (returned.get()) {
+                throw new SQLException("Connection has already been returned to the pool.");
+            }
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -1,29 +1,345 @@
 package com.litmus7.employeemanager.util;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * Line reader for UTF-8 CSV files that keeps track of the byte offset of the next unread line
+ * and a running CRC32 of every byte consumed so far. Both are recorded in import checkpoints
+ * so an interrupted import can resume exactly where its last commit ended.
+ * <p>
+ * Line boundaries are found on the raw bytes; only complete lines are decoded. In
+ * {@link Mode#STREAM} the file is read through a direct buffer with positional channel reads,
+ * in {@link Mode#MAPPED} it is memory-mapped in large windows so no read calls are made at all.
+ * A reader can also be limited to one {@link Range} of the file, see {@link #splitIntoRanges}.
+ * <p>
+ * A file whose name ends in {@code .gz} is decompressed as it is read, always in STREAM mode.
+ * Offsets and the checksum then refer to the decompressed bytes, so checkpoints still work, but
+ * such a file cannot be read by range.
+ */
 public class CsvFileReader implements AutoCloseable {
 
-    private final BufferedReader bufferedReader;
+    public enum Mode {
+        STREAM,
+        MAPPED
+    }
+
+    private static final int STREAM_BUFFER_SIZE = 256 * 1024;
+    // Bounded so files of any size can be mapped one window at a time.
+    private static final long MAP_WINDOW_SIZE = 64L * 1024 * 1024;
+    private static final int BOUNDARY_SCAN_SIZE = 256 * 1024;
+
+    private final FileChannel channel;
+    // Decompressed view of channel for gzip files, otherwise null.
+    private final ReadableByteChannel gzipChannel;
+    private final Mode mode;
+    private final long endOffset;
+
+    private ByteBuffer window;
+    private int bufferPosition;
+    private int bufferLimit;
+
+    private byte[] lineBytes = new byte[256];
+    private long bytePosition;
+    private final CRC32 checksum = new CRC32();
+    private int recordLineCount;
 
     public CsvFileReader(String filePath) throws IOException {
-        FileReader fileReader = new FileReader(filePath);
-        this.bufferedReader = new BufferedReader(fileReader);
+        this(filePath, Mode.STREAM);
+    }
+
+    public CsvFileReader(String filePath, Mode mode) throws IOException {
+        this(filePath, mode, null);
+    }
+
+    /**
+     * Opens a reader over {@code range} only, or over the whole file if it is null. Offsets stay
+     * absolute to the file; the checksum covers only the bytes of the range.
+     */
+    public CsvFileReader(String filePath, Mode mode, Range range) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        boolean gzip = isGzip(filePath);
+        this.mode = gzip ? Mode.STREAM : mode;
+        try {
+            if (gzip && range != null) {
+                throw new IOException("A gzip file cannot be read by range: " + filePath);
+            }
+            this.gzipChannel = gzip
+                    ? Channels.newChannel(new GZIPInputStream(Channels.newInputStream(channel), STREAM_BUFFER_SIZE)) : null;
+            this.endOffset = gzip ? Long.MAX_VALUE : range != null ? Math.min(range.getEndOffset(), channel.size()) : channel.size();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        this.bytePosition = range != null ? range.getStartOffset() : 0L;
+        this.window = this.mode == Mode.STREAM ? ByteBuffer.allocateDirect(STREAM_BUFFER_SIZE) : null;
+    }
+
+    public static boolean isGzip(String filePath) {
+        return filePath.regionMatches(true, filePath.length() - 3, ".gz", 0, 3);
+    }
+
+    /**
+     * Splits the part of the file from {@code startOffset} (normally the first byte after the
+     * header) into at most {@code parts} ranges of about equal size, so each can be read by its own
+     * worker. Every range starts at the start of a record: a line break inside a quoted field never
+     * becomes a boundary. Telling the two apart needs the quote state from {@code startOffset}
+     * onwards, so the bytes are scanned once from there; {@code startOffset} must itself start a
+     * record.
+     */
+    public static List<Range> splitIntoRanges(String filePath, long startOffset, int parts) throws IOException {
+        if (isGzip(filePath)) {
+            throw new IOException("A gzip file cannot be read by range: " + filePath);
+        }
+        List<Range> ranges = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long rangeStart = Math.min(startOffset, size);
+            int rangeCount = Math.max(1, parts);
+            long rangeLength = (size - rangeStart + rangeCount - 1) / rangeCount;
+            long target = rangeStart + rangeLength;
+            boolean insideQuotes = false;
+            boolean afterCarriageReturn = false;
+            ByteBuffer scanBuffer = ByteBuffer.allocateDirect(BOUNDARY_SCAN_SIZE);
+            long position = rangeStart;
+            while (ranges.size() < rangeCount - 1 && position < size) {
+                scanBuffer.clear();
+                int read = channel.read(scanBuffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read && ranges.size() < rangeCount - 1; i++) {
+                    byte b = scanBuffer.get(i);
+                    long recordStart = -1;
+                    if (afterCarriageReturn && b == '\n') {
+                        recordStart = position + i + 1;
+                    } else {
+                        if (afterCarriageReturn) {
+                            recordStart = position + i; // A lone CR ended the record before this byte.
+                        }
+                        if (b == '"') {
+                            insideQuotes = !insideQuotes;
+                        } else if (!insideQuotes && b == '\n') {
+                            recordStart = position + i + 1;
+                        }
+                    }
+                    afterCarriageReturn = !insideQuotes && b == '\r';
+                    if (recordStart >= target && recordStart < size) {
+                        ranges.add(new Range(rangeStart, recordStart));
+                        rangeStart = recordStart;
+                        target = rangeStart + rangeLength;
+                    }
+                }
+                position += read;
+            }
+            ranges.add(new Range(rangeStart, size));
+        }
+        return ranges;
     }
 
     public String readLine() throws IOException {
-        return bufferedReader.readLine();
+        int lineLength = 0;
+        boolean sawAnyByte = false;
+        while (true) {
+            if (bufferPosition >= bufferLimit && !fillBuffer()) {
+                return sawAnyByte ? decode(lineLength) : null;
+            }
+            sawAnyByte = true;
+            int start = bufferPosition;
+            int end = start;
+            while (end < bufferLimit) {
+                byte b = window.get(end);
+                if (b == '\n' || b == '\r') {
+                    break;
+                }
+                end++;
+            }
+            lineLength = appendToLine(lineLength, start, end);
+            consume(start, end);
+            if (end < bufferLimit) {
+                byte terminator = window.get(end);
+                consume(end, end + 1);
+                if (terminator == '\r') {
+                    skipLineFeedAfterCarriageReturn();
+                }
+                return decode(lineLength);
+            }
+        }
+    }
+
+    /**
+     * Reads one CSV record. This is normally one line, but a quoted field may span several lines;
+     * they are joined with {@code \n}. {@link #getRecordLineCount()} tells how many lines it used.
+     */
+    public String readRecord() throws IOException {
+        String line = readLine();
+        recordLineCount = line == null ? 0 : 1;
+        if (line == null || !hasOddQuoteCount(line)) {
+            return line;
+        }
+        StringBuilder record = new StringBuilder(line);
+        boolean insideQuotes = true;
+        String next;
+        while (insideQuotes && (next = readLine()) != null) {
+            recordLineCount++;
+            record.append('\n').append(next);
+            insideQuotes = !hasOddQuoteCount(next);
+        }
+        return record.toString();
+    }
+
+    // Physical lines consumed by the last readRecord() call.
+    public int getRecordLineCount() {
+        return recordLineCount;
     }
 
     public void skipHeader() throws IOException {
-        bufferedReader.readLine(); // Skips the header line of the CSV file.
+        readLine(); // Skips the header line of the CSV file.
+    }
+
+    /**
+     * Skips to {@code byteOffset}, which must be the start of a line, still folding the skipped
+     * bytes into the checksum so the caller can verify the prefix has not changed.
+     */
+    public void skipToByteOffset(long byteOffset) throws IOException {
+        while (bytePosition < byteOffset) {
+            if (bufferPosition >= bufferLimit && !fillBuffer()) {
+                throw new IOException("File is shorter than the checkpoint offset " + byteOffset + ".");
+            }
+            int available = bufferLimit - bufferPosition;
+            int toSkip = (int) Math.min(available, byteOffset - bytePosition);
+            consume(bufferPosition, bufferPosition + toSkip);
+        }
+    }
+
+    // Offset of the first byte that has not been returned yet.
+    public long getBytePosition() {
+        return bytePosition;
     }
-    
+
+    // CRC32 of all bytes before getBytePosition().
+    public long getContentChecksum() {
+        return checksum.getValue();
+    }
+
     public void close() throws IOException {
-        if (bufferedReader != null) {
-            bufferedReader.close();
+        window = null;
+        try {
+            if (gzipChannel != null) {
+                gzipChannel.close();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    // An escaped quote is doubled, so an odd count means a quoted field is still open.
+    private static boolean hasOddQuoteCount(String line) {
+        boolean odd = false;
+        for (int i = line.indexOf('"'); i >= 0; i = line.indexOf('"', i + 1)) {
+            odd = !odd;
+        }
+        return odd;
+    }
+
+    // Loads the bytes from bytePosition onwards into the window; false at the end of the file or range.
+    private boolean fillBuffer() throws IOException {
+        long remaining = endOffset - bytePosition;
+        bufferPosition = 0;
+        bufferLimit = 0;
+        if (remaining <= 0) {
+            return false;
+        }
+        if (mode == Mode.MAPPED) {
+            int windowSize = (int) Math.min(MAP_WINDOW_SIZE, remaining);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, bytePosition, windowSize);
+            bufferLimit = windowSize;
+            return true;
+        }
+        window.clear();
+        window.limit((int) Math.min(window.capacity(), remaining));
+        int read = readWindow();
+        while (read == 0) {
+            read = readWindow();
+        }
+        if (read < 0) {
+            return false;
+        }
+        bufferLimit = read;
+        return true;
+    }
+
+    // Compressed input can only be read in order; plain files are read at bytePosition.
+    private int readWindow() throws IOException {
+        return gzipChannel != null ? gzipChannel.read(window) : channel.read(window, bytePosition);
+    }
+
+    private void skipLineFeedAfterCarriageReturn() throws IOException {
+        if (bufferPosition >= bufferLimit && !fillBuffer()) {
+            return;
+        }
+        if (window.get(bufferPosition) == '\n') {
+            consume(bufferPosition, bufferPosition + 1);
+        }
+    }
+
+    private void consume(int start, int end) {
+        if (end > start) {
+            window.limit(end).position(start);
+            checksum.update(window);
+            window.limit(window.capacity());
+        }
+        bytePosition += end - start;
+        bufferPosition = end;
+    }
+
+    private int appendToLine(int lineLength, int start, int end) {
+        int length = end - start;
+        if (lineLength + length > lineBytes.length) {
+            lineBytes = Arrays.copyOf(lineBytes, Math.max(lineBytes.length * 2, lineLength + length));
+        }
+        window.limit(end).position(start);
+        window.get(lineBytes, lineLength, length);
+        window.limit(window.capacity());
+        return lineLength + length;
+    }
+
+    private String decode(int lineLength) {
+        // The UTF-8 decoder copies pure-ASCII lines straight into a compact Latin-1 String.
+        return new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8);
+    }
+
+    /** A byte range of the file that starts at a record boundary; the end is exclusive. */
+    public static final class Range {
+        private final long startOffset;
+        private final long endOffset;
+
+        public Range(long startOffset, long endOffset) {
+            this.startOffset = startOffset;
+            this.endOffset = endOffset;
+        }
+
+        public long getStartOffset() {
+            return startOffset;
+        }
+
+        public long getEndOffset() {
+            return endOffset;
+        }
+
+        public String toString() {
+            return "[" + startOffset + ", " + endOffset + ")";
         }
     }
 }
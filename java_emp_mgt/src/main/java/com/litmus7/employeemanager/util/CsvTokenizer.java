@@ -0,0 +1,261 @@
+package com.litmus7.employeemanager.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Splits one CSV record into fields without creating a String per field. The record is copied
+ * into a reused char buffer and each field is kept as an offset/length pair into it; callers turn
+ * only the fields they keep into Strings and parse numbers and dates straight from the buffer.
+ * <p>
+ * Quoting follows RFC 4180: a field wrapped in double quotes may contain commas, line breaks and
+ * doubled quotes ({@code ""}), which are unescaped in place. Every field value is trimmed of
+ * leading and trailing whitespace after unquoting, matching {@link String#trim()}.
+ * <p>
+ * Not thread-safe; each thread tokenizes with its own instance.
+ */
+public final class CsvTokenizer {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    // Powers of ten that are exact doubles; a decimal with at most 15 significant digits scaled by
+    // one of these rounds exactly once, so the result equals Double.parseDouble (Clinger's fast path).
+    private static final double[] EXACT_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private char[] buffer = new char[256];
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+    private boolean blank;
+
+    /**
+     * Tokenizes {@code record}, replacing the previous record. Returns false if a quoted field
+     * is not closed before the end of the input.
+     */
+    public boolean tokenize(String record) {
+        int length = record.length();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+        }
+        record.getChars(0, length, buffer, 0);
+        fieldCount = 0;
+        blank = true;
+
+        int read = 0;
+        while (true) {
+            // Unquoting only ever shrinks a field, so it is rewritten in place from 'write'.
+            int write = read;
+            int fieldStart = write;
+            boolean quoted = false;
+            while (read < length) {
+                char c = buffer[read];
+                if (c > ' ') {
+                    blank = false;
+                }
+                if (quoted) {
+                    read++;
+                    if (c != QUOTE) {
+                        buffer[write++] = c;
+                    } else if (read < length && buffer[read] == QUOTE) {
+                        buffer[write++] = QUOTE;
+                        read++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == SEPARATOR) {
+                    break;
+                } else {
+                    read++;
+                    if (c == QUOTE) {
+                        quoted = true;
+                    } else {
+                        buffer[write++] = c;
+                    }
+                }
+            }
+            addField(fieldStart, write);
+            if (quoted) {
+                return false;
+            }
+            if (read >= length) {
+                return true;
+            }
+            read++; // Separator.
+        }
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    // True if the record held nothing but whitespace.
+    public boolean isBlank() {
+        return blank;
+    }
+
+    public boolean isEmpty(int field) {
+        return length(field) == 0;
+    }
+
+    public int length(int field) {
+        checkField(field);
+        return fieldEnds[field] - fieldStarts[field];
+    }
+
+    public char charAt(int field, int index) {
+        return buffer[fieldStarts[field] + index];
+    }
+
+    /** Creates the String for {@code field}; the only method here that allocates per field. */
+    public String getString(int field) {
+        checkField(field);
+        return new String(buffer, fieldStarts[field], fieldEnds[field] - fieldStarts[field]);
+    }
+
+    /** Parses {@code field} as a decimal int, with the same rules as {@link Integer#parseInt(String)}. */
+    public int getInt(int field) {
+        checkField(field);
+        int position = fieldStarts[field];
+        int end = fieldEnds[field];
+        if (position == end) {
+            throw new NumberFormatException("Empty field");
+        }
+        boolean negative = false;
+        char first = buffer[position];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++position == end) {
+                throw invalidNumber(field);
+            }
+        }
+        // Accumulate negatively so Integer.MIN_VALUE parses without overflow.
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (; position < end; position++) {
+            int digit = buffer[position] - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(getString(field)); // Non-ASCII digits, or throws.
+            }
+            if (result < limit / 10) {
+                throw invalidNumber(field);
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidNumber(field);
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses {@code field} as a double. Plain decimals such as {@code -1234.50} are converted from
+     * the buffer; anything else (exponents, long mantissas, NaN, hex) goes through
+     * {@link Double#parseDouble(String)} so the result is always identical to it.
+     */
+    public double getDouble(int field) {
+        checkField(field);
+        int position = fieldStarts[field];
+        int end = fieldEnds[field];
+        boolean negative = false;
+        if (position < end && (buffer[position] == '-' || buffer[position] == '+')) {
+            negative = buffer[position] == '-';
+            position++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean sawPoint = false;
+        boolean sawDigit = false;
+        for (; position < end; position++) {
+            char c = buffer[position];
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || c != '0') {
+                    digits++;
+                }
+                if (digits > MAX_EXACT_DIGITS) {
+                    return Double.parseDouble(getString(field));
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (sawPoint) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !sawPoint) {
+                sawPoint = true;
+            } else {
+                return Double.parseDouble(getString(field));
+            }
+        }
+        if (!sawDigit || fractionDigits >= EXACT_POWERS_OF_TEN.length) {
+            return Double.parseDouble(getString(field));
+        }
+        double value = (double) mantissa / EXACT_POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses {@code field} as an ISO-8601 date ({@code yyyy-MM-dd}). Other shapes accepted by
+     * {@link LocalDate#parse(CharSequence)}, such as years beyond 9999, fall back to it.
+     *
+     * @throws DateTimeException if the field is not a valid date
+     */
+    public LocalDate getDate(int field) {
+        checkField(field);
+        int start = fieldStarts[field];
+        if (fieldEnds[field] - start != 10 || buffer[start + 4] != '-' || buffer[start + 7] != '-') {
+            return LocalDate.parse(getString(field));
+        }
+        int year = digits(start, 4);
+        int month = digits(start + 5, 2);
+        int day = digits(start + 8, 2);
+        if (year < 0 || month < 0 || day < 0) {
+            return LocalDate.parse(getString(field)); // Throws with the JDK's own message.
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private int digits(int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private void addField(int start, int end) {
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw new IndexOutOfBoundsException("Field " + field + " of " + fieldCount);
+        }
+    }
+
+    private NumberFormatException invalidNumber(int field) {
+        return new NumberFormatException("For input string: \"" + getString(field) + "\"");
+    }
+}
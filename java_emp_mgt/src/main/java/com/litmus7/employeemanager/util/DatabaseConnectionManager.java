@@ -1,40 +1,48 @@
 package com.litmus7.employeemanager.util;
 
-import java.io.IOException;
-import java.io.InputStream;
+import com.litmus7.employeemanager.dto.ConnectionPoolStats;
+import com.litmus7.employeemanager.property.DatabaseProperties;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 
 public final class DatabaseConnectionManager {
 
-    private static final Properties PROPERTIES = new Properties();
-    private static final String PROPERTIES_FILE_NAME = "database.properties";
+    private static final ConnectionPool POOL = createPool();
 
     static {
-        loadProperties();
+        Runtime.getRuntime().addShutdownHook(new Thread(POOL::close, "connection-pool-shutdown"));
     }
 
     private DatabaseConnectionManager() {} // Prevent instantiation
 
-    private static void loadProperties() {
-        try (InputStream input = DatabaseConnectionManager.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE_NAME)) {
-            if (input == null) {
-                System.err.println("Sorry, unable to find " + PROPERTIES_FILE_NAME + " in the classpath.");
-                throw new RuntimeException("Database properties file not found: " + PROPERTIES_FILE_NAME);
-            }
-            PROPERTIES.load(input);
-        } catch (IOException ex) {
-            System.err.println("Error loading database properties: " + ex.getMessage());
-            throw new RuntimeException("Failed to load database properties", ex);
-        }
+    private static ConnectionPool createPool() {
+        Properties connectionProperties = DatabaseProperties.getDriverProperties();
+        connectionProperties.setProperty("user", DatabaseProperties.getDbUser());
+        connectionProperties.setProperty("password", DatabaseProperties.getDbPassword());
+        return new ConnectionPool(
+            DatabaseProperties.getDbUrl(),
+            connectionProperties,
+            DatabaseProperties.getPoolMinSize(),
+            DatabaseProperties.getPoolMaxSize(),
+            DatabaseProperties.getPoolIdleTimeoutMillis(),
+            DatabaseProperties.getPoolAcquireTimeoutMillis(),
+            DatabaseProperties.getPoolValidationQuery(),
+            DatabaseProperties.getPoolValidationIntervalMillis()
+        );
     }
 
+    // Returns a pooled connection; closing it hands it back to the pool.
     public static Connection getConnection() throws SQLException {
-        String dbUrl = PROPERTIES.getProperty("db.url");
-        String dbUser = PROPERTIES.getProperty("db.user");
-        String dbPassword = PROPERTIES.getProperty("db.password");
-        return DriverManager.getConnection(dbUrl, dbUser, dbPassword);
+        return POOL.getConnection();
+    }
+
+    public static ConnectionPoolStats getPoolStats() {
+        return POOL.getStats();
+    }
+
+    public static void shutdown() {
+        POOL.close();
     }
-}
\ No newline at end of file
+}
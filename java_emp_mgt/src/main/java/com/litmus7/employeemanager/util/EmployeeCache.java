@@ -0,0 +1,205 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.dto.CacheStats;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-process cache of employees by ID with LRU eviction and a time-to-live. Lookups
+ * for IDs that do not exist are cached as negative entries with their own, shorter TTL.
+ * <p>
+ * The cache is split into independently locked segments so concurrent readers rarely contend.
+ * Every invalidation bumps a write generation; a value loaded from the database is only cached
+ * if no invalidation happened since the load started, so a read racing with a local write can
+ * never put the pre-write row back into the cache.
+ */
+public final class EmployeeCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Segment[] segments;
+    private final AtomicLong writeGeneration = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong negativeHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public EmployeeCache(int maxSize, long ttlSeconds, long negativeTtlSeconds) {
+        this.enabled = maxSize > 0;
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+        this.segments = new Segment[SEGMENT_COUNT];
+        int segmentCapacity = Math.max(1, (this.maxSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached entry for {@code employeeId}, or null if there is none (never cached,
+     * evicted, expired or invalidated).
+     */
+    public Entry get(int employeeId) {
+        if (!enabled) {
+            return null;
+        }
+        Segment segment = segmentFor(employeeId);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(employeeId);
+            if (entry != null && System.nanoTime() - entry.expiresAtNanos >= 0) {
+                segment.remove(employeeId);
+                expirationCount.incrementAndGet();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCount.incrementAndGet();
+        } else if (entry.isNegative()) {
+            negativeHitCount.incrementAndGet();
+        } else {
+            hitCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    // Capture before loading from the database and pass to put/putNegative afterwards.
+    public long currentGeneration() {
+        return writeGeneration.get();
+    }
+
+    public void put(EmployeeDTO employee, long loadGeneration) {
+        store(employee.getEmployeeId(), new Entry(employee, System.nanoTime() + ttlNanos), loadGeneration);
+    }
+
+    public void putNegative(int employeeId, long loadGeneration) {
+        if (negativeTtlNanos > 0) {
+            store(employeeId, new Entry(null, System.nanoTime() + negativeTtlNanos), loadGeneration);
+        }
+    }
+
+    public void invalidate(int employeeId) {
+        writeGeneration.incrementAndGet();
+        if (!enabled) {
+            return;
+        }
+        Segment segment = segmentFor(employeeId);
+        synchronized (segment) {
+            if (segment.remove(employeeId) != null) {
+                invalidationCount.incrementAndGet();
+            }
+        }
+    }
+
+    public void invalidateAll(Iterable<Integer> employeeIds) {
+        for (Integer employeeId : employeeIds) {
+            if (employeeId != null) {
+                invalidate(employeeId);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        writeGeneration.incrementAndGet();
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                invalidationCount.addAndGet(segment.size());
+                segment.clear();
+            }
+        }
+    }
+
+    public CacheStats getStats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return new CacheStats(hitCount.get(), negativeHitCount.get(), missCount.get(), evictionCount.get(),
+                expirationCount.get(), invalidationCount.get(), size, maxSize);
+    }
+
+    private void store(int employeeId, Entry entry, long loadGeneration) {
+        if (!enabled) {
+            return;
+        }
+        Segment segment = segmentFor(employeeId);
+        synchronized (segment) {
+            // Checked under the segment lock: invalidate() bumps the generation before taking it.
+            if (writeGeneration.get() != loadGeneration) {
+                return;
+            }
+            segment.put(employeeId, entry);
+            evictExpiredEldest(segment);
+        }
+    }
+
+    private void evictExpiredEldest(Segment segment) {
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = segment.values().iterator();
+        while (iterator.hasNext()) {
+            Entry eldest = iterator.next();
+            if (now - eldest.expiresAtNanos < 0) {
+                return;
+            }
+            iterator.remove();
+            expirationCount.incrementAndGet();
+        }
+    }
+
+    private Segment segmentFor(int employeeId) {
+        int hash = employeeId * 0x9E3779B9;
+        return segments[(hash >>> 28) & (SEGMENT_COUNT - 1)];
+    }
+
+    /** A cached lookup result; {@link #isNegative()} means the employee was known not to exist. */
+    public static final class Entry {
+        private final EmployeeDTO employee;
+        private final long expiresAtNanos;
+
+        private Entry(EmployeeDTO employee, long expiresAtNanos) {
+            this.employee = employee;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        public boolean isNegative() {
+            return employee == null;
+        }
+
+        public EmployeeDTO getEmployee() {
+            return employee;
+        }
+    }
+
+    // Access-ordered map, so the eldest entry is always the least recently used one.
+    private final class Segment extends LinkedHashMap<Integer, Entry> {
+        private final int capacity;
+
+        private Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+            if (size() > capacity) {
+                evictionCount.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
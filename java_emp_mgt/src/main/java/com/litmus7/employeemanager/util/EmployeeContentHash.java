@@ -0,0 +1,58 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+
+/**
+ * 64-bit hash of every column of an employee except the ID, used by delta sync to tell whether
+ * a CSV row differs from the stored one without comparing field by field. Each string is
+ * prefixed by its length so values cannot run into each other, and the salary is compared to
+ * the cent so the column's rounding does not make every row look changed.
+ */
+public final class EmployeeContentHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long NULL_MARKER = 0x9E3779B97F4A7C15L;
+
+    private EmployeeContentHash() {}
+
+    public static long of(EmployeeDTO employee) {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, employee.getFirstName());
+        hash = mix(hash, employee.getLastName());
+        hash = mix(hash, employee.getEmail());
+        hash = mix(hash, employee.getPhone());
+        hash = mix(hash, employee.getDepartment());
+        hash = mix(hash, employee.getSalary() == null ? NULL_MARKER : Math.round(employee.getSalary() * 100));
+        hash = mix(hash, employee.getJoinDate() == null ? NULL_MARKER : employee.getJoinDate().toEpochDay());
+        return finish(hash);
+    }
+
+    private static long mix(long hash, String value) {
+        if (value == null) {
+            return mix(hash, NULL_MARKER);
+        }
+        hash = mix(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 16) {
+            hash = (hash ^ ((value >>> shift) & 0xFFFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // FNV-1a is weak in the low bits; the MurmurHash3 finalizer spreads every input bit.
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
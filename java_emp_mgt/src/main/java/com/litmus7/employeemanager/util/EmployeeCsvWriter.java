@@ -0,0 +1,283 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes employees as UTF-8 CSV lines in the layout the import reads. Every field is encoded
+ * straight into one reused byte buffer: IDs, salaries and dates are written digit by digit and
+ * text is encoded char by char, so no String is created per row. Full buffers go to a
+ * {@link FileChannel}, or through a gzip stream when compressing.
+ * <p>
+ * Fields holding a comma, a quote or a line break are quoted as in RFC 4180. A salary that is not
+ * a whole number of cents, or a year outside 0-9999, falls back to the JDK's text form, which the
+ * import also reads.
+ * <p>
+ * Not thread-safe; each thread writes its own file.
+ */
+public class EmployeeCsvWriter implements AutoCloseable {
+
+    public static final String HEADER = "emp_id,first_name,last_name,email,phone,department,salary,join_date";
+
+    // Salaries below this many cents are exact in a double, so cents / 100.0 is exact too.
+    private static final long MAX_EXACT_CENTS = 1L << 53;
+
+    private final FileChannel channel;
+    private final OutputStream gzipStream;
+    private byte[] buffer;
+    private ByteBuffer channelBuffer;
+    private int position;
+    private long bytesWritten;
+    private long rowCount;
+
+    /**
+     * Creates or truncates the file. With {@code gzipLevel} from 1 (fastest) to 9 (smallest) the
+     * output is gzip-compressed; -1 writes plain CSV.
+     */
+    public EmployeeCsvWriter(String filePath, int bufferSize, int gzipLevel) throws IOException {
+        this.channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = new byte[Math.max(1024, bufferSize)];
+        this.channelBuffer = ByteBuffer.wrap(buffer);
+        if (gzipLevel < 0) {
+            this.gzipStream = null;
+        } else {
+            try {
+                this.gzipStream = new GZIPOutputStream(Channels.newOutputStream(channel), buffer.length) {
+                    {
+                        def.setLevel(gzipLevel);
+                    }
+                };
+            } catch (IOException e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+
+    public void writeHeader() throws IOException {
+        ensureCapacity(HEADER.length() + 1);
+        writeAscii(HEADER);
+        buffer[position++] = '\n';
+    }
+
+    public void write(EmployeeDTO employee) throws IOException {
+        ensureCapacity(12);
+        writeInt(employee.getEmployeeId());
+        buffer[position++] = ',';
+        writeText(employee.getFirstName());
+        writeText(employee.getLastName());
+        writeText(employee.getEmail());
+        writeText(employee.getPhone());
+        writeText(employee.getDepartment());
+        // Covers the text forms of both fallbacks too.
+        ensureCapacity(48);
+        writeSalary(employee.getSalary());
+        buffer[position++] = ',';
+        writeDate(employee.getJoinDate());
+        buffer[position++] = '\n';
+        rowCount++;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // CSV bytes written so far, before any compression; includes what is still buffered.
+    public long getBytesWritten() {
+        return bytesWritten + position;
+    }
+
+    public void close() throws IOException {
+        try {
+            flush();
+            if (gzipStream != null) {
+                gzipStream.close();
+            }
+        } finally {
+            buffer = null;
+            channelBuffer = null;
+            channel.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (position == 0) {
+            return;
+        }
+        if (gzipStream != null) {
+            gzipStream.write(buffer, 0, position);
+        } else {
+            channelBuffer.clear().limit(position);
+            while (channelBuffer.hasRemaining()) {
+                channel.write(channelBuffer);
+            }
+        }
+        bytesWritten += position;
+        position = 0;
+    }
+
+    // Makes room for 'length' more bytes, flushing first and growing only for oversized fields.
+    private void ensureCapacity(int length) throws IOException {
+        if (position + length > buffer.length) {
+            flush();
+            if (length > buffer.length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+                channelBuffer = ByteBuffer.wrap(buffer);
+            }
+        }
+    }
+
+    // Writes the field and the comma after it; null is written as an empty field.
+    private void writeText(String value) throws IOException {
+        if (value != null) {
+            int length = value.length();
+            // UTF-8 needs at most 3 bytes per char, which also covers a doubled quote, plus the two quotes.
+            ensureCapacity(length * 3 + 3);
+            if (needsQuotes(value)) {
+                buffer[position++] = '"';
+                encode(value, true);
+                buffer[position++] = '"';
+            } else {
+                encode(value, false);
+            }
+        } else {
+            ensureCapacity(1);
+        }
+        buffer[position++] = ',';
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void encode(String value, boolean doubleQuotes) {
+        byte[] bytes = buffer;
+        int p = position;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes[p++] = (byte) c;
+                if (c == '"' && doubleQuotes) {
+                    bytes[p++] = '"';
+                }
+            } else if (c < 0x800) {
+                bytes[p++] = (byte) (0xC0 | (c >> 6));
+                bytes[p++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                bytes[p++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[p++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[p++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[p++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                bytes[p++] = '?'; // Unpaired surrogate, as String.getBytes would write it.
+            } else {
+                bytes[p++] = (byte) (0xE0 | (c >> 12));
+                bytes[p++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                bytes[p++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        position = p;
+    }
+
+    private void writeAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            buffer[position++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void writeInt(int value) {
+        if (value == Integer.MIN_VALUE) {
+            writeAscii("-2147483648");
+            return;
+        }
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        writeDigits(value, digitCount(value));
+    }
+
+    // Writes the lowest 'digits' decimal digits of a non-negative value, zero-padded.
+    private void writeDigits(long value, int digits) {
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position += digits;
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Writes whole-cent salaries as fixed-point text ("75000" or "1234.5"), which the import
+     * parses back to the identical double. Anything else uses Double.toString.
+     */
+    private void writeSalary(Double salary) {
+        if (salary == null) {
+            return;
+        }
+        double value = salary;
+        double scaled = value * 100;
+        long cents = (long) Math.rint(scaled);
+        if (Math.abs(scaled) >= MAX_EXACT_CENTS || cents / 100.0 != value || (value == 0 && 1 / value < 0)) {
+            writeAscii(Double.toString(value));
+            return;
+        }
+        if (cents < 0) {
+            buffer[position++] = '-';
+            cents = -cents;
+        }
+        long whole = cents / 100;
+        int fraction = (int) (cents % 100);
+        writeDigits(whole, digitCount(whole));
+        if (fraction != 0) {
+            buffer[position++] = '.';
+            if (fraction % 10 == 0) {
+                buffer[position++] = (byte) ('0' + fraction / 10);
+            } else {
+                writeDigits(fraction, 2);
+            }
+        }
+    }
+
+    private void writeDate(LocalDate date) {
+        if (date == null) {
+            return;
+        }
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            writeAscii(date.toString());
+            return;
+        }
+        writeDigits(year, 4);
+        buffer[position++] = '-';
+        writeDigits(date.getMonthValue(), 2);
+        buffer[position++] = '-';
+        writeDigits(date.getDayOfMonth(), 2);
+    }
+}
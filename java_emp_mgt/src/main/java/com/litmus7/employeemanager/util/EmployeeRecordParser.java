@@ -0,0 +1,132 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import com.litmus7.employeemanager.dto.RecordProcessResult;
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.LocalDate;
+
+/**
+ * Turns the raw fields of one CSV line into an {@link EmployeeDTO}. Performs no database
+ * access, so it can run ahead of (or in parallel with) the writer.
+ */
+public final class EmployeeRecordParser {
+
+    private static final Logger logger = LogManager.getLogger(EmployeeRecordParser.class);
+
+    public static final int EXPECTED_FIELD_COUNT = 8;
+
+    // One tokenizer and validator per thread, so sequential and staged imports reuse their buffers.
+    private static final ThreadLocal<CsvTokenizer> TOKENIZERS = ThreadLocal.withInitial(CsvTokenizer::new);
+    private static final ThreadLocal<EmployeeValidationEngine> VALIDATORS =
+            ThreadLocal.withInitial(() -> new EmployeeValidationEngine(ApplicationProperties.getValidationMode()));
+
+    private EmployeeRecordParser() {}
+
+    // Parses one raw CSV record; blank lines are reported as skipped.
+    public static RecordProcessResult parseLine(String line, int lineNumber) {
+        CsvTokenizer fields = TOKENIZERS.get();
+        if (!fields.tokenize(line)) {
+            logger.warn("Unterminated quoted field on line {}.", lineNumber);
+            return RecordProcessResult.rejected(ImportErrorCodes.UNTERMINATED_QUOTE, lineNumber, null);
+        }
+        if (fields.isBlank()) {
+            logger.warn("Line {}: SKIPPED (Empty Line)", lineNumber);
+            return RecordProcessResult.rejected(ImportErrorCodes.EMPTY_LINE, lineNumber, null);
+        }
+        return parse(fields, lineNumber);
+    }
+
+    /**
+     * Same checks as parse(String[], int), reading from the tokenizer's buffer. Rejections carry
+     * only their error code; the message is rendered later if anyone reads it.
+     */
+    public static RecordProcessResult parse(CsvTokenizer fields, int lineNumber) {
+        if (fields.getFieldCount() < EXPECTED_FIELD_COUNT) {
+            logger.warn("Incomplete data on line {}. Expected 8 fields, got {}.", lineNumber, fields.getFieldCount());
+            return RecordProcessResult.rejected(ImportErrorCodes.INCOMPLETE_RECORD, lineNumber,
+                    String.valueOf(fields.getFieldCount()));
+        }
+        EmployeeValidationEngine validator = VALIDATORS.get();
+        int errorCode = validator.validate(fields);
+        if (errorCode != 0) {
+            logger.warn("Invalid record on line {} (error code {}). Skipping record.", lineNumber, errorCode);
+            return RecordProcessResult.rejected(errorCode, lineNumber, null);
+        }
+        return RecordProcessResult.parsed(validator.toEmployee(), lineNumber);
+    }
+
+    public static RecordProcessResult parse(String[] values, int lineNumber) {
+        Integer employeeId;
+        String firstName;
+        String lastName;
+        String email;
+        String phone;
+        String department;
+        Double salary;
+        LocalDate joinDateLocal;
+
+        if (values.length < EXPECTED_FIELD_COUNT) {
+            logger.warn("Incomplete data on line {}. Expected 8 fields, got {}.", lineNumber, values.length);
+            return failure(ImportErrorCodes.INCOMPLETE_RECORD, lineNumber, values.length);
+        }
+
+        employeeId = EmployeeValidator.validateEmployeeId(values[0], lineNumber);
+        if (employeeId == null) {
+            logger.warn("Invalid employee ID on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_EMPLOYEE_ID, lineNumber);
+        }
+        firstName = EmployeeValidator.validateStringField("First Name", values[1], lineNumber);
+        if (firstName == null) {
+            logger.warn("Invalid first name on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_FIRST_NAME, lineNumber);
+        }
+        lastName = EmployeeValidator.validateStringField("Last Name", values[2], lineNumber);
+        if (lastName == null) {
+            logger.warn("Invalid last name on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_LAST_NAME, lineNumber);
+        }
+        email = EmployeeValidator.validateEmail(values[3], lineNumber);
+        if (email == null) {
+            logger.warn("Invalid email on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_EMAIL, lineNumber);
+        }
+        phone = EmployeeValidator.validatePhoneNumber(values[4], lineNumber);
+        if (phone == null) {
+            logger.warn("Invalid phone number on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_PHONE, lineNumber);
+        }
+        department = EmployeeValidator.validateStringField("Department", values[5], lineNumber);
+        if (department == null) {
+            logger.warn("Invalid department on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_DEPARTMENT, lineNumber);
+        }
+        salary = EmployeeValidator.validateSalary(values[6], lineNumber);
+        if (salary == null) {
+            logger.warn("Invalid salary on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_SALARY, lineNumber);
+        }
+        joinDateLocal = EmployeeValidator.validateJoinDate(values[7], lineNumber);
+        if (joinDateLocal == null) {
+            logger.warn("Invalid join date on line {}. Skipping record.", lineNumber);
+            return failure(ImportErrorCodes.INVALID_JOIN_DATE, lineNumber);
+        }
+
+        EmployeeDTO employee = new EmployeeDTO(
+            employeeId, firstName, lastName, email, phone, department, salary, joinDateLocal
+        );
+        return RecordProcessResult.parsed(employee, lineNumber);
+    }
+
+    private static RecordProcessResult failure(int errorCode, int lineNumber) {
+        return new RecordProcessResult(errorCode, ErrorCodesManager.getErrorMessage(errorCode, String.valueOf(lineNumber)), lineNumber);
+    }
+
+    private static RecordProcessResult failure(int errorCode, int lineNumber, Object detail) {
+        return new RecordProcessResult(errorCode,
+                ErrorCodesManager.getErrorMessage(errorCode, String.valueOf(lineNumber), String.valueOf(detail)), lineNumber);
+    }
+}
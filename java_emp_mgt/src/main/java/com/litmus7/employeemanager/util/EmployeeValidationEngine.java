@@ -0,0 +1,326 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Validates tokenized CSV employee records and keeps the parsed values of the last valid one.
+ * Failures are reported as {@link ImportErrorCodes} instead of being printed.
+ * <p>
+ * {@link Mode#STRICT} applies the original rules: the email and phone regular expressions and
+ * the JDK number and date parsers. {@link Mode#FAST} gives the same answers with single-pass
+ * checks and only falls back to the JDK parsers for unusual input such as exponents or non-ASCII
+ * digits. With assertions enabled, every FAST result is checked against STRICT.
+ * <p>
+ * Not thread-safe; each thread validates with its own instance.
+ */
+public final class EmployeeValidationEngine {
+
+    public enum Mode {
+        FAST,
+        STRICT
+    }
+
+    static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$");
+    static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^[0-9]+$");
+
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final Mode mode;
+
+    private int employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String department;
+    private double salary;
+    private LocalDate joinDate;
+
+    public EmployeeValidationEngine(Mode mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Validates the first {@link EmployeeRecordParser#EXPECTED_FIELD_COUNT} fields of a record.
+     * Returns 0 if they are valid, in which case {@link #toEmployee()} builds the employee,
+     * otherwise the code of the first invalid field.
+     */
+    public int validate(CsvTokenizer fields) {
+        int errorCode = mode == Mode.STRICT ? validateStrict(fields) : validateFast(fields);
+        assert mode == Mode.STRICT || agreesWithStrict(fields, errorCode)
+                : "FAST and STRICT validation disagree on record with error code " + errorCode;
+        return errorCode;
+    }
+
+    public EmployeeDTO toEmployee() {
+        return new EmployeeDTO(employeeId, firstName, lastName, email, phone, department, salary, joinDate);
+    }
+
+    public static boolean isValidEmail(String value, Mode mode) {
+        return mode == Mode.STRICT ? EMAIL_PATTERN.matcher(value).matches() : isValidEmail(value);
+    }
+
+    public static boolean isDigits(String value, Mode mode) {
+        return mode == Mode.STRICT ? PHONE_NUMBER_PATTERN.matcher(value).matches() : isDigits(value);
+    }
+
+    /**
+     * Same as {@code EMAIL_PATTERN}: a local part of {@code [a-zA-Z0-9._%+-]}, one '@', a domain of
+     * {@code [a-zA-Z0-9.-]} whose last '.' has at least one character before it and is followed
+     * by 2 to 6 letters.
+     */
+    static boolean isValidEmail(String value) {
+        int at = -1;
+        int lastDot = -1;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0 || i == 0) {
+                    return false;
+                }
+                at = i;
+            } else if (at < 0) {
+                if (!isAsciiLetterOrDigit(c) && c != '.' && c != '_' && c != '%' && c != '+' && c != '-') {
+                    return false;
+                }
+            } else if (c == '.') {
+                lastDot = i;
+            } else if (!isAsciiLetterOrDigit(c) && c != '-') {
+                return false;
+            }
+        }
+        if (at < 0 || lastDot < at + 2) {
+            return false;
+        }
+        int tldLength = length - lastDot - 1;
+        if (tldLength < 2 || tldLength > 6) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int validateFast(CsvTokenizer fields) {
+        if (fields.isEmpty(0)) {
+            return ImportErrorCodes.INVALID_EMPLOYEE_ID;
+        }
+        if (isPlainInteger(fields, 0)) {
+            try {
+                employeeId = fields.getInt(0);
+            } catch (NumberFormatException e) {
+                return ImportErrorCodes.INVALID_EMPLOYEE_ID; // Out of int range.
+            }
+        } else if (!parseEmployeeIdStrict(fields)) {
+            return ImportErrorCodes.INVALID_EMPLOYEE_ID;
+        }
+        int errorCode = validateTextFields(fields, Mode.FAST);
+        if (errorCode != 0) {
+            return errorCode;
+        }
+        if (fields.isEmpty(6)) {
+            return ImportErrorCodes.INVALID_SALARY;
+        }
+        if (isPlainDecimal(fields, 6)) {
+            salary = fields.getDouble(6);
+        } else if (!parseSalaryStrict(fields)) {
+            return ImportErrorCodes.INVALID_SALARY;
+        }
+        if (fields.isEmpty(7)) {
+            return ImportErrorCodes.INVALID_JOIN_DATE;
+        }
+        if (isPlainDateShape(fields, 7)) {
+            int year = digitsAt(fields, 7, 0, 4);
+            int month = digitsAt(fields, 7, 5, 2);
+            int day = digitsAt(fields, 7, 8, 2);
+            if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1]
+                    || (month == 2 && day == 29 && !isLeapYear(year))) {
+                return ImportErrorCodes.INVALID_JOIN_DATE;
+            }
+            joinDate = LocalDate.of(year, month, day);
+        } else if (!parseJoinDateStrict(fields)) {
+            return ImportErrorCodes.INVALID_JOIN_DATE;
+        }
+        return 0;
+    }
+
+    private int validateStrict(CsvTokenizer fields) {
+        if (fields.isEmpty(0) || !parseEmployeeIdStrict(fields)) {
+            return ImportErrorCodes.INVALID_EMPLOYEE_ID;
+        }
+        int errorCode = validateTextFields(fields, Mode.STRICT);
+        if (errorCode != 0) {
+            return errorCode;
+        }
+        if (fields.isEmpty(6) || !parseSalaryStrict(fields)) {
+            return ImportErrorCodes.INVALID_SALARY;
+        }
+        if (fields.isEmpty(7) || !parseJoinDateStrict(fields)) {
+            return ImportErrorCodes.INVALID_JOIN_DATE;
+        }
+        return 0;
+    }
+
+    private int validateTextFields(CsvTokenizer fields, Mode checkMode) {
+        if (fields.isEmpty(1)) {
+            return ImportErrorCodes.INVALID_FIRST_NAME;
+        }
+        if (fields.isEmpty(2)) {
+            return ImportErrorCodes.INVALID_LAST_NAME;
+        }
+        if (fields.isEmpty(3)) {
+            return ImportErrorCodes.INVALID_EMAIL;
+        }
+        String emailValue = fields.getString(3);
+        if (!isValidEmail(emailValue, checkMode)) {
+            return ImportErrorCodes.INVALID_EMAIL;
+        }
+        if (fields.isEmpty(4)) {
+            return ImportErrorCodes.INVALID_PHONE;
+        }
+        String phoneValue = fields.getString(4);
+        if (!isDigits(phoneValue, checkMode)) {
+            return ImportErrorCodes.INVALID_PHONE;
+        }
+        if (fields.isEmpty(5)) {
+            return ImportErrorCodes.INVALID_DEPARTMENT;
+        }
+        // Names and department are only turned into Strings once the record is known to be kept.
+        firstName = fields.getString(1);
+        lastName = fields.getString(2);
+        email = emailValue;
+        phone = phoneValue;
+        department = fields.getString(5);
+        return 0;
+    }
+
+    private boolean parseEmployeeIdStrict(CsvTokenizer fields) {
+        try {
+            employeeId = Integer.parseInt(fields.getString(0));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private boolean parseSalaryStrict(CsvTokenizer fields) {
+        try {
+            salary = Double.parseDouble(fields.getString(6));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private boolean parseJoinDateStrict(CsvTokenizer fields) {
+        try {
+            joinDate = LocalDate.parse(fields.getString(7));
+            return true;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    // Optional sign and at least one ASCII digit.
+    private static boolean isPlainInteger(CsvTokenizer fields, int field) {
+        int length = fields.length(field);
+        int start = fields.charAt(field, 0) == '-' || fields.charAt(field, 0) == '+' ? 1 : 0;
+        if (start == length) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = fields.charAt(field, i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Optional sign, ASCII digits and at most one '.', with at least one digit.
+    private static boolean isPlainDecimal(CsvTokenizer fields, int field) {
+        int length = fields.length(field);
+        int start = fields.charAt(field, 0) == '-' || fields.charAt(field, 0) == '+' ? 1 : 0;
+        boolean sawDigit = false;
+        boolean sawPoint = false;
+        for (int i = start; i < length; i++) {
+            char c = fields.charAt(field, i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+            } else if (c == '.' && !sawPoint) {
+                sawPoint = true;
+            } else {
+                return false;
+            }
+        }
+        return sawDigit;
+    }
+
+    // yyyy-MM-dd with ASCII digits; range checks are left to the caller.
+    private static boolean isPlainDateShape(CsvTokenizer fields, int field) {
+        if (fields.length(field) != 10 || fields.charAt(field, 4) != '-' || fields.charAt(field, 7) != '-') {
+            return false;
+        }
+        return digitsAt(fields, field, 0, 4) >= 0 && digitsAt(fields, field, 5, 2) >= 0 && digitsAt(fields, field, 8, 2) >= 0;
+    }
+
+    private static int digitsAt(CsvTokenizer fields, int field, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = fields.charAt(field, i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return isAsciiLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private boolean agreesWithStrict(CsvTokenizer fields, int errorCode) {
+        EmployeeValidationEngine strict = new EmployeeValidationEngine(Mode.STRICT);
+        int strictCode = strict.validateStrict(fields);
+        if (strictCode != errorCode) {
+            return false;
+        }
+        return errorCode != 0 || (employeeId == strict.employeeId
+                && Double.compare(salary, strict.salary) == 0
+                && Objects.equals(joinDate, strict.joinDate)
+                && Objects.equals(email, strict.email)
+                && Objects.equals(phone, strict.phone));
+    }
+}
@@ -1,62 +1,64 @@
 package com.litmus7.employeemanager.util;
 
+import com.litmus7.employeemanager.property.ApplicationProperties;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class EmployeeValidator {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$");
-    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("^[0-9]+$");
+    private static final Logger logger = LogManager.getLogger(EmployeeValidator.class);
 
+    private static final EmployeeValidationEngine.Mode MODE = ApplicationProperties.getValidationMode();
 
     // Private constructor to prevent instantiation
     private EmployeeValidator() {}
 
     public static Integer validateEmployeeId(String idString, int lineNumber) {
         if (idString == null || idString.trim().isEmpty()) {
-            System.err.println("Error at line " + lineNumber + ": Employee ID cannot be empty. Skipping record.");
+            logger.debug("Error at line {}: Employee ID cannot be empty. Skipping record.", lineNumber);
             return null;
         }
         try {
             return Integer.parseInt(idString.trim());
         } catch (NumberFormatException e) {
-            System.err.println("Error at line " + lineNumber + ": Invalid employee ID format '" + idString + "'. Expected a number. Skipping record.");
+            logger.debug("Error at line {}: Invalid employee ID format '{}'. Expected a number. Skipping record.", lineNumber, idString);
             return null;
         }
     }
 
     public static Double validateSalary(String salaryString, int lineNumber) {
         if (salaryString == null || salaryString.trim().isEmpty()) {
-            System.err.println("Error at line " + lineNumber + ": Salary cannot be empty. Skipping record.");
+            logger.debug("Error at line {}: Salary cannot be empty. Skipping record.", lineNumber);
             return null;
         }
         try {
             return Double.parseDouble(salaryString.trim());
         } catch (NumberFormatException e) {
-            System.err.println("Error at line " + lineNumber + ": Invalid salary format '" + salaryString + "'. Expected a number. Skipping record.");
+            logger.debug("Error at line {}: Invalid salary format '{}'. Expected a number. Skipping record.", lineNumber, salaryString);
             return null;
         }
     }
 
     public static LocalDate validateJoinDate(String dateString, int lineNumber) {
         if (dateString == null || dateString.trim().isEmpty()) {
-            System.err.println("Error at line " + lineNumber + ": Join date cannot be empty. Skipping record.");
+            logger.debug("Error at line {}: Join date cannot be empty. Skipping record.", lineNumber);
             return null;
         }
         try {
             // LocalDate.parse() handles YYYY-MM-DD format by default
             return LocalDate.parse(dateString.trim());
         } catch (DateTimeParseException e) {
-            System.err.println("Error at line " + lineNumber + ": Invalid date format '" + dateString + "'. Expected YYYY-MM-DD. Skipping record.");
+            logger.debug("Error at line {}: Invalid date format '{}'. Expected YYYY-MM-DD. Skipping record.", lineNumber, dateString);
             return null;
         }
     }
 
     public static String validateStringField(String fieldName, String fieldValue, int lineNumber) {
         if (fieldValue == null || fieldValue.trim().isEmpty()) {
-            System.err.println("Error at line " + lineNumber + ": " + fieldName + " cannot be empty. Skipping record.");
+            logger.debug("Error at line {}: {} cannot be empty. Skipping record.", lineNumber, fieldName);
             return null;
         }
         return fieldValue.trim();
@@ -67,9 +69,8 @@ public final class EmployeeValidator {
         if (trimmedEmail == null) {
             return null;
         }
-        Matcher matcher = EMAIL_PATTERN.matcher(trimmedEmail);
-        if (!matcher.matches()) {
-            System.err.println("Error at line " + lineNumber + ": Invalid email format '" + trimmedEmail + "'. Skipping record.");
+        if (!EmployeeValidationEngine.isValidEmail(trimmedEmail, MODE)) {
+            logger.debug("Error at line {}: Invalid email format '{}'. Skipping record.", lineNumber, trimmedEmail);
             return null;
         }
         return trimmedEmail;
@@ -80,9 +81,8 @@ public final class EmployeeValidator {
         if (trimmedPhone == null) {
             return null;
         }
-        Matcher matcher = PHONE_NUMBER_PATTERN.matcher(trimmedPhone);
-        if (!matcher.matches()) {
-            System.err.println("Error at line " + lineNumber + ": Invalid phone number format '" + trimmedPhone + "'. Expected digits only. Skipping record.");
+        if (!EmployeeValidationEngine.isDigits(trimmedPhone, MODE)) {
+            logger.debug("Error at line {}: Invalid phone number format '{}'. Expected digits only. Skipping record.", lineNumber, trimmedPhone);
             return null;
         }
         return trimmedPhone;
@@ -3,11 +3,19 @@ package com.litmus7.employeemanager.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ErrorCodesManager {
     private static final Properties PROPERTIES = new Properties();
     private static final String PROPERTIES_FILE_NAME = "errorcodes.properties";
+    // Patterns are parsed once per code instead of on every call.
+    private static final Map<Integer, MessageTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final MessageTemplate MISSING_TEMPLATE = new MessageTemplate("");
 
     static {
         loadProperties();
@@ -29,10 +37,92 @@ public final class ErrorCodesManager {
     }
 
     public static String getErrorMessage(int errorCode, Object... params) {
+        MessageTemplate template = TEMPLATES.computeIfAbsent(errorCode, ErrorCodesManager::compile);
+        return template == MISSING_TEMPLATE ? "Unknown error occurred." : template.format(params);
+    }
+
+    private static MessageTemplate compile(int errorCode) {
         String messageTemplate = PROPERTIES.getProperty(String.valueOf(errorCode));
-        if (messageTemplate == null) {
-            return "Unknown error occurred.";
+        return messageTemplate == null ? MISSING_TEMPLATE : new MessageTemplate(messageTemplate);
+    }
+
+    /**
+     * A message pattern parsed once. Patterns made only of text and plain {@code {n}} arguments are
+     * rendered by concatenation; anything else (quotes, format types) and any number or date
+     * argument, which MessageFormat would format for the locale, goes through the cached
+     * MessageFormat so the output never differs from {@link MessageFormat#format}.
+     */
+    private static final class MessageTemplate {
+        private final MessageFormat messageFormat;
+        private final String[] literals; // null if the pattern needs MessageFormat
+        private final int[] argumentIndexes;
+
+        private MessageTemplate(String pattern) {
+            this.messageFormat = new MessageFormat(pattern);
+            List<String> literalParts = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            boolean simple = pattern.indexOf('\'') < 0;
+            int position = 0;
+            while (simple) {
+                int open = pattern.indexOf('{', position);
+                if (open < 0) {
+                    literalParts.add(pattern.substring(position));
+                    break;
+                }
+                int close = pattern.indexOf('}', open);
+                String argument = close < 0 ? "" : pattern.substring(open + 1, close);
+                if (argument.isEmpty() || argument.length() > 2 || !isDigits(argument)) {
+                    simple = false;
+                    break;
+                }
+                literalParts.add(pattern.substring(position, open));
+                indexes.add(Integer.parseInt(argument));
+                position = close + 1;
+            }
+            this.literals = simple ? literalParts.toArray(new String[0]) : null;
+            this.argumentIndexes = new int[indexes.size()];
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                argumentIndexes[i] = indexes.get(i);
+            }
+        }
+
+        private String format(Object[] params) {
+            if (literals == null || !allPlain(params)) {
+                synchronized (messageFormat) {
+                    return messageFormat.format(params);
+                }
+            }
+            StringBuilder message = new StringBuilder(64);
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                message.append(literals[i]);
+                int argumentIndex = argumentIndexes[i];
+                if (params != null && argumentIndex < params.length) {
+                    message.append(params[argumentIndex]);
+                } else {
+                    message.append('{').append(argumentIndex).append('}'); // As MessageFormat does.
+                }
+            }
+            return message.append(literals[literals.length - 1]).toString();
+        }
+
+        private static boolean allPlain(Object[] params) {
+            if (params != null) {
+                for (Object param : params) {
+                    if (param instanceof Number || param instanceof Date) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean isDigits(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                    return false;
+                }
+            }
+            return true;
         }
-        return MessageFormat.format(messageTemplate, params);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,88 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.dto.ImportCheckpoint;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Keeps the checkpoint of a chunked import in a sidecar file next to the CSV
+ * ({@code employees.csv} -> {@code employees.csv.checkpoint}).
+ */
+public final class ImportCheckpointStore {
+
+    private static final Logger logger = LogManager.getLogger(ImportCheckpointStore.class);
+
+    private static final String SUFFIX = ".checkpoint";
+
+    private final Path csvPath;
+    private final Path checkpointPath;
+
+    public ImportCheckpointStore(String csvFilePath) {
+        this.csvPath = Paths.get(csvFilePath).toAbsolutePath().normalize();
+        this.checkpointPath = Paths.get(csvPath + SUFFIX);
+    }
+
+    // Returns the saved checkpoint for this file, or null when there is none.
+    public ImportCheckpoint load() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(checkpointPath)) {
+            properties.load(input);
+        }
+        try {
+            ImportCheckpoint checkpoint = new ImportCheckpoint(
+                properties.getProperty("filePath"),
+                Long.parseLong(properties.getProperty("byteOffset")),
+                Integer.parseInt(properties.getProperty("lineNumber")),
+                Long.parseLong(properties.getProperty("contentHash"), 16)
+            );
+            if (!csvPath.toString().equals(checkpoint.getFilePath())) {
+                logger.warn("Ignoring checkpoint {} written for a different file {}.", checkpointPath, checkpoint.getFilePath());
+                return null;
+            }
+            return checkpoint;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt import checkpoint " + checkpointPath + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Writes to a temporary file first so a crash never leaves a half-written checkpoint behind.
+    public void save(long byteOffset, int lineNumber, long contentHash) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("filePath", csvPath.toString());
+        properties.setProperty("byteOffset", Long.toString(byteOffset));
+        properties.setProperty("lineNumber", Integer.toString(lineNumber));
+        properties.setProperty("contentHash", Long.toHexString(contentHash));
+
+        Path temporaryPath = Paths.get(checkpointPath + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporaryPath)) {
+            properties.store(output, "Employee import checkpoint");
+        }
+        try {
+            Files.move(temporaryPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryPath, checkpointPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        logger.debug("Saved import checkpoint at line {} (byte {}).", lineNumber, byteOffset);
+    }
+
+    public void delete() throws IOException {
+        Files.deleteIfExists(checkpointPath);
+    }
+
+    public Path getCheckpointPath() {
+        return checkpointPath;
+    }
+}
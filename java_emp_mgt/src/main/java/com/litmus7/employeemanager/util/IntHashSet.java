@@ -0,0 +1,177 @@
+package com.litmus7.employeemanager.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing hash set of primitive ints. Avoids the boxing and per-entry node
+ * allocation of {@code HashSet<Integer>}, which matters when holding every employee ID
+ * of a large table. Not thread-safe.
+ */
+public final class IntHashSet {
+
+    private static final int FREE = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    // FREE doubles as the empty-slot marker, so the key 0 is tracked separately.
+    private boolean containsFreeKey;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(4, (int) Math.ceil(expectedSize / LOAD_FACTOR)));
+        allocate(capacity);
+    }
+
+    public boolean add(int key) {
+        if (key == FREE) {
+            if (containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = true;
+            size++;
+            return true;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        if (++size >= resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(int key) {
+        if (key == FREE) {
+            return containsFreeKey;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(int key) {
+        if (key == FREE) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            size--;
+            return true;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                shiftKeysBack(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        containsFreeKey = false;
+        size = 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        if (containsFreeKey) {
+            action.accept(FREE);
+        }
+        for (int key : keys) {
+            if (key != FREE) {
+                action.accept(key);
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[size];
+        int[] position = {0};
+        forEach(key -> result[position[0]++] = key);
+        return result;
+    }
+
+    // Backward-shift deletion keeps probe chains intact without tombstones.
+    private void shiftKeysBack(int index) {
+        int last;
+        int current;
+        while (true) {
+            last = index;
+            index = (index + 1) & mask;
+            while (true) {
+                if ((current = keys[index]) == FREE) {
+                    keys[last] = FREE;
+                    return;
+                }
+                int home = slot(current);
+                if (last <= index ? (last >= home || home > index) : (last >= home && home > index)) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[last] = current;
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        allocate(newCapacity);
+        for (int key : oldKeys) {
+            if (key != FREE) {
+                int index = slot(key);
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(int key) {
+        // Fibonacci hashing spreads sequential IDs across the table.
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(capacity - 1) << 1;
+        return n <= 0 ? 1 << 30 : n;
+    }
+}
@@ -0,0 +1,189 @@
+package com.litmus7.employeemanager.util;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Open-addressing map from primitive int keys to primitive long values, laid out like
+ * {@link IntHashSet} with a parallel value array. Holds one entry per employee row (ID to
+ * content hash) without boxing either side. Not thread-safe.
+ */
+public final class IntLongHashMap {
+
+    private static final int FREE = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    // FREE doubles as the empty-slot marker, so the key 0 is kept outside the table.
+    private boolean containsFreeKey;
+    private long freeKeyValue;
+
+    public IntLongHashMap() {
+        this(16);
+    }
+
+    public IntLongHashMap(int expectedSize) {
+        int capacity = tableSizeFor(Math.max(4, (int) Math.ceil(expectedSize / LOAD_FACTOR)));
+        allocate(capacity);
+    }
+
+    // Returns true if the key was not mapped before.
+    public boolean put(int key, long value) {
+        if (key == FREE) {
+            boolean added = !containsFreeKey;
+            if (added) {
+                containsFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return added;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                values[index] = value;
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size >= resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    public long get(int key, long defaultValue) {
+        if (key == FREE) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return containsFreeKey;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public boolean remove(int key) {
+        if (key == FREE) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            size--;
+            return true;
+        }
+        int index = slot(key);
+        int current;
+        while ((current = keys[index]) != FREE) {
+            if (current == key) {
+                shiftKeysBack(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEachKey(IntConsumer action) {
+        if (containsFreeKey) {
+            action.accept(FREE);
+        }
+        for (int key : keys) {
+            if (key != FREE) {
+                action.accept(key);
+            }
+        }
+    }
+
+    // Backward-shift deletion, as in IntHashSet, moving each value with its key.
+    private void shiftKeysBack(int index) {
+        int last;
+        int current;
+        while (true) {
+            last = index;
+            index = (index + 1) & mask;
+            while (true) {
+                if ((current = keys[index]) == FREE) {
+                    keys[last] = FREE;
+                    return;
+                }
+                int home = slot(current);
+                if (last <= index ? (last >= home || home > index) : (last >= home && home > index)) {
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[index];
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != FREE) {
+                int index = slot(key);
+                while (keys[index] != FREE) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private int slot(int key) {
+        // Fibonacci hashing spreads sequential IDs across the table.
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(capacity - 1) << 1;
+        return n <= 0 ? 1 << 30 : n;
+    }
+}
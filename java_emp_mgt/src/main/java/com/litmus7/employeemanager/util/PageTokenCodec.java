@@ -0,0 +1,41 @@
+package com.litmus7.employeemanager.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes the keyset position of a paginated listing (the last employee ID returned) as an
+ * opaque, URL-safe continuation token.
+ */
+public final class PageTokenCodec {
+
+    private static final String PREFIX = "emp:";
+
+    private PageTokenCodec() {}
+
+    public static String encode(int lastEmployeeId) {
+        byte[] raw = (PREFIX + lastEmployeeId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // Returns the last employee ID of the previous page; a null or empty token means the first page.
+    public static int decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return Integer.MIN_VALUE;
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed page token: " + token, e);
+        }
+        if (!raw.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Malformed page token: " + token);
+        }
+        try {
+            return Integer.parseInt(raw.substring(PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed page token: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.litmus7.employeemanager.dao;
+
+import com.litmus7.employeemanager.constant.WriteMode;
+import com.litmus7.employeemanager.constant.WriteOutcome;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeDaoTest {
+
+    private static StubMySqlDriver database;
+
+    private final EmployeeDao dao = new EmployeeDao();
+
+    @BeforeAll
+    static void registerDriver() throws SQLException {
+        database = StubMySqlDriver.register();
+    }
+
+    @BeforeEach
+    void emptyTable() {
+        database.clear();
+    }
+
+    @Test
+    void upsertOfAnUnchangedRowIsReportedUnchanged() throws Exception {
+        assertEquals(WriteOutcome.INSERTED, dao.writeEmployee(employee(7, "IT"), WriteMode.UPSERT));
+        assertEquals(WriteOutcome.UNCHANGED, dao.writeEmployee(employee(7, "IT"), WriteMode.UPSERT));
+        assertEquals(WriteOutcome.UPDATED, dao.writeEmployee(employee(7, "HR"), WriteMode.UPSERT));
+    }
+
+    @Test
+    void singleAndBatchWritesReportTheSameOutcomes() throws Exception {
+        dao.writeEmployee(employee(1, "IT"), WriteMode.INSERT);
+        dao.writeEmployee(employee(2, "IT"), WriteMode.INSERT);
+
+        assertEquals(Arrays.asList(WriteOutcome.UNCHANGED, WriteOutcome.UPDATED, WriteOutcome.INSERTED),
+                dao.writeEmployeesInBatch(Arrays.asList(employee(1, "IT"), employee(2, "HR"), employee(3, "IT")),
+                        WriteMode.UPSERT));
+        assertEquals(WriteOutcome.SKIPPED, dao.writeEmployee(employee(3, "HR"), WriteMode.INSERT_IGNORE));
+        assertEquals(WriteOutcome.INSERTED, dao.writeEmployee(employee(4, "HR"), WriteMode.INSERT_IGNORE));
+    }
+
+    private static EmployeeDTO employee(int employeeId, String department) {
+        return new EmployeeDTO(employeeId, "John", "Doe", "john" + employeeId + "@example.com", "9876543210",
+                department, 50000.0, LocalDate.of(2024, 1, 15));
+    }
+}
@@ -0,0 +1,196 @@
+package com.litmus7.employeemanager.dao;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * In-memory stand-in for MySQL behind the {@code jdbc:employee-stub:} URL of the test
+ * {@code database.properties}. It understands only the employee inserts and the existing-ID
+ * lookup, and reports update counts the way Connector/J does by default (found rows): an
+ * {@code ON DUPLICATE KEY UPDATE} counts 1 for an insert, 2 for a changed row and 1 for a row that
+ * already held the same values.
+ */
+final class StubMySqlDriver implements Driver {
+
+    static final String URL_PREFIX = "jdbc:employee-stub:";
+
+    private static final StubMySqlDriver INSTANCE = new StubMySqlDriver();
+
+    // employee_id -> the other seven column values.
+    private final Map<Integer, Object[]> rows = new ConcurrentHashMap<>();
+
+    static StubMySqlDriver register() throws SQLException {
+        DriverManager.registerDriver(INSTANCE);
+        return INSTANCE;
+    }
+
+    void clear() {
+        rows.clear();
+    }
+
+    public Connection connect(String url, Properties info) {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+        boolean[] closed = new boolean[1];
+        return proxy(Connection.class, (name, args) -> {
+            switch (name) {
+                case "prepareStatement":
+                    return newStatement((String) args[0]);
+                case "close":
+                    closed[0] = true;
+                    return null;
+                case "isClosed":
+                    return closed[0];
+                case "getAutoCommit":
+                case "isValid":
+                    return true;
+                default:
+                    return null;
+            }
+        });
+    }
+
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    private Object newStatement(String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        List<Object[]> batch = new ArrayList<>();
+        return proxy(java.sql.PreparedStatement.class, (name, args) -> {
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                parameters.put((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                return null;
+            }
+            switch (name) {
+                case "executeUpdate":
+                    return write(sql, parameters.values().toArray());
+                case "addBatch":
+                    batch.add(parameters.values().toArray());
+                    return null;
+                case "executeBatch":
+                    int[] counts = new int[batch.size()];
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] = write(sql, batch.get(i));
+                    }
+                    batch.clear();
+                    return counts;
+                case "executeQuery":
+                    return findExisting(sql, parameters.values());
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private synchronized int write(String sql, Object[] values) throws SQLException {
+        if (!sql.startsWith("INSERT")) {
+            throw new SQLException("Unsupported statement: " + sql);
+        }
+        int employeeId = (Integer) values[0];
+        Object[] columns = Arrays.copyOfRange(values, 1, values.length);
+        Object[] existing = rows.get(employeeId);
+        if (existing == null) {
+            rows.put(employeeId, columns);
+            return 1;
+        }
+        if (sql.contains("ON DUPLICATE KEY UPDATE")) {
+            rows.put(employeeId, columns);
+            return Arrays.equals(existing, columns) ? 1 : 2;
+        }
+        if (sql.startsWith("INSERT IGNORE")) {
+            return 0;
+        }
+        throw new SQLException("Duplicate entry '" + employeeId + "' for key 'PRIMARY'", "23000", 1062);
+    }
+
+    private Object findExisting(String sql, Iterable<Object> ids) throws SQLException {
+        if (!sql.startsWith("SELECT employee_id FROM employee WHERE employee_id IN")) {
+            throw new SQLException("Unsupported query: " + sql);
+        }
+        List<Integer> found = new ArrayList<>();
+        for (Object id : ids) {
+            if (rows.containsKey(id) && !found.contains(id)) {
+                found.add((Integer) id);
+            }
+        }
+        Iterator<Integer> cursor = found.iterator();
+        Integer[] current = new Integer[1];
+        return proxy(java.sql.ResultSet.class, (name, args) -> {
+            switch (name) {
+                case "next":
+                    current[0] = cursor.hasNext() ? cursor.next() : null;
+                    return current[0] != null;
+                case "getInt":
+                    return current[0];
+                default:
+                    return null;
+            }
+        });
+    }
+
+    private interface Handler {
+        Object handle(String methodName, Object[] args) throws SQLException;
+    }
+
+    // Methods the handler leaves unanswered return null, or the zero value of a primitive return type.
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return type.cast(Proxy.newProxyInstance(StubMySqlDriver.class.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                return type.getSimpleName() + "@stub";
+                        }
+                    }
+                    Object result = handler.handle(method.getName(), args);
+                    if (result != null || !method.getReturnType().isPrimitive()) {
+                        return result;
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    return returnType == void.class ? null : returnType == long.class ? 0L : (Object) 0;
+                }));
+    }
+}
@@ -0,0 +1,136 @@
+package com.litmus7.employeemanager.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvFileReaderTest {
+
+    private static final String HEADER = "employee_id,first_name,last_name,email,phone,department,salary,join_date";
+    private static final String[] LINE_BREAKS = {"\n", "\r\n", "\r"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void rangesCoverEveryRecordExactlyOnce() throws IOException {
+        for (long seed = 1; seed <= 20; seed++) {
+            Path file = writeCsv(seed, 2_000);
+            long dataStart = headerLength(file);
+            List<String> expected = readAll(file, CsvFileReader.Mode.STREAM, null);
+            for (int parts : new int[] {1, 2, 3, 7, 16, 64, 5_000}) {
+                for (CsvFileReader.Mode mode : CsvFileReader.Mode.values()) {
+                    List<CsvFileReader.Range> ranges = CsvFileReader.splitIntoRanges(file.toString(), dataStart, parts);
+                    assertTrue(ranges.size() <= parts, "more ranges than parts: " + ranges);
+                    assertEquals(dataStart, ranges.get(0).getStartOffset());
+                    assertEquals(Files.size(file), ranges.get(ranges.size() - 1).getEndOffset());
+                    List<String> records = new ArrayList<>();
+                    for (int i = 0; i < ranges.size(); i++) {
+                        if (i > 0) {
+                            assertEquals(ranges.get(i - 1).getEndOffset(), ranges.get(i).getStartOffset());
+                        }
+                        records.addAll(readAll(file, mode, ranges.get(i)));
+                    }
+                    assertEquals(expected, records, "seed " + seed + ", " + parts + " parts, " + mode);
+                }
+            }
+        }
+    }
+
+    @Test
+    void neverCutsInsideAQuotedLineBreak() throws IOException {
+        // Every line after the first one of a record looks like a record of its own.
+        StringBuilder csv = new StringBuilder(HEADER).append('\n');
+        for (int id = 1; id <= 500; id++) {
+            csv.append(id).append(",\"Note\n").append(id + 1000).append(",Fake,Row\r\n,\"\"x\"\"\",Doe\n");
+        }
+        Path file = tempDir.resolve("quoted.csv");
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<CsvFileReader.Range> ranges = CsvFileReader.splitIntoRanges(file.toString(), headerLength(file), 50);
+        assertEquals(50, ranges.size());
+        int records = 0;
+        for (CsvFileReader.Range range : ranges) {
+            for (String record : readAll(file, CsvFileReader.Mode.MAPPED, range)) {
+                assertTrue(record.endsWith(",Doe"), "record cut apart: " + record);
+                records++;
+            }
+        }
+        assertEquals(500, records);
+    }
+
+    @Test
+    void gzipFilesCannotBeReadByRange() throws IOException {
+        Path file = tempDir.resolve("employees.csv.gz");
+        Files.write(file, new byte[0]);
+        assertThrows(IOException.class, () -> CsvFileReader.splitIntoRanges(file.toString(), 0, 4));
+        assertThrows(IOException.class,
+                () -> new CsvFileReader(file.toString(), CsvFileReader.Mode.STREAM, new CsvFileReader.Range(0, 0)));
+    }
+
+    // Rows with quoted commas, escaped quotes, quoted line breaks, non-ASCII text and mixed line endings.
+    private Path writeCsv(long seed, int rows) throws IOException {
+        Random random = new Random(seed);
+        StringBuilder csv = new StringBuilder(HEADER).append(LINE_BREAKS[random.nextInt(2)]);
+        for (int id = 1; id <= rows; id++) {
+            String lastName;
+            switch (random.nextInt(6)) {
+                case 0:
+                    lastName = "\"Smith, Jr.\"";
+                    break;
+                case 1:
+                    lastName = "\"O\"\"Brien\"";
+                    break;
+                case 2:
+                    lastName = "\"Multi" + LINE_BREAKS[random.nextInt(3)] + "Line" + LINE_BREAKS[random.nextInt(3)] + "\"";
+                    break;
+                case 3:
+                    lastName = "M\u00fcller-\u0141ukasz";
+                    break;
+                default:
+                    lastName = "Doe";
+                    break;
+            }
+            csv.append(id).append(",John,").append(lastName).append(",john").append(id)
+                    .append("@example.com,9876543210,IT,50000,2024-01-15");
+            if (id < rows || random.nextBoolean()) {
+                csv.append(LINE_BREAKS[random.nextInt(3)]);
+            }
+        }
+        Path file = tempDir.resolve("employees-" + seed + ".csv");
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static long headerLength(Path file) throws IOException {
+        try (CsvFileReader reader = new CsvFileReader(file.toString())) {
+            reader.skipHeader();
+            return reader.getBytePosition();
+        }
+    }
+
+    private static List<String> readAll(Path file, CsvFileReader.Mode mode, CsvFileReader.Range range) throws IOException {
+        List<String> records = new ArrayList<>();
+        try (CsvFileReader reader = new CsvFileReader(file.toString(), mode, range)) {
+            if (range == null) {
+                reader.skipHeader();
+            }
+            String record;
+            while ((record = reader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
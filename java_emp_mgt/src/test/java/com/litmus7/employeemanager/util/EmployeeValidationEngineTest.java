@@ -0,0 +1,212 @@
+package com.litmus7.employeemanager.util;
+
+import com.litmus7.employeemanager.constant.ImportErrorCodes;
+import com.litmus7.employeemanager.dto.EmployeeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Differential test of both engine modes against the original rules: {@link String#trim()}, the
+ * email and phone regular expressions, {@code Integer.parseInt}, {@code Double.parseDouble} and
+ * {@code LocalDate.parse}, checked in field order.
+ */
+class EmployeeValidationEngineTest {
+
+    private static final String[] VALID = {
+        "42", "John", "Doe", "john.doe@example.com", "9876543210", "IT", "50000.50", "2024-01-15"
+    };
+
+    private static final String LONG_NAME = repeat("a", 1_000);
+
+    private static final String[][] CANDIDATES = {
+        // employee_id
+        {"", " ", "\t", "0", "1", "-1", "+5", "007", " 42 ", "\t42\t", "2147483647", "2147483648", "-2147483648",
+            "-2147483649", "99999999999999999999", "1e3", "1.0", "1.", "abc", "12a", "--1", "+-1", "+", "-", "4 2",
+            "\u0661\u0662\u0663", "\uff11\uff12", "\u00a042"},
+        // first_name
+        {"", " ", "\t\r", "J", "John", LONG_NAME, "J\u00f6rg", "\u00a0", "Anne Marie", "Smith, Jr.", "O\"Brien", "Multi\nLine"},
+        // last_name
+        {"", "  ", "D", "Doe", LONG_NAME, "\u0141ukasz", "\u674e", "Doe\r\nJr"},
+        // email
+        {"", " ", "a@b.co", "a@b.abcdef", "a@b.abcdefg", "a@b.c", "john.doe@example.com", " a@b.com ", "A@B.COM",
+            "%+-_.@x-y.io", "@b.com", "a@.com", "a@b..com", "a@-b.com", "a@b-.com", "a@b.com.", ".a@b.com",
+            "a.@b.com", "a@@b.com", "a b@c.com", "a@b c.com", "\u00fc@b.com", "a@\u00fc.com", "a@b.c\u00f6m",
+            "a@b.c0m", "a@b.co1", "ab.com", "a@bcom", "a@b_c.com", "a@b.com\t", "a,b@c.com", "a\"b@c.com",
+            repeat("x", 300) + "@example.com", "a@" + repeat("b", 300) + ".com"},
+        // phone
+        {"", " ", "0", "9876543210", " 9876543210 ", "98765 43210", "+919876543210", "98-76", "12a",
+            "\u0661\u0662\u0663", "\uff11\uff12", "-1", repeat("9", 500), "1.0"},
+        // department
+        {"", " ", "IT", "R&D", "Sales, EMEA", "\u00c9tudes"},
+        // salary
+        {"", " ", "0", "50000", "50000.50", ".5", "5.", ".", "-1", "+1", "-0", " 7 ", "1e5", "1E-3", "1e", "NaN",
+            "Infinity", "-Infinity", "0x1p3", "1_000", "1,000", "1.2.3", "1d", "1f", "1L", "++1",
+            "12345678901234567890.123", "0.1234567890123456789", "4.9e-324", "1.7976931348623157E309",
+            "9007199254740993", "\u0661\u0662", "\uff11"},
+        // join_date
+        {"", " ", "2024-01-15", " 2024-01-15 ", "2024-02-29", "2023-02-29", "2000-02-29", "1900-02-29",
+            "2024-13-01", "2024-00-10", "2024-01-00", "2024-04-31", "2024-12-31", "2024-1-5", "24-01-15",
+            "2024/01/15", "20240115", "+12024-01-01", "-0001-01-01", "0000-01-01", "9999-12-31", "2024-01-15T00:00",
+            "\uff12\uff10\uff12\uff14-01-15", "2024-01-1a", "2024\u201001-15"},
+    };
+
+    private final CsvTokenizer tokenizer = new CsvTokenizer();
+    private final EmployeeValidationEngine fast = new EmployeeValidationEngine(EmployeeValidationEngine.Mode.FAST);
+    private final EmployeeValidationEngine strict = new EmployeeValidationEngine(EmployeeValidationEngine.Mode.STRICT);
+
+    @Test
+    void everyCandidateFieldMatchesTheOriginalRules() {
+        for (int field = 0; field < VALID.length; field++) {
+            for (String candidate : CANDIDATES[field]) {
+                String[] values = VALID.clone();
+                values[field] = candidate;
+                assertAgrees(values);
+            }
+        }
+    }
+
+    @Test
+    void randomCombinationsMatchTheOriginalRules() {
+        Random random = new Random(20261018L);
+        int valid = 0;
+        for (int i = 0; i < 200_000; i++) {
+            String[] values = new String[VALID.length];
+            for (int field = 0; field < values.length; field++) {
+                // Mostly valid fields, so records get far enough to reach the later checks.
+                int roll = random.nextInt(10);
+                values[field] = roll < 6 ? VALID[field]
+                        : roll < 9 ? CANDIDATES[field][random.nextInt(CANDIDATES[field].length)]
+                        : randomText(random, field);
+            }
+            if (assertAgrees(values) == 0) {
+                valid++;
+            }
+        }
+        assertTrue(valid > 1_000, "too few valid records to compare parsed values: " + valid);
+    }
+
+    // Validates one record in both modes and returns the error code they agreed on.
+    private int assertAgrees(String[] values) {
+        Expected expected = originalRules(values);
+        String record = toCsv(values);
+        assertTrue(tokenizer.tokenize(record), record);
+        assertEquals(values.length, tokenizer.getFieldCount(), record);
+        for (EmployeeValidationEngine engine : new EmployeeValidationEngine[] {fast, strict}) {
+            int errorCode = engine.validate(tokenizer);
+            assertEquals(expected.errorCode, errorCode, () -> "error code for " + Arrays.toString(values));
+            if (errorCode == 0) {
+                EmployeeDTO employee = engine.toEmployee();
+                String message = "parsed values for " + Arrays.toString(values);
+                assertEquals(expected.employee.getEmployeeId(), employee.getEmployeeId(), message);
+                assertEquals(expected.employee.getFirstName(), employee.getFirstName(), message);
+                assertEquals(expected.employee.getLastName(), employee.getLastName(), message);
+                assertEquals(expected.employee.getEmail(), employee.getEmail(), message);
+                assertEquals(expected.employee.getPhone(), employee.getPhone(), message);
+                assertEquals(expected.employee.getDepartment(), employee.getDepartment(), message);
+                assertEquals(Double.doubleToLongBits(expected.employee.getSalary()),
+                        Double.doubleToLongBits(employee.getSalary()), message);
+                assertEquals(expected.employee.getJoinDate(), employee.getJoinDate(), message);
+            }
+        }
+        return expected.errorCode;
+    }
+
+    private static Expected originalRules(String[] values) {
+        String[] trimmed = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            trimmed[i] = values[i].trim();
+        }
+        int employeeId;
+        try {
+            employeeId = Integer.parseInt(trimmed[0]);
+        } catch (NumberFormatException e) {
+            return new Expected(ImportErrorCodes.INVALID_EMPLOYEE_ID, null);
+        }
+        if (trimmed[1].isEmpty()) {
+            return new Expected(ImportErrorCodes.INVALID_FIRST_NAME, null);
+        }
+        if (trimmed[2].isEmpty()) {
+            return new Expected(ImportErrorCodes.INVALID_LAST_NAME, null);
+        }
+        if (!EmployeeValidationEngine.EMAIL_PATTERN.matcher(trimmed[3]).matches()) {
+            return new Expected(ImportErrorCodes.INVALID_EMAIL, null);
+        }
+        if (!EmployeeValidationEngine.PHONE_NUMBER_PATTERN.matcher(trimmed[4]).matches()) {
+            return new Expected(ImportErrorCodes.INVALID_PHONE, null);
+        }
+        if (trimmed[5].isEmpty()) {
+            return new Expected(ImportErrorCodes.INVALID_DEPARTMENT, null);
+        }
+        double salary;
+        try {
+            salary = Double.parseDouble(trimmed[6]);
+        } catch (NumberFormatException e) {
+            return new Expected(ImportErrorCodes.INVALID_SALARY, null);
+        }
+        LocalDate joinDate;
+        try {
+            joinDate = LocalDate.parse(trimmed[7]);
+        } catch (DateTimeParseException e) {
+            return new Expected(ImportErrorCodes.INVALID_JOIN_DATE, null);
+        }
+        return new Expected(0, new EmployeeDTO(employeeId, trimmed[1], trimmed[2], trimmed[3], trimmed[4],
+                trimmed[5], salary, joinDate));
+    }
+
+    // Quotes every value that needs it, the way a spreadsheet would write the file.
+    private static String toCsv(String[] values) {
+        StringBuilder record = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i];
+            if (i > 0) {
+                record.append(',');
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                record.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                record.append(value);
+            }
+        }
+        return record.toString();
+    }
+
+    // Short strings over the characters each field's rules care about.
+    private static String randomText(Random random, int field) {
+        String alphabet = field == 3 ? "ab.@-_%+Z9 \u00fc"
+                : field == 0 || field == 4 ? "0123456789+-. \u0661"
+                : field == 6 ? "0123456789+-.eE \u0661"
+                : field == 7 ? "0123456789-+ T"
+                : "ab \t\u00e9";
+        int length = random.nextInt(field == 7 ? 13 : 16);
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder repeated = new StringBuilder(text.length() * times);
+        for (int i = 0; i < times; i++) {
+            repeated.append(text);
+        }
+        return repeated.toString();
+    }
+
+    private static final class Expected {
+        private final int errorCode;
+        private final EmployeeDTO employee;
+
+        private Expected(int errorCode, EmployeeDTO employee) {
+            this.errorCode = errorCode;
+            this.employee = employee;
+        }
+    }
+}